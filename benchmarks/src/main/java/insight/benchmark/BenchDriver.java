@@ -0,0 +1,58 @@
+package insight.benchmark;
+
+import java.sql.*;
+import java.util.Properties;
+import java.util.logging.Logger;
+
+/**
+ * In-process driver for {@code jdbc:bench:} URLs, with no network and no work per call, so a benchmark measures the
+ * cost of the layers above it.
+ */
+public class BenchDriver implements Driver {
+    public static final String URL = "jdbc:bench:db";
+    public static final String INSIGHT_URL = "jdbc:insight:bench:db";
+    public static final int ROWS = 10;
+
+    private static final BenchDriver INSTANCE = new BenchDriver();
+
+    public static synchronized void register() throws SQLException {
+        if (DriverManager.drivers().noneMatch(d -> d == INSTANCE)) {
+            DriverManager.registerDriver(INSTANCE);
+        }
+    }
+
+    @Override
+    public Connection connect(String url, Properties info) {
+        return acceptsURL(url) ? new BenchConnection() : null;
+    }
+
+    @Override
+    public boolean acceptsURL(String url) {
+        return url.startsWith("jdbc:bench:");
+    }
+
+    @Override
+    public DriverPropertyInfo[] getPropertyInfo(String url, Properties info) {
+        return new DriverPropertyInfo[0];
+    }
+
+    @Override
+    public int getMajorVersion() {
+        return 1;
+    }
+
+    @Override
+    public int getMinorVersion() {
+        return 0;
+    }
+
+    @Override
+    public boolean jdbcCompliant() {
+        return false;
+    }
+
+    @Override
+    public Logger getParentLogger() {
+        return null;
+    }
+}
@@ -0,0 +1,222 @@
+package insight.benchmark;
+
+import java.sql.*;
+
+/**
+ * In-memory statement of {@link BenchDriver}. Every query returns {@link BenchDriver#ROWS} rows.
+ */
+public class BenchStatement implements Statement {
+    private final Connection connection;
+    private boolean closed;
+
+    public BenchStatement(Connection connection) {
+        this.connection = connection;
+    }
+
+    @Override
+    public ResultSet executeQuery(String sql) {
+        return new BenchResultSet(this);
+    }
+
+    @Override
+    public Connection getConnection() {
+        return connection;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+    }
+
+    @Override
+    public boolean isClosed() {
+        return closed;
+    }
+
+    @Override
+    public void addBatch(String arg0) throws SQLException {
+    }
+
+    @Override
+    public void cancel() throws SQLException {
+    }
+
+    @Override
+    public void clearBatch() throws SQLException {
+    }
+
+    @Override
+    public void clearWarnings() throws SQLException {
+    }
+
+    @Override
+    public void closeOnCompletion() throws SQLException {
+    }
+
+    @Override
+    public boolean execute(String arg0, int[] arg1) throws SQLException {
+        return false;
+    }
+
+    @Override
+    public boolean execute(String arg0, String[] arg1) throws SQLException {
+        return false;
+    }
+
+    @Override
+    public boolean execute(String arg0, int arg1) throws SQLException {
+        return false;
+    }
+
+    @Override
+    public boolean execute(String arg0) throws SQLException {
+        return false;
+    }
+
+    @Override
+    public int[] executeBatch() throws SQLException {
+        return null;
+    }
+
+    @Override
+    public int executeUpdate(String arg0, int[] arg1) throws SQLException {
+        return 0;
+    }
+
+    @Override
+    public int executeUpdate(String arg0, String[] arg1) throws SQLException {
+        return 0;
+    }
+
+    @Override
+    public int executeUpdate(String arg0, int arg1) throws SQLException {
+        return 0;
+    }
+
+    @Override
+    public int executeUpdate(String arg0) throws SQLException {
+        return 0;
+    }
+
+    @Override
+    public int getFetchDirection() throws SQLException {
+        return 0;
+    }
+
+    @Override
+    public int getFetchSize() throws SQLException {
+        return 0;
+    }
+
+    @Override
+    public ResultSet getGeneratedKeys() throws SQLException {
+        return null;
+    }
+
+    @Override
+    public int getMaxFieldSize() throws SQLException {
+        return 0;
+    }
+
+    @Override
+    public int getMaxRows() throws SQLException {
+        return 0;
+    }
+
+    @Override
+    public boolean getMoreResults() throws SQLException {
+        return false;
+    }
+
+    @Override
+    public boolean getMoreResults(int arg0) throws SQLException {
+        return false;
+    }
+
+    @Override
+    public int getQueryTimeout() throws SQLException {
+        return 0;
+    }
+
+    @Override
+    public ResultSet getResultSet() throws SQLException {
+        return null;
+    }
+
+    @Override
+    public int getResultSetConcurrency() throws SQLException {
+        return 0;
+    }
+
+    @Override
+    public int getResultSetHoldability() throws SQLException {
+        return 0;
+    }
+
+    @Override
+    public int getResultSetType() throws SQLException {
+        return 0;
+    }
+
+    @Override
+    public int getUpdateCount() throws SQLException {
+        return 0;
+    }
+
+    @Override
+    public SQLWarning getWarnings() throws SQLException {
+        return null;
+    }
+
+    @Override
+    public boolean isCloseOnCompletion() throws SQLException {
+        return false;
+    }
+
+    @Override
+    public boolean isPoolable() throws SQLException {
+        return false;
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> arg0) throws SQLException {
+        return false;
+    }
+
+    @Override
+    public void setCursorName(String arg0) throws SQLException {
+    }
+
+    @Override
+    public void setEscapeProcessing(boolean arg0) throws SQLException {
+    }
+
+    @Override
+    public void setFetchDirection(int arg0) throws SQLException {
+    }
+
+    @Override
+    public void setFetchSize(int arg0) throws SQLException {
+    }
+
+    @Override
+    public void setMaxFieldSize(int arg0) throws SQLException {
+    }
+
+    @Override
+    public void setMaxRows(int arg0) throws SQLException {
+    }
+
+    @Override
+    public void setPoolable(boolean arg0) throws SQLException {
+    }
+
+    @Override
+    public void setQueryTimeout(int arg0) throws SQLException {
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> arg0) throws SQLException {
+        return null;
+    }
+}
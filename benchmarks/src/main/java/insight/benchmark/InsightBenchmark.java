@@ -0,0 +1,90 @@
+package insight.benchmark;
+
+import insight.DriverInsight;
+import insight.OtelFactory;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.*;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of common JDBC calls, raw and under each {@link Instrumentation}. Spans go to a {@link NoopSpanExporter} and
+ * metrics are not exported, so only the driver-side work is measured.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class InsightBenchmark {
+    static final String SQL = "select id, name from item";
+    static final String SQL_BY_ID = "select id, name from item where id = ? and name = ?";
+
+    @Param
+    public Instrumentation instrumentation;
+
+    private OtelFactory otelFactory;
+    private Driver driver;
+    private final Properties properties = new Properties();
+    private Connection connection;
+    private Statement statement;
+    private PreparedStatement prepared;
+    private int id;
+
+    @Setup
+    public void setUp() throws SQLException {
+        BenchDriver.register();
+        if (instrumentation.instrumented()) {
+            otelFactory = new OtelFactory(NoopSpanExporter::new, () -> null);
+            driver = new DriverInsight(otelFactory);
+        } else {
+            driver = new BenchDriver();
+        }
+        connection = driver.connect(instrumentation.url(), properties);
+        statement = connection.createStatement();
+        prepared = connection.prepareStatement(SQL_BY_ID);
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        connection.close();
+        if (otelFactory != null) {
+            otelFactory.shutdown();
+        }
+    }
+
+    @Benchmark
+    public void connect() throws SQLException {
+        driver.connect(instrumentation.url(), properties).close();
+    }
+
+    @Benchmark
+    public void createStatement() throws SQLException {
+        connection.createStatement().close();
+    }
+
+    @Benchmark
+    public void executeQuery() throws SQLException {
+        statement.executeQuery(SQL).close();
+    }
+
+    @Benchmark
+    public void fetchRows(Blackhole blackhole) throws SQLException {
+        try (ResultSet rs = statement.executeQuery(SQL)) {
+            while (rs.next()) {
+                blackhole.consume(rs.getInt(1));
+                blackhole.consume(rs.getString(2));
+            }
+        }
+    }
+
+    @Benchmark
+    public void bindAndExecute() throws SQLException {
+        prepared.setInt(1, ++id);
+        prepared.setString(2, BenchResultSet.VALUE);
+        prepared.executeQuery().close();
+    }
+}
@@ -0,0 +1,38 @@
+package insight.benchmark;
+
+/**
+ * How the benchmarked connection is opened: straight from {@link BenchDriver}, or through JDBC Insight with the given
+ * URL parameters.
+ */
+public enum Instrumentation {
+    RAW(null),
+    PROXY("wrapper=proxy"),
+    STATIC("wrapper=static"),
+    RESULT_SET_CALLS("wrapper=static&resultSetTracing=calls"),
+    SAMPLED_OUT("sampleRatio=0&sampleScope=connection"),
+    FILTERED("traceExclude=ResultSet.*"),
+    SLOW_QUERY("slowQueryThresholdMs=60000"),
+    QUERY_METRICS("queryMetrics=true"),
+    METRICS_ONLY("tracing=false&metrics=true"),
+    DROP_OLDEST("exportDropPolicy=drop_oldest&exportQueueSize=256"),
+    JFR("backend=jfr"),
+    GOVERNED("overheadBudgetPercent=2"),
+    CALL_COST("callCost=sampled");
+
+    private final String parameters;
+
+    Instrumentation(String parameters) {
+        this.parameters = parameters;
+    }
+
+    /**
+     * URL to connect with, or {@link BenchDriver#URL} for {@link #RAW}.
+     */
+    public String url() {
+        return parameters == null ? BenchDriver.URL : BenchDriver.INSIGHT_URL + "?" + parameters;
+    }
+
+    public boolean instrumented() {
+        return parameters != null;
+    }
+}
@@ -0,0 +1,97 @@
+package insight;
+
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Properties;
+
+/**
+ * Where traced connections record their activity. {@link #OTEL} creates OpenTelemetry spans; {@link #JFR} commits
+ * {@code jdk.jfr} events instead, which cost next to nothing while no recording is running. Sampling, method filters
+ * and metrics work the same for both.
+ */
+public enum Backend {
+    OTEL {
+        @Override
+        Connection connect(DriverInsight driver, String url, String targetUrl, Properties properties,
+                           InsightConfig config) throws SQLException {
+            return driver.traceConnect(url, targetUrl, properties, config);
+        }
+
+        @Override
+        Invocation enter(TraceNode node, MethodInfo info) {
+            return node.startSpan(info);
+        }
+
+        @Override
+        Tracer tracer(OtelFactory otelFactory, String scopeName) {
+            return otelFactory.initTracer(scopeName);
+        }
+
+        @Override
+        Context childContext(TraceNode node, MethodInfo info, Context parentContext, String sql) {
+            return node.childSpan(info, parentContext, sql);
+        }
+
+        @Override
+        TraceNode resultSet(TraceNode node, Tracer tracer, Context context, QueryStats query) {
+            return node.config.resultSetTracing() == InsightConfig.ResultSetTracing.AGGREGATE
+                    ? new ResultSetAggregator(tracer, context, node.connection, query) : null;
+        }
+    },
+    JFR {
+        @Override
+        Connection connect(DriverInsight driver, String url, String targetUrl, Properties properties,
+                           InsightConfig config) throws SQLException {
+            return JfrRecorder.connect(driver, targetUrl, properties, config);
+        }
+
+        @Override
+        Invocation enter(TraceNode node, MethodInfo info) {
+            return JfrRecorder.enter(node, info);
+        }
+
+        @Override
+        Tracer tracer(OtelFactory otelFactory, String scopeName) {
+            return null;
+        }
+
+        @Override
+        Context childContext(TraceNode node, MethodInfo info, Context parentContext, String sql) {
+            return parentContext;
+        }
+
+        @Override
+        TraceNode resultSet(TraceNode node, Tracer tracer, Context context, QueryStats query) {
+            return JfrRecorder.resultSet(node, tracer, context, query);
+        }
+    };
+
+    /**
+     * Connects through the delegate driver, recording the connect, and returns the wrapped connection.
+     */
+    abstract Connection connect(DriverInsight driver, String url, String targetUrl, Properties properties,
+                                InsightConfig config) throws SQLException;
+
+    /**
+     * Starts recording a sampled call that passed the method filter.
+     */
+    abstract Invocation enter(TraceNode node, MethodInfo info);
+
+    /**
+     * Tracer of the nodes of traced connections, or {@code null} if the backend does not create spans.
+     */
+    abstract Tracer tracer(OtelFactory otelFactory, String scopeName);
+
+    /**
+     * Context of an object returned by a recorded call, with {@code sql} set for result sets of {@code execute*} calls.
+     */
+    abstract Context childContext(TraceNode node, MethodInfo info, Context parentContext, String sql);
+
+    /**
+     * Node of a sampled ResultSet, or {@code null} to record its calls like any other object's.
+     */
+    abstract TraceNode resultSet(TraceNode node, Tracer tracer, Context context, QueryStats query);
+}
@@ -0,0 +1,156 @@
+package insight;
+
+import io.opentelemetry.api.common.AttributeKey;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Values bound to a PreparedStatement through its {@code setXxx} methods, kept by parameter index. The bind calls are
+ * not traced; the values are rendered once, onto the span of each {@code execute*} call. Values are kept only while
+ * they are captured or logged; N+1 detection keeps only a hash of each. The object is its own {@link Invocation};
+ * like the statement, it expects to be used by one thread at a time.
+ */
+final class BindParameters implements Invocation {
+    static final AttributeKey<List<String>> PARAMETERS = AttributeKey.stringArrayKey("db.statement.parameters");
+    /**
+     * Parameters past this index are not kept.
+     */
+    static final int MAX_PARAMETERS = 256;
+
+    private static final Object NULL = new Object();
+
+    private Object[] values;
+    private int[] hashes;
+    private int count;
+    private MethodInfo current;
+    private boolean keepValues;
+    private boolean hashValues;
+
+    /**
+     * Enters a bind call.
+     *
+     * @param keepValues whether to keep the value, to be rendered or logged
+     * @param hashValues whether to keep only a hash of the value, for {@link #valuesHash()}
+     */
+    Invocation enter(MethodInfo info, boolean keepValues, boolean hashValues) {
+        current = info;
+        this.keepValues = keepValues;
+        this.hashValues = hashValues;
+        return this;
+    }
+
+    void clear() {
+        if (values != null) {
+            Arrays.fill(values, 0, Math.min(count, values.length), null);
+        }
+        if (hashes != null) {
+            Arrays.fill(hashes, 0, Math.min(count, hashes.length), 0);
+        }
+        count = 0;
+    }
+
+    boolean isEmpty() {
+        return count == 0;
+    }
+
+    /**
+     * Rendered values; unset parameters are shown as {@code ?}.
+     */
+    List<String> render(CapturePolicy policy) {
+        String[] rendered = new String[count];
+        for (int i = 0; i < count; i++) {
+            Object value = value(i);
+            rendered[i] = value == null ? "?" : value == NULL ? "NULL" : policy.render(value);
+        }
+        return Arrays.asList(rendered);
+    }
+
+    /**
+     * Values as bound; unset parameters and SQL NULL are both {@code null}. Arrays and dates are copied, so that the
+     * values stay as they were when the application reuses or changes its objects.
+     */
+    List<Object> values() {
+        Object[] copy = new Object[count];
+        for (int i = 0; i < count; i++) {
+            Object value = value(i);
+            copy[i] = value == NULL ? null : snapshot(value);
+        }
+        return Arrays.asList(copy);
+    }
+
+    /**
+     * Hash of the values bound while hashing, telling executions with different values apart without keeping them.
+     */
+    int valuesHash() {
+        int hash = 1;
+        for (int i = 0; i < count; i++) {
+            hash = 31 * hash + (hashes != null && i < hashes.length ? hashes[i] : 0);
+        }
+        return hash;
+    }
+
+    private Object value(int i) {
+        return values != null && i < values.length ? values[i] : null;
+    }
+
+    private static int hash(Object value) {
+        return value instanceof byte[] data ? Arrays.hashCode(data) : Objects.hashCode(value);
+    }
+
+    private static Object snapshot(Object value) {
+        if (value instanceof byte[] data) {
+            return data.clone();
+        } else if (value instanceof java.util.Date date) {
+            return date.clone();
+        }
+        return value;
+    }
+
+    @Override
+    public boolean isCapturing() {
+        return true;
+    }
+
+    @Override
+    public void capture(Object[] args, Object result) {
+        if (args == null || !(args[0] instanceof Integer index) || index < 1 || index > MAX_PARAMETERS) {
+            return;
+        }
+        Object value = current.parameterRole() == MethodInfo.ParameterRole.BIND_NULL || args[1] == null
+                ? NULL : args[1];
+        if (keepValues) {
+            if (values == null || index > values.length) {
+                values = Arrays.copyOf(values == null ? new Object[0] : values, capacity(index));
+            }
+            values[index - 1] = value;
+        } else if (values != null && index <= values.length) {
+            values[index - 1] = null;
+        }
+        if (hashValues) {
+            if (hashes == null || index > hashes.length) {
+                hashes = Arrays.copyOf(hashes == null ? new int[0] : hashes, capacity(index));
+            }
+            hashes[index - 1] = value == NULL ? 0 : hash(value);
+        }
+        count = Math.max(count, index);
+    }
+
+    private int capacity(int index) {
+        return Math.min(MAX_PARAMETERS, Math.max(Math.max(8, index), count * 2));
+    }
+
+    @Override
+    public Object wrap(Object result, Object firstArg) {
+        return result;
+    }
+
+    @Override
+    public void fail(Throwable e) {
+    }
+
+    @Override
+    public void exit() {
+    }
+}
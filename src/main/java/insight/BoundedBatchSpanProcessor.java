@@ -0,0 +1,161 @@
+package insight;
+
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Hands ended spans to a background thread that exports them in batches. {@link #onEnd(ReadableSpan)} never blocks:
+ * when the queue is full a span is dropped according to the configured {@link ExportConfig.DropPolicy}.
+ */
+public class BoundedBatchSpanProcessor implements SpanProcessor {
+    private static final long EXPORT_TIMEOUT_SECONDS = 30;
+
+    private final SpanExporter exporter;
+    private final ExportConfig config;
+    private final ArrayBlockingQueue<ReadableSpan> queue;
+    private final List<SpanData> batch;
+    private final Object exportLock = new Object();
+    private final Thread worker;
+    private volatile boolean running = true;
+
+    private final LongAdder enqueued = new LongAdder();
+    private final LongAdder exported = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    public record Stats(long enqueued, long exported, long dropped, long failed, int queued) {}
+
+    public BoundedBatchSpanProcessor(SpanExporter exporter, ExportConfig config) {
+        this.exporter = exporter;
+        this.config = config;
+        this.queue = new ArrayBlockingQueue<>(config.queueSize());
+        this.batch = new ArrayList<>(config.batchSize());
+        this.worker = new Thread(this::run, "jdbc-insight-span-exporter");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    @Override
+    public void onStart(Context parentContext, ReadWriteSpan span) {
+    }
+
+    @Override
+    public boolean isStartRequired() {
+        return false;
+    }
+
+    @Override
+    public void onEnd(ReadableSpan span) {
+        if (!span.getSpanContext().isSampled()) {
+            return;
+        }
+        if (config.dropPolicy() == ExportConfig.DropPolicy.DROP_OLDEST) {
+            while (!queue.offer(span)) {
+                if (queue.poll() != null) {
+                    dropped.increment();
+                }
+            }
+        } else if (!queue.offer(span)) {
+            dropped.increment();
+            return;
+        }
+        enqueued.increment();
+        if (queue.size() >= config.batchSize()) {
+            LockSupport.unpark(worker);
+        }
+    }
+
+    @Override
+    public boolean isEndRequired() {
+        return true;
+    }
+
+    @Override
+    public CompletableResultCode forceFlush() {
+        synchronized (exportLock) {
+            exportQueued(true);
+        }
+        return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        running = false;
+        LockSupport.unpark(worker);
+        try {
+            worker.join(TimeUnit.SECONDS.toMillis(EXPORT_TIMEOUT_SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        forceFlush();
+        return exporter.shutdown();
+    }
+
+    public Stats stats() {
+        return new Stats(enqueued.sum(), exported.sum(), dropped.sum(), failed.sum(), queue.size());
+    }
+
+    private void run() {
+        long intervalNanos = config.interval().toNanos();
+        long deadline = System.nanoTime() + intervalNanos;
+        while (running) {
+            long now = System.nanoTime();
+            boolean due = now - deadline >= 0;
+            if (due || queue.size() >= config.batchSize()) {
+                synchronized (exportLock) {
+                    exportQueued(due);
+                }
+                if (due) {
+                    deadline = now + intervalNanos;
+                }
+            } else {
+                LockSupport.parkNanos(this, deadline - now);
+            }
+        }
+    }
+
+    private void exportQueued(boolean includePartialBatch) {
+        ReadableSpan span;
+        while ((span = queue.poll()) != null) {
+            batch.add(span.toSpanData());
+            if (batch.size() >= config.batchSize()) {
+                exportBatch();
+            }
+        }
+        if (includePartialBatch) {
+            exportBatch();
+        }
+    }
+
+    private void exportBatch() {
+        if (batch.isEmpty()) {
+            return;
+        }
+        int size = batch.size();
+        try {
+            CompletableResultCode result = exporter.export(new ArrayList<>(batch))
+                    .join(EXPORT_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            if (result.isSuccess()) {
+                exported.add(size);
+            } else {
+                failed.add(size);
+            }
+        } catch (RuntimeException e) {
+            failed.add(size);
+        } finally {
+            batch.clear();
+        }
+    }
+}
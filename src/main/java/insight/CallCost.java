@@ -0,0 +1,170 @@
+package insight;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.metrics.data.HistogramPointData;
+import io.opentelemetry.sdk.metrics.data.MetricData;
+import io.opentelemetry.sdk.metrics.export.MetricProducer;
+import io.opentelemetry.sdk.resources.Resource;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * CPU time and allocation of the calling thread inside driver calls, to tell a driver that burns CPU or allocates
+ * from one that waits on the database. Both are read from the JVM's {@code ThreadMXBean} around the delegate call;
+ * wall time not spent on the CPU is waiting. Per-method histograms are exported as {@value #CPU_TIME_METRIC} and
+ * {@value #ALLOCATED_METRIC}. Reading the counters costs about a microsecond, so {@link Mode#SAMPLED} measures one
+ * call in {@value #SAMPLE_EVERY} per connection.
+ */
+public class CallCost implements MetricProducer {
+    public static final String CPU_TIME_METRIC = "db.client.call.cpu_time";
+    public static final String ALLOCATED_METRIC = "db.client.call.allocated";
+    static final AttributeKey<Long> CPU_TIME = AttributeKey.longKey("db.client.cpu_time_ns");
+    static final AttributeKey<Long> ALLOCATED = AttributeKey.longKey("db.client.allocated_bytes");
+    static final AttributeKey<Long> WAIT_TIME = AttributeKey.longKey("db.client.wait_time_ns");
+    static final AttributeKey<String> METHOD = AttributeKey.stringKey("code.function");
+    static final int SAMPLE_EVERY = 64;
+    /**
+     * Bucket {@code i} of the allocation histogram counts calls that allocated more than 2<sup>i+3</sup> and at most
+     * 2<sup>i+4</sup> bytes; the last bucket takes everything larger.
+     */
+    static final int ALLOCATION_BUCKETS = 24;
+    static final List<Double> ALLOCATION_BOUNDARIES;
+
+    private static final InstrumentationScopeInfo SCOPE = InstrumentationScopeInfo.create(OtelFactory.SERVICE_NAME);
+
+    static {
+        List<Double> boundaries = new ArrayList<>(ALLOCATION_BUCKETS - 1);
+        for (int i = 0; i < ALLOCATION_BUCKETS - 1; i++) {
+            boundaries.add((double) (1L << (i + 4)));
+        }
+        ALLOCATION_BOUNDARIES = Collections.unmodifiableList(boundaries);
+    }
+
+    public enum Mode {
+        OFF,
+        /**
+         * One call in {@value #SAMPLE_EVERY} per connection.
+         */
+        SAMPLED,
+        ALL
+    }
+
+    private final com.sun.management.ThreadMXBean threads;
+    private final Map<MethodInfo, Costs> methods = new ConcurrentHashMap<>();
+    private final long startEpochNanos = epochNanos();
+
+    /**
+     * Turns on the JVM-wide thread CPU time and allocation measurement, where the JVM supports both.
+     */
+    public CallCost() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        com.sun.management.ThreadMXBean threads = null;
+        if (bean instanceof com.sun.management.ThreadMXBean extended && extended.isCurrentThreadCpuTimeSupported()
+                && extended.isThreadAllocatedMemorySupported()) {
+            try {
+                extended.setThreadCpuTimeEnabled(true);
+                extended.setThreadAllocatedMemoryEnabled(true);
+                threads = extended;
+            } catch (UnsupportedOperationException | SecurityException e) {
+                // measured calls then report nothing
+            }
+        }
+        this.threads = threads;
+    }
+
+    /**
+     * Whether this JVM measures thread CPU time and allocation.
+     */
+    public boolean supported() {
+        return threads != null;
+    }
+
+    long cpuNanos() {
+        return threads.getCurrentThreadCpuTime();
+    }
+
+    long allocatedBytes() {
+        return threads.getCurrentThreadAllocatedBytes();
+    }
+
+    void record(MethodInfo info, long cpuNanos, long allocatedBytes) {
+        Costs costs = methods.get(info);
+        if (costs == null) {
+            costs = methods.computeIfAbsent(info, Costs::new);
+        }
+        costs.cpu.record(cpuNanos);
+        costs.allocations[allocationBucket(allocatedBytes)].increment();
+        costs.allocated.add(allocatedBytes);
+    }
+
+    /**
+     * CPU time histogram of a method, or {@code null} if no call to it was measured.
+     */
+    LatencyHistogram cpu(MethodInfo info) {
+        Costs costs = methods.get(info);
+        return costs == null ? null : costs.cpu;
+    }
+
+    @Override
+    public Collection<MetricData> produce(Resource resource) {
+        if (methods.isEmpty()) {
+            return List.of();
+        }
+        long now = epochNanos();
+        List<HistogramPointData> cpuPoints = new ArrayList<>(methods.size());
+        List<HistogramPointData> allocationPoints = new ArrayList<>(methods.size());
+        methods.values().forEach(costs -> {
+            Attributes attributes = Attributes.of(METHOD, costs.name);
+            cpuPoints.add(LatencyHistogram.point(startEpochNanos, now, attributes, costs.cpu.counts(),
+                    costs.cpu.totalNanos()));
+            List<Long> counts = new ArrayList<>(ALLOCATION_BUCKETS);
+            for (LongAdder bucket : costs.allocations) {
+                counts.add(bucket.sum());
+            }
+            allocationPoints.add(ProducedMetrics.histogramPoint(startEpochNanos, now, attributes,
+                    costs.allocated.sum(), ALLOCATION_BOUNDARIES, counts));
+        });
+        return List.of(
+                ProducedMetrics.histogram(resource, SCOPE, CPU_TIME_METRIC,
+                        "CPU time of the calling thread inside driver calls, by method", "s", cpuPoints),
+                ProducedMetrics.histogram(resource, SCOPE, ALLOCATED_METRIC,
+                        "Bytes allocated by the calling thread inside driver calls, by method", "By",
+                        allocationPoints));
+    }
+
+    static int allocationBucket(long bytes) {
+        if (bytes <= 16) {
+            return 0;
+        }
+        return Math.min(ALLOCATION_BUCKETS - 1, 60 - Long.numberOfLeadingZeros(bytes - 1));
+    }
+
+    private static long epochNanos() {
+        return TimeUnit.MILLISECONDS.toNanos(System.currentTimeMillis());
+    }
+
+    private static final class Costs {
+        private final String name;
+        private final LatencyHistogram cpu = new LatencyHistogram();
+        private final LongAdder[] allocations = new LongAdder[ALLOCATION_BUCKETS];
+        private final LongAdder allocated = new LongAdder();
+
+        private Costs(MethodInfo info) {
+            this.name = info.method().getDeclaringClass().getSimpleName() + "." + info.method().getName();
+            for (int i = 0; i < allocations.length; i++) {
+                allocations[i] = new LongAdder();
+            }
+        }
+    }
+}
@@ -0,0 +1,4129 @@
+package insight;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.net.URL;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.CallableStatement;
+import java.sql.Clob;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.NClob;
+import java.sql.ParameterMetaData;
+import java.sql.Ref;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.RowId;
+import java.sql.SQLException;
+import java.sql.SQLType;
+import java.sql.SQLWarning;
+import java.sql.SQLXML;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Calendar;
+import java.util.Map;
+
+/**
+ * Traces {@link CallableStatement} calls without reflection. Generated by {@code WrapperGenerator}, do not edit.
+ */
+@SuppressWarnings("deprecation")
+public final class CallableStatementWrapper implements CallableStatement {
+    private static final MethodInfo ADD_BATCH = MethodInfo.of(CallableStatement.class, "addBatch");
+    private static final MethodInfo ADD_BATCH_STRING = MethodInfo.of(CallableStatement.class, "addBatch", String.class);
+    private static final MethodInfo CANCEL = MethodInfo.of(CallableStatement.class, "cancel");
+    private static final MethodInfo CLEAR_BATCH = MethodInfo.of(CallableStatement.class, "clearBatch");
+    private static final MethodInfo CLEAR_PARAMETERS = MethodInfo.of(CallableStatement.class, "clearParameters");
+    private static final MethodInfo CLEAR_WARNINGS = MethodInfo.of(CallableStatement.class, "clearWarnings");
+    private static final MethodInfo CLOSE = MethodInfo.of(CallableStatement.class, "close");
+    private static final MethodInfo CLOSE_ON_COMPLETION = MethodInfo.of(CallableStatement.class, "closeOnCompletion");
+    private static final MethodInfo ENQUOTE_IDENTIFIER_STRING_BOOLEAN = MethodInfo.of(CallableStatement.class, "enquoteIdentifier", String.class, boolean.class);
+    private static final MethodInfo ENQUOTE_LITERAL_STRING = MethodInfo.of(CallableStatement.class, "enquoteLiteral", String.class);
+    private static final MethodInfo ENQUOTE_NCHAR_LITERAL_STRING = MethodInfo.of(CallableStatement.class, "enquoteNCharLiteral", String.class);
+    private static final MethodInfo EXECUTE = MethodInfo.of(CallableStatement.class, "execute");
+    private static final MethodInfo EXECUTE_STRING = MethodInfo.of(CallableStatement.class, "execute", String.class);
+    private static final MethodInfo EXECUTE_STRING_INT_ARRAY = MethodInfo.of(CallableStatement.class, "execute", String.class, int[].class);
+    private static final MethodInfo EXECUTE_STRING_STRING_ARRAY = MethodInfo.of(CallableStatement.class, "execute", String.class, String[].class);
+    private static final MethodInfo EXECUTE_STRING_INT = MethodInfo.of(CallableStatement.class, "execute", String.class, int.class);
+    private static final MethodInfo EXECUTE_BATCH = MethodInfo.of(CallableStatement.class, "executeBatch");
+    private static final MethodInfo EXECUTE_LARGE_BATCH = MethodInfo.of(CallableStatement.class, "executeLargeBatch");
+    private static final MethodInfo EXECUTE_LARGE_UPDATE = MethodInfo.of(CallableStatement.class, "executeLargeUpdate");
+    private static final MethodInfo EXECUTE_LARGE_UPDATE_STRING = MethodInfo.of(CallableStatement.class, "executeLargeUpdate", String.class);
+    private static final MethodInfo EXECUTE_LARGE_UPDATE_STRING_INT_ARRAY = MethodInfo.of(CallableStatement.class, "executeLargeUpdate", String.class, int[].class);
+    private static final MethodInfo EXECUTE_LARGE_UPDATE_STRING_STRING_ARRAY = MethodInfo.of(CallableStatement.class, "executeLargeUpdate", String.class, String[].class);
+    private static final MethodInfo EXECUTE_LARGE_UPDATE_STRING_INT = MethodInfo.of(CallableStatement.class, "executeLargeUpdate", String.class, int.class);
+    private static final MethodInfo EXECUTE_QUERY = MethodInfo.of(CallableStatement.class, "executeQuery");
+    private static final MethodInfo EXECUTE_QUERY_STRING = MethodInfo.of(CallableStatement.class, "executeQuery", String.class);
+    private static final MethodInfo EXECUTE_UPDATE = MethodInfo.of(CallableStatement.class, "executeUpdate");
+    private static final MethodInfo EXECUTE_UPDATE_STRING = MethodInfo.of(CallableStatement.class, "executeUpdate", String.class);
+    private static final MethodInfo EXECUTE_UPDATE_STRING_INT_ARRAY = MethodInfo.of(CallableStatement.class, "executeUpdate", String.class, int[].class);
+    private static final MethodInfo EXECUTE_UPDATE_STRING_STRING_ARRAY = MethodInfo.of(CallableStatement.class, "executeUpdate", String.class, String[].class);
+    private static final MethodInfo EXECUTE_UPDATE_STRING_INT = MethodInfo.of(CallableStatement.class, "executeUpdate", String.class, int.class);
+    private static final MethodInfo GET_ARRAY_INT = MethodInfo.of(CallableStatement.class, "getArray", int.class);
+    private static final MethodInfo GET_ARRAY_STRING = MethodInfo.of(CallableStatement.class, "getArray", String.class);
+    private static final MethodInfo GET_BIG_DECIMAL_INT = MethodInfo.of(CallableStatement.class, "getBigDecimal", int.class);
+    private static final MethodInfo GET_BIG_DECIMAL_INT_INT = MethodInfo.of(CallableStatement.class, "getBigDecimal", int.class, int.class);
+    private static final MethodInfo GET_BIG_DECIMAL_STRING = MethodInfo.of(CallableStatement.class, "getBigDecimal", String.class);
+    private static final MethodInfo GET_BLOB_INT = MethodInfo.of(CallableStatement.class, "getBlob", int.class);
+    private static final MethodInfo GET_BLOB_STRING = MethodInfo.of(CallableStatement.class, "getBlob", String.class);
+    private static final MethodInfo GET_BOOLEAN_INT = MethodInfo.of(CallableStatement.class, "getBoolean", int.class);
+    private static final MethodInfo GET_BOOLEAN_STRING = MethodInfo.of(CallableStatement.class, "getBoolean", String.class);
+    private static final MethodInfo GET_BYTE_INT = MethodInfo.of(CallableStatement.class, "getByte", int.class);
+    private static final MethodInfo GET_BYTE_STRING = MethodInfo.of(CallableStatement.class, "getByte", String.class);
+    private static final MethodInfo GET_BYTES_INT = MethodInfo.of(CallableStatement.class, "getBytes", int.class);
+    private static final MethodInfo GET_BYTES_STRING = MethodInfo.of(CallableStatement.class, "getBytes", String.class);
+    private static final MethodInfo GET_CHARACTER_STREAM_INT = MethodInfo.of(CallableStatement.class, "getCharacterStream", int.class);
+    private static final MethodInfo GET_CHARACTER_STREAM_STRING = MethodInfo.of(CallableStatement.class, "getCharacterStream", String.class);
+    private static final MethodInfo GET_CLOB_INT = MethodInfo.of(CallableStatement.class, "getClob", int.class);
+    private static final MethodInfo GET_CLOB_STRING = MethodInfo.of(CallableStatement.class, "getClob", String.class);
+    private static final MethodInfo GET_CONNECTION = MethodInfo.of(CallableStatement.class, "getConnection");
+    private static final MethodInfo GET_DATE_INT = MethodInfo.of(CallableStatement.class, "getDate", int.class);
+    private static final MethodInfo GET_DATE_INT_CALENDAR = MethodInfo.of(CallableStatement.class, "getDate", int.class, Calendar.class);
+    private static final MethodInfo GET_DATE_STRING = MethodInfo.of(CallableStatement.class, "getDate", String.class);
+    private static final MethodInfo GET_DATE_STRING_CALENDAR = MethodInfo.of(CallableStatement.class, "getDate", String.class, Calendar.class);
+    private static final MethodInfo GET_DOUBLE_INT = MethodInfo.of(CallableStatement.class, "getDouble", int.class);
+    private static final MethodInfo GET_DOUBLE_STRING = MethodInfo.of(CallableStatement.class, "getDouble", String.class);
+    private static final MethodInfo GET_FETCH_DIRECTION = MethodInfo.of(CallableStatement.class, "getFetchDirection");
+    private static final MethodInfo GET_FETCH_SIZE = MethodInfo.of(CallableStatement.class, "getFetchSize");
+    private static final MethodInfo GET_FLOAT_INT = MethodInfo.of(CallableStatement.class, "getFloat", int.class);
+    private static final MethodInfo GET_FLOAT_STRING = MethodInfo.of(CallableStatement.class, "getFloat", String.class);
+    private static final MethodInfo GET_GENERATED_KEYS = MethodInfo.of(CallableStatement.class, "getGeneratedKeys");
+    private static final MethodInfo GET_INT_INT = MethodInfo.of(CallableStatement.class, "getInt", int.class);
+    private static final MethodInfo GET_INT_STRING = MethodInfo.of(CallableStatement.class, "getInt", String.class);
+    private static final MethodInfo GET_LARGE_MAX_ROWS = MethodInfo.of(CallableStatement.class, "getLargeMaxRows");
+    private static final MethodInfo GET_LARGE_UPDATE_COUNT = MethodInfo.of(CallableStatement.class, "getLargeUpdateCount");
+    private static final MethodInfo GET_LONG_INT = MethodInfo.of(CallableStatement.class, "getLong", int.class);
+    private static final MethodInfo GET_LONG_STRING = MethodInfo.of(CallableStatement.class, "getLong", String.class);
+    private static final MethodInfo GET_MAX_FIELD_SIZE = MethodInfo.of(CallableStatement.class, "getMaxFieldSize");
+    private static final MethodInfo GET_MAX_ROWS = MethodInfo.of(CallableStatement.class, "getMaxRows");
+    private static final MethodInfo GET_META_DATA = MethodInfo.of(CallableStatement.class, "getMetaData");
+    private static final MethodInfo GET_MORE_RESULTS = MethodInfo.of(CallableStatement.class, "getMoreResults");
+    private static final MethodInfo GET_MORE_RESULTS_INT = MethodInfo.of(CallableStatement.class, "getMoreResults", int.class);
+    private static final MethodInfo GET_NCHARACTER_STREAM_INT = MethodInfo.of(CallableStatement.class, "getNCharacterStream", int.class);
+    private static final MethodInfo GET_NCHARACTER_STREAM_STRING = MethodInfo.of(CallableStatement.class, "getNCharacterStream", String.class);
+    private static final MethodInfo GET_NCLOB_INT = MethodInfo.of(CallableStatement.class, "getNClob", int.class);
+    private static final MethodInfo GET_NCLOB_STRING = MethodInfo.of(CallableStatement.class, "getNClob", String.class);
+    private static final MethodInfo GET_NSTRING_INT = MethodInfo.of(CallableStatement.class, "getNString", int.class);
+    private static final MethodInfo GET_NSTRING_STRING = MethodInfo.of(CallableStatement.class, "getNString", String.class);
+    private static final MethodInfo GET_OBJECT_INT = MethodInfo.of(CallableStatement.class, "getObject", int.class);
+    private static final MethodInfo GET_OBJECT_INT_CLASS = MethodInfo.of(CallableStatement.class, "getObject", int.class, Class.class);
+    private static final MethodInfo GET_OBJECT_INT_MAP = MethodInfo.of(CallableStatement.class, "getObject", int.class, Map.class);
+    private static final MethodInfo GET_OBJECT_STRING = MethodInfo.of(CallableStatement.class, "getObject", String.class);
+    private static final MethodInfo GET_OBJECT_STRING_CLASS = MethodInfo.of(CallableStatement.class, "getObject", String.class, Class.class);
+    private static final MethodInfo GET_OBJECT_STRING_MAP = MethodInfo.of(CallableStatement.class, "getObject", String.class, Map.class);
+    private static final MethodInfo GET_PARAMETER_META_DATA = MethodInfo.of(CallableStatement.class, "getParameterMetaData");
+    private static final MethodInfo GET_QUERY_TIMEOUT = MethodInfo.of(CallableStatement.class, "getQueryTimeout");
+    private static final MethodInfo GET_REF_INT = MethodInfo.of(CallableStatement.class, "getRef", int.class);
+    private static final MethodInfo GET_REF_STRING = MethodInfo.of(CallableStatement.class, "getRef", String.class);
+    private static final MethodInfo GET_RESULT_SET = MethodInfo.of(CallableStatement.class, "getResultSet");
+    private static final MethodInfo GET_RESULT_SET_CONCURRENCY = MethodInfo.of(CallableStatement.class, "getResultSetConcurrency");
+    private static final MethodInfo GET_RESULT_SET_HOLDABILITY = MethodInfo.of(CallableStatement.class, "getResultSetHoldability");
+    private static final MethodInfo GET_RESULT_SET_TYPE = MethodInfo.of(CallableStatement.class, "getResultSetType");
+    private static final MethodInfo GET_ROW_ID_INT = MethodInfo.of(CallableStatement.class, "getRowId", int.class);
+    private static final MethodInfo GET_ROW_ID_STRING = MethodInfo.of(CallableStatement.class, "getRowId", String.class);
+    private static final MethodInfo GET_SQLXML_INT = MethodInfo.of(CallableStatement.class, "getSQLXML", int.class);
+    private static final MethodInfo GET_SQLXML_STRING = MethodInfo.of(CallableStatement.class, "getSQLXML", String.class);
+    private static final MethodInfo GET_SHORT_INT = MethodInfo.of(CallableStatement.class, "getShort", int.class);
+    private static final MethodInfo GET_SHORT_STRING = MethodInfo.of(CallableStatement.class, "getShort", String.class);
+    private static final MethodInfo GET_STRING_INT = MethodInfo.of(CallableStatement.class, "getString", int.class);
+    private static final MethodInfo GET_STRING_STRING = MethodInfo.of(CallableStatement.class, "getString", String.class);
+    private static final MethodInfo GET_TIME_INT = MethodInfo.of(CallableStatement.class, "getTime", int.class);
+    private static final MethodInfo GET_TIME_INT_CALENDAR = MethodInfo.of(CallableStatement.class, "getTime", int.class, Calendar.class);
+    private static final MethodInfo GET_TIME_STRING = MethodInfo.of(CallableStatement.class, "getTime", String.class);
+    private static final MethodInfo GET_TIME_STRING_CALENDAR = MethodInfo.of(CallableStatement.class, "getTime", String.class, Calendar.class);
+    private static final MethodInfo GET_TIMESTAMP_INT = MethodInfo.of(CallableStatement.class, "getTimestamp", int.class);
+    private static final MethodInfo GET_TIMESTAMP_INT_CALENDAR = MethodInfo.of(CallableStatement.class, "getTimestamp", int.class, Calendar.class);
+    private static final MethodInfo GET_TIMESTAMP_STRING = MethodInfo.of(CallableStatement.class, "getTimestamp", String.class);
+    private static final MethodInfo GET_TIMESTAMP_STRING_CALENDAR = MethodInfo.of(CallableStatement.class, "getTimestamp", String.class, Calendar.class);
+    private static final MethodInfo GET_URL_INT = MethodInfo.of(CallableStatement.class, "getURL", int.class);
+    private static final MethodInfo GET_URL_STRING = MethodInfo.of(CallableStatement.class, "getURL", String.class);
+    private static final MethodInfo GET_UPDATE_COUNT = MethodInfo.of(CallableStatement.class, "getUpdateCount");
+    private static final MethodInfo GET_WARNINGS = MethodInfo.of(CallableStatement.class, "getWarnings");
+    private static final MethodInfo IS_CLOSE_ON_COMPLETION = MethodInfo.of(CallableStatement.class, "isCloseOnCompletion");
+    private static final MethodInfo IS_CLOSED = MethodInfo.of(CallableStatement.class, "isClosed");
+    private static final MethodInfo IS_POOLABLE = MethodInfo.of(CallableStatement.class, "isPoolable");
+    private static final MethodInfo IS_SIMPLE_IDENTIFIER_STRING = MethodInfo.of(CallableStatement.class, "isSimpleIdentifier", String.class);
+    private static final MethodInfo IS_WRAPPER_FOR_CLASS = MethodInfo.of(CallableStatement.class, "isWrapperFor", Class.class);
+    private static final MethodInfo REGISTER_OUT_PARAMETER_INT_INT = MethodInfo.of(CallableStatement.class, "registerOutParameter", int.class, int.class);
+    private static final MethodInfo REGISTER_OUT_PARAMETER_INT_INT_INT = MethodInfo.of(CallableStatement.class, "registerOutParameter", int.class, int.class, int.class);
+    private static final MethodInfo REGISTER_OUT_PARAMETER_INT_INT_STRING = MethodInfo.of(CallableStatement.class, "registerOutParameter", int.class, int.class, String.class);
+    private static final MethodInfo REGISTER_OUT_PARAMETER_INT_SQLTYPE = MethodInfo.of(CallableStatement.class, "registerOutParameter", int.class, SQLType.class);
+    private static final MethodInfo REGISTER_OUT_PARAMETER_INT_SQLTYPE_INT = MethodInfo.of(CallableStatement.class, "registerOutParameter", int.class, SQLType.class, int.class);
+    private static final MethodInfo REGISTER_OUT_PARAMETER_INT_SQLTYPE_STRING = MethodInfo.of(CallableStatement.class, "registerOutParameter", int.class, SQLType.class, String.class);
+    private static final MethodInfo REGISTER_OUT_PARAMETER_STRING_INT = MethodInfo.of(CallableStatement.class, "registerOutParameter", String.class, int.class);
+    private static final MethodInfo REGISTER_OUT_PARAMETER_STRING_INT_INT = MethodInfo.of(CallableStatement.class, "registerOutParameter", String.class, int.class, int.class);
+    private static final MethodInfo REGISTER_OUT_PARAMETER_STRING_INT_STRING = MethodInfo.of(CallableStatement.class, "registerOutParameter", String.class, int.class, String.class);
+    private static final MethodInfo REGISTER_OUT_PARAMETER_STRING_SQLTYPE = MethodInfo.of(CallableStatement.class, "registerOutParameter", String.class, SQLType.class);
+    private static final MethodInfo REGISTER_OUT_PARAMETER_STRING_SQLTYPE_INT = MethodInfo.of(CallableStatement.class, "registerOutParameter", String.class, SQLType.class, int.class);
+    private static final MethodInfo REGISTER_OUT_PARAMETER_STRING_SQLTYPE_STRING = MethodInfo.of(CallableStatement.class, "registerOutParameter", String.class, SQLType.class, String.class);
+    private static final MethodInfo SET_ARRAY_INT_ARRAY = MethodInfo.of(CallableStatement.class, "setArray", int.class, Array.class);
+    private static final MethodInfo SET_ASCII_STREAM_INT_INPUT_STREAM = MethodInfo.of(CallableStatement.class, "setAsciiStream", int.class, InputStream.class);
+    private static final MethodInfo SET_ASCII_STREAM_INT_INPUT_STREAM_INT = MethodInfo.of(CallableStatement.class, "setAsciiStream", int.class, InputStream.class, int.class);
+    private static final MethodInfo SET_ASCII_STREAM_INT_INPUT_STREAM_LONG = MethodInfo.of(CallableStatement.class, "setAsciiStream", int.class, InputStream.class, long.class);
+    private static final MethodInfo SET_ASCII_STREAM_STRING_INPUT_STREAM = MethodInfo.of(CallableStatement.class, "setAsciiStream", String.class, InputStream.class);
+    private static final MethodInfo SET_ASCII_STREAM_STRING_INPUT_STREAM_INT = MethodInfo.of(CallableStatement.class, "setAsciiStream", String.class, InputStream.class, int.class);
+    private static final MethodInfo SET_ASCII_STREAM_STRING_INPUT_STREAM_LONG = MethodInfo.of(CallableStatement.class, "setAsciiStream", String.class, InputStream.class, long.class);
+    private static final MethodInfo SET_BIG_DECIMAL_INT_BIG_DECIMAL = MethodInfo.of(CallableStatement.class, "setBigDecimal", int.class, BigDecimal.class);
+    private static final MethodInfo SET_BIG_DECIMAL_STRING_BIG_DECIMAL = MethodInfo.of(CallableStatement.class, "setBigDecimal", String.class, BigDecimal.class);
+    private static final MethodInfo SET_BINARY_STREAM_INT_INPUT_STREAM = MethodInfo.of(CallableStatement.class, "setBinaryStream", int.class, InputStream.class);
+    private static final MethodInfo SET_BINARY_STREAM_INT_INPUT_STREAM_INT = MethodInfo.of(CallableStatement.class, "setBinaryStream", int.class, InputStream.class, int.class);
+    private static final MethodInfo SET_BINARY_STREAM_INT_INPUT_STREAM_LONG = MethodInfo.of(CallableStatement.class, "setBinaryStream", int.class, InputStream.class, long.class);
+    private static final MethodInfo SET_BINARY_STREAM_STRING_INPUT_STREAM = MethodInfo.of(CallableStatement.class, "setBinaryStream", String.class, InputStream.class);
+    private static final MethodInfo SET_BINARY_STREAM_STRING_INPUT_STREAM_INT = MethodInfo.of(CallableStatement.class, "setBinaryStream", String.class, InputStream.class, int.class);
+    private static final MethodInfo SET_BINARY_STREAM_STRING_INPUT_STREAM_LONG = MethodInfo.of(CallableStatement.class, "setBinaryStream", String.class, InputStream.class, long.class);
+    private static final MethodInfo SET_BLOB_INT_INPUT_STREAM = MethodInfo.of(CallableStatement.class, "setBlob", int.class, InputStream.class);
+    private static final MethodInfo SET_BLOB_INT_INPUT_STREAM_LONG = MethodInfo.of(CallableStatement.class, "setBlob", int.class, InputStream.class, long.class);
+    private static final MethodInfo SET_BLOB_INT_BLOB = MethodInfo.of(CallableStatement.class, "setBlob", int.class, Blob.class);
+    private static final MethodInfo SET_BLOB_STRING_INPUT_STREAM = MethodInfo.of(CallableStatement.class, "setBlob", String.class, InputStream.class);
+    private static final MethodInfo SET_BLOB_STRING_INPUT_STREAM_LONG = MethodInfo.of(CallableStatement.class, "setBlob", String.class, InputStream.class, long.class);
+    private static final MethodInfo SET_BLOB_STRING_BLOB = MethodInfo.of(CallableStatement.class, "setBlob", String.class, Blob.class);
+    private static final MethodInfo SET_BOOLEAN_INT_BOOLEAN = MethodInfo.of(CallableStatement.class, "setBoolean", int.class, boolean.class);
+    private static final MethodInfo SET_BOOLEAN_STRING_BOOLEAN = MethodInfo.of(CallableStatement.class, "setBoolean", String.class, boolean.class);
+    private static final MethodInfo SET_BYTE_INT_BYTE = MethodInfo.of(CallableStatement.class, "setByte", int.class, byte.class);
+    private static final MethodInfo SET_BYTE_STRING_BYTE = MethodInfo.of(CallableStatement.class, "setByte", String.class, byte.class);
+    private static final MethodInfo SET_BYTES_INT_BYTE_ARRAY = MethodInfo.of(CallableStatement.class, "setBytes", int.class, byte[].class);
+    private static final MethodInfo SET_BYTES_STRING_BYTE_ARRAY = MethodInfo.of(CallableStatement.class, "setBytes", String.class, byte[].class);
+    private static final MethodInfo SET_CHARACTER_STREAM_INT_READER = MethodInfo.of(CallableStatement.class, "setCharacterStream", int.class, Reader.class);
+    private static final MethodInfo SET_CHARACTER_STREAM_INT_READER_INT = MethodInfo.of(CallableStatement.class, "setCharacterStream", int.class, Reader.class, int.class);
+    private static final MethodInfo SET_CHARACTER_STREAM_INT_READER_LONG = MethodInfo.of(CallableStatement.class, "setCharacterStream", int.class, Reader.class, long.class);
+    private static final MethodInfo SET_CHARACTER_STREAM_STRING_READER = MethodInfo.of(CallableStatement.class, "setCharacterStream", String.class, Reader.class);
+    private static final MethodInfo SET_CHARACTER_STREAM_STRING_READER_INT = MethodInfo.of(CallableStatement.class, "setCharacterStream", String.class, Reader.class, int.class);
+    private static final MethodInfo SET_CHARACTER_STREAM_STRING_READER_LONG = MethodInfo.of(CallableStatement.class, "setCharacterStream", String.class, Reader.class, long.class);
+    private static final MethodInfo SET_CLOB_INT_READER = MethodInfo.of(CallableStatement.class, "setClob", int.class, Reader.class);
+    private static final MethodInfo SET_CLOB_INT_READER_LONG = MethodInfo.of(CallableStatement.class, "setClob", int.class, Reader.class, long.class);
+    private static final MethodInfo SET_CLOB_INT_CLOB = MethodInfo.of(CallableStatement.class, "setClob", int.class, Clob.class);
+    private static final MethodInfo SET_CLOB_STRING_READER = MethodInfo.of(CallableStatement.class, "setClob", String.class, Reader.class);
+    private static final MethodInfo SET_CLOB_STRING_READER_LONG = MethodInfo.of(CallableStatement.class, "setClob", String.class, Reader.class, long.class);
+    private static final MethodInfo SET_CLOB_STRING_CLOB = MethodInfo.of(CallableStatement.class, "setClob", String.class, Clob.class);
+    private static final MethodInfo SET_CURSOR_NAME_STRING = MethodInfo.of(CallableStatement.class, "setCursorName", String.class);
+    private static final MethodInfo SET_DATE_INT_DATE = MethodInfo.of(CallableStatement.class, "setDate", int.class, Date.class);
+    private static final MethodInfo SET_DATE_INT_DATE_CALENDAR = MethodInfo.of(CallableStatement.class, "setDate", int.class, Date.class, Calendar.class);
+    private static final MethodInfo SET_DATE_STRING_DATE = MethodInfo.of(CallableStatement.class, "setDate", String.class, Date.class);
+    private static final MethodInfo SET_DATE_STRING_DATE_CALENDAR = MethodInfo.of(CallableStatement.class, "setDate", String.class, Date.class, Calendar.class);
+    private static final MethodInfo SET_DOUBLE_INT_DOUBLE = MethodInfo.of(CallableStatement.class, "setDouble", int.class, double.class);
+    private static final MethodInfo SET_DOUBLE_STRING_DOUBLE = MethodInfo.of(CallableStatement.class, "setDouble", String.class, double.class);
+    private static final MethodInfo SET_ESCAPE_PROCESSING_BOOLEAN = MethodInfo.of(CallableStatement.class, "setEscapeProcessing", boolean.class);
+    private static final MethodInfo SET_FETCH_DIRECTION_INT = MethodInfo.of(CallableStatement.class, "setFetchDirection", int.class);
+    private static final MethodInfo SET_FETCH_SIZE_INT = MethodInfo.of(CallableStatement.class, "setFetchSize", int.class);
+    private static final MethodInfo SET_FLOAT_INT_FLOAT = MethodInfo.of(CallableStatement.class, "setFloat", int.class, float.class);
+    private static final MethodInfo SET_FLOAT_STRING_FLOAT = MethodInfo.of(CallableStatement.class, "setFloat", String.class, float.class);
+    private static final MethodInfo SET_INT_INT_INT = MethodInfo.of(CallableStatement.class, "setInt", int.class, int.class);
+    private static final MethodInfo SET_INT_STRING_INT = MethodInfo.of(CallableStatement.class, "setInt", String.class, int.class);
+    private static final MethodInfo SET_LARGE_MAX_ROWS_LONG = MethodInfo.of(CallableStatement.class, "setLargeMaxRows", long.class);
+    private static final MethodInfo SET_LONG_INT_LONG = MethodInfo.of(CallableStatement.class, "setLong", int.class, long.class);
+    private static final MethodInfo SET_LONG_STRING_LONG = MethodInfo.of(CallableStatement.class, "setLong", String.class, long.class);
+    private static final MethodInfo SET_MAX_FIELD_SIZE_INT = MethodInfo.of(CallableStatement.class, "setMaxFieldSize", int.class);
+    private static final MethodInfo SET_MAX_ROWS_INT = MethodInfo.of(CallableStatement.class, "setMaxRows", int.class);
+    private static final MethodInfo SET_NCHARACTER_STREAM_INT_READER = MethodInfo.of(CallableStatement.class, "setNCharacterStream", int.class, Reader.class);
+    private static final MethodInfo SET_NCHARACTER_STREAM_INT_READER_LONG = MethodInfo.of(CallableStatement.class, "setNCharacterStream", int.class, Reader.class, long.class);
+    private static final MethodInfo SET_NCHARACTER_STREAM_STRING_READER = MethodInfo.of(CallableStatement.class, "setNCharacterStream", String.class, Reader.class);
+    private static final MethodInfo SET_NCHARACTER_STREAM_STRING_READER_LONG = MethodInfo.of(CallableStatement.class, "setNCharacterStream", String.class, Reader.class, long.class);
+    private static final MethodInfo SET_NCLOB_INT_READER = MethodInfo.of(CallableStatement.class, "setNClob", int.class, Reader.class);
+    private static final MethodInfo SET_NCLOB_INT_READER_LONG = MethodInfo.of(CallableStatement.class, "setNClob", int.class, Reader.class, long.class);
+    private static final MethodInfo SET_NCLOB_INT_NCLOB = MethodInfo.of(CallableStatement.class, "setNClob", int.class, NClob.class);
+    private static final MethodInfo SET_NCLOB_STRING_READER = MethodInfo.of(CallableStatement.class, "setNClob", String.class, Reader.class);
+    private static final MethodInfo SET_NCLOB_STRING_READER_LONG = MethodInfo.of(CallableStatement.class, "setNClob", String.class, Reader.class, long.class);
+    private static final MethodInfo SET_NCLOB_STRING_NCLOB = MethodInfo.of(CallableStatement.class, "setNClob", String.class, NClob.class);
+    private static final MethodInfo SET_NSTRING_INT_STRING = MethodInfo.of(CallableStatement.class, "setNString", int.class, String.class);
+    private static final MethodInfo SET_NSTRING_STRING_STRING = MethodInfo.of(CallableStatement.class, "setNString", String.class, String.class);
+    private static final MethodInfo SET_NULL_INT_INT = MethodInfo.of(CallableStatement.class, "setNull", int.class, int.class);
+    private static final MethodInfo SET_NULL_INT_INT_STRING = MethodInfo.of(CallableStatement.class, "setNull", int.class, int.class, String.class);
+    private static final MethodInfo SET_NULL_STRING_INT = MethodInfo.of(CallableStatement.class, "setNull", String.class, int.class);
+    private static final MethodInfo SET_NULL_STRING_INT_STRING = MethodInfo.of(CallableStatement.class, "setNull", String.class, int.class, String.class);
+    private static final MethodInfo SET_OBJECT_INT_OBJECT = MethodInfo.of(CallableStatement.class, "setObject", int.class, Object.class);
+    private static final MethodInfo SET_OBJECT_INT_OBJECT_INT = MethodInfo.of(CallableStatement.class, "setObject", int.class, Object.class, int.class);
+    private static final MethodInfo SET_OBJECT_INT_OBJECT_INT_INT = MethodInfo.of(CallableStatement.class, "setObject", int.class, Object.class, int.class, int.class);
+    private static final MethodInfo SET_OBJECT_INT_OBJECT_SQLTYPE = MethodInfo.of(CallableStatement.class, "setObject", int.class, Object.class, SQLType.class);
+    private static final MethodInfo SET_OBJECT_INT_OBJECT_SQLTYPE_INT = MethodInfo.of(CallableStatement.class, "setObject", int.class, Object.class, SQLType.class, int.class);
+    private static final MethodInfo SET_OBJECT_STRING_OBJECT = MethodInfo.of(CallableStatement.class, "setObject", String.class, Object.class);
+    private static final MethodInfo SET_OBJECT_STRING_OBJECT_INT = MethodInfo.of(CallableStatement.class, "setObject", String.class, Object.class, int.class);
+    private static final MethodInfo SET_OBJECT_STRING_OBJECT_INT_INT = MethodInfo.of(CallableStatement.class, "setObject", String.class, Object.class, int.class, int.class);
+    private static final MethodInfo SET_OBJECT_STRING_OBJECT_SQLTYPE = MethodInfo.of(CallableStatement.class, "setObject", String.class, Object.class, SQLType.class);
+    private static final MethodInfo SET_OBJECT_STRING_OBJECT_SQLTYPE_INT = MethodInfo.of(CallableStatement.class, "setObject", String.class, Object.class, SQLType.class, int.class);
+    private static final MethodInfo SET_POOLABLE_BOOLEAN = MethodInfo.of(CallableStatement.class, "setPoolable", boolean.class);
+    private static final MethodInfo SET_QUERY_TIMEOUT_INT = MethodInfo.of(CallableStatement.class, "setQueryTimeout", int.class);
+    private static final MethodInfo SET_REF_INT_REF = MethodInfo.of(CallableStatement.class, "setRef", int.class, Ref.class);
+    private static final MethodInfo SET_ROW_ID_INT_ROW_ID = MethodInfo.of(CallableStatement.class, "setRowId", int.class, RowId.class);
+    private static final MethodInfo SET_ROW_ID_STRING_ROW_ID = MethodInfo.of(CallableStatement.class, "setRowId", String.class, RowId.class);
+    private static final MethodInfo SET_SQLXML_INT_SQLXML = MethodInfo.of(CallableStatement.class, "setSQLXML", int.class, SQLXML.class);
+    private static final MethodInfo SET_SQLXML_STRING_SQLXML = MethodInfo.of(CallableStatement.class, "setSQLXML", String.class, SQLXML.class);
+    private static final MethodInfo SET_SHORT_INT_SHORT = MethodInfo.of(CallableStatement.class, "setShort", int.class, short.class);
+    private static final MethodInfo SET_SHORT_STRING_SHORT = MethodInfo.of(CallableStatement.class, "setShort", String.class, short.class);
+    private static final MethodInfo SET_STRING_INT_STRING = MethodInfo.of(CallableStatement.class, "setString", int.class, String.class);
+    private static final MethodInfo SET_STRING_STRING_STRING = MethodInfo.of(CallableStatement.class, "setString", String.class, String.class);
+    private static final MethodInfo SET_TIME_INT_TIME = MethodInfo.of(CallableStatement.class, "setTime", int.class, Time.class);
+    private static final MethodInfo SET_TIME_INT_TIME_CALENDAR = MethodInfo.of(CallableStatement.class, "setTime", int.class, Time.class, Calendar.class);
+    private static final MethodInfo SET_TIME_STRING_TIME = MethodInfo.of(CallableStatement.class, "setTime", String.class, Time.class);
+    private static final MethodInfo SET_TIME_STRING_TIME_CALENDAR = MethodInfo.of(CallableStatement.class, "setTime", String.class, Time.class, Calendar.class);
+    private static final MethodInfo SET_TIMESTAMP_INT_TIMESTAMP = MethodInfo.of(CallableStatement.class, "setTimestamp", int.class, Timestamp.class);
+    private static final MethodInfo SET_TIMESTAMP_INT_TIMESTAMP_CALENDAR = MethodInfo.of(CallableStatement.class, "setTimestamp", int.class, Timestamp.class, Calendar.class);
+    private static final MethodInfo SET_TIMESTAMP_STRING_TIMESTAMP = MethodInfo.of(CallableStatement.class, "setTimestamp", String.class, Timestamp.class);
+    private static final MethodInfo SET_TIMESTAMP_STRING_TIMESTAMP_CALENDAR = MethodInfo.of(CallableStatement.class, "setTimestamp", String.class, Timestamp.class, Calendar.class);
+    private static final MethodInfo SET_URL_INT_URL = MethodInfo.of(CallableStatement.class, "setURL", int.class, URL.class);
+    private static final MethodInfo SET_URL_STRING_URL = MethodInfo.of(CallableStatement.class, "setURL", String.class, URL.class);
+    private static final MethodInfo SET_UNICODE_STREAM_INT_INPUT_STREAM_INT = MethodInfo.of(CallableStatement.class, "setUnicodeStream", int.class, InputStream.class, int.class);
+    private static final MethodInfo UNWRAP_CLASS = MethodInfo.of(CallableStatement.class, "unwrap", Class.class);
+    private static final MethodInfo WAS_NULL = MethodInfo.of(CallableStatement.class, "wasNull");
+
+    private final CallableStatement delegate;
+    private final TraceNode node;
+
+    public CallableStatementWrapper(CallableStatement delegate, TraceNode node) {
+        this.delegate = delegate;
+        this.node = node;
+    }
+
+    @Override
+    public void addBatch() throws SQLException {
+        Invocation invocation = node.enter(ADD_BATCH);
+        try {
+            delegate.addBatch();
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void addBatch(String arg0) throws SQLException {
+        Invocation invocation = node.enter(ADD_BATCH_STRING);
+        try {
+            delegate.addBatch(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void cancel() throws SQLException {
+        Invocation invocation = node.enter(CANCEL);
+        try {
+            delegate.cancel();
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void clearBatch() throws SQLException {
+        Invocation invocation = node.enter(CLEAR_BATCH);
+        try {
+            delegate.clearBatch();
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void clearParameters() throws SQLException {
+        Invocation invocation = node.enter(CLEAR_PARAMETERS);
+        try {
+            delegate.clearParameters();
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void clearWarnings() throws SQLException {
+        Invocation invocation = node.enter(CLEAR_WARNINGS);
+        try {
+            delegate.clearWarnings();
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void close() throws SQLException {
+        Invocation invocation = node.enter(CLOSE);
+        try {
+            delegate.close();
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void closeOnCompletion() throws SQLException {
+        Invocation invocation = node.enter(CLOSE_ON_COMPLETION);
+        try {
+            delegate.closeOnCompletion();
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public String enquoteIdentifier(String arg0, boolean arg1) throws SQLException {
+        Invocation invocation = node.enter(ENQUOTE_IDENTIFIER_STRING_BOOLEAN);
+        try {
+            String result = delegate.enquoteIdentifier(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public String enquoteLiteral(String arg0) throws SQLException {
+        Invocation invocation = node.enter(ENQUOTE_LITERAL_STRING);
+        try {
+            String result = delegate.enquoteLiteral(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public String enquoteNCharLiteral(String arg0) throws SQLException {
+        Invocation invocation = node.enter(ENQUOTE_NCHAR_LITERAL_STRING);
+        try {
+            String result = delegate.enquoteNCharLiteral(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean execute() throws SQLException {
+        Invocation invocation = node.enter(EXECUTE, null);
+        try {
+            boolean result = delegate.execute();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean execute(String arg0) throws SQLException {
+        Invocation invocation = node.enter(EXECUTE_STRING, arg0);
+        try {
+            boolean result = delegate.execute(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean execute(String arg0, int[] arg1) throws SQLException {
+        Invocation invocation = node.enter(EXECUTE_STRING_INT_ARRAY, arg0);
+        try {
+            boolean result = delegate.execute(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean execute(String arg0, String[] arg1) throws SQLException {
+        Invocation invocation = node.enter(EXECUTE_STRING_STRING_ARRAY, arg0);
+        try {
+            boolean result = delegate.execute(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean execute(String arg0, int arg1) throws SQLException {
+        Invocation invocation = node.enter(EXECUTE_STRING_INT, arg0);
+        try {
+            boolean result = delegate.execute(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public int[] executeBatch() throws SQLException {
+        Invocation invocation = node.enter(EXECUTE_BATCH, null);
+        try {
+            int[] result = delegate.executeBatch();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public long[] executeLargeBatch() throws SQLException {
+        Invocation invocation = node.enter(EXECUTE_LARGE_BATCH, null);
+        try {
+            long[] result = delegate.executeLargeBatch();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public long executeLargeUpdate() throws SQLException {
+        Invocation invocation = node.enter(EXECUTE_LARGE_UPDATE, null);
+        try {
+            long result = delegate.executeLargeUpdate();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public long executeLargeUpdate(String arg0) throws SQLException {
+        Invocation invocation = node.enter(EXECUTE_LARGE_UPDATE_STRING, arg0);
+        try {
+            long result = delegate.executeLargeUpdate(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public long executeLargeUpdate(String arg0, int[] arg1) throws SQLException {
+        Invocation invocation = node.enter(EXECUTE_LARGE_UPDATE_STRING_INT_ARRAY, arg0);
+        try {
+            long result = delegate.executeLargeUpdate(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public long executeLargeUpdate(String arg0, String[] arg1) throws SQLException {
+        Invocation invocation = node.enter(EXECUTE_LARGE_UPDATE_STRING_STRING_ARRAY, arg0);
+        try {
+            long result = delegate.executeLargeUpdate(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public long executeLargeUpdate(String arg0, int arg1) throws SQLException {
+        Invocation invocation = node.enter(EXECUTE_LARGE_UPDATE_STRING_INT, arg0);
+        try {
+            long result = delegate.executeLargeUpdate(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public ResultSet executeQuery() throws SQLException {
+        Invocation invocation = node.enter(EXECUTE_QUERY, null);
+        try {
+            ResultSet result = delegate.executeQuery();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return (ResultSet) invocation.wrap(result, null);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public ResultSet executeQuery(String arg0) throws SQLException {
+        Invocation invocation = node.enter(EXECUTE_QUERY_STRING, arg0);
+        try {
+            ResultSet result = delegate.executeQuery(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return (ResultSet) invocation.wrap(result, arg0);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public int executeUpdate() throws SQLException {
+        Invocation invocation = node.enter(EXECUTE_UPDATE, null);
+        try {
+            int result = delegate.executeUpdate();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public int executeUpdate(String arg0) throws SQLException {
+        Invocation invocation = node.enter(EXECUTE_UPDATE_STRING, arg0);
+        try {
+            int result = delegate.executeUpdate(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public int executeUpdate(String arg0, int[] arg1) throws SQLException {
+        Invocation invocation = node.enter(EXECUTE_UPDATE_STRING_INT_ARRAY, arg0);
+        try {
+            int result = delegate.executeUpdate(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public int executeUpdate(String arg0, String[] arg1) throws SQLException {
+        Invocation invocation = node.enter(EXECUTE_UPDATE_STRING_STRING_ARRAY, arg0);
+        try {
+            int result = delegate.executeUpdate(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public int executeUpdate(String arg0, int arg1) throws SQLException {
+        Invocation invocation = node.enter(EXECUTE_UPDATE_STRING_INT, arg0);
+        try {
+            int result = delegate.executeUpdate(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public Array getArray(int arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_ARRAY_INT);
+        try {
+            Array result = delegate.getArray(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return (Array) invocation.wrap(result, arg0);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public Array getArray(String arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_ARRAY_STRING);
+        try {
+            Array result = delegate.getArray(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return (Array) invocation.wrap(result, arg0);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public BigDecimal getBigDecimal(int arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_BIG_DECIMAL_INT);
+        try {
+            BigDecimal result = delegate.getBigDecimal(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public BigDecimal getBigDecimal(int arg0, int arg1) throws SQLException {
+        Invocation invocation = node.enter(GET_BIG_DECIMAL_INT_INT);
+        try {
+            BigDecimal result = delegate.getBigDecimal(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public BigDecimal getBigDecimal(String arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_BIG_DECIMAL_STRING);
+        try {
+            BigDecimal result = delegate.getBigDecimal(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public Blob getBlob(int arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_BLOB_INT);
+        try {
+            Blob result = delegate.getBlob(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return (Blob) invocation.wrap(result, arg0);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public Blob getBlob(String arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_BLOB_STRING);
+        try {
+            Blob result = delegate.getBlob(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return (Blob) invocation.wrap(result, arg0);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean getBoolean(int arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_BOOLEAN_INT);
+        try {
+            boolean result = delegate.getBoolean(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean getBoolean(String arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_BOOLEAN_STRING);
+        try {
+            boolean result = delegate.getBoolean(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public byte getByte(int arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_BYTE_INT);
+        try {
+            byte result = delegate.getByte(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public byte getByte(String arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_BYTE_STRING);
+        try {
+            byte result = delegate.getByte(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public byte[] getBytes(int arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_BYTES_INT);
+        try {
+            byte[] result = delegate.getBytes(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public byte[] getBytes(String arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_BYTES_STRING);
+        try {
+            byte[] result = delegate.getBytes(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public Reader getCharacterStream(int arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_CHARACTER_STREAM_INT);
+        try {
+            Reader result = delegate.getCharacterStream(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return (Reader) invocation.wrap(result, arg0);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public Reader getCharacterStream(String arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_CHARACTER_STREAM_STRING);
+        try {
+            Reader result = delegate.getCharacterStream(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return (Reader) invocation.wrap(result, arg0);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public Clob getClob(int arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_CLOB_INT);
+        try {
+            Clob result = delegate.getClob(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return (Clob) invocation.wrap(result, arg0);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public Clob getClob(String arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_CLOB_STRING);
+        try {
+            Clob result = delegate.getClob(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return (Clob) invocation.wrap(result, arg0);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Invocation invocation = node.enter(GET_CONNECTION);
+        try {
+            Connection result = delegate.getConnection();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return (Connection) invocation.wrap(result, null);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public Date getDate(int arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_DATE_INT);
+        try {
+            Date result = delegate.getDate(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public Date getDate(int arg0, Calendar arg1) throws SQLException {
+        Invocation invocation = node.enter(GET_DATE_INT_CALENDAR);
+        try {
+            Date result = delegate.getDate(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public Date getDate(String arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_DATE_STRING);
+        try {
+            Date result = delegate.getDate(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public Date getDate(String arg0, Calendar arg1) throws SQLException {
+        Invocation invocation = node.enter(GET_DATE_STRING_CALENDAR);
+        try {
+            Date result = delegate.getDate(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public double getDouble(int arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_DOUBLE_INT);
+        try {
+            double result = delegate.getDouble(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public double getDouble(String arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_DOUBLE_STRING);
+        try {
+            double result = delegate.getDouble(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public int getFetchDirection() throws SQLException {
+        Invocation invocation = node.enter(GET_FETCH_DIRECTION);
+        try {
+            int result = delegate.getFetchDirection();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public int getFetchSize() throws SQLException {
+        Invocation invocation = node.enter(GET_FETCH_SIZE);
+        try {
+            int result = delegate.getFetchSize();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public float getFloat(int arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_FLOAT_INT);
+        try {
+            float result = delegate.getFloat(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public float getFloat(String arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_FLOAT_STRING);
+        try {
+            float result = delegate.getFloat(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public ResultSet getGeneratedKeys() throws SQLException {
+        Invocation invocation = node.enter(GET_GENERATED_KEYS);
+        try {
+            ResultSet result = delegate.getGeneratedKeys();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return (ResultSet) invocation.wrap(result, null);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public int getInt(int arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_INT_INT);
+        try {
+            int result = delegate.getInt(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public int getInt(String arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_INT_STRING);
+        try {
+            int result = delegate.getInt(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public long getLargeMaxRows() throws SQLException {
+        Invocation invocation = node.enter(GET_LARGE_MAX_ROWS);
+        try {
+            long result = delegate.getLargeMaxRows();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public long getLargeUpdateCount() throws SQLException {
+        Invocation invocation = node.enter(GET_LARGE_UPDATE_COUNT);
+        try {
+            long result = delegate.getLargeUpdateCount();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public long getLong(int arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_LONG_INT);
+        try {
+            long result = delegate.getLong(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public long getLong(String arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_LONG_STRING);
+        try {
+            long result = delegate.getLong(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public int getMaxFieldSize() throws SQLException {
+        Invocation invocation = node.enter(GET_MAX_FIELD_SIZE);
+        try {
+            int result = delegate.getMaxFieldSize();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public int getMaxRows() throws SQLException {
+        Invocation invocation = node.enter(GET_MAX_ROWS);
+        try {
+            int result = delegate.getMaxRows();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public ResultSetMetaData getMetaData() throws SQLException {
+        Invocation invocation = node.enter(GET_META_DATA);
+        try {
+            ResultSetMetaData result = delegate.getMetaData();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return (ResultSetMetaData) invocation.wrap(result, null);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean getMoreResults() throws SQLException {
+        Invocation invocation = node.enter(GET_MORE_RESULTS);
+        try {
+            boolean result = delegate.getMoreResults();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean getMoreResults(int arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_MORE_RESULTS_INT);
+        try {
+            boolean result = delegate.getMoreResults(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public Reader getNCharacterStream(int arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_NCHARACTER_STREAM_INT);
+        try {
+            Reader result = delegate.getNCharacterStream(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return (Reader) invocation.wrap(result, arg0);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public Reader getNCharacterStream(String arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_NCHARACTER_STREAM_STRING);
+        try {
+            Reader result = delegate.getNCharacterStream(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return (Reader) invocation.wrap(result, arg0);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public NClob getNClob(int arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_NCLOB_INT);
+        try {
+            NClob result = delegate.getNClob(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return (NClob) invocation.wrap(result, arg0);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public NClob getNClob(String arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_NCLOB_STRING);
+        try {
+            NClob result = delegate.getNClob(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return (NClob) invocation.wrap(result, arg0);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public String getNString(int arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_NSTRING_INT);
+        try {
+            String result = delegate.getNString(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public String getNString(String arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_NSTRING_STRING);
+        try {
+            String result = delegate.getNString(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public Object getObject(int arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_OBJECT_INT);
+        try {
+            Object result = delegate.getObject(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public <T> T getObject(int arg0, Class<T> arg1) throws SQLException {
+        Invocation invocation = node.enter(GET_OBJECT_INT_CLASS);
+        try {
+            T result = delegate.getObject(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public Object getObject(int arg0, Map<String, Class<?>> arg1) throws SQLException {
+        Invocation invocation = node.enter(GET_OBJECT_INT_MAP);
+        try {
+            Object result = delegate.getObject(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public Object getObject(String arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_OBJECT_STRING);
+        try {
+            Object result = delegate.getObject(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public <T> T getObject(String arg0, Class<T> arg1) throws SQLException {
+        Invocation invocation = node.enter(GET_OBJECT_STRING_CLASS);
+        try {
+            T result = delegate.getObject(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public Object getObject(String arg0, Map<String, Class<?>> arg1) throws SQLException {
+        Invocation invocation = node.enter(GET_OBJECT_STRING_MAP);
+        try {
+            Object result = delegate.getObject(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public ParameterMetaData getParameterMetaData() throws SQLException {
+        Invocation invocation = node.enter(GET_PARAMETER_META_DATA);
+        try {
+            ParameterMetaData result = delegate.getParameterMetaData();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return (ParameterMetaData) invocation.wrap(result, null);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public int getQueryTimeout() throws SQLException {
+        Invocation invocation = node.enter(GET_QUERY_TIMEOUT);
+        try {
+            int result = delegate.getQueryTimeout();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public Ref getRef(int arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_REF_INT);
+        try {
+            Ref result = delegate.getRef(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return (Ref) invocation.wrap(result, arg0);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public Ref getRef(String arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_REF_STRING);
+        try {
+            Ref result = delegate.getRef(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return (Ref) invocation.wrap(result, arg0);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public ResultSet getResultSet() throws SQLException {
+        Invocation invocation = node.enter(GET_RESULT_SET);
+        try {
+            ResultSet result = delegate.getResultSet();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return (ResultSet) invocation.wrap(result, null);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public int getResultSetConcurrency() throws SQLException {
+        Invocation invocation = node.enter(GET_RESULT_SET_CONCURRENCY);
+        try {
+            int result = delegate.getResultSetConcurrency();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public int getResultSetHoldability() throws SQLException {
+        Invocation invocation = node.enter(GET_RESULT_SET_HOLDABILITY);
+        try {
+            int result = delegate.getResultSetHoldability();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public int getResultSetType() throws SQLException {
+        Invocation invocation = node.enter(GET_RESULT_SET_TYPE);
+        try {
+            int result = delegate.getResultSetType();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public RowId getRowId(int arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_ROW_ID_INT);
+        try {
+            RowId result = delegate.getRowId(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return (RowId) invocation.wrap(result, arg0);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public RowId getRowId(String arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_ROW_ID_STRING);
+        try {
+            RowId result = delegate.getRowId(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return (RowId) invocation.wrap(result, arg0);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public SQLXML getSQLXML(int arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_SQLXML_INT);
+        try {
+            SQLXML result = delegate.getSQLXML(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return (SQLXML) invocation.wrap(result, arg0);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public SQLXML getSQLXML(String arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_SQLXML_STRING);
+        try {
+            SQLXML result = delegate.getSQLXML(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return (SQLXML) invocation.wrap(result, arg0);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public short getShort(int arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_SHORT_INT);
+        try {
+            short result = delegate.getShort(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public short getShort(String arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_SHORT_STRING);
+        try {
+            short result = delegate.getShort(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public String getString(int arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_STRING_INT);
+        try {
+            String result = delegate.getString(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public String getString(String arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_STRING_STRING);
+        try {
+            String result = delegate.getString(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public Time getTime(int arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_TIME_INT);
+        try {
+            Time result = delegate.getTime(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public Time getTime(int arg0, Calendar arg1) throws SQLException {
+        Invocation invocation = node.enter(GET_TIME_INT_CALENDAR);
+        try {
+            Time result = delegate.getTime(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public Time getTime(String arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_TIME_STRING);
+        try {
+            Time result = delegate.getTime(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public Time getTime(String arg0, Calendar arg1) throws SQLException {
+        Invocation invocation = node.enter(GET_TIME_STRING_CALENDAR);
+        try {
+            Time result = delegate.getTime(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public Timestamp getTimestamp(int arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_TIMESTAMP_INT);
+        try {
+            Timestamp result = delegate.getTimestamp(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public Timestamp getTimestamp(int arg0, Calendar arg1) throws SQLException {
+        Invocation invocation = node.enter(GET_TIMESTAMP_INT_CALENDAR);
+        try {
+            Timestamp result = delegate.getTimestamp(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public Timestamp getTimestamp(String arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_TIMESTAMP_STRING);
+        try {
+            Timestamp result = delegate.getTimestamp(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public Timestamp getTimestamp(String arg0, Calendar arg1) throws SQLException {
+        Invocation invocation = node.enter(GET_TIMESTAMP_STRING_CALENDAR);
+        try {
+            Timestamp result = delegate.getTimestamp(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public URL getURL(int arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_URL_INT);
+        try {
+            URL result = delegate.getURL(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public URL getURL(String arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_URL_STRING);
+        try {
+            URL result = delegate.getURL(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public int getUpdateCount() throws SQLException {
+        Invocation invocation = node.enter(GET_UPDATE_COUNT);
+        try {
+            int result = delegate.getUpdateCount();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public SQLWarning getWarnings() throws SQLException {
+        Invocation invocation = node.enter(GET_WARNINGS);
+        try {
+            SQLWarning result = delegate.getWarnings();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean isCloseOnCompletion() throws SQLException {
+        Invocation invocation = node.enter(IS_CLOSE_ON_COMPLETION);
+        try {
+            boolean result = delegate.isCloseOnCompletion();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean isClosed() throws SQLException {
+        Invocation invocation = node.enter(IS_CLOSED);
+        try {
+            boolean result = delegate.isClosed();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean isPoolable() throws SQLException {
+        Invocation invocation = node.enter(IS_POOLABLE);
+        try {
+            boolean result = delegate.isPoolable();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean isSimpleIdentifier(String arg0) throws SQLException {
+        Invocation invocation = node.enter(IS_SIMPLE_IDENTIFIER_STRING);
+        try {
+            boolean result = delegate.isSimpleIdentifier(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> arg0) throws SQLException {
+        Invocation invocation = node.enter(IS_WRAPPER_FOR_CLASS);
+        try {
+            boolean result = delegate.isWrapperFor(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void registerOutParameter(int arg0, int arg1) throws SQLException {
+        Invocation invocation = node.enter(REGISTER_OUT_PARAMETER_INT_INT);
+        try {
+            delegate.registerOutParameter(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void registerOutParameter(int arg0, int arg1, int arg2) throws SQLException {
+        Invocation invocation = node.enter(REGISTER_OUT_PARAMETER_INT_INT_INT);
+        try {
+            delegate.registerOutParameter(arg0, arg1, arg2);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void registerOutParameter(int arg0, int arg1, String arg2) throws SQLException {
+        Invocation invocation = node.enter(REGISTER_OUT_PARAMETER_INT_INT_STRING);
+        try {
+            delegate.registerOutParameter(arg0, arg1, arg2);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void registerOutParameter(int arg0, SQLType arg1) throws SQLException {
+        Invocation invocation = node.enter(REGISTER_OUT_PARAMETER_INT_SQLTYPE);
+        try {
+            delegate.registerOutParameter(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void registerOutParameter(int arg0, SQLType arg1, int arg2) throws SQLException {
+        Invocation invocation = node.enter(REGISTER_OUT_PARAMETER_INT_SQLTYPE_INT);
+        try {
+            delegate.registerOutParameter(arg0, arg1, arg2);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void registerOutParameter(int arg0, SQLType arg1, String arg2) throws SQLException {
+        Invocation invocation = node.enter(REGISTER_OUT_PARAMETER_INT_SQLTYPE_STRING);
+        try {
+            delegate.registerOutParameter(arg0, arg1, arg2);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void registerOutParameter(String arg0, int arg1) throws SQLException {
+        Invocation invocation = node.enter(REGISTER_OUT_PARAMETER_STRING_INT);
+        try {
+            delegate.registerOutParameter(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void registerOutParameter(String arg0, int arg1, int arg2) throws SQLException {
+        Invocation invocation = node.enter(REGISTER_OUT_PARAMETER_STRING_INT_INT);
+        try {
+            delegate.registerOutParameter(arg0, arg1, arg2);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void registerOutParameter(String arg0, int arg1, String arg2) throws SQLException {
+        Invocation invocation = node.enter(REGISTER_OUT_PARAMETER_STRING_INT_STRING);
+        try {
+            delegate.registerOutParameter(arg0, arg1, arg2);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void registerOutParameter(String arg0, SQLType arg1) throws SQLException {
+        Invocation invocation = node.enter(REGISTER_OUT_PARAMETER_STRING_SQLTYPE);
+        try {
+            delegate.registerOutParameter(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void registerOutParameter(String arg0, SQLType arg1, int arg2) throws SQLException {
+        Invocation invocation = node.enter(REGISTER_OUT_PARAMETER_STRING_SQLTYPE_INT);
+        try {
+            delegate.registerOutParameter(arg0, arg1, arg2);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void registerOutParameter(String arg0, SQLType arg1, String arg2) throws SQLException {
+        Invocation invocation = node.enter(REGISTER_OUT_PARAMETER_STRING_SQLTYPE_STRING);
+        try {
+            delegate.registerOutParameter(arg0, arg1, arg2);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setArray(int arg0, Array arg1) throws SQLException {
+        Invocation invocation = node.enter(SET_ARRAY_INT_ARRAY);
+        try {
+            delegate.setArray(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setAsciiStream(int arg0, InputStream arg1) throws SQLException {
+        Invocation invocation = node.enter(SET_ASCII_STREAM_INT_INPUT_STREAM);
+        try {
+            delegate.setAsciiStream(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setAsciiStream(int arg0, InputStream arg1, int arg2) throws SQLException {
+        Invocation invocation = node.enter(SET_ASCII_STREAM_INT_INPUT_STREAM_INT);
+        try {
+            delegate.setAsciiStream(arg0, arg1, arg2);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setAsciiStream(int arg0, InputStream arg1, long arg2) throws SQLException {
+        Invocation invocation = node.enter(SET_ASCII_STREAM_INT_INPUT_STREAM_LONG);
+        try {
+            delegate.setAsciiStream(arg0, arg1, arg2);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setAsciiStream(String arg0, InputStream arg1) throws SQLException {
+        Invocation invocation = node.enter(SET_ASCII_STREAM_STRING_INPUT_STREAM);
+        try {
+            delegate.setAsciiStream(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setAsciiStream(String arg0, InputStream arg1, int arg2) throws SQLException {
+        Invocation invocation = node.enter(SET_ASCII_STREAM_STRING_INPUT_STREAM_INT);
+        try {
+            delegate.setAsciiStream(arg0, arg1, arg2);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setAsciiStream(String arg0, InputStream arg1, long arg2) throws SQLException {
+        Invocation invocation = node.enter(SET_ASCII_STREAM_STRING_INPUT_STREAM_LONG);
+        try {
+            delegate.setAsciiStream(arg0, arg1, arg2);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setBigDecimal(int arg0, BigDecimal arg1) throws SQLException {
+        Invocation invocation = node.enter(SET_BIG_DECIMAL_INT_BIG_DECIMAL);
+        try {
+            delegate.setBigDecimal(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setBigDecimal(String arg0, BigDecimal arg1) throws SQLException {
+        Invocation invocation = node.enter(SET_BIG_DECIMAL_STRING_BIG_DECIMAL);
+        try {
+            delegate.setBigDecimal(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setBinaryStream(int arg0, InputStream arg1) throws SQLException {
+        Invocation invocation = node.enter(SET_BINARY_STREAM_INT_INPUT_STREAM);
+        try {
+            delegate.setBinaryStream(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setBinaryStream(int arg0, InputStream arg1, int arg2) throws SQLException {
+        Invocation invocation = node.enter(SET_BINARY_STREAM_INT_INPUT_STREAM_INT);
+        try {
+            delegate.setBinaryStream(arg0, arg1, arg2);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setBinaryStream(int arg0, InputStream arg1, long arg2) throws SQLException {
+        Invocation invocation = node.enter(SET_BINARY_STREAM_INT_INPUT_STREAM_LONG);
+        try {
+            delegate.setBinaryStream(arg0, arg1, arg2);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setBinaryStream(String arg0, InputStream arg1) throws SQLException {
+        Invocation invocation = node.enter(SET_BINARY_STREAM_STRING_INPUT_STREAM);
+        try {
+            delegate.setBinaryStream(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setBinaryStream(String arg0, InputStream arg1, int arg2) throws SQLException {
+        Invocation invocation = node.enter(SET_BINARY_STREAM_STRING_INPUT_STREAM_INT);
+        try {
+            delegate.setBinaryStream(arg0, arg1, arg2);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setBinaryStream(String arg0, InputStream arg1, long arg2) throws SQLException {
+        Invocation invocation = node.enter(SET_BINARY_STREAM_STRING_INPUT_STREAM_LONG);
+        try {
+            delegate.setBinaryStream(arg0, arg1, arg2);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setBlob(int arg0, InputStream arg1) throws SQLException {
+        Invocation invocation = node.enter(SET_BLOB_INT_INPUT_STREAM);
+        try {
+            delegate.setBlob(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setBlob(int arg0, InputStream arg1, long arg2) throws SQLException {
+        Invocation invocation = node.enter(SET_BLOB_INT_INPUT_STREAM_LONG);
+        try {
+            delegate.setBlob(arg0, arg1, arg2);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setBlob(int arg0, Blob arg1) throws SQLException {
+        Invocation invocation = node.enter(SET_BLOB_INT_BLOB);
+        try {
+            delegate.setBlob(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setBlob(String arg0, InputStream arg1) throws SQLException {
+        Invocation invocation = node.enter(SET_BLOB_STRING_INPUT_STREAM);
+        try {
+            delegate.setBlob(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setBlob(String arg0, InputStream arg1, long arg2) throws SQLException {
+        Invocation invocation = node.enter(SET_BLOB_STRING_INPUT_STREAM_LONG);
+        try {
+            delegate.setBlob(arg0, arg1, arg2);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setBlob(String arg0, Blob arg1) throws SQLException {
+        Invocation invocation = node.enter(SET_BLOB_STRING_BLOB);
+        try {
+            delegate.setBlob(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setBoolean(int arg0, boolean arg1) throws SQLException {
+        Invocation invocation = node.enter(SET_BOOLEAN_INT_BOOLEAN);
+        try {
+            delegate.setBoolean(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setBoolean(String arg0, boolean arg1) throws SQLException {
+        Invocation invocation = node.enter(SET_BOOLEAN_STRING_BOOLEAN);
+        try {
+            delegate.setBoolean(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setByte(int arg0, byte arg1) throws SQLException {
+        Invocation invocation = node.enter(SET_BYTE_INT_BYTE);
+        try {
+            delegate.setByte(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setByte(String arg0, byte arg1) throws SQLException {
+        Invocation invocation = node.enter(SET_BYTE_STRING_BYTE);
+        try {
+            delegate.setByte(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setBytes(int arg0, byte[] arg1) throws SQLException {
+        Invocation invocation = node.enter(SET_BYTES_INT_BYTE_ARRAY);
+        try {
+            delegate.setBytes(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setBytes(String arg0, byte[] arg1) throws SQLException {
+        Invocation invocation = node.enter(SET_BYTES_STRING_BYTE_ARRAY);
+        try {
+            delegate.setBytes(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setCharacterStream(int arg0, Reader arg1) throws SQLException {
+        Invocation invocation = node.enter(SET_CHARACTER_STREAM_INT_READER);
+        try {
+            delegate.setCharacterStream(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setCharacterStream(int arg0, Reader arg1, int arg2) throws SQLException {
+        Invocation invocation = node.enter(SET_CHARACTER_STREAM_INT_READER_INT);
+        try {
+            delegate.setCharacterStream(arg0, arg1, arg2);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setCharacterStream(int arg0, Reader arg1, long arg2) throws SQLException {
+        Invocation invocation = node.enter(SET_CHARACTER_STREAM_INT_READER_LONG);
+        try {
+            delegate.setCharacterStream(arg0, arg1, arg2);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setCharacterStream(String arg0, Reader arg1) throws SQLException {
+        Invocation invocation = node.enter(SET_CHARACTER_STREAM_STRING_READER);
+        try {
+            delegate.setCharacterStream(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setCharacterStream(String arg0, Reader arg1, int arg2) throws SQLException {
+        Invocation invocation = node.enter(SET_CHARACTER_STREAM_STRING_READER_INT);
+        try {
+            delegate.setCharacterStream(arg0, arg1, arg2);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setCharacterStream(String arg0, Reader arg1, long arg2) throws SQLException {
+        Invocation invocation = node.enter(SET_CHARACTER_STREAM_STRING_READER_LONG);
+        try {
+            delegate.setCharacterStream(arg0, arg1, arg2);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setClob(int arg0, Reader arg1) throws SQLException {
+        Invocation invocation = node.enter(SET_CLOB_INT_READER);
+        try {
+            delegate.setClob(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setClob(int arg0, Reader arg1, long arg2) throws SQLException {
+        Invocation invocation = node.enter(SET_CLOB_INT_READER_LONG);
+        try {
+            delegate.setClob(arg0, arg1, arg2);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setClob(int arg0, Clob arg1) throws SQLException {
+        Invocation invocation = node.enter(SET_CLOB_INT_CLOB);
+        try {
+            delegate.setClob(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setClob(String arg0, Reader arg1) throws SQLException {
+        Invocation invocation = node.enter(SET_CLOB_STRING_READER);
+        try {
+            delegate.setClob(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setClob(String arg0, Reader arg1, long arg2) throws SQLException {
+        Invocation invocation = node.enter(SET_CLOB_STRING_READER_LONG);
+        try {
+            delegate.setClob(arg0, arg1, arg2);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setClob(String arg0, Clob arg1) throws SQLException {
+        Invocation invocation = node.enter(SET_CLOB_STRING_CLOB);
+        try {
+            delegate.setClob(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setCursorName(String arg0) throws SQLException {
+        Invocation invocation = node.enter(SET_CURSOR_NAME_STRING);
+        try {
+            delegate.setCursorName(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setDate(int arg0, Date arg1) throws SQLException {
+        Invocation invocation = node.enter(SET_DATE_INT_DATE);
+        try {
+            delegate.setDate(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setDate(int arg0, Date arg1, Calendar arg2) throws SQLException {
+        Invocation invocation = node.enter(SET_DATE_INT_DATE_CALENDAR);
+        try {
+            delegate.setDate(arg0, arg1, arg2);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setDate(String arg0, Date arg1) throws SQLException {
+        Invocation invocation = node.enter(SET_DATE_STRING_DATE);
+        try {
+            delegate.setDate(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setDate(String arg0, Date arg1, Calendar arg2) throws SQLException {
+        Invocation invocation = node.enter(SET_DATE_STRING_DATE_CALENDAR);
+        try {
+            delegate.setDate(arg0, arg1, arg2);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setDouble(int arg0, double arg1) throws SQLException {
+        Invocation invocation = node.enter(SET_DOUBLE_INT_DOUBLE);
+        try {
+            delegate.setDouble(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setDouble(String arg0, double arg1) throws SQLException {
+        Invocation invocation = node.enter(SET_DOUBLE_STRING_DOUBLE);
+        try {
+            delegate.setDouble(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setEscapeProcessing(boolean arg0) throws SQLException {
+        Invocation invocation = node.enter(SET_ESCAPE_PROCESSING_BOOLEAN);
+        try {
+            delegate.setEscapeProcessing(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setFetchDirection(int arg0) throws SQLException {
+        Invocation invocation = node.enter(SET_FETCH_DIRECTION_INT);
+        try {
+            delegate.setFetchDirection(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setFetchSize(int arg0) throws SQLException {
+        Invocation invocation = node.enter(SET_FETCH_SIZE_INT);
+        try {
+            delegate.setFetchSize(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setFloat(int arg0, float arg1) throws SQLException {
+        Invocation invocation = node.enter(SET_FLOAT_INT_FLOAT);
+        try {
+            delegate.setFloat(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setFloat(String arg0, float arg1) throws SQLException {
+        Invocation invocation = node.enter(SET_FLOAT_STRING_FLOAT);
+        try {
+            delegate.setFloat(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setInt(int arg0, int arg1) throws SQLException {
+        Invocation invocation = node.enter(SET_INT_INT_INT);
+        try {
+            delegate.setInt(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setInt(String arg0, int arg1) throws SQLException {
+        Invocation invocation = node.enter(SET_INT_STRING_INT);
+        try {
+            delegate.setInt(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setLargeMaxRows(long arg0) throws SQLException {
+        Invocation invocation = node.enter(SET_LARGE_MAX_ROWS_LONG);
+        try {
+            delegate.setLargeMaxRows(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setLong(int arg0, long arg1) throws SQLException {
+        Invocation invocation = node.enter(SET_LONG_INT_LONG);
+        try {
+            delegate.setLong(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setLong(String arg0, long arg1) throws SQLException {
+        Invocation invocation = node.enter(SET_LONG_STRING_LONG);
+        try {
+            delegate.setLong(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setMaxFieldSize(int arg0) throws SQLException {
+        Invocation invocation = node.enter(SET_MAX_FIELD_SIZE_INT);
+        try {
+            delegate.setMaxFieldSize(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setMaxRows(int arg0) throws SQLException {
+        Invocation invocation = node.enter(SET_MAX_ROWS_INT);
+        try {
+            delegate.setMaxRows(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setNCharacterStream(int arg0, Reader arg1) throws SQLException {
+        Invocation invocation = node.enter(SET_NCHARACTER_STREAM_INT_READER);
+        try {
+            delegate.setNCharacterStream(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setNCharacterStream(int arg0, Reader arg1, long arg2) throws SQLException {
+        Invocation invocation = node.enter(SET_NCHARACTER_STREAM_INT_READER_LONG);
+        try {
+            delegate.setNCharacterStream(arg0, arg1, arg2);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setNCharacterStream(String arg0, Reader arg1) throws SQLException {
+        Invocation invocation = node.enter(SET_NCHARACTER_STREAM_STRING_READER);
+        try {
+            delegate.setNCharacterStream(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setNCharacterStream(String arg0, Reader arg1, long arg2) throws SQLException {
+        Invocation invocation = node.enter(SET_NCHARACTER_STREAM_STRING_READER_LONG);
+        try {
+            delegate.setNCharacterStream(arg0, arg1, arg2);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setNClob(int arg0, Reader arg1) throws SQLException {
+        Invocation invocation = node.enter(SET_NCLOB_INT_READER);
+        try {
+            delegate.setNClob(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setNClob(int arg0, Reader arg1, long arg2) throws SQLException {
+        Invocation invocation = node.enter(SET_NCLOB_INT_READER_LONG);
+        try {
+            delegate.setNClob(arg0, arg1, arg2);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setNClob(int arg0, NClob arg1) throws SQLException {
+        Invocation invocation = node.enter(SET_NCLOB_INT_NCLOB);
+        try {
+            delegate.setNClob(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setNClob(String arg0, Reader arg1) throws SQLException {
+        Invocation invocation = node.enter(SET_NCLOB_STRING_READER);
+        try {
+            delegate.setNClob(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setNClob(String arg0, Reader arg1, long arg2) throws SQLException {
+        Invocation invocation = node.enter(SET_NCLOB_STRING_READER_LONG);
+        try {
+            delegate.setNClob(arg0, arg1, arg2);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setNClob(String arg0, NClob arg1) throws SQLException {
+        Invocation invocation = node.enter(SET_NCLOB_STRING_NCLOB);
+        try {
+            delegate.setNClob(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setNString(int arg0, String arg1) throws SQLException {
+        Invocation invocation = node.enter(SET_NSTRING_INT_STRING);
+        try {
+            delegate.setNString(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setNString(String arg0, String arg1) throws SQLException {
+        Invocation invocation = node.enter(SET_NSTRING_STRING_STRING);
+        try {
+            delegate.setNString(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setNull(int arg0, int arg1) throws SQLException {
+        Invocation invocation = node.enter(SET_NULL_INT_INT);
+        try {
+            delegate.setNull(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setNull(int arg0, int arg1, String arg2) throws SQLException {
+        Invocation invocation = node.enter(SET_NULL_INT_INT_STRING);
+        try {
+            delegate.setNull(arg0, arg1, arg2);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setNull(String arg0, int arg1) throws SQLException {
+        Invocation invocation = node.enter(SET_NULL_STRING_INT);
+        try {
+            delegate.setNull(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setNull(String arg0, int arg1, String arg2) throws SQLException {
+        Invocation invocation = node.enter(SET_NULL_STRING_INT_STRING);
+        try {
+            delegate.setNull(arg0, arg1, arg2);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setObject(int arg0, Object arg1) throws SQLException {
+        Invocation invocation = node.enter(SET_OBJECT_INT_OBJECT);
+        try {
+            delegate.setObject(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setObject(int arg0, Object arg1, int arg2) throws SQLException {
+        Invocation invocation = node.enter(SET_OBJECT_INT_OBJECT_INT);
+        try {
+            delegate.setObject(arg0, arg1, arg2);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setObject(int arg0, Object arg1, int arg2, int arg3) throws SQLException {
+        Invocation invocation = node.enter(SET_OBJECT_INT_OBJECT_INT_INT);
+        try {
+            delegate.setObject(arg0, arg1, arg2, arg3);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2, arg3}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setObject(int arg0, Object arg1, SQLType arg2) throws SQLException {
+        Invocation invocation = node.enter(SET_OBJECT_INT_OBJECT_SQLTYPE);
+        try {
+            delegate.setObject(arg0, arg1, arg2);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setObject(int arg0, Object arg1, SQLType arg2, int arg3) throws SQLException {
+        Invocation invocation = node.enter(SET_OBJECT_INT_OBJECT_SQLTYPE_INT);
+        try {
+            delegate.setObject(arg0, arg1, arg2, arg3);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2, arg3}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setObject(String arg0, Object arg1) throws SQLException {
+        Invocation invocation = node.enter(SET_OBJECT_STRING_OBJECT);
+        try {
+            delegate.setObject(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setObject(String arg0, Object arg1, int arg2) throws SQLException {
+        Invocation invocation = node.enter(SET_OBJECT_STRING_OBJECT_INT);
+        try {
+            delegate.setObject(arg0, arg1, arg2);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setObject(String arg0, Object arg1, int arg2, int arg3) throws SQLException {
+        Invocation invocation = node.enter(SET_OBJECT_STRING_OBJECT_INT_INT);
+        try {
+            delegate.setObject(arg0, arg1, arg2, arg3);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2, arg3}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setObject(String arg0, Object arg1, SQLType arg2) throws SQLException {
+        Invocation invocation = node.enter(SET_OBJECT_STRING_OBJECT_SQLTYPE);
+        try {
+            delegate.setObject(arg0, arg1, arg2);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setObject(String arg0, Object arg1, SQLType arg2, int arg3) throws SQLException {
+        Invocation invocation = node.enter(SET_OBJECT_STRING_OBJECT_SQLTYPE_INT);
+        try {
+            delegate.setObject(arg0, arg1, arg2, arg3);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2, arg3}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setPoolable(boolean arg0) throws SQLException {
+        Invocation invocation = node.enter(SET_POOLABLE_BOOLEAN);
+        try {
+            delegate.setPoolable(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setQueryTimeout(int arg0) throws SQLException {
+        Invocation invocation = node.enter(SET_QUERY_TIMEOUT_INT);
+        try {
+            delegate.setQueryTimeout(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setRef(int arg0, Ref arg1) throws SQLException {
+        Invocation invocation = node.enter(SET_REF_INT_REF);
+        try {
+            delegate.setRef(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setRowId(int arg0, RowId arg1) throws SQLException {
+        Invocation invocation = node.enter(SET_ROW_ID_INT_ROW_ID);
+        try {
+            delegate.setRowId(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setRowId(String arg0, RowId arg1) throws SQLException {
+        Invocation invocation = node.enter(SET_ROW_ID_STRING_ROW_ID);
+        try {
+            delegate.setRowId(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setSQLXML(int arg0, SQLXML arg1) throws SQLException {
+        Invocation invocation = node.enter(SET_SQLXML_INT_SQLXML);
+        try {
+            delegate.setSQLXML(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setSQLXML(String arg0, SQLXML arg1) throws SQLException {
+        Invocation invocation = node.enter(SET_SQLXML_STRING_SQLXML);
+        try {
+            delegate.setSQLXML(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setShort(int arg0, short arg1) throws SQLException {
+        Invocation invocation = node.enter(SET_SHORT_INT_SHORT);
+        try {
+            delegate.setShort(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setShort(String arg0, short arg1) throws SQLException {
+        Invocation invocation = node.enter(SET_SHORT_STRING_SHORT);
+        try {
+            delegate.setShort(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setString(int arg0, String arg1) throws SQLException {
+        Invocation invocation = node.enter(SET_STRING_INT_STRING);
+        try {
+            delegate.setString(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setString(String arg0, String arg1) throws SQLException {
+        Invocation invocation = node.enter(SET_STRING_STRING_STRING);
+        try {
+            delegate.setString(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setTime(int arg0, Time arg1) throws SQLException {
+        Invocation invocation = node.enter(SET_TIME_INT_TIME);
+        try {
+            delegate.setTime(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setTime(int arg0, Time arg1, Calendar arg2) throws SQLException {
+        Invocation invocation = node.enter(SET_TIME_INT_TIME_CALENDAR);
+        try {
+            delegate.setTime(arg0, arg1, arg2);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setTime(String arg0, Time arg1) throws SQLException {
+        Invocation invocation = node.enter(SET_TIME_STRING_TIME);
+        try {
+            delegate.setTime(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setTime(String arg0, Time arg1, Calendar arg2) throws SQLException {
+        Invocation invocation = node.enter(SET_TIME_STRING_TIME_CALENDAR);
+        try {
+            delegate.setTime(arg0, arg1, arg2);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setTimestamp(int arg0, Timestamp arg1) throws SQLException {
+        Invocation invocation = node.enter(SET_TIMESTAMP_INT_TIMESTAMP);
+        try {
+            delegate.setTimestamp(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setTimestamp(int arg0, Timestamp arg1, Calendar arg2) throws SQLException {
+        Invocation invocation = node.enter(SET_TIMESTAMP_INT_TIMESTAMP_CALENDAR);
+        try {
+            delegate.setTimestamp(arg0, arg1, arg2);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setTimestamp(String arg0, Timestamp arg1) throws SQLException {
+        Invocation invocation = node.enter(SET_TIMESTAMP_STRING_TIMESTAMP);
+        try {
+            delegate.setTimestamp(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setTimestamp(String arg0, Timestamp arg1, Calendar arg2) throws SQLException {
+        Invocation invocation = node.enter(SET_TIMESTAMP_STRING_TIMESTAMP_CALENDAR);
+        try {
+            delegate.setTimestamp(arg0, arg1, arg2);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setURL(int arg0, URL arg1) throws SQLException {
+        Invocation invocation = node.enter(SET_URL_INT_URL);
+        try {
+            delegate.setURL(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setURL(String arg0, URL arg1) throws SQLException {
+        Invocation invocation = node.enter(SET_URL_STRING_URL);
+        try {
+            delegate.setURL(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setUnicodeStream(int arg0, InputStream arg1, int arg2) throws SQLException {
+        Invocation invocation = node.enter(SET_UNICODE_STREAM_INT_INPUT_STREAM_INT);
+        try {
+            delegate.setUnicodeStream(arg0, arg1, arg2);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> arg0) throws SQLException {
+        Invocation invocation = node.enter(UNWRAP_CLASS);
+        try {
+            T result = delegate.unwrap(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean wasNull() throws SQLException {
+        Invocation invocation = node.enter(WAS_NULL);
+        try {
+            boolean result = delegate.wasNull();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return delegate.toString();
+    }
+}
@@ -0,0 +1,100 @@
+package insight;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.sql.*;
+import java.util.List;
+
+/**
+ * How argument, return and bind values are rendered into span attributes. Values are rendered only for recording spans,
+ * by type: text is cut to {@link #maxLength()} characters, binary data becomes a hex preview, and LOBs, streams and
+ * JDBC objects are reported by type only, so capture never reads or materializes them. A max length of 0 turns capture
+ * off.
+ */
+public record CapturePolicy(int maxLength) {
+    public static final CapturePolicy DEFAULT = new CapturePolicy(256);
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    private static final List<Class<?>> OPAQUE_TYPES = List.of(NClob.class, Clob.class, Blob.class, SQLXML.class,
+            java.sql.Array.class, Ref.class, Struct.class, InputStream.class, Reader.class, ResultSet.class,
+            CallableStatement.class, PreparedStatement.class, Statement.class, Connection.class, DatabaseMetaData.class,
+            ResultSetMetaData.class, ParameterMetaData.class, Wrapper.class);
+    private static final ClassValue<String> OPAQUE_LABELS = new ClassValue<>() {
+        @Override
+        protected String computeValue(Class<?> type) {
+            for (Class<?> opaque : OPAQUE_TYPES) {
+                if (opaque.isAssignableFrom(type)) {
+                    return "<" + opaque.getSimpleName() + ">";
+                }
+            }
+            return null;
+        }
+    };
+
+    public CapturePolicy {
+        if (maxLength < 0) {
+            throw new IllegalArgumentException("Capture max length must not be negative");
+        }
+    }
+
+    public boolean enabled() {
+        return maxLength > 0;
+    }
+
+    public String render(Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof CharSequence text) {
+            return truncate(text);
+        }
+        if (value instanceof byte[] bytes) {
+            return hex(bytes);
+        }
+        if (value instanceof Number || value instanceof Boolean || value instanceof Character) {
+            return truncate(value.toString());
+        }
+        String label = OPAQUE_LABELS.get(value.getClass());
+        if (label != null) {
+            return label;
+        }
+        if (value.getClass().isArray()) {
+            return array(value);
+        }
+        return truncate(value.toString());
+    }
+
+    private String truncate(CharSequence text) {
+        if (text.length() <= maxLength) {
+            return text.toString();
+        }
+        return text.subSequence(0, maxLength) + "...(" + text.length() + " chars)";
+    }
+
+    private String hex(byte[] bytes) {
+        int shown = Math.min(bytes.length, Math.max(1, maxLength / 2));
+        StringBuilder out = new StringBuilder(shown * 2 + 24).append("0x");
+        for (int i = 0; i < shown; i++) {
+            out.append(HEX[(bytes[i] >> 4) & 0xf]).append(HEX[bytes[i] & 0xf]);
+        }
+        if (shown < bytes.length) {
+            out.append("...(").append(bytes.length).append(" bytes)");
+        }
+        return out.toString();
+    }
+
+    private String array(Object array) {
+        int length = java.lang.reflect.Array.getLength(array);
+        StringBuilder out = new StringBuilder().append('[');
+        for (int i = 0; i < length; i++) {
+            if (i > 0) {
+                out.append(", ");
+            }
+            if (out.length() > maxLength) {
+                return out.append("...(").append(length).append(" items)]").toString();
+            }
+            out.append(render(java.lang.reflect.Array.get(array, i)));
+        }
+        return out.append(']').toString();
+    }
+}
@@ -0,0 +1,40 @@
+package insight;
+
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Parsed {@link InsightConfig} by URL and the connection properties JDBC Insight recognizes, so pool refills do not
+ * parse the same URL again. Holds at most {@link #MAX_ENTRIES} configurations and starts over when full.
+ */
+public class ConfigCache {
+    static final int MAX_ENTRIES = 256;
+
+    private record Key(String url, Map<String, String> properties) {
+    }
+
+    private final Map<Key, InsightConfig> configs = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the cached configuration, or {@code null} if the URL and properties have not been seen.
+     */
+    public InsightConfig get(Properties props, String url) {
+        return configs.get(new Key(url, ConfigParser.recognized(props)));
+    }
+
+    public void put(Properties props, String url, InsightConfig config) {
+        if (configs.size() >= MAX_ENTRIES) {
+            configs.clear();
+        }
+        configs.put(new Key(url, ConfigParser.recognized(props)), config);
+    }
+
+    public void invalidateAll() {
+        configs.clear();
+    }
+
+    int size() {
+        return configs.size();
+    }
+}
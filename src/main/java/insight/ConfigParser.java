@@ -1,36 +1,137 @@
 package insight;
 
-import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 
 public class ConfigParser {
     public static final String JDBC_PATH = "jdbcpath";
     public static final String JDBC_CLASS = "jdbcclass";
+    public static final String EXPORT_QUEUE_SIZE = "exportqueuesize";
+    public static final String EXPORT_BATCH_SIZE = "exportbatchsize";
+    public static final String EXPORT_INTERVAL_MS = "exportintervalms";
+    public static final String EXPORT_DROP_POLICY = "exportdroppolicy";
+    public static final String LOGGING_EXPORTER = "loggingexporter";
+    public static final String WRAPPER = "wrapper";
+    public static final String RESULT_SET_TRACING = "resultsettracing";
+    public static final String SAMPLE_RATIO = "sampleratio";
+    public static final String SAMPLE_SCOPE = "samplescope";
+    public static final String TRACE_INCLUDE = "traceinclude";
+    public static final String TRACE_EXCLUDE = "traceexclude";
+    public static final String SLOW_QUERY_THRESHOLD_MS = "slowquerythresholdms";
+    public static final String SLOW_QUERY_MAX_SPANS = "slowquerymaxspans";
+    public static final String SLOW_QUERY_TOTAL_MAX_SPANS = "slowquerytotalmaxspans";
+    public static final String CAPTURE_MAX_LENGTH = "capturemaxlength";
+    public static final String QUERY_METRICS = "querymetrics";
+    public static final String METRICS = "metrics";
+    public static final String TRACING = "tracing";
+    public static final String METRICS_INTERVAL_MS = "metricsintervalms";
+    public static final String FINGERPRINT_CACHE_SIZE = "fingerprintcachesize";
+    public static final String MAX_FINGERPRINTS = "maxfingerprints";
+    public static final String JOURNAL_PATH = "journalpath";
+    public static final String JOURNAL_SIZE_MB = "journalsizemb";
+    public static final String BACKEND = "backend";
+    public static final String TRANSACTIONS = "transactions";
+    public static final String N_PLUS_ONE_THRESHOLD = "nplusonethreshold";
+    public static final String N_PLUS_ONE_WINDOW_MS = "nplusonewindowms";
+    public static final String LEAK_DETECTION = "leakdetection";
+    public static final String LEAK_SITE_RATIO = "leaksiteratio";
+    public static final String OVERHEAD_BUDGET_PERCENT = "overheadbudgetpercent";
+    public static final String WORKLOAD_PATH = "workloadpath";
+    public static final String CALL_COST = "callcost";
 
-    private static final Set<String> supportedProps = Set.of(JDBC_PATH, JDBC_CLASS);
+    private static final Set<String> supportedProps = Set.of(JDBC_PATH, JDBC_CLASS,
+            EXPORT_QUEUE_SIZE, EXPORT_BATCH_SIZE, EXPORT_INTERVAL_MS, EXPORT_DROP_POLICY, LOGGING_EXPORTER, WRAPPER,
+            RESULT_SET_TRACING, SAMPLE_RATIO, SAMPLE_SCOPE, TRACE_INCLUDE, TRACE_EXCLUDE, SLOW_QUERY_THRESHOLD_MS,
+            SLOW_QUERY_MAX_SPANS, SLOW_QUERY_TOTAL_MAX_SPANS, CAPTURE_MAX_LENGTH, QUERY_METRICS, METRICS_INTERVAL_MS,
+            FINGERPRINT_CACHE_SIZE, MAX_FINGERPRINTS, METRICS, TRACING, JOURNAL_PATH, JOURNAL_SIZE_MB,
+            BACKEND, TRANSACTIONS, N_PLUS_ONE_THRESHOLD, N_PLUS_ONE_WINDOW_MS, LEAK_DETECTION,
+            LEAK_SITE_RATIO, OVERHEAD_BUDGET_PERCENT, WORKLOAD_PATH, CALL_COST);
 
     public static Map<String, String> parse(Properties props, String url) {
         Map<String, String> fromUrl = parseUrl(url);
-        Map<String, String> fromProps = parseProps(props);
+        Map<String, String> fromProps = recognized(props);
         return override(fromProps, fromUrl);
     }
 
-    //TODO: Add support for semicolon-separated parameters
+    public static int getInt(Map<String, String> config, String key, int defaultValue) {
+        String value = config.get(key);
+        if (Objects.isNull(value)) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(String.format("Invalid value for %s: %s", key, value), e);
+        }
+    }
+
+    public static double getDouble(Map<String, String> config, String key, double defaultValue) {
+        String value = config.get(key);
+        if (Objects.isNull(value)) {
+            return defaultValue;
+        }
+        try {
+            return Double.parseDouble(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(String.format("Invalid value for %s: %s", key, value), e);
+        }
+    }
+
+    public static boolean getBoolean(Map<String, String> config, String key, boolean defaultValue) {
+        String value = config.get(key);
+        return Objects.isNull(value) ? defaultValue : Boolean.parseBoolean(value.trim());
+    }
+
+    public static <E extends Enum<E>> E getEnum(Map<String, String> config, String key, E defaultValue) {
+        String value = config.get(key);
+        if (Objects.isNull(value)) {
+            return defaultValue;
+        }
+        try {
+            return Enum.valueOf(defaultValue.getDeclaringClass(), value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(String.format("Invalid value for %s: %s", key, value), e);
+        }
+    }
+
+    /**
+     * Reads parameters after the first {@code ?} or {@code ;} of the URL, separated by {@code &} or {@code ;}, so both
+     * {@code jdbc:postgresql://host/db?a=1&b=2} and {@code jdbc:sqlserver://host;a=1;b=2} are understood.
+     */
     private static Map<String, String> parseUrl(String url) {
-        URI uri = URI.create(url.substring(5));
         Map<String, String> resultMap = new HashMap<>();
-        if (!Objects.isNull(uri.getQuery())) {
-            for (String param : uri.getQuery().split("&")) {
-                String[] keyValue = param.split("=");
-                if (supportedProps.contains(keyValue[0].toLowerCase())) {
-                    resultMap.put(keyValue[0].toLowerCase(), keyValue[1]);
-                }
+        int start = indexOfAny(url, '?', ';');
+        if (start < 0) {
+            return resultMap;
+        }
+        for (String param : url.substring(start + 1).split("[&;?]")) {
+            String[] keyValue = param.split("=", 2);
+            if (keyValue.length == 2 && supportedProps.contains(keyValue[0].trim().toLowerCase())) {
+                resultMap.put(keyValue[0].trim().toLowerCase(), decode(keyValue[1]));
             }
         }
         return resultMap;
     }
 
-    private static Map<String, String> parseProps(Properties props) {
+    private static int indexOfAny(String value, char first, char second) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == first || c == second) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static String decode(String value) {
+        return URLDecoder.decode(value.replace("+", "%2B"), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Connection properties JDBC Insight recognizes, with lower-cased names.
+     */
+    public static Map<String, String> recognized(Properties props) {
         Map<String, String> result = new HashMap<>();
         props.forEach((k,v) -> {
             if (k instanceof String key && v instanceof String value) {
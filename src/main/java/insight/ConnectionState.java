@@ -0,0 +1,133 @@
+package insight;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * State shared by all wrapped objects of one connection.
+ */
+public class ConnectionState {
+    private final OtelFactory otelFactory;
+    private final InsightConfig config;
+    private final DriverMetrics metrics;
+    private final LeakDetector leaks;
+    private final OverheadGovernor governor;
+    private final WorkloadSession workload;
+    private final CallCost callCost;
+    private final boolean sampleCost;
+    private int calls;
+    private int costCalls;
+    private final AtomicInteger bufferedSpans = new AtomicInteger();
+    private final AtomicInteger activeExecutions = new AtomicInteger();
+    private TransactionTracker transactions;
+    private NPlusOneDetector nPlusOne;
+
+    public ConnectionState(OtelFactory otelFactory, InsightConfig config) {
+        this.otelFactory = otelFactory;
+        this.config = config;
+        this.metrics = config.metrics() ? otelFactory.driverMetrics() : null;
+        this.leaks = config.leaks().enabled() ? otelFactory.leakDetector() : null;
+        this.governor = config.export().overheadBudgetPercent() > 0 ? otelFactory.overheadGovernor() : null;
+        CallCost callCost = config.callCost() != CallCost.Mode.OFF ? otelFactory.callCost() : null;
+        this.callCost = callCost != null && callCost.supported() ? callCost : null;
+        this.sampleCost = config.callCost() == CallCost.Mode.SAMPLED;
+        WorkloadRecorder recorder = config.export().workloadPath() != null ? otelFactory.workloadRecorder() : null;
+        this.workload = recorder != null ? recorder.connected() : null;
+        if (config.metrics() || config.queryMetrics() || governor != null || config.callCost() != CallCost.Mode.OFF) {
+            otelFactory.exportMetrics();
+        }
+    }
+
+    public OtelFactory otelFactory() {
+        return otelFactory;
+    }
+
+    public InsightConfig config() {
+        return config;
+    }
+
+    /**
+     * Process-wide driver metrics, or {@code null} if the connection does not record metrics.
+     */
+    public DriverMetrics metrics() {
+        return metrics;
+    }
+
+    /**
+     * Process-wide leak detection, or {@code null} if the connection's objects are not watched.
+     */
+    public LeakDetector leaks() {
+        return leaks;
+    }
+
+    /**
+     * Process-wide governor of instrumentation detail, or {@code null} if there is none.
+     */
+    public OverheadGovernor governor() {
+        return governor;
+    }
+
+    /**
+     * Workload capture of the connection, or {@code null} if the workload is not recorded.
+     */
+    WorkloadSession workload() {
+        return workload;
+    }
+
+    /**
+     * Process-wide CPU and allocation accounting, or {@code null} if the connection's calls are not measured.
+     */
+    public CallCost callCost() {
+        return callCost;
+    }
+
+    /**
+     * Whether to measure the CPU time and allocation of this call. Counted like {@link #measure()}.
+     */
+    boolean measureCost() {
+        return callCost != null && (!sampleCost || ++costCalls % CallCost.SAMPLE_EVERY == 0);
+    }
+
+    /**
+     * Whether to time this call for the governor. Counted without synchronization, so concurrent use of the connection
+     * only makes the sample less regular.
+     */
+    boolean measure() {
+        return ++calls % OverheadGovernor.SAMPLE_EVERY == 0;
+    }
+
+    /**
+     * Transaction spans of the connection, or {@code null} if they are not recorded.
+     */
+    public TransactionTracker transactions() {
+        return transactions;
+    }
+
+    void trackTransactions(TransactionTracker transactions) {
+        this.transactions = transactions;
+    }
+
+    /**
+     * N+1 detection of the connection, or {@code null} if it is off.
+     */
+    public NPlusOneDetector nPlusOne() {
+        return nPlusOne;
+    }
+
+    void detectNPlusOne(NPlusOneDetector nPlusOne) {
+        this.nPlusOne = nPlusOne;
+    }
+
+    /**
+     * Spans of this connection currently held back by slow-query capture.
+     */
+    AtomicInteger bufferedSpans() {
+        return bufferedSpans;
+    }
+
+    /**
+     * Executions of this connection currently followed by slow-query capture.
+     */
+    AtomicInteger activeExecutions() {
+        return activeExecutions;
+    }
+}
@@ -0,0 +1,1082 @@
+package insight;
+
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.CallableStatement;
+import java.sql.Clob;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.NClob;
+import java.sql.PreparedStatement;
+import java.sql.SQLClientInfoException;
+import java.sql.SQLException;
+import java.sql.SQLWarning;
+import java.sql.SQLXML;
+import java.sql.Savepoint;
+import java.sql.ShardingKey;
+import java.sql.Statement;
+import java.sql.Struct;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.Executor;
+
+/**
+ * Traces {@link Connection} calls without reflection. Generated by {@code WrapperGenerator}, do not edit.
+ */
+@SuppressWarnings("deprecation")
+public final class ConnectionWrapper implements Connection {
+    private static final MethodInfo ABORT_EXECUTOR = MethodInfo.of(Connection.class, "abort", Executor.class);
+    private static final MethodInfo BEGIN_REQUEST = MethodInfo.of(Connection.class, "beginRequest");
+    private static final MethodInfo CLEAR_WARNINGS = MethodInfo.of(Connection.class, "clearWarnings");
+    private static final MethodInfo CLOSE = MethodInfo.of(Connection.class, "close");
+    private static final MethodInfo COMMIT = MethodInfo.of(Connection.class, "commit");
+    private static final MethodInfo CREATE_ARRAY_OF_STRING_OBJECT_ARRAY = MethodInfo.of(Connection.class, "createArrayOf", String.class, Object[].class);
+    private static final MethodInfo CREATE_BLOB = MethodInfo.of(Connection.class, "createBlob");
+    private static final MethodInfo CREATE_CLOB = MethodInfo.of(Connection.class, "createClob");
+    private static final MethodInfo CREATE_NCLOB = MethodInfo.of(Connection.class, "createNClob");
+    private static final MethodInfo CREATE_SQLXML = MethodInfo.of(Connection.class, "createSQLXML");
+    private static final MethodInfo CREATE_STATEMENT = MethodInfo.of(Connection.class, "createStatement");
+    private static final MethodInfo CREATE_STATEMENT_INT_INT = MethodInfo.of(Connection.class, "createStatement", int.class, int.class);
+    private static final MethodInfo CREATE_STATEMENT_INT_INT_INT = MethodInfo.of(Connection.class, "createStatement", int.class, int.class, int.class);
+    private static final MethodInfo CREATE_STRUCT_STRING_OBJECT_ARRAY = MethodInfo.of(Connection.class, "createStruct", String.class, Object[].class);
+    private static final MethodInfo END_REQUEST = MethodInfo.of(Connection.class, "endRequest");
+    private static final MethodInfo GET_AUTO_COMMIT = MethodInfo.of(Connection.class, "getAutoCommit");
+    private static final MethodInfo GET_CATALOG = MethodInfo.of(Connection.class, "getCatalog");
+    private static final MethodInfo GET_CLIENT_INFO = MethodInfo.of(Connection.class, "getClientInfo");
+    private static final MethodInfo GET_CLIENT_INFO_STRING = MethodInfo.of(Connection.class, "getClientInfo", String.class);
+    private static final MethodInfo GET_HOLDABILITY = MethodInfo.of(Connection.class, "getHoldability");
+    private static final MethodInfo GET_META_DATA = MethodInfo.of(Connection.class, "getMetaData");
+    private static final MethodInfo GET_NETWORK_TIMEOUT = MethodInfo.of(Connection.class, "getNetworkTimeout");
+    private static final MethodInfo GET_SCHEMA = MethodInfo.of(Connection.class, "getSchema");
+    private static final MethodInfo GET_TRANSACTION_ISOLATION = MethodInfo.of(Connection.class, "getTransactionIsolation");
+    private static final MethodInfo GET_TYPE_MAP = MethodInfo.of(Connection.class, "getTypeMap");
+    private static final MethodInfo GET_WARNINGS = MethodInfo.of(Connection.class, "getWarnings");
+    private static final MethodInfo IS_CLOSED = MethodInfo.of(Connection.class, "isClosed");
+    private static final MethodInfo IS_READ_ONLY = MethodInfo.of(Connection.class, "isReadOnly");
+    private static final MethodInfo IS_VALID_INT = MethodInfo.of(Connection.class, "isValid", int.class);
+    private static final MethodInfo IS_WRAPPER_FOR_CLASS = MethodInfo.of(Connection.class, "isWrapperFor", Class.class);
+    private static final MethodInfo NATIVE_SQL_STRING = MethodInfo.of(Connection.class, "nativeSQL", String.class);
+    private static final MethodInfo PREPARE_CALL_STRING = MethodInfo.of(Connection.class, "prepareCall", String.class);
+    private static final MethodInfo PREPARE_CALL_STRING_INT_INT = MethodInfo.of(Connection.class, "prepareCall", String.class, int.class, int.class);
+    private static final MethodInfo PREPARE_CALL_STRING_INT_INT_INT = MethodInfo.of(Connection.class, "prepareCall", String.class, int.class, int.class, int.class);
+    private static final MethodInfo PREPARE_STATEMENT_STRING = MethodInfo.of(Connection.class, "prepareStatement", String.class);
+    private static final MethodInfo PREPARE_STATEMENT_STRING_INT_ARRAY = MethodInfo.of(Connection.class, "prepareStatement", String.class, int[].class);
+    private static final MethodInfo PREPARE_STATEMENT_STRING_STRING_ARRAY = MethodInfo.of(Connection.class, "prepareStatement", String.class, String[].class);
+    private static final MethodInfo PREPARE_STATEMENT_STRING_INT = MethodInfo.of(Connection.class, "prepareStatement", String.class, int.class);
+    private static final MethodInfo PREPARE_STATEMENT_STRING_INT_INT = MethodInfo.of(Connection.class, "prepareStatement", String.class, int.class, int.class);
+    private static final MethodInfo PREPARE_STATEMENT_STRING_INT_INT_INT = MethodInfo.of(Connection.class, "prepareStatement", String.class, int.class, int.class, int.class);
+    private static final MethodInfo RELEASE_SAVEPOINT_SAVEPOINT = MethodInfo.of(Connection.class, "releaseSavepoint", Savepoint.class);
+    private static final MethodInfo ROLLBACK = MethodInfo.of(Connection.class, "rollback");
+    private static final MethodInfo ROLLBACK_SAVEPOINT = MethodInfo.of(Connection.class, "rollback", Savepoint.class);
+    private static final MethodInfo SET_AUTO_COMMIT_BOOLEAN = MethodInfo.of(Connection.class, "setAutoCommit", boolean.class);
+    private static final MethodInfo SET_CATALOG_STRING = MethodInfo.of(Connection.class, "setCatalog", String.class);
+    private static final MethodInfo SET_CLIENT_INFO_STRING_STRING = MethodInfo.of(Connection.class, "setClientInfo", String.class, String.class);
+    private static final MethodInfo SET_CLIENT_INFO_PROPERTIES = MethodInfo.of(Connection.class, "setClientInfo", Properties.class);
+    private static final MethodInfo SET_HOLDABILITY_INT = MethodInfo.of(Connection.class, "setHoldability", int.class);
+    private static final MethodInfo SET_NETWORK_TIMEOUT_EXECUTOR_INT = MethodInfo.of(Connection.class, "setNetworkTimeout", Executor.class, int.class);
+    private static final MethodInfo SET_READ_ONLY_BOOLEAN = MethodInfo.of(Connection.class, "setReadOnly", boolean.class);
+    private static final MethodInfo SET_SAVEPOINT = MethodInfo.of(Connection.class, "setSavepoint");
+    private static final MethodInfo SET_SAVEPOINT_STRING = MethodInfo.of(Connection.class, "setSavepoint", String.class);
+    private static final MethodInfo SET_SCHEMA_STRING = MethodInfo.of(Connection.class, "setSchema", String.class);
+    private static final MethodInfo SET_SHARDING_KEY_SHARDING_KEY = MethodInfo.of(Connection.class, "setShardingKey", ShardingKey.class);
+    private static final MethodInfo SET_SHARDING_KEY_SHARDING_KEY_SHARDING_KEY = MethodInfo.of(Connection.class, "setShardingKey", ShardingKey.class, ShardingKey.class);
+    private static final MethodInfo SET_SHARDING_KEY_IF_VALID_SHARDING_KEY_INT = MethodInfo.of(Connection.class, "setShardingKeyIfValid", ShardingKey.class, int.class);
+    private static final MethodInfo SET_SHARDING_KEY_IF_VALID_SHARDING_KEY_SHARDING_KEY_INT = MethodInfo.of(Connection.class, "setShardingKeyIfValid", ShardingKey.class, ShardingKey.class, int.class);
+    private static final MethodInfo SET_TRANSACTION_ISOLATION_INT = MethodInfo.of(Connection.class, "setTransactionIsolation", int.class);
+    private static final MethodInfo SET_TYPE_MAP_MAP = MethodInfo.of(Connection.class, "setTypeMap", Map.class);
+    private static final MethodInfo UNWRAP_CLASS = MethodInfo.of(Connection.class, "unwrap", Class.class);
+
+    private final Connection delegate;
+    private final TraceNode node;
+
+    public ConnectionWrapper(Connection delegate, TraceNode node) {
+        this.delegate = delegate;
+        this.node = node;
+    }
+
+    @Override
+    public void abort(Executor arg0) throws SQLException {
+        Invocation invocation = node.enter(ABORT_EXECUTOR);
+        try {
+            delegate.abort(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void beginRequest() throws SQLException {
+        Invocation invocation = node.enter(BEGIN_REQUEST);
+        try {
+            delegate.beginRequest();
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void clearWarnings() throws SQLException {
+        Invocation invocation = node.enter(CLEAR_WARNINGS);
+        try {
+            delegate.clearWarnings();
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void close() throws SQLException {
+        Invocation invocation = node.enter(CLOSE);
+        try {
+            delegate.close();
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void commit() throws SQLException {
+        Invocation invocation = node.enter(COMMIT);
+        try {
+            delegate.commit();
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public Array createArrayOf(String arg0, Object[] arg1) throws SQLException {
+        Invocation invocation = node.enter(CREATE_ARRAY_OF_STRING_OBJECT_ARRAY);
+        try {
+            Array result = delegate.createArrayOf(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, result);
+            }
+            return (Array) invocation.wrap(result, arg0);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public Blob createBlob() throws SQLException {
+        Invocation invocation = node.enter(CREATE_BLOB);
+        try {
+            Blob result = delegate.createBlob();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return (Blob) invocation.wrap(result, null);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public Clob createClob() throws SQLException {
+        Invocation invocation = node.enter(CREATE_CLOB);
+        try {
+            Clob result = delegate.createClob();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return (Clob) invocation.wrap(result, null);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public NClob createNClob() throws SQLException {
+        Invocation invocation = node.enter(CREATE_NCLOB);
+        try {
+            NClob result = delegate.createNClob();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return (NClob) invocation.wrap(result, null);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public SQLXML createSQLXML() throws SQLException {
+        Invocation invocation = node.enter(CREATE_SQLXML);
+        try {
+            SQLXML result = delegate.createSQLXML();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return (SQLXML) invocation.wrap(result, null);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public Statement createStatement() throws SQLException {
+        Invocation invocation = node.enter(CREATE_STATEMENT);
+        try {
+            Statement result = delegate.createStatement();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return (Statement) invocation.wrap(result, null);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public Statement createStatement(int arg0, int arg1) throws SQLException {
+        Invocation invocation = node.enter(CREATE_STATEMENT_INT_INT);
+        try {
+            Statement result = delegate.createStatement(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, result);
+            }
+            return (Statement) invocation.wrap(result, arg0);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public Statement createStatement(int arg0, int arg1, int arg2) throws SQLException {
+        Invocation invocation = node.enter(CREATE_STATEMENT_INT_INT_INT);
+        try {
+            Statement result = delegate.createStatement(arg0, arg1, arg2);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2}, result);
+            }
+            return (Statement) invocation.wrap(result, arg0);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public Struct createStruct(String arg0, Object[] arg1) throws SQLException {
+        Invocation invocation = node.enter(CREATE_STRUCT_STRING_OBJECT_ARRAY);
+        try {
+            Struct result = delegate.createStruct(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, result);
+            }
+            return (Struct) invocation.wrap(result, arg0);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void endRequest() throws SQLException {
+        Invocation invocation = node.enter(END_REQUEST);
+        try {
+            delegate.endRequest();
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean getAutoCommit() throws SQLException {
+        Invocation invocation = node.enter(GET_AUTO_COMMIT);
+        try {
+            boolean result = delegate.getAutoCommit();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public String getCatalog() throws SQLException {
+        Invocation invocation = node.enter(GET_CATALOG);
+        try {
+            String result = delegate.getCatalog();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public Properties getClientInfo() throws SQLException {
+        Invocation invocation = node.enter(GET_CLIENT_INFO);
+        try {
+            Properties result = delegate.getClientInfo();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public String getClientInfo(String arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_CLIENT_INFO_STRING);
+        try {
+            String result = delegate.getClientInfo(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public int getHoldability() throws SQLException {
+        Invocation invocation = node.enter(GET_HOLDABILITY);
+        try {
+            int result = delegate.getHoldability();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public DatabaseMetaData getMetaData() throws SQLException {
+        Invocation invocation = node.enter(GET_META_DATA);
+        try {
+            DatabaseMetaData result = delegate.getMetaData();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return (DatabaseMetaData) invocation.wrap(result, null);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public int getNetworkTimeout() throws SQLException {
+        Invocation invocation = node.enter(GET_NETWORK_TIMEOUT);
+        try {
+            int result = delegate.getNetworkTimeout();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public String getSchema() throws SQLException {
+        Invocation invocation = node.enter(GET_SCHEMA);
+        try {
+            String result = delegate.getSchema();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public int getTransactionIsolation() throws SQLException {
+        Invocation invocation = node.enter(GET_TRANSACTION_ISOLATION);
+        try {
+            int result = delegate.getTransactionIsolation();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public Map<String, Class<?>> getTypeMap() throws SQLException {
+        Invocation invocation = node.enter(GET_TYPE_MAP);
+        try {
+            Map<String, Class<?>> result = delegate.getTypeMap();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public SQLWarning getWarnings() throws SQLException {
+        Invocation invocation = node.enter(GET_WARNINGS);
+        try {
+            SQLWarning result = delegate.getWarnings();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean isClosed() throws SQLException {
+        Invocation invocation = node.enter(IS_CLOSED);
+        try {
+            boolean result = delegate.isClosed();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean isReadOnly() throws SQLException {
+        Invocation invocation = node.enter(IS_READ_ONLY);
+        try {
+            boolean result = delegate.isReadOnly();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean isValid(int arg0) throws SQLException {
+        Invocation invocation = node.enter(IS_VALID_INT);
+        try {
+            boolean result = delegate.isValid(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> arg0) throws SQLException {
+        Invocation invocation = node.enter(IS_WRAPPER_FOR_CLASS);
+        try {
+            boolean result = delegate.isWrapperFor(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public String nativeSQL(String arg0) throws SQLException {
+        Invocation invocation = node.enter(NATIVE_SQL_STRING);
+        try {
+            String result = delegate.nativeSQL(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public CallableStatement prepareCall(String arg0) throws SQLException {
+        Invocation invocation = node.enter(PREPARE_CALL_STRING);
+        try {
+            CallableStatement result = delegate.prepareCall(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return (CallableStatement) invocation.wrap(result, arg0);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public CallableStatement prepareCall(String arg0, int arg1, int arg2) throws SQLException {
+        Invocation invocation = node.enter(PREPARE_CALL_STRING_INT_INT);
+        try {
+            CallableStatement result = delegate.prepareCall(arg0, arg1, arg2);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2}, result);
+            }
+            return (CallableStatement) invocation.wrap(result, arg0);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public CallableStatement prepareCall(String arg0, int arg1, int arg2, int arg3) throws SQLException {
+        Invocation invocation = node.enter(PREPARE_CALL_STRING_INT_INT_INT);
+        try {
+            CallableStatement result = delegate.prepareCall(arg0, arg1, arg2, arg3);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2, arg3}, result);
+            }
+            return (CallableStatement) invocation.wrap(result, arg0);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(String arg0) throws SQLException {
+        Invocation invocation = node.enter(PREPARE_STATEMENT_STRING);
+        try {
+            PreparedStatement result = delegate.prepareStatement(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return (PreparedStatement) invocation.wrap(result, arg0);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(String arg0, int[] arg1) throws SQLException {
+        Invocation invocation = node.enter(PREPARE_STATEMENT_STRING_INT_ARRAY);
+        try {
+            PreparedStatement result = delegate.prepareStatement(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, result);
+            }
+            return (PreparedStatement) invocation.wrap(result, arg0);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(String arg0, String[] arg1) throws SQLException {
+        Invocation invocation = node.enter(PREPARE_STATEMENT_STRING_STRING_ARRAY);
+        try {
+            PreparedStatement result = delegate.prepareStatement(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, result);
+            }
+            return (PreparedStatement) invocation.wrap(result, arg0);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(String arg0, int arg1) throws SQLException {
+        Invocation invocation = node.enter(PREPARE_STATEMENT_STRING_INT);
+        try {
+            PreparedStatement result = delegate.prepareStatement(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, result);
+            }
+            return (PreparedStatement) invocation.wrap(result, arg0);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(String arg0, int arg1, int arg2) throws SQLException {
+        Invocation invocation = node.enter(PREPARE_STATEMENT_STRING_INT_INT);
+        try {
+            PreparedStatement result = delegate.prepareStatement(arg0, arg1, arg2);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2}, result);
+            }
+            return (PreparedStatement) invocation.wrap(result, arg0);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(String arg0, int arg1, int arg2, int arg3) throws SQLException {
+        Invocation invocation = node.enter(PREPARE_STATEMENT_STRING_INT_INT_INT);
+        try {
+            PreparedStatement result = delegate.prepareStatement(arg0, arg1, arg2, arg3);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2, arg3}, result);
+            }
+            return (PreparedStatement) invocation.wrap(result, arg0);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void releaseSavepoint(Savepoint arg0) throws SQLException {
+        Invocation invocation = node.enter(RELEASE_SAVEPOINT_SAVEPOINT);
+        try {
+            delegate.releaseSavepoint(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void rollback() throws SQLException {
+        Invocation invocation = node.enter(ROLLBACK);
+        try {
+            delegate.rollback();
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void rollback(Savepoint arg0) throws SQLException {
+        Invocation invocation = node.enter(ROLLBACK_SAVEPOINT);
+        try {
+            delegate.rollback(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setAutoCommit(boolean arg0) throws SQLException {
+        Invocation invocation = node.enter(SET_AUTO_COMMIT_BOOLEAN);
+        try {
+            delegate.setAutoCommit(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setCatalog(String arg0) throws SQLException {
+        Invocation invocation = node.enter(SET_CATALOG_STRING);
+        try {
+            delegate.setCatalog(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setClientInfo(String arg0, String arg1) throws SQLClientInfoException {
+        Invocation invocation = node.enter(SET_CLIENT_INFO_STRING_STRING);
+        try {
+            delegate.setClientInfo(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setClientInfo(Properties arg0) throws SQLClientInfoException {
+        Invocation invocation = node.enter(SET_CLIENT_INFO_PROPERTIES);
+        try {
+            delegate.setClientInfo(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setHoldability(int arg0) throws SQLException {
+        Invocation invocation = node.enter(SET_HOLDABILITY_INT);
+        try {
+            delegate.setHoldability(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setNetworkTimeout(Executor arg0, int arg1) throws SQLException {
+        Invocation invocation = node.enter(SET_NETWORK_TIMEOUT_EXECUTOR_INT);
+        try {
+            delegate.setNetworkTimeout(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setReadOnly(boolean arg0) throws SQLException {
+        Invocation invocation = node.enter(SET_READ_ONLY_BOOLEAN);
+        try {
+            delegate.setReadOnly(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public Savepoint setSavepoint() throws SQLException {
+        Invocation invocation = node.enter(SET_SAVEPOINT);
+        try {
+            Savepoint result = delegate.setSavepoint();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return (Savepoint) invocation.wrap(result, null);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public Savepoint setSavepoint(String arg0) throws SQLException {
+        Invocation invocation = node.enter(SET_SAVEPOINT_STRING);
+        try {
+            Savepoint result = delegate.setSavepoint(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return (Savepoint) invocation.wrap(result, arg0);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setSchema(String arg0) throws SQLException {
+        Invocation invocation = node.enter(SET_SCHEMA_STRING);
+        try {
+            delegate.setSchema(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setShardingKey(ShardingKey arg0) throws SQLException {
+        Invocation invocation = node.enter(SET_SHARDING_KEY_SHARDING_KEY);
+        try {
+            delegate.setShardingKey(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setShardingKey(ShardingKey arg0, ShardingKey arg1) throws SQLException {
+        Invocation invocation = node.enter(SET_SHARDING_KEY_SHARDING_KEY_SHARDING_KEY);
+        try {
+            delegate.setShardingKey(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean setShardingKeyIfValid(ShardingKey arg0, int arg1) throws SQLException {
+        Invocation invocation = node.enter(SET_SHARDING_KEY_IF_VALID_SHARDING_KEY_INT);
+        try {
+            boolean result = delegate.setShardingKeyIfValid(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean setShardingKeyIfValid(ShardingKey arg0, ShardingKey arg1, int arg2) throws SQLException {
+        Invocation invocation = node.enter(SET_SHARDING_KEY_IF_VALID_SHARDING_KEY_SHARDING_KEY_INT);
+        try {
+            boolean result = delegate.setShardingKeyIfValid(arg0, arg1, arg2);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setTransactionIsolation(int arg0) throws SQLException {
+        Invocation invocation = node.enter(SET_TRANSACTION_ISOLATION_INT);
+        try {
+            delegate.setTransactionIsolation(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setTypeMap(Map<String, Class<?>> arg0) throws SQLException {
+        Invocation invocation = node.enter(SET_TYPE_MAP_MAP);
+        try {
+            delegate.setTypeMap(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> arg0) throws SQLException {
+        Invocation invocation = node.enter(UNWRAP_CLASS);
+        try {
+            T result = delegate.unwrap(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return delegate.toString();
+    }
+}
@@ -0,0 +1,76 @@
+package insight;
+
+import io.opentelemetry.api.trace.Span;
+
+/**
+ * A call measured for {@link CallCost}: thread CPU time, allocation and wall time from when
+ * {@link TraceNode#enter(MethodInfo)} returns until the wrapper first touches the invocation again. The values are
+ * added to the span of the call, if it has one.
+ */
+final class CostInvocation implements Invocation {
+    private final CallCost cost;
+    private final MethodInfo info;
+    private final Span span;
+    private final Invocation invocation;
+    private final long startAllocated;
+    private final long startCpu;
+    private final long startNanos;
+    private boolean returned;
+    private long wallNanos;
+    private long cpuNanos;
+    private long allocated;
+
+    CostInvocation(CallCost cost, MethodInfo info, Span span, Invocation invocation) {
+        this.cost = cost;
+        this.info = info;
+        this.span = span;
+        this.invocation = invocation;
+        this.startAllocated = cost.allocatedBytes();
+        this.startCpu = cost.cpuNanos();
+        this.startNanos = System.nanoTime();
+    }
+
+    @Override
+    public boolean isCapturing() {
+        driverReturned();
+        return invocation.isCapturing();
+    }
+
+    @Override
+    public void capture(Object[] args, Object result) {
+        invocation.capture(args, result);
+    }
+
+    @Override
+    public Object wrap(Object result, Object firstArg) {
+        driverReturned();
+        return invocation.wrap(result, firstArg);
+    }
+
+    @Override
+    public void fail(Throwable e) {
+        driverReturned();
+        invocation.fail(e);
+    }
+
+    @Override
+    public void exit() {
+        driverReturned();
+        cost.record(info, cpuNanos, allocated);
+        if (span != null && span.isRecording()) {
+            span.setAttribute(CallCost.CPU_TIME, cpuNanos);
+            span.setAttribute(CallCost.ALLOCATED, allocated);
+            span.setAttribute(CallCost.WAIT_TIME, Math.max(0, wallNanos - cpuNanos));
+        }
+        invocation.exit();
+    }
+
+    private void driverReturned() {
+        if (!returned) {
+            returned = true;
+            wallNanos = System.nanoTime() - startNanos;
+            cpuNanos = Math.max(0, cost.cpuNanos() - startCpu);
+            allocated = Math.max(0, cost.allocatedBytes() - startAllocated);
+        }
+    }
+}
@@ -0,0 +1,3249 @@
+package insight;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.RowIdLifetime;
+import java.sql.SQLException;
+
+/**
+ * Traces {@link DatabaseMetaData} calls without reflection. Generated by {@code WrapperGenerator}, do not edit.
+ */
+@SuppressWarnings("deprecation")
+public final class DatabaseMetaDataWrapper implements DatabaseMetaData {
+    private static final MethodInfo ALL_PROCEDURES_ARE_CALLABLE = MethodInfo.of(DatabaseMetaData.class, "allProceduresAreCallable");
+    private static final MethodInfo ALL_TABLES_ARE_SELECTABLE = MethodInfo.of(DatabaseMetaData.class, "allTablesAreSelectable");
+    private static final MethodInfo AUTO_COMMIT_FAILURE_CLOSES_ALL_RESULT_SETS = MethodInfo.of(DatabaseMetaData.class, "autoCommitFailureClosesAllResultSets");
+    private static final MethodInfo DATA_DEFINITION_CAUSES_TRANSACTION_COMMIT = MethodInfo.of(DatabaseMetaData.class, "dataDefinitionCausesTransactionCommit");
+    private static final MethodInfo DATA_DEFINITION_IGNORED_IN_TRANSACTIONS = MethodInfo.of(DatabaseMetaData.class, "dataDefinitionIgnoredInTransactions");
+    private static final MethodInfo DELETES_ARE_DETECTED_INT = MethodInfo.of(DatabaseMetaData.class, "deletesAreDetected", int.class);
+    private static final MethodInfo DOES_MAX_ROW_SIZE_INCLUDE_BLOBS = MethodInfo.of(DatabaseMetaData.class, "doesMaxRowSizeIncludeBlobs");
+    private static final MethodInfo GENERATED_KEY_ALWAYS_RETURNED = MethodInfo.of(DatabaseMetaData.class, "generatedKeyAlwaysReturned");
+    private static final MethodInfo GET_ATTRIBUTES_STRING_STRING_STRING_STRING = MethodInfo.of(DatabaseMetaData.class, "getAttributes", String.class, String.class, String.class, String.class);
+    private static final MethodInfo GET_BEST_ROW_IDENTIFIER_STRING_STRING_STRING_INT_BOOLEAN = MethodInfo.of(DatabaseMetaData.class, "getBestRowIdentifier", String.class, String.class, String.class, int.class, boolean.class);
+    private static final MethodInfo GET_CATALOG_SEPARATOR = MethodInfo.of(DatabaseMetaData.class, "getCatalogSeparator");
+    private static final MethodInfo GET_CATALOG_TERM = MethodInfo.of(DatabaseMetaData.class, "getCatalogTerm");
+    private static final MethodInfo GET_CATALOGS = MethodInfo.of(DatabaseMetaData.class, "getCatalogs");
+    private static final MethodInfo GET_CLIENT_INFO_PROPERTIES = MethodInfo.of(DatabaseMetaData.class, "getClientInfoProperties");
+    private static final MethodInfo GET_COLUMN_PRIVILEGES_STRING_STRING_STRING_STRING = MethodInfo.of(DatabaseMetaData.class, "getColumnPrivileges", String.class, String.class, String.class, String.class);
+    private static final MethodInfo GET_COLUMNS_STRING_STRING_STRING_STRING = MethodInfo.of(DatabaseMetaData.class, "getColumns", String.class, String.class, String.class, String.class);
+    private static final MethodInfo GET_CONNECTION = MethodInfo.of(DatabaseMetaData.class, "getConnection");
+    private static final MethodInfo GET_CROSS_REFERENCE_STRING_STRING_STRING_STRING_STRING_STRING = MethodInfo.of(DatabaseMetaData.class, "getCrossReference", String.class, String.class, String.class, String.class, String.class, String.class);
+    private static final MethodInfo GET_DATABASE_MAJOR_VERSION = MethodInfo.of(DatabaseMetaData.class, "getDatabaseMajorVersion");
+    private static final MethodInfo GET_DATABASE_MINOR_VERSION = MethodInfo.of(DatabaseMetaData.class, "getDatabaseMinorVersion");
+    private static final MethodInfo GET_DATABASE_PRODUCT_NAME = MethodInfo.of(DatabaseMetaData.class, "getDatabaseProductName");
+    private static final MethodInfo GET_DATABASE_PRODUCT_VERSION = MethodInfo.of(DatabaseMetaData.class, "getDatabaseProductVersion");
+    private static final MethodInfo GET_DEFAULT_TRANSACTION_ISOLATION = MethodInfo.of(DatabaseMetaData.class, "getDefaultTransactionIsolation");
+    private static final MethodInfo GET_DRIVER_MAJOR_VERSION = MethodInfo.of(DatabaseMetaData.class, "getDriverMajorVersion");
+    private static final MethodInfo GET_DRIVER_MINOR_VERSION = MethodInfo.of(DatabaseMetaData.class, "getDriverMinorVersion");
+    private static final MethodInfo GET_DRIVER_NAME = MethodInfo.of(DatabaseMetaData.class, "getDriverName");
+    private static final MethodInfo GET_DRIVER_VERSION = MethodInfo.of(DatabaseMetaData.class, "getDriverVersion");
+    private static final MethodInfo GET_EXPORTED_KEYS_STRING_STRING_STRING = MethodInfo.of(DatabaseMetaData.class, "getExportedKeys", String.class, String.class, String.class);
+    private static final MethodInfo GET_EXTRA_NAME_CHARACTERS = MethodInfo.of(DatabaseMetaData.class, "getExtraNameCharacters");
+    private static final MethodInfo GET_FUNCTION_COLUMNS_STRING_STRING_STRING_STRING = MethodInfo.of(DatabaseMetaData.class, "getFunctionColumns", String.class, String.class, String.class, String.class);
+    private static final MethodInfo GET_FUNCTIONS_STRING_STRING_STRING = MethodInfo.of(DatabaseMetaData.class, "getFunctions", String.class, String.class, String.class);
+    private static final MethodInfo GET_IDENTIFIER_QUOTE_STRING = MethodInfo.of(DatabaseMetaData.class, "getIdentifierQuoteString");
+    private static final MethodInfo GET_IMPORTED_KEYS_STRING_STRING_STRING = MethodInfo.of(DatabaseMetaData.class, "getImportedKeys", String.class, String.class, String.class);
+    private static final MethodInfo GET_INDEX_INFO_STRING_STRING_STRING_BOOLEAN_BOOLEAN = MethodInfo.of(DatabaseMetaData.class, "getIndexInfo", String.class, String.class, String.class, boolean.class, boolean.class);
+    private static final MethodInfo GET_JDBCMAJOR_VERSION = MethodInfo.of(DatabaseMetaData.class, "getJDBCMajorVersion");
+    private static final MethodInfo GET_JDBCMINOR_VERSION = MethodInfo.of(DatabaseMetaData.class, "getJDBCMinorVersion");
+    private static final MethodInfo GET_MAX_BINARY_LITERAL_LENGTH = MethodInfo.of(DatabaseMetaData.class, "getMaxBinaryLiteralLength");
+    private static final MethodInfo GET_MAX_CATALOG_NAME_LENGTH = MethodInfo.of(DatabaseMetaData.class, "getMaxCatalogNameLength");
+    private static final MethodInfo GET_MAX_CHAR_LITERAL_LENGTH = MethodInfo.of(DatabaseMetaData.class, "getMaxCharLiteralLength");
+    private static final MethodInfo GET_MAX_COLUMN_NAME_LENGTH = MethodInfo.of(DatabaseMetaData.class, "getMaxColumnNameLength");
+    private static final MethodInfo GET_MAX_COLUMNS_IN_GROUP_BY = MethodInfo.of(DatabaseMetaData.class, "getMaxColumnsInGroupBy");
+    private static final MethodInfo GET_MAX_COLUMNS_IN_INDEX = MethodInfo.of(DatabaseMetaData.class, "getMaxColumnsInIndex");
+    private static final MethodInfo GET_MAX_COLUMNS_IN_ORDER_BY = MethodInfo.of(DatabaseMetaData.class, "getMaxColumnsInOrderBy");
+    private static final MethodInfo GET_MAX_COLUMNS_IN_SELECT = MethodInfo.of(DatabaseMetaData.class, "getMaxColumnsInSelect");
+    private static final MethodInfo GET_MAX_COLUMNS_IN_TABLE = MethodInfo.of(DatabaseMetaData.class, "getMaxColumnsInTable");
+    private static final MethodInfo GET_MAX_CONNECTIONS = MethodInfo.of(DatabaseMetaData.class, "getMaxConnections");
+    private static final MethodInfo GET_MAX_CURSOR_NAME_LENGTH = MethodInfo.of(DatabaseMetaData.class, "getMaxCursorNameLength");
+    private static final MethodInfo GET_MAX_INDEX_LENGTH = MethodInfo.of(DatabaseMetaData.class, "getMaxIndexLength");
+    private static final MethodInfo GET_MAX_LOGICAL_LOB_SIZE = MethodInfo.of(DatabaseMetaData.class, "getMaxLogicalLobSize");
+    private static final MethodInfo GET_MAX_PROCEDURE_NAME_LENGTH = MethodInfo.of(DatabaseMetaData.class, "getMaxProcedureNameLength");
+    private static final MethodInfo GET_MAX_ROW_SIZE = MethodInfo.of(DatabaseMetaData.class, "getMaxRowSize");
+    private static final MethodInfo GET_MAX_SCHEMA_NAME_LENGTH = MethodInfo.of(DatabaseMetaData.class, "getMaxSchemaNameLength");
+    private static final MethodInfo GET_MAX_STATEMENT_LENGTH = MethodInfo.of(DatabaseMetaData.class, "getMaxStatementLength");
+    private static final MethodInfo GET_MAX_STATEMENTS = MethodInfo.of(DatabaseMetaData.class, "getMaxStatements");
+    private static final MethodInfo GET_MAX_TABLE_NAME_LENGTH = MethodInfo.of(DatabaseMetaData.class, "getMaxTableNameLength");
+    private static final MethodInfo GET_MAX_TABLES_IN_SELECT = MethodInfo.of(DatabaseMetaData.class, "getMaxTablesInSelect");
+    private static final MethodInfo GET_MAX_USER_NAME_LENGTH = MethodInfo.of(DatabaseMetaData.class, "getMaxUserNameLength");
+    private static final MethodInfo GET_NUMERIC_FUNCTIONS = MethodInfo.of(DatabaseMetaData.class, "getNumericFunctions");
+    private static final MethodInfo GET_PRIMARY_KEYS_STRING_STRING_STRING = MethodInfo.of(DatabaseMetaData.class, "getPrimaryKeys", String.class, String.class, String.class);
+    private static final MethodInfo GET_PROCEDURE_COLUMNS_STRING_STRING_STRING_STRING = MethodInfo.of(DatabaseMetaData.class, "getProcedureColumns", String.class, String.class, String.class, String.class);
+    private static final MethodInfo GET_PROCEDURE_TERM = MethodInfo.of(DatabaseMetaData.class, "getProcedureTerm");
+    private static final MethodInfo GET_PROCEDURES_STRING_STRING_STRING = MethodInfo.of(DatabaseMetaData.class, "getProcedures", String.class, String.class, String.class);
+    private static final MethodInfo GET_PSEUDO_COLUMNS_STRING_STRING_STRING_STRING = MethodInfo.of(DatabaseMetaData.class, "getPseudoColumns", String.class, String.class, String.class, String.class);
+    private static final MethodInfo GET_RESULT_SET_HOLDABILITY = MethodInfo.of(DatabaseMetaData.class, "getResultSetHoldability");
+    private static final MethodInfo GET_ROW_ID_LIFETIME = MethodInfo.of(DatabaseMetaData.class, "getRowIdLifetime");
+    private static final MethodInfo GET_SQLKEYWORDS = MethodInfo.of(DatabaseMetaData.class, "getSQLKeywords");
+    private static final MethodInfo GET_SQLSTATE_TYPE = MethodInfo.of(DatabaseMetaData.class, "getSQLStateType");
+    private static final MethodInfo GET_SCHEMA_TERM = MethodInfo.of(DatabaseMetaData.class, "getSchemaTerm");
+    private static final MethodInfo GET_SCHEMAS = MethodInfo.of(DatabaseMetaData.class, "getSchemas");
+    private static final MethodInfo GET_SCHEMAS_STRING_STRING = MethodInfo.of(DatabaseMetaData.class, "getSchemas", String.class, String.class);
+    private static final MethodInfo GET_SEARCH_STRING_ESCAPE = MethodInfo.of(DatabaseMetaData.class, "getSearchStringEscape");
+    private static final MethodInfo GET_STRING_FUNCTIONS = MethodInfo.of(DatabaseMetaData.class, "getStringFunctions");
+    private static final MethodInfo GET_SUPER_TABLES_STRING_STRING_STRING = MethodInfo.of(DatabaseMetaData.class, "getSuperTables", String.class, String.class, String.class);
+    private static final MethodInfo GET_SUPER_TYPES_STRING_STRING_STRING = MethodInfo.of(DatabaseMetaData.class, "getSuperTypes", String.class, String.class, String.class);
+    private static final MethodInfo GET_SYSTEM_FUNCTIONS = MethodInfo.of(DatabaseMetaData.class, "getSystemFunctions");
+    private static final MethodInfo GET_TABLE_PRIVILEGES_STRING_STRING_STRING = MethodInfo.of(DatabaseMetaData.class, "getTablePrivileges", String.class, String.class, String.class);
+    private static final MethodInfo GET_TABLE_TYPES = MethodInfo.of(DatabaseMetaData.class, "getTableTypes");
+    private static final MethodInfo GET_TABLES_STRING_STRING_STRING_STRING_ARRAY = MethodInfo.of(DatabaseMetaData.class, "getTables", String.class, String.class, String.class, String[].class);
+    private static final MethodInfo GET_TIME_DATE_FUNCTIONS = MethodInfo.of(DatabaseMetaData.class, "getTimeDateFunctions");
+    private static final MethodInfo GET_TYPE_INFO = MethodInfo.of(DatabaseMetaData.class, "getTypeInfo");
+    private static final MethodInfo GET_UDTS_STRING_STRING_STRING_INT_ARRAY = MethodInfo.of(DatabaseMetaData.class, "getUDTs", String.class, String.class, String.class, int[].class);
+    private static final MethodInfo GET_URL = MethodInfo.of(DatabaseMetaData.class, "getURL");
+    private static final MethodInfo GET_USER_NAME = MethodInfo.of(DatabaseMetaData.class, "getUserName");
+    private static final MethodInfo GET_VERSION_COLUMNS_STRING_STRING_STRING = MethodInfo.of(DatabaseMetaData.class, "getVersionColumns", String.class, String.class, String.class);
+    private static final MethodInfo INSERTS_ARE_DETECTED_INT = MethodInfo.of(DatabaseMetaData.class, "insertsAreDetected", int.class);
+    private static final MethodInfo IS_CATALOG_AT_START = MethodInfo.of(DatabaseMetaData.class, "isCatalogAtStart");
+    private static final MethodInfo IS_READ_ONLY = MethodInfo.of(DatabaseMetaData.class, "isReadOnly");
+    private static final MethodInfo IS_WRAPPER_FOR_CLASS = MethodInfo.of(DatabaseMetaData.class, "isWrapperFor", Class.class);
+    private static final MethodInfo LOCATORS_UPDATE_COPY = MethodInfo.of(DatabaseMetaData.class, "locatorsUpdateCopy");
+    private static final MethodInfo NULL_PLUS_NON_NULL_IS_NULL = MethodInfo.of(DatabaseMetaData.class, "nullPlusNonNullIsNull");
+    private static final MethodInfo NULLS_ARE_SORTED_AT_END = MethodInfo.of(DatabaseMetaData.class, "nullsAreSortedAtEnd");
+    private static final MethodInfo NULLS_ARE_SORTED_AT_START = MethodInfo.of(DatabaseMetaData.class, "nullsAreSortedAtStart");
+    private static final MethodInfo NULLS_ARE_SORTED_HIGH = MethodInfo.of(DatabaseMetaData.class, "nullsAreSortedHigh");
+    private static final MethodInfo NULLS_ARE_SORTED_LOW = MethodInfo.of(DatabaseMetaData.class, "nullsAreSortedLow");
+    private static final MethodInfo OTHERS_DELETES_ARE_VISIBLE_INT = MethodInfo.of(DatabaseMetaData.class, "othersDeletesAreVisible", int.class);
+    private static final MethodInfo OTHERS_INSERTS_ARE_VISIBLE_INT = MethodInfo.of(DatabaseMetaData.class, "othersInsertsAreVisible", int.class);
+    private static final MethodInfo OTHERS_UPDATES_ARE_VISIBLE_INT = MethodInfo.of(DatabaseMetaData.class, "othersUpdatesAreVisible", int.class);
+    private static final MethodInfo OWN_DELETES_ARE_VISIBLE_INT = MethodInfo.of(DatabaseMetaData.class, "ownDeletesAreVisible", int.class);
+    private static final MethodInfo OWN_INSERTS_ARE_VISIBLE_INT = MethodInfo.of(DatabaseMetaData.class, "ownInsertsAreVisible", int.class);
+    private static final MethodInfo OWN_UPDATES_ARE_VISIBLE_INT = MethodInfo.of(DatabaseMetaData.class, "ownUpdatesAreVisible", int.class);
+    private static final MethodInfo STORES_LOWER_CASE_IDENTIFIERS = MethodInfo.of(DatabaseMetaData.class, "storesLowerCaseIdentifiers");
+    private static final MethodInfo STORES_LOWER_CASE_QUOTED_IDENTIFIERS = MethodInfo.of(DatabaseMetaData.class, "storesLowerCaseQuotedIdentifiers");
+    private static final MethodInfo STORES_MIXED_CASE_IDENTIFIERS = MethodInfo.of(DatabaseMetaData.class, "storesMixedCaseIdentifiers");
+    private static final MethodInfo STORES_MIXED_CASE_QUOTED_IDENTIFIERS = MethodInfo.of(DatabaseMetaData.class, "storesMixedCaseQuotedIdentifiers");
+    private static final MethodInfo STORES_UPPER_CASE_IDENTIFIERS = MethodInfo.of(DatabaseMetaData.class, "storesUpperCaseIdentifiers");
+    private static final MethodInfo STORES_UPPER_CASE_QUOTED_IDENTIFIERS = MethodInfo.of(DatabaseMetaData.class, "storesUpperCaseQuotedIdentifiers");
+    private static final MethodInfo SUPPORTS_ANSI92_ENTRY_LEVEL_SQL = MethodInfo.of(DatabaseMetaData.class, "supportsANSI92EntryLevelSQL");
+    private static final MethodInfo SUPPORTS_ANSI92_FULL_SQL = MethodInfo.of(DatabaseMetaData.class, "supportsANSI92FullSQL");
+    private static final MethodInfo SUPPORTS_ANSI92_INTERMEDIATE_SQL = MethodInfo.of(DatabaseMetaData.class, "supportsANSI92IntermediateSQL");
+    private static final MethodInfo SUPPORTS_ALTER_TABLE_WITH_ADD_COLUMN = MethodInfo.of(DatabaseMetaData.class, "supportsAlterTableWithAddColumn");
+    private static final MethodInfo SUPPORTS_ALTER_TABLE_WITH_DROP_COLUMN = MethodInfo.of(DatabaseMetaData.class, "supportsAlterTableWithDropColumn");
+    private static final MethodInfo SUPPORTS_BATCH_UPDATES = MethodInfo.of(DatabaseMetaData.class, "supportsBatchUpdates");
+    private static final MethodInfo SUPPORTS_CATALOGS_IN_DATA_MANIPULATION = MethodInfo.of(DatabaseMetaData.class, "supportsCatalogsInDataManipulation");
+    private static final MethodInfo SUPPORTS_CATALOGS_IN_INDEX_DEFINITIONS = MethodInfo.of(DatabaseMetaData.class, "supportsCatalogsInIndexDefinitions");
+    private static final MethodInfo SUPPORTS_CATALOGS_IN_PRIVILEGE_DEFINITIONS = MethodInfo.of(DatabaseMetaData.class, "supportsCatalogsInPrivilegeDefinitions");
+    private static final MethodInfo SUPPORTS_CATALOGS_IN_PROCEDURE_CALLS = MethodInfo.of(DatabaseMetaData.class, "supportsCatalogsInProcedureCalls");
+    private static final MethodInfo SUPPORTS_CATALOGS_IN_TABLE_DEFINITIONS = MethodInfo.of(DatabaseMetaData.class, "supportsCatalogsInTableDefinitions");
+    private static final MethodInfo SUPPORTS_COLUMN_ALIASING = MethodInfo.of(DatabaseMetaData.class, "supportsColumnAliasing");
+    private static final MethodInfo SUPPORTS_CONVERT = MethodInfo.of(DatabaseMetaData.class, "supportsConvert");
+    private static final MethodInfo SUPPORTS_CONVERT_INT_INT = MethodInfo.of(DatabaseMetaData.class, "supportsConvert", int.class, int.class);
+    private static final MethodInfo SUPPORTS_CORE_SQLGRAMMAR = MethodInfo.of(DatabaseMetaData.class, "supportsCoreSQLGrammar");
+    private static final MethodInfo SUPPORTS_CORRELATED_SUBQUERIES = MethodInfo.of(DatabaseMetaData.class, "supportsCorrelatedSubqueries");
+    private static final MethodInfo SUPPORTS_DATA_DEFINITION_AND_DATA_MANIPULATION_TRANSACTIONS = MethodInfo.of(DatabaseMetaData.class, "supportsDataDefinitionAndDataManipulationTransactions");
+    private static final MethodInfo SUPPORTS_DATA_MANIPULATION_TRANSACTIONS_ONLY = MethodInfo.of(DatabaseMetaData.class, "supportsDataManipulationTransactionsOnly");
+    private static final MethodInfo SUPPORTS_DIFFERENT_TABLE_CORRELATION_NAMES = MethodInfo.of(DatabaseMetaData.class, "supportsDifferentTableCorrelationNames");
+    private static final MethodInfo SUPPORTS_EXPRESSIONS_IN_ORDER_BY = MethodInfo.of(DatabaseMetaData.class, "supportsExpressionsInOrderBy");
+    private static final MethodInfo SUPPORTS_EXTENDED_SQLGRAMMAR = MethodInfo.of(DatabaseMetaData.class, "supportsExtendedSQLGrammar");
+    private static final MethodInfo SUPPORTS_FULL_OUTER_JOINS = MethodInfo.of(DatabaseMetaData.class, "supportsFullOuterJoins");
+    private static final MethodInfo SUPPORTS_GET_GENERATED_KEYS = MethodInfo.of(DatabaseMetaData.class, "supportsGetGeneratedKeys");
+    private static final MethodInfo SUPPORTS_GROUP_BY = MethodInfo.of(DatabaseMetaData.class, "supportsGroupBy");
+    private static final MethodInfo SUPPORTS_GROUP_BY_BEYOND_SELECT = MethodInfo.of(DatabaseMetaData.class, "supportsGroupByBeyondSelect");
+    private static final MethodInfo SUPPORTS_GROUP_BY_UNRELATED = MethodInfo.of(DatabaseMetaData.class, "supportsGroupByUnrelated");
+    private static final MethodInfo SUPPORTS_INTEGRITY_ENHANCEMENT_FACILITY = MethodInfo.of(DatabaseMetaData.class, "supportsIntegrityEnhancementFacility");
+    private static final MethodInfo SUPPORTS_LIKE_ESCAPE_CLAUSE = MethodInfo.of(DatabaseMetaData.class, "supportsLikeEscapeClause");
+    private static final MethodInfo SUPPORTS_LIMITED_OUTER_JOINS = MethodInfo.of(DatabaseMetaData.class, "supportsLimitedOuterJoins");
+    private static final MethodInfo SUPPORTS_MINIMUM_SQLGRAMMAR = MethodInfo.of(DatabaseMetaData.class, "supportsMinimumSQLGrammar");
+    private static final MethodInfo SUPPORTS_MIXED_CASE_IDENTIFIERS = MethodInfo.of(DatabaseMetaData.class, "supportsMixedCaseIdentifiers");
+    private static final MethodInfo SUPPORTS_MIXED_CASE_QUOTED_IDENTIFIERS = MethodInfo.of(DatabaseMetaData.class, "supportsMixedCaseQuotedIdentifiers");
+    private static final MethodInfo SUPPORTS_MULTIPLE_OPEN_RESULTS = MethodInfo.of(DatabaseMetaData.class, "supportsMultipleOpenResults");
+    private static final MethodInfo SUPPORTS_MULTIPLE_RESULT_SETS = MethodInfo.of(DatabaseMetaData.class, "supportsMultipleResultSets");
+    private static final MethodInfo SUPPORTS_MULTIPLE_TRANSACTIONS = MethodInfo.of(DatabaseMetaData.class, "supportsMultipleTransactions");
+    private static final MethodInfo SUPPORTS_NAMED_PARAMETERS = MethodInfo.of(DatabaseMetaData.class, "supportsNamedParameters");
+    private static final MethodInfo SUPPORTS_NON_NULLABLE_COLUMNS = MethodInfo.of(DatabaseMetaData.class, "supportsNonNullableColumns");
+    private static final MethodInfo SUPPORTS_OPEN_CURSORS_ACROSS_COMMIT = MethodInfo.of(DatabaseMetaData.class, "supportsOpenCursorsAcrossCommit");
+    private static final MethodInfo SUPPORTS_OPEN_CURSORS_ACROSS_ROLLBACK = MethodInfo.of(DatabaseMetaData.class, "supportsOpenCursorsAcrossRollback");
+    private static final MethodInfo SUPPORTS_OPEN_STATEMENTS_ACROSS_COMMIT = MethodInfo.of(DatabaseMetaData.class, "supportsOpenStatementsAcrossCommit");
+    private static final MethodInfo SUPPORTS_OPEN_STATEMENTS_ACROSS_ROLLBACK = MethodInfo.of(DatabaseMetaData.class, "supportsOpenStatementsAcrossRollback");
+    private static final MethodInfo SUPPORTS_ORDER_BY_UNRELATED = MethodInfo.of(DatabaseMetaData.class, "supportsOrderByUnrelated");
+    private static final MethodInfo SUPPORTS_OUTER_JOINS = MethodInfo.of(DatabaseMetaData.class, "supportsOuterJoins");
+    private static final MethodInfo SUPPORTS_POSITIONED_DELETE = MethodInfo.of(DatabaseMetaData.class, "supportsPositionedDelete");
+    private static final MethodInfo SUPPORTS_POSITIONED_UPDATE = MethodInfo.of(DatabaseMetaData.class, "supportsPositionedUpdate");
+    private static final MethodInfo SUPPORTS_REF_CURSORS = MethodInfo.of(DatabaseMetaData.class, "supportsRefCursors");
+    private static final MethodInfo SUPPORTS_RESULT_SET_CONCURRENCY_INT_INT = MethodInfo.of(DatabaseMetaData.class, "supportsResultSetConcurrency", int.class, int.class);
+    private static final MethodInfo SUPPORTS_RESULT_SET_HOLDABILITY_INT = MethodInfo.of(DatabaseMetaData.class, "supportsResultSetHoldability", int.class);
+    private static final MethodInfo SUPPORTS_RESULT_SET_TYPE_INT = MethodInfo.of(DatabaseMetaData.class, "supportsResultSetType", int.class);
+    private static final MethodInfo SUPPORTS_SAVEPOINTS = MethodInfo.of(DatabaseMetaData.class, "supportsSavepoints");
+    private static final MethodInfo SUPPORTS_SCHEMAS_IN_DATA_MANIPULATION = MethodInfo.of(DatabaseMetaData.class, "supportsSchemasInDataManipulation");
+    private static final MethodInfo SUPPORTS_SCHEMAS_IN_INDEX_DEFINITIONS = MethodInfo.of(DatabaseMetaData.class, "supportsSchemasInIndexDefinitions");
+    private static final MethodInfo SUPPORTS_SCHEMAS_IN_PRIVILEGE_DEFINITIONS = MethodInfo.of(DatabaseMetaData.class, "supportsSchemasInPrivilegeDefinitions");
+    private static final MethodInfo SUPPORTS_SCHEMAS_IN_PROCEDURE_CALLS = MethodInfo.of(DatabaseMetaData.class, "supportsSchemasInProcedureCalls");
+    private static final MethodInfo SUPPORTS_SCHEMAS_IN_TABLE_DEFINITIONS = MethodInfo.of(DatabaseMetaData.class, "supportsSchemasInTableDefinitions");
+    private static final MethodInfo SUPPORTS_SELECT_FOR_UPDATE = MethodInfo.of(DatabaseMetaData.class, "supportsSelectForUpdate");
+    private static final MethodInfo SUPPORTS_SHARDING = MethodInfo.of(DatabaseMetaData.class, "supportsSharding");
+    private static final MethodInfo SUPPORTS_STATEMENT_POOLING = MethodInfo.of(DatabaseMetaData.class, "supportsStatementPooling");
+    private static final MethodInfo SUPPORTS_STORED_FUNCTIONS_USING_CALL_SYNTAX = MethodInfo.of(DatabaseMetaData.class, "supportsStoredFunctionsUsingCallSyntax");
+    private static final MethodInfo SUPPORTS_STORED_PROCEDURES = MethodInfo.of(DatabaseMetaData.class, "supportsStoredProcedures");
+    private static final MethodInfo SUPPORTS_SUBQUERIES_IN_COMPARISONS = MethodInfo.of(DatabaseMetaData.class, "supportsSubqueriesInComparisons");
+    private static final MethodInfo SUPPORTS_SUBQUERIES_IN_EXISTS = MethodInfo.of(DatabaseMetaData.class, "supportsSubqueriesInExists");
+    private static final MethodInfo SUPPORTS_SUBQUERIES_IN_INS = MethodInfo.of(DatabaseMetaData.class, "supportsSubqueriesInIns");
+    private static final MethodInfo SUPPORTS_SUBQUERIES_IN_QUANTIFIEDS = MethodInfo.of(DatabaseMetaData.class, "supportsSubqueriesInQuantifieds");
+    private static final MethodInfo SUPPORTS_TABLE_CORRELATION_NAMES = MethodInfo.of(DatabaseMetaData.class, "supportsTableCorrelationNames");
+    private static final MethodInfo SUPPORTS_TRANSACTION_ISOLATION_LEVEL_INT = MethodInfo.of(DatabaseMetaData.class, "supportsTransactionIsolationLevel", int.class);
+    private static final MethodInfo SUPPORTS_TRANSACTIONS = MethodInfo.of(DatabaseMetaData.class, "supportsTransactions");
+    private static final MethodInfo SUPPORTS_UNION = MethodInfo.of(DatabaseMetaData.class, "supportsUnion");
+    private static final MethodInfo SUPPORTS_UNION_ALL = MethodInfo.of(DatabaseMetaData.class, "supportsUnionAll");
+    private static final MethodInfo UNWRAP_CLASS = MethodInfo.of(DatabaseMetaData.class, "unwrap", Class.class);
+    private static final MethodInfo UPDATES_ARE_DETECTED_INT = MethodInfo.of(DatabaseMetaData.class, "updatesAreDetected", int.class);
+    private static final MethodInfo USES_LOCAL_FILE_PER_TABLE = MethodInfo.of(DatabaseMetaData.class, "usesLocalFilePerTable");
+    private static final MethodInfo USES_LOCAL_FILES = MethodInfo.of(DatabaseMetaData.class, "usesLocalFiles");
+
+    private final DatabaseMetaData delegate;
+    private final TraceNode node;
+
+    public DatabaseMetaDataWrapper(DatabaseMetaData delegate, TraceNode node) {
+        this.delegate = delegate;
+        this.node = node;
+    }
+
+    @Override
+    public boolean allProceduresAreCallable() throws SQLException {
+        Invocation invocation = node.enter(ALL_PROCEDURES_ARE_CALLABLE);
+        try {
+            boolean result = delegate.allProceduresAreCallable();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean allTablesAreSelectable() throws SQLException {
+        Invocation invocation = node.enter(ALL_TABLES_ARE_SELECTABLE);
+        try {
+            boolean result = delegate.allTablesAreSelectable();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean autoCommitFailureClosesAllResultSets() throws SQLException {
+        Invocation invocation = node.enter(AUTO_COMMIT_FAILURE_CLOSES_ALL_RESULT_SETS);
+        try {
+            boolean result = delegate.autoCommitFailureClosesAllResultSets();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean dataDefinitionCausesTransactionCommit() throws SQLException {
+        Invocation invocation = node.enter(DATA_DEFINITION_CAUSES_TRANSACTION_COMMIT);
+        try {
+            boolean result = delegate.dataDefinitionCausesTransactionCommit();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean dataDefinitionIgnoredInTransactions() throws SQLException {
+        Invocation invocation = node.enter(DATA_DEFINITION_IGNORED_IN_TRANSACTIONS);
+        try {
+            boolean result = delegate.dataDefinitionIgnoredInTransactions();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean deletesAreDetected(int arg0) throws SQLException {
+        Invocation invocation = node.enter(DELETES_ARE_DETECTED_INT);
+        try {
+            boolean result = delegate.deletesAreDetected(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean doesMaxRowSizeIncludeBlobs() throws SQLException {
+        Invocation invocation = node.enter(DOES_MAX_ROW_SIZE_INCLUDE_BLOBS);
+        try {
+            boolean result = delegate.doesMaxRowSizeIncludeBlobs();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean generatedKeyAlwaysReturned() throws SQLException {
+        Invocation invocation = node.enter(GENERATED_KEY_ALWAYS_RETURNED);
+        try {
+            boolean result = delegate.generatedKeyAlwaysReturned();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public ResultSet getAttributes(String arg0, String arg1, String arg2, String arg3) throws SQLException {
+        Invocation invocation = node.enter(GET_ATTRIBUTES_STRING_STRING_STRING_STRING);
+        try {
+            ResultSet result = delegate.getAttributes(arg0, arg1, arg2, arg3);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2, arg3}, result);
+            }
+            return (ResultSet) invocation.wrap(result, arg0);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public ResultSet getBestRowIdentifier(String arg0, String arg1, String arg2, int arg3, boolean arg4) throws SQLException {
+        Invocation invocation = node.enter(GET_BEST_ROW_IDENTIFIER_STRING_STRING_STRING_INT_BOOLEAN);
+        try {
+            ResultSet result = delegate.getBestRowIdentifier(arg0, arg1, arg2, arg3, arg4);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2, arg3, arg4}, result);
+            }
+            return (ResultSet) invocation.wrap(result, arg0);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public String getCatalogSeparator() throws SQLException {
+        Invocation invocation = node.enter(GET_CATALOG_SEPARATOR);
+        try {
+            String result = delegate.getCatalogSeparator();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public String getCatalogTerm() throws SQLException {
+        Invocation invocation = node.enter(GET_CATALOG_TERM);
+        try {
+            String result = delegate.getCatalogTerm();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public ResultSet getCatalogs() throws SQLException {
+        Invocation invocation = node.enter(GET_CATALOGS);
+        try {
+            ResultSet result = delegate.getCatalogs();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return (ResultSet) invocation.wrap(result, null);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public ResultSet getClientInfoProperties() throws SQLException {
+        Invocation invocation = node.enter(GET_CLIENT_INFO_PROPERTIES);
+        try {
+            ResultSet result = delegate.getClientInfoProperties();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return (ResultSet) invocation.wrap(result, null);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public ResultSet getColumnPrivileges(String arg0, String arg1, String arg2, String arg3) throws SQLException {
+        Invocation invocation = node.enter(GET_COLUMN_PRIVILEGES_STRING_STRING_STRING_STRING);
+        try {
+            ResultSet result = delegate.getColumnPrivileges(arg0, arg1, arg2, arg3);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2, arg3}, result);
+            }
+            return (ResultSet) invocation.wrap(result, arg0);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public ResultSet getColumns(String arg0, String arg1, String arg2, String arg3) throws SQLException {
+        Invocation invocation = node.enter(GET_COLUMNS_STRING_STRING_STRING_STRING);
+        try {
+            ResultSet result = delegate.getColumns(arg0, arg1, arg2, arg3);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2, arg3}, result);
+            }
+            return (ResultSet) invocation.wrap(result, arg0);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Invocation invocation = node.enter(GET_CONNECTION);
+        try {
+            Connection result = delegate.getConnection();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return (Connection) invocation.wrap(result, null);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public ResultSet getCrossReference(String arg0, String arg1, String arg2, String arg3, String arg4, String arg5) throws SQLException {
+        Invocation invocation = node.enter(GET_CROSS_REFERENCE_STRING_STRING_STRING_STRING_STRING_STRING);
+        try {
+            ResultSet result = delegate.getCrossReference(arg0, arg1, arg2, arg3, arg4, arg5);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2, arg3, arg4, arg5}, result);
+            }
+            return (ResultSet) invocation.wrap(result, arg0);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public int getDatabaseMajorVersion() throws SQLException {
+        Invocation invocation = node.enter(GET_DATABASE_MAJOR_VERSION);
+        try {
+            int result = delegate.getDatabaseMajorVersion();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public int getDatabaseMinorVersion() throws SQLException {
+        Invocation invocation = node.enter(GET_DATABASE_MINOR_VERSION);
+        try {
+            int result = delegate.getDatabaseMinorVersion();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public String getDatabaseProductName() throws SQLException {
+        Invocation invocation = node.enter(GET_DATABASE_PRODUCT_NAME);
+        try {
+            String result = delegate.getDatabaseProductName();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public String getDatabaseProductVersion() throws SQLException {
+        Invocation invocation = node.enter(GET_DATABASE_PRODUCT_VERSION);
+        try {
+            String result = delegate.getDatabaseProductVersion();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public int getDefaultTransactionIsolation() throws SQLException {
+        Invocation invocation = node.enter(GET_DEFAULT_TRANSACTION_ISOLATION);
+        try {
+            int result = delegate.getDefaultTransactionIsolation();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public int getDriverMajorVersion() {
+        Invocation invocation = node.enter(GET_DRIVER_MAJOR_VERSION);
+        try {
+            int result = delegate.getDriverMajorVersion();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public int getDriverMinorVersion() {
+        Invocation invocation = node.enter(GET_DRIVER_MINOR_VERSION);
+        try {
+            int result = delegate.getDriverMinorVersion();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public String getDriverName() throws SQLException {
+        Invocation invocation = node.enter(GET_DRIVER_NAME);
+        try {
+            String result = delegate.getDriverName();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public String getDriverVersion() throws SQLException {
+        Invocation invocation = node.enter(GET_DRIVER_VERSION);
+        try {
+            String result = delegate.getDriverVersion();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public ResultSet getExportedKeys(String arg0, String arg1, String arg2) throws SQLException {
+        Invocation invocation = node.enter(GET_EXPORTED_KEYS_STRING_STRING_STRING);
+        try {
+            ResultSet result = delegate.getExportedKeys(arg0, arg1, arg2);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2}, result);
+            }
+            return (ResultSet) invocation.wrap(result, arg0);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public String getExtraNameCharacters() throws SQLException {
+        Invocation invocation = node.enter(GET_EXTRA_NAME_CHARACTERS);
+        try {
+            String result = delegate.getExtraNameCharacters();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public ResultSet getFunctionColumns(String arg0, String arg1, String arg2, String arg3) throws SQLException {
+        Invocation invocation = node.enter(GET_FUNCTION_COLUMNS_STRING_STRING_STRING_STRING);
+        try {
+            ResultSet result = delegate.getFunctionColumns(arg0, arg1, arg2, arg3);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2, arg3}, result);
+            }
+            return (ResultSet) invocation.wrap(result, arg0);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public ResultSet getFunctions(String arg0, String arg1, String arg2) throws SQLException {
+        Invocation invocation = node.enter(GET_FUNCTIONS_STRING_STRING_STRING);
+        try {
+            ResultSet result = delegate.getFunctions(arg0, arg1, arg2);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2}, result);
+            }
+            return (ResultSet) invocation.wrap(result, arg0);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public String getIdentifierQuoteString() throws SQLException {
+        Invocation invocation = node.enter(GET_IDENTIFIER_QUOTE_STRING);
+        try {
+            String result = delegate.getIdentifierQuoteString();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public ResultSet getImportedKeys(String arg0, String arg1, String arg2) throws SQLException {
+        Invocation invocation = node.enter(GET_IMPORTED_KEYS_STRING_STRING_STRING);
+        try {
+            ResultSet result = delegate.getImportedKeys(arg0, arg1, arg2);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2}, result);
+            }
+            return (ResultSet) invocation.wrap(result, arg0);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public ResultSet getIndexInfo(String arg0, String arg1, String arg2, boolean arg3, boolean arg4) throws SQLException {
+        Invocation invocation = node.enter(GET_INDEX_INFO_STRING_STRING_STRING_BOOLEAN_BOOLEAN);
+        try {
+            ResultSet result = delegate.getIndexInfo(arg0, arg1, arg2, arg3, arg4);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2, arg3, arg4}, result);
+            }
+            return (ResultSet) invocation.wrap(result, arg0);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public int getJDBCMajorVersion() throws SQLException {
+        Invocation invocation = node.enter(GET_JDBCMAJOR_VERSION);
+        try {
+            int result = delegate.getJDBCMajorVersion();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public int getJDBCMinorVersion() throws SQLException {
+        Invocation invocation = node.enter(GET_JDBCMINOR_VERSION);
+        try {
+            int result = delegate.getJDBCMinorVersion();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public int getMaxBinaryLiteralLength() throws SQLException {
+        Invocation invocation = node.enter(GET_MAX_BINARY_LITERAL_LENGTH);
+        try {
+            int result = delegate.getMaxBinaryLiteralLength();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public int getMaxCatalogNameLength() throws SQLException {
+        Invocation invocation = node.enter(GET_MAX_CATALOG_NAME_LENGTH);
+        try {
+            int result = delegate.getMaxCatalogNameLength();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public int getMaxCharLiteralLength() throws SQLException {
+        Invocation invocation = node.enter(GET_MAX_CHAR_LITERAL_LENGTH);
+        try {
+            int result = delegate.getMaxCharLiteralLength();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public int getMaxColumnNameLength() throws SQLException {
+        Invocation invocation = node.enter(GET_MAX_COLUMN_NAME_LENGTH);
+        try {
+            int result = delegate.getMaxColumnNameLength();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public int getMaxColumnsInGroupBy() throws SQLException {
+        Invocation invocation = node.enter(GET_MAX_COLUMNS_IN_GROUP_BY);
+        try {
+            int result = delegate.getMaxColumnsInGroupBy();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public int getMaxColumnsInIndex() throws SQLException {
+        Invocation invocation = node.enter(GET_MAX_COLUMNS_IN_INDEX);
+        try {
+            int result = delegate.getMaxColumnsInIndex();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public int getMaxColumnsInOrderBy() throws SQLException {
+        Invocation invocation = node.enter(GET_MAX_COLUMNS_IN_ORDER_BY);
+        try {
+            int result = delegate.getMaxColumnsInOrderBy();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public int getMaxColumnsInSelect() throws SQLException {
+        Invocation invocation = node.enter(GET_MAX_COLUMNS_IN_SELECT);
+        try {
+            int result = delegate.getMaxColumnsInSelect();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public int getMaxColumnsInTable() throws SQLException {
+        Invocation invocation = node.enter(GET_MAX_COLUMNS_IN_TABLE);
+        try {
+            int result = delegate.getMaxColumnsInTable();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public int getMaxConnections() throws SQLException {
+        Invocation invocation = node.enter(GET_MAX_CONNECTIONS);
+        try {
+            int result = delegate.getMaxConnections();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public int getMaxCursorNameLength() throws SQLException {
+        Invocation invocation = node.enter(GET_MAX_CURSOR_NAME_LENGTH);
+        try {
+            int result = delegate.getMaxCursorNameLength();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public int getMaxIndexLength() throws SQLException {
+        Invocation invocation = node.enter(GET_MAX_INDEX_LENGTH);
+        try {
+            int result = delegate.getMaxIndexLength();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public long getMaxLogicalLobSize() throws SQLException {
+        Invocation invocation = node.enter(GET_MAX_LOGICAL_LOB_SIZE);
+        try {
+            long result = delegate.getMaxLogicalLobSize();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public int getMaxProcedureNameLength() throws SQLException {
+        Invocation invocation = node.enter(GET_MAX_PROCEDURE_NAME_LENGTH);
+        try {
+            int result = delegate.getMaxProcedureNameLength();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public int getMaxRowSize() throws SQLException {
+        Invocation invocation = node.enter(GET_MAX_ROW_SIZE);
+        try {
+            int result = delegate.getMaxRowSize();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public int getMaxSchemaNameLength() throws SQLException {
+        Invocation invocation = node.enter(GET_MAX_SCHEMA_NAME_LENGTH);
+        try {
+            int result = delegate.getMaxSchemaNameLength();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public int getMaxStatementLength() throws SQLException {
+        Invocation invocation = node.enter(GET_MAX_STATEMENT_LENGTH);
+        try {
+            int result = delegate.getMaxStatementLength();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public int getMaxStatements() throws SQLException {
+        Invocation invocation = node.enter(GET_MAX_STATEMENTS);
+        try {
+            int result = delegate.getMaxStatements();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public int getMaxTableNameLength() throws SQLException {
+        Invocation invocation = node.enter(GET_MAX_TABLE_NAME_LENGTH);
+        try {
+            int result = delegate.getMaxTableNameLength();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public int getMaxTablesInSelect() throws SQLException {
+        Invocation invocation = node.enter(GET_MAX_TABLES_IN_SELECT);
+        try {
+            int result = delegate.getMaxTablesInSelect();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public int getMaxUserNameLength() throws SQLException {
+        Invocation invocation = node.enter(GET_MAX_USER_NAME_LENGTH);
+        try {
+            int result = delegate.getMaxUserNameLength();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public String getNumericFunctions() throws SQLException {
+        Invocation invocation = node.enter(GET_NUMERIC_FUNCTIONS);
+        try {
+            String result = delegate.getNumericFunctions();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public ResultSet getPrimaryKeys(String arg0, String arg1, String arg2) throws SQLException {
+        Invocation invocation = node.enter(GET_PRIMARY_KEYS_STRING_STRING_STRING);
+        try {
+            ResultSet result = delegate.getPrimaryKeys(arg0, arg1, arg2);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2}, result);
+            }
+            return (ResultSet) invocation.wrap(result, arg0);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public ResultSet getProcedureColumns(String arg0, String arg1, String arg2, String arg3) throws SQLException {
+        Invocation invocation = node.enter(GET_PROCEDURE_COLUMNS_STRING_STRING_STRING_STRING);
+        try {
+            ResultSet result = delegate.getProcedureColumns(arg0, arg1, arg2, arg3);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2, arg3}, result);
+            }
+            return (ResultSet) invocation.wrap(result, arg0);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public String getProcedureTerm() throws SQLException {
+        Invocation invocation = node.enter(GET_PROCEDURE_TERM);
+        try {
+            String result = delegate.getProcedureTerm();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public ResultSet getProcedures(String arg0, String arg1, String arg2) throws SQLException {
+        Invocation invocation = node.enter(GET_PROCEDURES_STRING_STRING_STRING);
+        try {
+            ResultSet result = delegate.getProcedures(arg0, arg1, arg2);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2}, result);
+            }
+            return (ResultSet) invocation.wrap(result, arg0);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public ResultSet getPseudoColumns(String arg0, String arg1, String arg2, String arg3) throws SQLException {
+        Invocation invocation = node.enter(GET_PSEUDO_COLUMNS_STRING_STRING_STRING_STRING);
+        try {
+            ResultSet result = delegate.getPseudoColumns(arg0, arg1, arg2, arg3);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2, arg3}, result);
+            }
+            return (ResultSet) invocation.wrap(result, arg0);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public int getResultSetHoldability() throws SQLException {
+        Invocation invocation = node.enter(GET_RESULT_SET_HOLDABILITY);
+        try {
+            int result = delegate.getResultSetHoldability();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public RowIdLifetime getRowIdLifetime() throws SQLException {
+        Invocation invocation = node.enter(GET_ROW_ID_LIFETIME);
+        try {
+            RowIdLifetime result = delegate.getRowIdLifetime();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public String getSQLKeywords() throws SQLException {
+        Invocation invocation = node.enter(GET_SQLKEYWORDS);
+        try {
+            String result = delegate.getSQLKeywords();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public int getSQLStateType() throws SQLException {
+        Invocation invocation = node.enter(GET_SQLSTATE_TYPE);
+        try {
+            int result = delegate.getSQLStateType();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public String getSchemaTerm() throws SQLException {
+        Invocation invocation = node.enter(GET_SCHEMA_TERM);
+        try {
+            String result = delegate.getSchemaTerm();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public ResultSet getSchemas() throws SQLException {
+        Invocation invocation = node.enter(GET_SCHEMAS);
+        try {
+            ResultSet result = delegate.getSchemas();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return (ResultSet) invocation.wrap(result, null);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public ResultSet getSchemas(String arg0, String arg1) throws SQLException {
+        Invocation invocation = node.enter(GET_SCHEMAS_STRING_STRING);
+        try {
+            ResultSet result = delegate.getSchemas(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, result);
+            }
+            return (ResultSet) invocation.wrap(result, arg0);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public String getSearchStringEscape() throws SQLException {
+        Invocation invocation = node.enter(GET_SEARCH_STRING_ESCAPE);
+        try {
+            String result = delegate.getSearchStringEscape();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public String getStringFunctions() throws SQLException {
+        Invocation invocation = node.enter(GET_STRING_FUNCTIONS);
+        try {
+            String result = delegate.getStringFunctions();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public ResultSet getSuperTables(String arg0, String arg1, String arg2) throws SQLException {
+        Invocation invocation = node.enter(GET_SUPER_TABLES_STRING_STRING_STRING);
+        try {
+            ResultSet result = delegate.getSuperTables(arg0, arg1, arg2);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2}, result);
+            }
+            return (ResultSet) invocation.wrap(result, arg0);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public ResultSet getSuperTypes(String arg0, String arg1, String arg2) throws SQLException {
+        Invocation invocation = node.enter(GET_SUPER_TYPES_STRING_STRING_STRING);
+        try {
+            ResultSet result = delegate.getSuperTypes(arg0, arg1, arg2);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2}, result);
+            }
+            return (ResultSet) invocation.wrap(result, arg0);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public String getSystemFunctions() throws SQLException {
+        Invocation invocation = node.enter(GET_SYSTEM_FUNCTIONS);
+        try {
+            String result = delegate.getSystemFunctions();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public ResultSet getTablePrivileges(String arg0, String arg1, String arg2) throws SQLException {
+        Invocation invocation = node.enter(GET_TABLE_PRIVILEGES_STRING_STRING_STRING);
+        try {
+            ResultSet result = delegate.getTablePrivileges(arg0, arg1, arg2);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2}, result);
+            }
+            return (ResultSet) invocation.wrap(result, arg0);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public ResultSet getTableTypes() throws SQLException {
+        Invocation invocation = node.enter(GET_TABLE_TYPES);
+        try {
+            ResultSet result = delegate.getTableTypes();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return (ResultSet) invocation.wrap(result, null);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public ResultSet getTables(String arg0, String arg1, String arg2, String[] arg3) throws SQLException {
+        Invocation invocation = node.enter(GET_TABLES_STRING_STRING_STRING_STRING_ARRAY);
+        try {
+            ResultSet result = delegate.getTables(arg0, arg1, arg2, arg3);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2, arg3}, result);
+            }
+            return (ResultSet) invocation.wrap(result, arg0);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public String getTimeDateFunctions() throws SQLException {
+        Invocation invocation = node.enter(GET_TIME_DATE_FUNCTIONS);
+        try {
+            String result = delegate.getTimeDateFunctions();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public ResultSet getTypeInfo() throws SQLException {
+        Invocation invocation = node.enter(GET_TYPE_INFO);
+        try {
+            ResultSet result = delegate.getTypeInfo();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return (ResultSet) invocation.wrap(result, null);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public ResultSet getUDTs(String arg0, String arg1, String arg2, int[] arg3) throws SQLException {
+        Invocation invocation = node.enter(GET_UDTS_STRING_STRING_STRING_INT_ARRAY);
+        try {
+            ResultSet result = delegate.getUDTs(arg0, arg1, arg2, arg3);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2, arg3}, result);
+            }
+            return (ResultSet) invocation.wrap(result, arg0);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public String getURL() throws SQLException {
+        Invocation invocation = node.enter(GET_URL);
+        try {
+            String result = delegate.getURL();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public String getUserName() throws SQLException {
+        Invocation invocation = node.enter(GET_USER_NAME);
+        try {
+            String result = delegate.getUserName();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public ResultSet getVersionColumns(String arg0, String arg1, String arg2) throws SQLException {
+        Invocation invocation = node.enter(GET_VERSION_COLUMNS_STRING_STRING_STRING);
+        try {
+            ResultSet result = delegate.getVersionColumns(arg0, arg1, arg2);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2}, result);
+            }
+            return (ResultSet) invocation.wrap(result, arg0);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean insertsAreDetected(int arg0) throws SQLException {
+        Invocation invocation = node.enter(INSERTS_ARE_DETECTED_INT);
+        try {
+            boolean result = delegate.insertsAreDetected(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean isCatalogAtStart() throws SQLException {
+        Invocation invocation = node.enter(IS_CATALOG_AT_START);
+        try {
+            boolean result = delegate.isCatalogAtStart();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean isReadOnly() throws SQLException {
+        Invocation invocation = node.enter(IS_READ_ONLY);
+        try {
+            boolean result = delegate.isReadOnly();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> arg0) throws SQLException {
+        Invocation invocation = node.enter(IS_WRAPPER_FOR_CLASS);
+        try {
+            boolean result = delegate.isWrapperFor(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean locatorsUpdateCopy() throws SQLException {
+        Invocation invocation = node.enter(LOCATORS_UPDATE_COPY);
+        try {
+            boolean result = delegate.locatorsUpdateCopy();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean nullPlusNonNullIsNull() throws SQLException {
+        Invocation invocation = node.enter(NULL_PLUS_NON_NULL_IS_NULL);
+        try {
+            boolean result = delegate.nullPlusNonNullIsNull();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean nullsAreSortedAtEnd() throws SQLException {
+        Invocation invocation = node.enter(NULLS_ARE_SORTED_AT_END);
+        try {
+            boolean result = delegate.nullsAreSortedAtEnd();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean nullsAreSortedAtStart() throws SQLException {
+        Invocation invocation = node.enter(NULLS_ARE_SORTED_AT_START);
+        try {
+            boolean result = delegate.nullsAreSortedAtStart();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean nullsAreSortedHigh() throws SQLException {
+        Invocation invocation = node.enter(NULLS_ARE_SORTED_HIGH);
+        try {
+            boolean result = delegate.nullsAreSortedHigh();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean nullsAreSortedLow() throws SQLException {
+        Invocation invocation = node.enter(NULLS_ARE_SORTED_LOW);
+        try {
+            boolean result = delegate.nullsAreSortedLow();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean othersDeletesAreVisible(int arg0) throws SQLException {
+        Invocation invocation = node.enter(OTHERS_DELETES_ARE_VISIBLE_INT);
+        try {
+            boolean result = delegate.othersDeletesAreVisible(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean othersInsertsAreVisible(int arg0) throws SQLException {
+        Invocation invocation = node.enter(OTHERS_INSERTS_ARE_VISIBLE_INT);
+        try {
+            boolean result = delegate.othersInsertsAreVisible(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean othersUpdatesAreVisible(int arg0) throws SQLException {
+        Invocation invocation = node.enter(OTHERS_UPDATES_ARE_VISIBLE_INT);
+        try {
+            boolean result = delegate.othersUpdatesAreVisible(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean ownDeletesAreVisible(int arg0) throws SQLException {
+        Invocation invocation = node.enter(OWN_DELETES_ARE_VISIBLE_INT);
+        try {
+            boolean result = delegate.ownDeletesAreVisible(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean ownInsertsAreVisible(int arg0) throws SQLException {
+        Invocation invocation = node.enter(OWN_INSERTS_ARE_VISIBLE_INT);
+        try {
+            boolean result = delegate.ownInsertsAreVisible(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean ownUpdatesAreVisible(int arg0) throws SQLException {
+        Invocation invocation = node.enter(OWN_UPDATES_ARE_VISIBLE_INT);
+        try {
+            boolean result = delegate.ownUpdatesAreVisible(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean storesLowerCaseIdentifiers() throws SQLException {
+        Invocation invocation = node.enter(STORES_LOWER_CASE_IDENTIFIERS);
+        try {
+            boolean result = delegate.storesLowerCaseIdentifiers();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean storesLowerCaseQuotedIdentifiers() throws SQLException {
+        Invocation invocation = node.enter(STORES_LOWER_CASE_QUOTED_IDENTIFIERS);
+        try {
+            boolean result = delegate.storesLowerCaseQuotedIdentifiers();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean storesMixedCaseIdentifiers() throws SQLException {
+        Invocation invocation = node.enter(STORES_MIXED_CASE_IDENTIFIERS);
+        try {
+            boolean result = delegate.storesMixedCaseIdentifiers();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean storesMixedCaseQuotedIdentifiers() throws SQLException {
+        Invocation invocation = node.enter(STORES_MIXED_CASE_QUOTED_IDENTIFIERS);
+        try {
+            boolean result = delegate.storesMixedCaseQuotedIdentifiers();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean storesUpperCaseIdentifiers() throws SQLException {
+        Invocation invocation = node.enter(STORES_UPPER_CASE_IDENTIFIERS);
+        try {
+            boolean result = delegate.storesUpperCaseIdentifiers();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean storesUpperCaseQuotedIdentifiers() throws SQLException {
+        Invocation invocation = node.enter(STORES_UPPER_CASE_QUOTED_IDENTIFIERS);
+        try {
+            boolean result = delegate.storesUpperCaseQuotedIdentifiers();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean supportsANSI92EntryLevelSQL() throws SQLException {
+        Invocation invocation = node.enter(SUPPORTS_ANSI92_ENTRY_LEVEL_SQL);
+        try {
+            boolean result = delegate.supportsANSI92EntryLevelSQL();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean supportsANSI92FullSQL() throws SQLException {
+        Invocation invocation = node.enter(SUPPORTS_ANSI92_FULL_SQL);
+        try {
+            boolean result = delegate.supportsANSI92FullSQL();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean supportsANSI92IntermediateSQL() throws SQLException {
+        Invocation invocation = node.enter(SUPPORTS_ANSI92_INTERMEDIATE_SQL);
+        try {
+            boolean result = delegate.supportsANSI92IntermediateSQL();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean supportsAlterTableWithAddColumn() throws SQLException {
+        Invocation invocation = node.enter(SUPPORTS_ALTER_TABLE_WITH_ADD_COLUMN);
+        try {
+            boolean result = delegate.supportsAlterTableWithAddColumn();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean supportsAlterTableWithDropColumn() throws SQLException {
+        Invocation invocation = node.enter(SUPPORTS_ALTER_TABLE_WITH_DROP_COLUMN);
+        try {
+            boolean result = delegate.supportsAlterTableWithDropColumn();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean supportsBatchUpdates() throws SQLException {
+        Invocation invocation = node.enter(SUPPORTS_BATCH_UPDATES);
+        try {
+            boolean result = delegate.supportsBatchUpdates();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean supportsCatalogsInDataManipulation() throws SQLException {
+        Invocation invocation = node.enter(SUPPORTS_CATALOGS_IN_DATA_MANIPULATION);
+        try {
+            boolean result = delegate.supportsCatalogsInDataManipulation();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean supportsCatalogsInIndexDefinitions() throws SQLException {
+        Invocation invocation = node.enter(SUPPORTS_CATALOGS_IN_INDEX_DEFINITIONS);
+        try {
+            boolean result = delegate.supportsCatalogsInIndexDefinitions();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean supportsCatalogsInPrivilegeDefinitions() throws SQLException {
+        Invocation invocation = node.enter(SUPPORTS_CATALOGS_IN_PRIVILEGE_DEFINITIONS);
+        try {
+            boolean result = delegate.supportsCatalogsInPrivilegeDefinitions();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean supportsCatalogsInProcedureCalls() throws SQLException {
+        Invocation invocation = node.enter(SUPPORTS_CATALOGS_IN_PROCEDURE_CALLS);
+        try {
+            boolean result = delegate.supportsCatalogsInProcedureCalls();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean supportsCatalogsInTableDefinitions() throws SQLException {
+        Invocation invocation = node.enter(SUPPORTS_CATALOGS_IN_TABLE_DEFINITIONS);
+        try {
+            boolean result = delegate.supportsCatalogsInTableDefinitions();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean supportsColumnAliasing() throws SQLException {
+        Invocation invocation = node.enter(SUPPORTS_COLUMN_ALIASING);
+        try {
+            boolean result = delegate.supportsColumnAliasing();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean supportsConvert() throws SQLException {
+        Invocation invocation = node.enter(SUPPORTS_CONVERT);
+        try {
+            boolean result = delegate.supportsConvert();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean supportsConvert(int arg0, int arg1) throws SQLException {
+        Invocation invocation = node.enter(SUPPORTS_CONVERT_INT_INT);
+        try {
+            boolean result = delegate.supportsConvert(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean supportsCoreSQLGrammar() throws SQLException {
+        Invocation invocation = node.enter(SUPPORTS_CORE_SQLGRAMMAR);
+        try {
+            boolean result = delegate.supportsCoreSQLGrammar();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean supportsCorrelatedSubqueries() throws SQLException {
+        Invocation invocation = node.enter(SUPPORTS_CORRELATED_SUBQUERIES);
+        try {
+            boolean result = delegate.supportsCorrelatedSubqueries();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean supportsDataDefinitionAndDataManipulationTransactions() throws SQLException {
+        Invocation invocation = node.enter(SUPPORTS_DATA_DEFINITION_AND_DATA_MANIPULATION_TRANSACTIONS);
+        try {
+            boolean result = delegate.supportsDataDefinitionAndDataManipulationTransactions();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean supportsDataManipulationTransactionsOnly() throws SQLException {
+        Invocation invocation = node.enter(SUPPORTS_DATA_MANIPULATION_TRANSACTIONS_ONLY);
+        try {
+            boolean result = delegate.supportsDataManipulationTransactionsOnly();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean supportsDifferentTableCorrelationNames() throws SQLException {
+        Invocation invocation = node.enter(SUPPORTS_DIFFERENT_TABLE_CORRELATION_NAMES);
+        try {
+            boolean result = delegate.supportsDifferentTableCorrelationNames();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean supportsExpressionsInOrderBy() throws SQLException {
+        Invocation invocation = node.enter(SUPPORTS_EXPRESSIONS_IN_ORDER_BY);
+        try {
+            boolean result = delegate.supportsExpressionsInOrderBy();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean supportsExtendedSQLGrammar() throws SQLException {
+        Invocation invocation = node.enter(SUPPORTS_EXTENDED_SQLGRAMMAR);
+        try {
+            boolean result = delegate.supportsExtendedSQLGrammar();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean supportsFullOuterJoins() throws SQLException {
+        Invocation invocation = node.enter(SUPPORTS_FULL_OUTER_JOINS);
+        try {
+            boolean result = delegate.supportsFullOuterJoins();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean supportsGetGeneratedKeys() throws SQLException {
+        Invocation invocation = node.enter(SUPPORTS_GET_GENERATED_KEYS);
+        try {
+            boolean result = delegate.supportsGetGeneratedKeys();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean supportsGroupBy() throws SQLException {
+        Invocation invocation = node.enter(SUPPORTS_GROUP_BY);
+        try {
+            boolean result = delegate.supportsGroupBy();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean supportsGroupByBeyondSelect() throws SQLException {
+        Invocation invocation = node.enter(SUPPORTS_GROUP_BY_BEYOND_SELECT);
+        try {
+            boolean result = delegate.supportsGroupByBeyondSelect();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean supportsGroupByUnrelated() throws SQLException {
+        Invocation invocation = node.enter(SUPPORTS_GROUP_BY_UNRELATED);
+        try {
+            boolean result = delegate.supportsGroupByUnrelated();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean supportsIntegrityEnhancementFacility() throws SQLException {
+        Invocation invocation = node.enter(SUPPORTS_INTEGRITY_ENHANCEMENT_FACILITY);
+        try {
+            boolean result = delegate.supportsIntegrityEnhancementFacility();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean supportsLikeEscapeClause() throws SQLException {
+        Invocation invocation = node.enter(SUPPORTS_LIKE_ESCAPE_CLAUSE);
+        try {
+            boolean result = delegate.supportsLikeEscapeClause();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean supportsLimitedOuterJoins() throws SQLException {
+        Invocation invocation = node.enter(SUPPORTS_LIMITED_OUTER_JOINS);
+        try {
+            boolean result = delegate.supportsLimitedOuterJoins();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean supportsMinimumSQLGrammar() throws SQLException {
+        Invocation invocation = node.enter(SUPPORTS_MINIMUM_SQLGRAMMAR);
+        try {
+            boolean result = delegate.supportsMinimumSQLGrammar();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean supportsMixedCaseIdentifiers() throws SQLException {
+        Invocation invocation = node.enter(SUPPORTS_MIXED_CASE_IDENTIFIERS);
+        try {
+            boolean result = delegate.supportsMixedCaseIdentifiers();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean supportsMixedCaseQuotedIdentifiers() throws SQLException {
+        Invocation invocation = node.enter(SUPPORTS_MIXED_CASE_QUOTED_IDENTIFIERS);
+        try {
+            boolean result = delegate.supportsMixedCaseQuotedIdentifiers();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean supportsMultipleOpenResults() throws SQLException {
+        Invocation invocation = node.enter(SUPPORTS_MULTIPLE_OPEN_RESULTS);
+        try {
+            boolean result = delegate.supportsMultipleOpenResults();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean supportsMultipleResultSets() throws SQLException {
+        Invocation invocation = node.enter(SUPPORTS_MULTIPLE_RESULT_SETS);
+        try {
+            boolean result = delegate.supportsMultipleResultSets();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean supportsMultipleTransactions() throws SQLException {
+        Invocation invocation = node.enter(SUPPORTS_MULTIPLE_TRANSACTIONS);
+        try {
+            boolean result = delegate.supportsMultipleTransactions();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean supportsNamedParameters() throws SQLException {
+        Invocation invocation = node.enter(SUPPORTS_NAMED_PARAMETERS);
+        try {
+            boolean result = delegate.supportsNamedParameters();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean supportsNonNullableColumns() throws SQLException {
+        Invocation invocation = node.enter(SUPPORTS_NON_NULLABLE_COLUMNS);
+        try {
+            boolean result = delegate.supportsNonNullableColumns();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean supportsOpenCursorsAcrossCommit() throws SQLException {
+        Invocation invocation = node.enter(SUPPORTS_OPEN_CURSORS_ACROSS_COMMIT);
+        try {
+            boolean result = delegate.supportsOpenCursorsAcrossCommit();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean supportsOpenCursorsAcrossRollback() throws SQLException {
+        Invocation invocation = node.enter(SUPPORTS_OPEN_CURSORS_ACROSS_ROLLBACK);
+        try {
+            boolean result = delegate.supportsOpenCursorsAcrossRollback();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean supportsOpenStatementsAcrossCommit() throws SQLException {
+        Invocation invocation = node.enter(SUPPORTS_OPEN_STATEMENTS_ACROSS_COMMIT);
+        try {
+            boolean result = delegate.supportsOpenStatementsAcrossCommit();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean supportsOpenStatementsAcrossRollback() throws SQLException {
+        Invocation invocation = node.enter(SUPPORTS_OPEN_STATEMENTS_ACROSS_ROLLBACK);
+        try {
+            boolean result = delegate.supportsOpenStatementsAcrossRollback();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean supportsOrderByUnrelated() throws SQLException {
+        Invocation invocation = node.enter(SUPPORTS_ORDER_BY_UNRELATED);
+        try {
+            boolean result = delegate.supportsOrderByUnrelated();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean supportsOuterJoins() throws SQLException {
+        Invocation invocation = node.enter(SUPPORTS_OUTER_JOINS);
+        try {
+            boolean result = delegate.supportsOuterJoins();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean supportsPositionedDelete() throws SQLException {
+        Invocation invocation = node.enter(SUPPORTS_POSITIONED_DELETE);
+        try {
+            boolean result = delegate.supportsPositionedDelete();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean supportsPositionedUpdate() throws SQLException {
+        Invocation invocation = node.enter(SUPPORTS_POSITIONED_UPDATE);
+        try {
+            boolean result = delegate.supportsPositionedUpdate();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean supportsRefCursors() throws SQLException {
+        Invocation invocation = node.enter(SUPPORTS_REF_CURSORS);
+        try {
+            boolean result = delegate.supportsRefCursors();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean supportsResultSetConcurrency(int arg0, int arg1) throws SQLException {
+        Invocation invocation = node.enter(SUPPORTS_RESULT_SET_CONCURRENCY_INT_INT);
+        try {
+            boolean result = delegate.supportsResultSetConcurrency(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean supportsResultSetHoldability(int arg0) throws SQLException {
+        Invocation invocation = node.enter(SUPPORTS_RESULT_SET_HOLDABILITY_INT);
+        try {
+            boolean result = delegate.supportsResultSetHoldability(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean supportsResultSetType(int arg0) throws SQLException {
+        Invocation invocation = node.enter(SUPPORTS_RESULT_SET_TYPE_INT);
+        try {
+            boolean result = delegate.supportsResultSetType(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean supportsSavepoints() throws SQLException {
+        Invocation invocation = node.enter(SUPPORTS_SAVEPOINTS);
+        try {
+            boolean result = delegate.supportsSavepoints();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean supportsSchemasInDataManipulation() throws SQLException {
+        Invocation invocation = node.enter(SUPPORTS_SCHEMAS_IN_DATA_MANIPULATION);
+        try {
+            boolean result = delegate.supportsSchemasInDataManipulation();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean supportsSchemasInIndexDefinitions() throws SQLException {
+        Invocation invocation = node.enter(SUPPORTS_SCHEMAS_IN_INDEX_DEFINITIONS);
+        try {
+            boolean result = delegate.supportsSchemasInIndexDefinitions();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean supportsSchemasInPrivilegeDefinitions() throws SQLException {
+        Invocation invocation = node.enter(SUPPORTS_SCHEMAS_IN_PRIVILEGE_DEFINITIONS);
+        try {
+            boolean result = delegate.supportsSchemasInPrivilegeDefinitions();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean supportsSchemasInProcedureCalls() throws SQLException {
+        Invocation invocation = node.enter(SUPPORTS_SCHEMAS_IN_PROCEDURE_CALLS);
+        try {
+            boolean result = delegate.supportsSchemasInProcedureCalls();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean supportsSchemasInTableDefinitions() throws SQLException {
+        Invocation invocation = node.enter(SUPPORTS_SCHEMAS_IN_TABLE_DEFINITIONS);
+        try {
+            boolean result = delegate.supportsSchemasInTableDefinitions();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean supportsSelectForUpdate() throws SQLException {
+        Invocation invocation = node.enter(SUPPORTS_SELECT_FOR_UPDATE);
+        try {
+            boolean result = delegate.supportsSelectForUpdate();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean supportsSharding() throws SQLException {
+        Invocation invocation = node.enter(SUPPORTS_SHARDING);
+        try {
+            boolean result = delegate.supportsSharding();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean supportsStatementPooling() throws SQLException {
+        Invocation invocation = node.enter(SUPPORTS_STATEMENT_POOLING);
+        try {
+            boolean result = delegate.supportsStatementPooling();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean supportsStoredFunctionsUsingCallSyntax() throws SQLException {
+        Invocation invocation = node.enter(SUPPORTS_STORED_FUNCTIONS_USING_CALL_SYNTAX);
+        try {
+            boolean result = delegate.supportsStoredFunctionsUsingCallSyntax();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean supportsStoredProcedures() throws SQLException {
+        Invocation invocation = node.enter(SUPPORTS_STORED_PROCEDURES);
+        try {
+            boolean result = delegate.supportsStoredProcedures();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean supportsSubqueriesInComparisons() throws SQLException {
+        Invocation invocation = node.enter(SUPPORTS_SUBQUERIES_IN_COMPARISONS);
+        try {
+            boolean result = delegate.supportsSubqueriesInComparisons();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean supportsSubqueriesInExists() throws SQLException {
+        Invocation invocation = node.enter(SUPPORTS_SUBQUERIES_IN_EXISTS);
+        try {
+            boolean result = delegate.supportsSubqueriesInExists();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean supportsSubqueriesInIns() throws SQLException {
+        Invocation invocation = node.enter(SUPPORTS_SUBQUERIES_IN_INS);
+        try {
+            boolean result = delegate.supportsSubqueriesInIns();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean supportsSubqueriesInQuantifieds() throws SQLException {
+        Invocation invocation = node.enter(SUPPORTS_SUBQUERIES_IN_QUANTIFIEDS);
+        try {
+            boolean result = delegate.supportsSubqueriesInQuantifieds();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean supportsTableCorrelationNames() throws SQLException {
+        Invocation invocation = node.enter(SUPPORTS_TABLE_CORRELATION_NAMES);
+        try {
+            boolean result = delegate.supportsTableCorrelationNames();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean supportsTransactionIsolationLevel(int arg0) throws SQLException {
+        Invocation invocation = node.enter(SUPPORTS_TRANSACTION_ISOLATION_LEVEL_INT);
+        try {
+            boolean result = delegate.supportsTransactionIsolationLevel(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean supportsTransactions() throws SQLException {
+        Invocation invocation = node.enter(SUPPORTS_TRANSACTIONS);
+        try {
+            boolean result = delegate.supportsTransactions();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean supportsUnion() throws SQLException {
+        Invocation invocation = node.enter(SUPPORTS_UNION);
+        try {
+            boolean result = delegate.supportsUnion();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean supportsUnionAll() throws SQLException {
+        Invocation invocation = node.enter(SUPPORTS_UNION_ALL);
+        try {
+            boolean result = delegate.supportsUnionAll();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> arg0) throws SQLException {
+        Invocation invocation = node.enter(UNWRAP_CLASS);
+        try {
+            T result = delegate.unwrap(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean updatesAreDetected(int arg0) throws SQLException {
+        Invocation invocation = node.enter(UPDATES_ARE_DETECTED_INT);
+        try {
+            boolean result = delegate.updatesAreDetected(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean usesLocalFilePerTable() throws SQLException {
+        Invocation invocation = node.enter(USES_LOCAL_FILE_PER_TABLE);
+        try {
+            boolean result = delegate.usesLocalFilePerTable();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean usesLocalFiles() throws SQLException {
+        Invocation invocation = node.enter(USES_LOCAL_FILES);
+        try {
+            boolean result = delegate.usesLocalFiles();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return delegate.toString();
+    }
+}
@@ -0,0 +1,94 @@
+package insight;
+
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.sql.Driver;
+import java.sql.SQLException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Delegate drivers loaded from a {@code jdbcpath} jar, one class loader and driver instance per (jdbcpath,
+ * jdbcclass). Simultaneous connects for the same key wait for a single load; a failed load is not cached, so the next
+ * connect tries again.
+ */
+public class DriverCache {
+    private record Key(String path, String className) {
+    }
+
+    private final ConcurrentMap<Key, FutureTask<Driver>> drivers = new ConcurrentHashMap<>();
+    private final AtomicInteger classLoaders = new AtomicInteger();
+    private final ClassLoader parent;
+
+    public DriverCache(ClassLoader parent) {
+        this.parent = parent;
+    }
+
+    public Driver get(String path, String className) throws SQLException {
+        Key key = new Key(path, className);
+        FutureTask<Driver> task = drivers.get(key);
+        if (task == null) {
+            FutureTask<Driver> created = new FutureTask<>(() -> load(path, className));
+            task = drivers.putIfAbsent(key, created);
+            if (task == null) {
+                task = created;
+                created.run();
+            }
+        }
+        try {
+            return task.get();
+        } catch (ExecutionException e) {
+            drivers.remove(key, task);
+            if (e.getCause() instanceof SQLException sqlException) {
+                throw sqlException;
+            }
+            throw new SQLException("JDBC Insight failed to instantiate " + className, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("JDBC Insight was interrupted while loading " + className, e);
+        }
+    }
+
+    /**
+     * Forgets the driver loaded for the key, so the next connect loads the jar again. Connections already open keep
+     * using the old driver; its class loader is released once they are gone.
+     */
+    public void invalidate(String path, String className) {
+        drivers.remove(new Key(path, className));
+    }
+
+    public void invalidateAll() {
+        drivers.clear();
+    }
+
+    int classLoaderCount() {
+        return classLoaders.get();
+    }
+
+    private Driver load(String path, String className) throws SQLException {
+        URLClassLoader classLoader;
+        try {
+            classLoader = new URLClassLoader(new URL[]{new URL("file:" + path)}, parent);
+        } catch (MalformedURLException e) {
+            throw new SQLException("JDBC Insight failed to load delegate driver at " + path, e);
+        }
+        classLoaders.incrementAndGet();
+        try {
+            return (Driver) Class.forName(className, true, classLoader).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | ClassCastException | LinkageError e) {
+            SQLException failure = new SQLException("JDBC Insight failed to instantiate " + className, e);
+            try {
+                // the failed load is not cached, so a retry opens the jar again
+                classLoader.close();
+            } catch (IOException closeFailure) {
+                failure.addSuppressed(closeFailure);
+            }
+            throw failure;
+        }
+    }
+}
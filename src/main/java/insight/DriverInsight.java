@@ -7,33 +7,41 @@ import io.opentelemetry.api.trace.Tracer;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.context.Scope;
 
-import java.lang.reflect.Proxy;
-import java.net.*;
 import java.sql.*;
-import java.util.Map;
+import java.util.List;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.logging.Logger;
 
-import static insight.ConfigParser.JDBC_CLASS;
-import static insight.ConfigParser.JDBC_PATH;
-
 public class DriverInsight implements Driver {
     private static final String URL_PREFIX = "jdbc:insight:";
+    private static final Logger LOGGER = Logger.getLogger(DriverInsight.class.getName());
 
     private final OtelFactory otelFactory;
-    private Tracer tracer;
+    private final DriverCache drivers = new DriverCache(getClass().getClassLoader());
+    private final ConfigCache configs = new ConfigCache();
 
     public DriverInsight() {
-        this.otelFactory = new OtelFactory();
+        this(OtelFactory.getInstance());
     }
 
     public DriverInsight(OtelFactory otelFactory) {
         this.otelFactory = otelFactory;
     }
 
-    private void init(OtelFactory otelFactory) {
-        this.tracer = otelFactory.initTracer("DriverInsight");
+    /**
+     * Forgets the delegate driver loaded from the given jar, so the next connect loads it again.
+     */
+    public void invalidateDriver(String jdbcPath, String jdbcClass) {
+        drivers.invalidate(jdbcPath, jdbcClass);
+    }
+
+    /**
+     * Forgets all loaded delegate drivers and parsed configurations.
+     */
+    public void invalidateCaches() {
+        drivers.invalidateAll();
+        configs.invalidateAll();
     }
 
     @Override
@@ -41,21 +49,31 @@ public class DriverInsight implements Driver {
         if (!acceptsURL(url)) {
             return null;
         }
-        init(otelFactory);
+        String targetUrl = removeUrlPrefix(url);
+        InsightConfig config = parseConfig(properties, targetUrl);
+        if (!config.tracing() || !config.sampler().sampleConnection()) {
+            Driver driver = loadDriver(config.jdbcPath(), config.jdbcClass(), targetUrl);
+            return wrap(driverConnect(driver, targetUrl, properties, config),
+                    config.backend().tracer(otelFactory, "Connection"), Context.root(), config, false);
+        }
+        return config.backend().connect(this, url, targetUrl, properties, config);
+    }
+
+    /**
+     * Connects for the {@link Backend#OTEL} backend, under a {@code connect} span.
+     */
+    Connection traceConnect(String url, String targetUrl, Properties properties, InsightConfig config)
+            throws SQLException {
+        Tracer tracer = otelFactory.initTracer("DriverInsight");
         Span insightConnectSpan = tracer.spanBuilder("connect").startSpan();
         Driver driver;
-        String targetUrl;
         Context context;
         try (Scope insightConnectScope = insightConnectSpan.makeCurrent()) {
             context = Context.current();
-            targetUrl = removeUrlPrefix(url);
-            Map<String, String> parsedProps = ConfigParser.parse(properties, targetUrl);
             insightConnectSpan.setAttribute("properties", properties.toString());
             insightConnectSpan.setAttribute("url", url);
-            insightConnectSpan.setAttribute("recognized properties", parsedProps.toString());
-            String jdbcPath = parsedProps.get(JDBC_PATH);
-            String mainClass = parsedProps.get(JDBC_CLASS);
-            driver = loadDriver(jdbcPath, mainClass, targetUrl);
+            insightConnectSpan.setAttribute("recognized properties", config.properties().toString());
+            driver = loadDriver(config.jdbcPath(), config.jdbcClass(), targetUrl);
         } catch (Exception e) {
             insightConnectSpan.recordException(e, Attributes.of(AttributeKey.booleanKey("exception.escaped"), true));
             insightConnectSpan.setAttribute(AttributeKey.booleanKey("error"), true);
@@ -69,7 +87,8 @@ public class DriverInsight implements Driver {
             Tracer connTracer = otelFactory.initTracer("Connection");
             Span connSpan = connTracer.spanBuilder(targetUrl).startSpan();
             try (Scope connScope = connSpan.makeCurrent()) {
-                return wrapWithProxy(driver.connect(targetUrl, properties), connTracer, Context.current(), otelFactory);
+                return wrap(driverConnect(driver, targetUrl, properties, config), connTracer, Context.current(),
+                        config, true);
             } finally {
                 connSpan.end();
             }
@@ -82,16 +101,55 @@ public class DriverInsight implements Driver {
         }
     }
 
-    private Driver loadDriver(String jdbcPath, String mainClass, String targetUrl) throws SQLException {
-        if (Objects.nonNull(jdbcPath) && Objects.nonNull(mainClass)) {
-            try {
-                URLClassLoader classLoader = new URLClassLoader(new URL[]{new URL("file:" + jdbcPath)}, this.getClass().getClassLoader());
-                return (Driver) Class.forName(mainClass, true, classLoader).newInstance();
-            } catch (MalformedURLException e) {
-                throw new SQLException("JDBC Insight failed to load delegate driver at " + jdbcPath, e);
-            } catch (ClassNotFoundException | InstantiationException | IllegalAccessException e) {
-                throw new SQLException("JDBC Insight failed to instantiate " + mainClass, e);
+    Connection driverConnect(Driver driver, String targetUrl, Properties properties, InsightConfig config)
+            throws SQLException {
+        if (!config.metrics()) {
+            return driver.connect(targetUrl, properties);
+        }
+        DriverMetrics metrics = otelFactory.driverMetrics();
+        long start = System.nanoTime();
+        try {
+            Connection conn = driver.connect(targetUrl, properties);
+            metrics.connected(System.nanoTime() - start);
+            return conn;
+        } catch (SQLException | RuntimeException e) {
+            metrics.failed(e);
+            throw e;
+        }
+    }
+
+    private InsightConfig parseConfig(Properties properties, String targetUrl) throws SQLException {
+        InsightConfig cached = configs.get(properties, targetUrl);
+        if (cached != null) {
+            return cached;
+        }
+        try {
+            InsightConfig config = InsightConfig.parse(properties, targetUrl);
+            if (!otelFactory.configure(config.export())) {
+                warnIgnored(config.export());
             }
+            configs.put(properties, targetUrl, config);
+            return config;
+        } catch (IllegalArgumentException e) {
+            throw new SQLException("JDBC Insight configuration is invalid: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Warns about export settings of a connection that come too late: the pipeline keeps those of the connection that
+     * built it.
+     */
+    private void warnIgnored(ExportConfig export) {
+        List<String> ignored = export.differences(otelFactory.exportConfig());
+        if (!ignored.isEmpty()) {
+            LOGGER.warning("Export settings " + String.join(", ", ignored) + " of this connection are ignored:"
+                    + " the export pipeline was set up by an earlier connection");
+        }
+    }
+
+    Driver loadDriver(String jdbcPath, String mainClass, String targetUrl) throws SQLException {
+        if (Objects.nonNull(jdbcPath) && Objects.nonNull(mainClass)) {
+            return drivers.get(jdbcPath, mainClass);
         }
         try {
             return DriverManager.getDriver(targetUrl);
@@ -100,13 +158,50 @@ public class DriverInsight implements Driver {
         }
     }
 
-    private Connection wrapWithProxy(Connection conn, Tracer tracer, Context parentContext, OtelFactory otelFactory) {
-        Connection proxy = (Connection) Proxy.newProxyInstance(
-                conn.getClass().getClassLoader(),
-                conn.getClass().getInterfaces(),
-                new GenericInvocationHandler(conn, tracer, parentContext, otelFactory)
-        );
-        return proxy;
+    int classLoaderCount() {
+        return drivers.classLoaderCount();
+    }
+
+    int cachedConfigCount() {
+        return configs.size();
+    }
+
+    Connection wrap(Connection conn, Tracer tracer, Context parentContext, InsightConfig config,
+                            boolean sampled) throws SQLException {
+        if (Objects.isNull(conn)) {
+            return null;
+        }
+        ConnectionState connection = new ConnectionState(otelFactory, config);
+        if (sampled && config.transactions() && config.backend() == Backend.OTEL) {
+            connection.trackTransactions(new TransactionTracker(otelFactory.initTracer("Transaction"), parentContext,
+                    autoCommit(conn)));
+        }
+        if (sampled && config.nPlusOne().enabled() && config.backend() == Backend.OTEL) {
+            connection.detectNPlusOne(new NPlusOneDetector(otelFactory.queryStats(), config.nPlusOne()));
+        }
+        TraceNode node = new TraceNode(tracer, parentContext, connection, sampled);
+        node.handle = new ResourceHandle(connection.metrics(), DriverMetrics.ResourceKind.CONNECTION, null, null);
+        Connection wrapper = (Connection) config.wrapper().wrap(conn, Connection.class, node);
+        if (connection.leaks() != null) {
+            node.leak = connection.leaks().track(wrapper, DriverMetrics.ResourceKind.CONNECTION, node, null, null);
+        }
+        return wrapper;
+    }
+
+    /**
+     * Auto-commit mode the driver opened the connection in, closing the connection if the driver cannot tell.
+     */
+    private static boolean autoCommit(Connection conn) throws SQLException {
+        try {
+            return conn.getAutoCommit();
+        } catch (SQLException | RuntimeException e) {
+            try {
+                conn.close();
+            } catch (SQLException closeFailure) {
+                e.addSuppressed(closeFailure);
+            }
+            throw e;
+        }
     }
 
 
@@ -0,0 +1,237 @@
+package insight;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.metrics.data.HistogramPointData;
+import io.opentelemetry.sdk.metrics.data.LongPointData;
+import io.opentelemetry.sdk.metrics.data.MetricData;
+import io.opentelemetry.sdk.metrics.export.MetricProducer;
+import io.opentelemetry.sdk.resources.Resource;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Process-wide connection and statement activity. Recording only touches striped adders; metric data is built from
+ * them when a reader collects.
+ */
+public class DriverMetrics implements MetricProducer {
+    public static final String CONNECT_DURATION_METRIC = "db.client.connection.create_time";
+    public static final String OPEN_METRIC = "db.client.open";
+    public static final String OPERATION_DURATION_METRIC = "db.client.operation.duration";
+    public static final String TRANSACTIONS_METRIC = "db.client.transactions";
+    public static final String ERRORS_METRIC = "db.client.errors";
+    public static final String LEAKED_METRIC = "db.client.leaked";
+    public static final String STREAM_TRANSFERRED_METRIC = "db.client.stream.transferred";
+    public static final String STREAM_BLOCKED_METRIC = "db.client.stream.blocked_time";
+    static final AttributeKey<String> RESOURCE = AttributeKey.stringKey("db.client.resource");
+    static final AttributeKey<String> OPERATION = AttributeKey.stringKey("db.operation.name");
+    static final AttributeKey<String> OUTCOME = AttributeKey.stringKey("db.transaction.outcome");
+    static final AttributeKey<String> STREAM = AttributeKey.stringKey("db.stream.kind");
+    static final AttributeKey<String> SQL_STATE = AttributeKey.stringKey("db.response.status_code");
+    /**
+     * Distinct SQLStates counted separately; further states are counted as {@link #OTHER_SQL_STATE}.
+     */
+    static final int MAX_SQL_STATES = 128;
+    static final String OTHER_SQL_STATE = "other";
+    static final String NO_SQL_STATE = "none";
+
+    private static final InstrumentationScopeInfo SCOPE = InstrumentationScopeInfo.create(OtelFactory.SERVICE_NAME);
+
+    public enum ResourceKind {
+        CONNECTION,
+        STATEMENT,
+        RESULT_SET
+    }
+
+    private final LatencyHistogram connectLatency = new LatencyHistogram();
+    private final LongAdder[] open = new LongAdder[ResourceKind.values().length];
+    private final LongAdder[] leaked = new LongAdder[ResourceKind.values().length];
+    private final Map<String, LatencyHistogram> operations = new ConcurrentHashMap<>();
+    private final LongAdder[] streamed = new LongAdder[StreamTracker.Kind.values().length];
+    private final LatencyHistogram[] streamBlocked = new LatencyHistogram[StreamTracker.Kind.values().length];
+    private final LongAdder commits = new LongAdder();
+    private final LongAdder rollbacks = new LongAdder();
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+    private final long startEpochNanos = epochNanos();
+
+    public DriverMetrics() {
+        for (int i = 0; i < open.length; i++) {
+            open[i] = new LongAdder();
+            leaked[i] = new LongAdder();
+        }
+        for (int i = 0; i < streamed.length; i++) {
+            streamed[i] = new LongAdder();
+            streamBlocked[i] = new LatencyHistogram();
+        }
+    }
+
+    public void connected(long nanos) {
+        connectLatency.record(nanos);
+    }
+
+    public void opened(ResourceKind kind) {
+        open[kind.ordinal()].increment();
+    }
+
+    /**
+     * Counts an object found unreachable without {@code close()} by the {@link LeakDetector}.
+     */
+    public void leaked(ResourceKind kind) {
+        leaked[kind.ordinal()].increment();
+    }
+
+    public long leaks(ResourceKind kind) {
+        return leaked[kind.ordinal()].sum();
+    }
+
+    public void closed(ResourceKind kind) {
+        open[kind.ordinal()].decrement();
+    }
+
+    public long open(ResourceKind kind) {
+        return open[kind.ordinal()].sum();
+    }
+
+    /**
+     * Latency histogram of an {@code execute*} method, by method name.
+     */
+    public LatencyHistogram operation(String method) {
+        LatencyHistogram histogram = operations.get(method);
+        return histogram != null ? histogram : operations.computeIfAbsent(method, name -> new LatencyHistogram());
+    }
+
+    /**
+     * Counts a LOB or stream at its end: bytes or characters transferred, and time blocked in the driver.
+     */
+    public void streamed(StreamTracker.Kind kind, long units, long blockedNanos) {
+        streamed[kind.ordinal()].add(units);
+        streamBlocked[kind.ordinal()].record(blockedNanos);
+    }
+
+    public long streamed(StreamTracker.Kind kind) {
+        return streamed[kind.ordinal()].sum();
+    }
+
+    public void committed() {
+        commits.increment();
+    }
+
+    public void rolledBack() {
+        rollbacks.increment();
+    }
+
+    public long commits() {
+        return commits.sum();
+    }
+
+    public long rollbacks() {
+        return rollbacks.sum();
+    }
+
+    public void failed(Throwable e) {
+        String state = e instanceof SQLException sqlException && sqlException.getSQLState() != null
+                ? sqlException.getSQLState() : NO_SQL_STATE;
+        LongAdder counter = errors.get(state);
+        if (counter == null) {
+            counter = errors.size() >= MAX_SQL_STATES
+                    ? errors.computeIfAbsent(OTHER_SQL_STATE, key -> new LongAdder())
+                    : errors.computeIfAbsent(state, key -> new LongAdder());
+        }
+        counter.increment();
+    }
+
+    public long errors(String sqlState) {
+        LongAdder counter = errors.get(sqlState);
+        return counter == null ? 0 : counter.sum();
+    }
+
+    @Override
+    public Collection<MetricData> produce(Resource resource) {
+        long now = epochNanos();
+        List<MetricData> metrics = new ArrayList<>();
+
+        metrics.add(histogram(resource, CONNECT_DURATION_METRIC, "Time to open a connection",
+                List.of(LatencyHistogram.point(startEpochNanos, now, Attributes.empty(), connectLatency.counts(),
+                        connectLatency.totalNanos()))));
+
+        List<LongPointData> openPoints = new ArrayList<>(open.length);
+        for (ResourceKind kind : ResourceKind.values()) {
+            openPoints.add(ProducedMetrics.longPoint(startEpochNanos, now,
+                    Attributes.of(RESOURCE, kind.name().toLowerCase()), open(kind)));
+        }
+        metrics.add(ProducedMetrics.longSum(resource, SCOPE, OPEN_METRIC,
+                "Connections, statements and result sets currently open", "{resource}", false, openPoints));
+
+        List<LongPointData> leakPoints = new ArrayList<>(leaked.length);
+        for (ResourceKind kind : ResourceKind.values()) {
+            if (leaks(kind) > 0) {
+                leakPoints.add(ProducedMetrics.longPoint(startEpochNanos, now,
+                        Attributes.of(RESOURCE, kind.name().toLowerCase()), leaks(kind)));
+            }
+        }
+        if (!leakPoints.isEmpty()) {
+            metrics.add(ProducedMetrics.longSum(resource, SCOPE, LEAKED_METRIC,
+                    "Connections, statements and result sets never closed", "{resource}", true, leakPoints));
+        }
+
+        List<HistogramPointData> operationPoints = new ArrayList<>(operations.size());
+        operations.forEach((method, histogram) -> operationPoints.add(LatencyHistogram.point(startEpochNanos, now,
+                Attributes.of(OPERATION, method), histogram.counts(), histogram.totalNanos())));
+        if (!operationPoints.isEmpty()) {
+            metrics.add(histogram(resource, OPERATION_DURATION_METRIC, "Statement execution time by method",
+                    operationPoints));
+        }
+
+        List<LongPointData> streamPoints = new ArrayList<>(streamed.length);
+        List<HistogramPointData> blockedPoints = new ArrayList<>(streamed.length);
+        for (StreamTracker.Kind kind : StreamTracker.Kind.values()) {
+            long[] counts = streamBlocked[kind.ordinal()].counts();
+            if (Arrays.stream(counts).sum() > 0) {
+                Attributes attributes = Attributes.of(STREAM, kind.name().toLowerCase());
+                streamPoints.add(ProducedMetrics.longPoint(startEpochNanos, now, attributes, streamed(kind)));
+                blockedPoints.add(LatencyHistogram.point(startEpochNanos, now, attributes, counts,
+                        streamBlocked[kind.ordinal()].totalNanos()));
+            }
+        }
+        if (!streamPoints.isEmpty()) {
+            metrics.add(ProducedMetrics.longSum(resource, SCOPE, STREAM_TRANSFERRED_METRIC,
+                    "Bytes of binary and characters of character LOB streams transferred", "{unit}", true,
+                    streamPoints));
+            metrics.add(histogram(resource, STREAM_BLOCKED_METRIC, "Time each LOB stream was blocked in the driver",
+                    blockedPoints));
+        }
+
+        metrics.add(ProducedMetrics.longSum(resource, SCOPE, TRANSACTIONS_METRIC,
+                "Commits and rollbacks", "{transaction}", true, List.of(
+                        ProducedMetrics.longPoint(startEpochNanos, now, Attributes.of(OUTCOME, "commit"), commits()),
+                        ProducedMetrics.longPoint(startEpochNanos, now, Attributes.of(OUTCOME, "rollback"),
+                                rollbacks()))));
+
+        List<LongPointData> errorPoints = new ArrayList<>(errors.size());
+        errors.forEach((state, counter) -> errorPoints.add(ProducedMetrics.longPoint(startEpochNanos, now,
+                Attributes.of(SQL_STATE, state), counter.sum())));
+        if (!errorPoints.isEmpty()) {
+            metrics.add(ProducedMetrics.longSum(resource, SCOPE, ERRORS_METRIC,
+                    "Failed JDBC calls by SQLState", "{error}", true, errorPoints));
+        }
+        return metrics;
+    }
+
+    private static MetricData histogram(Resource resource, String name, String description,
+                                        List<HistogramPointData> points) {
+        return ProducedMetrics.histogram(resource, SCOPE, name, description, "s", points);
+    }
+
+    private static long epochNanos() {
+        return TimeUnit.MILLISECONDS.toNanos(System.currentTimeMillis());
+    }
+}
@@ -0,0 +1,93 @@
+package insight;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static insight.ConfigParser.*;
+
+/**
+ * Settings of the span and metric export pipelines. The pipeline is shared by the whole process, so these settings are taken from
+ * the first connection that initializes it.
+ *
+ * @param batchSize             spans per export request, at most {@code queueSize}
+ * @param journalPath           file of the {@link Journal} spans are written to instead of the collector, or {@code null}
+ * @param overheadBudgetPercent instrumentation time allowed by the {@link OverheadGovernor}, in percent of driver time,
+ *                              or 0 for no governor
+ * @param workloadPath          file the {@link WorkloadRecorder} captures the workload to, or {@code null}
+ */
+public record ExportConfig(int queueSize, int batchSize, Duration interval, DropPolicy dropPolicy,
+                           boolean loggingExporter, int slowQueryMaxSpans, Duration metricsInterval,
+                           int fingerprintCacheSize, int maxFingerprints, String journalPath, int journalSizeMb,
+                           double overheadBudgetPercent, String workloadPath) {
+
+    public static final ExportConfig DEFAULT = new ExportConfig(2048, 512, Duration.ofSeconds(1),
+            DropPolicy.DROP_NEWEST, false, 10_000, Duration.ofMinutes(1), 1024, 500, null, 64, 0, null);
+
+    public enum DropPolicy {
+        DROP_NEWEST,
+        DROP_OLDEST
+    }
+
+    public ExportConfig {
+        if (queueSize < 1 || batchSize < 1 || interval.isNegative() || interval.isZero() || slowQueryMaxSpans < 1
+                || metricsInterval.isNegative() || metricsInterval.isZero() || fingerprintCacheSize < 1
+                || maxFingerprints < 1 || journalSizeMb < 1 || !(overheadBudgetPercent >= 0)) {
+            throw new IllegalArgumentException("Export sizes, limits and intervals must be positive");
+        }
+        if (batchSize > queueSize) {
+            throw new IllegalArgumentException("Export batch size " + batchSize + " exceeds queue size " + queueSize);
+        }
+    }
+
+    /**
+     * Settings from the connection properties. Without {@code exportBatchSize}, the default batch size is cut down to a
+     * smaller queue.
+     */
+    /**
+     * Connection properties whose values differ between this and the other settings.
+     */
+    public List<String> differences(ExportConfig other) {
+        List<String> names = new ArrayList<>();
+        differs(names, "exportQueueSize", queueSize, other.queueSize);
+        differs(names, "exportBatchSize", batchSize, other.batchSize);
+        differs(names, "exportIntervalMs", interval, other.interval);
+        differs(names, "exportDropPolicy", dropPolicy, other.dropPolicy);
+        differs(names, "loggingExporter", loggingExporter, other.loggingExporter);
+        differs(names, "slowQueryTotalMaxSpans", slowQueryMaxSpans, other.slowQueryMaxSpans);
+        differs(names, "metricsIntervalMs", metricsInterval, other.metricsInterval);
+        differs(names, "fingerprintCacheSize", fingerprintCacheSize, other.fingerprintCacheSize);
+        differs(names, "maxFingerprints", maxFingerprints, other.maxFingerprints);
+        differs(names, "journalPath", journalPath, other.journalPath);
+        differs(names, "journalSizeMb", journalSizeMb, other.journalSizeMb);
+        differs(names, "overheadBudgetPercent", overheadBudgetPercent, other.overheadBudgetPercent);
+        differs(names, "workloadPath", workloadPath, other.workloadPath);
+        return names;
+    }
+
+    private static void differs(List<String> names, String name, Object value, Object other) {
+        if (!Objects.equals(value, other)) {
+            names.add(name);
+        }
+    }
+
+    public static ExportConfig from(Map<String, String> config) {
+        int queueSize = getInt(config, EXPORT_QUEUE_SIZE, DEFAULT.queueSize);
+        return new ExportConfig(
+                queueSize,
+                getInt(config, EXPORT_BATCH_SIZE, Math.min(DEFAULT.batchSize, queueSize)),
+                Duration.ofMillis(getInt(config, EXPORT_INTERVAL_MS, (int) DEFAULT.interval.toMillis())),
+                getEnum(config, EXPORT_DROP_POLICY, DEFAULT.dropPolicy),
+                getBoolean(config, LOGGING_EXPORTER, DEFAULT.loggingExporter),
+                getInt(config, SLOW_QUERY_TOTAL_MAX_SPANS, DEFAULT.slowQueryMaxSpans),
+                Duration.ofMillis(getInt(config, METRICS_INTERVAL_MS, (int) DEFAULT.metricsInterval.toMillis())),
+                getInt(config, FINGERPRINT_CACHE_SIZE, DEFAULT.fingerprintCacheSize),
+                getInt(config, MAX_FINGERPRINTS, DEFAULT.maxFingerprints),
+                config.get(JOURNAL_PATH),
+                getInt(config, JOURNAL_SIZE_MB, DEFAULT.journalSizeMb),
+                getDouble(config, OVERHEAD_BUDGET_PERCENT, DEFAULT.overheadBudgetPercent),
+                config.get(WORKLOAD_PATH));
+    }
+}
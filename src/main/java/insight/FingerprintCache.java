@@ -0,0 +1,66 @@
+package insight;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded LRU cache from SQL text to its {@link SqlNormalizer} fingerprint, so repeated statements are normalized once.
+ * Split into independently locked segments to keep threads running different statements apart.
+ */
+public final class FingerprintCache {
+    private static final int SEGMENTS = 16;
+
+    private final Segment[] segments = new Segment[SEGMENTS];
+    private final LongAdder misses = new LongAdder();
+
+    public FingerprintCache(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Fingerprint cache size must be positive");
+        }
+        int segmentSize = Math.max(1, maxSize / SEGMENTS);
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new Segment(segmentSize);
+        }
+    }
+
+    public String fingerprint(String sql) {
+        int hash = sql.hashCode();
+        Segment segment = segments[(hash ^ (hash >>> 16)) & (SEGMENTS - 1)];
+        String fingerprint;
+        synchronized (segment) {
+            fingerprint = segment.get(sql);
+        }
+        if (fingerprint == null) {
+            misses.increment();
+            fingerprint = SqlNormalizer.normalize(sql);
+            synchronized (segment) {
+                segment.put(sql, fingerprint);
+            }
+        }
+        return fingerprint;
+    }
+
+    /**
+     * Number of lookups that had to normalize the SQL text.
+     */
+    public long misses() {
+        return misses.sum();
+    }
+
+    private static final class Segment extends LinkedHashMap<String, String> {
+        private static final long serialVersionUID = 1L;
+
+        private final int maxSize;
+
+        Segment(int maxSize) {
+            super(16, 0.75f, true);
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+            return size() > maxSize;
+        }
+    }
+}
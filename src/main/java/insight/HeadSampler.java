@@ -0,0 +1,34 @@
+package insight;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Head sampling of connections or statements. The decision is taken when the object is wrapped and is inherited by
+ * everything it returns; calls on unsampled objects create no spans at all.
+ */
+public record HeadSampler(double ratio, Scope scope) {
+    public static final HeadSampler ALWAYS = new HeadSampler(1.0, Scope.STATEMENT);
+
+    public enum Scope {
+        CONNECTION,
+        STATEMENT
+    }
+
+    public HeadSampler {
+        if (!(ratio >= 0.0 && ratio <= 1.0)) {
+            throw new IllegalArgumentException("Sample ratio must be between 0 and 1: " + ratio);
+        }
+    }
+
+    public boolean sampleConnection() {
+        return scope != Scope.CONNECTION || sample();
+    }
+
+    public boolean sampleStatement() {
+        return scope != Scope.STATEMENT || sample();
+    }
+
+    private boolean sample() {
+        return ratio >= 1.0 || (ratio > 0.0 && ThreadLocalRandom.current().nextDouble() < ratio);
+    }
+}
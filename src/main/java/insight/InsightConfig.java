@@ -0,0 +1,61 @@
+package insight;
+
+import java.util.Map;
+import java.util.Properties;
+
+import static insight.ConfigParser.*;
+
+/**
+ * Typed view of the properties recognized for one connection.
+ */
+public record InsightConfig(Map<String, String> properties, ExportConfig export, WrapperEngine wrapper,
+                            ResultSetTracing resultSetTracing, HeadSampler sampler, MethodFilter filter,
+                            SlowQueryConfig slowQuery, CapturePolicy capture, boolean queryMetrics, boolean metrics,
+                            boolean tracing, Backend backend, boolean transactions,
+                            NPlusOneConfig nPlusOne, LeakConfig leaks, CallCost.Mode callCost) {
+
+    public static final InsightConfig DEFAULT = from(Map.of());
+
+    public enum ResultSetTracing {
+        /**
+         * One summary span per ResultSet.
+         */
+        AGGREGATE,
+        /**
+         * One span per ResultSet call.
+         */
+        CALLS
+    }
+
+    public static InsightConfig parse(Properties props, String url) {
+        return from(ConfigParser.parse(props, url));
+    }
+
+    public static InsightConfig from(Map<String, String> properties) {
+        return new InsightConfig(properties,
+                ExportConfig.from(properties),
+                getEnum(properties, WRAPPER, WrapperEngine.PROXY),
+                getEnum(properties, RESULT_SET_TRACING, ResultSetTracing.AGGREGATE),
+                new HeadSampler(getDouble(properties, SAMPLE_RATIO, HeadSampler.ALWAYS.ratio()),
+                        getEnum(properties, SAMPLE_SCOPE, HeadSampler.ALWAYS.scope())),
+                MethodFilter.parse(properties.get(TRACE_INCLUDE), properties.get(TRACE_EXCLUDE)),
+                SlowQueryConfig.from(properties),
+                new CapturePolicy(getInt(properties, CAPTURE_MAX_LENGTH, CapturePolicy.DEFAULT.maxLength())),
+                getBoolean(properties, QUERY_METRICS, false),
+                getBoolean(properties, METRICS, false),
+                getBoolean(properties, TRACING, true),
+                getEnum(properties, BACKEND, Backend.OTEL),
+                getBoolean(properties, TRANSACTIONS, true),
+                NPlusOneConfig.from(properties),
+                LeakConfig.from(properties),
+                getEnum(properties, CALL_COST, CallCost.Mode.OFF));
+    }
+
+    public String jdbcPath() {
+        return properties.get(JDBC_PATH);
+    }
+
+    public String jdbcClass() {
+        return properties.get(JDBC_CLASS);
+    }
+}
@@ -0,0 +1,19 @@
+package insight;
+
+/**
+ * A call on a wrapped JDBC object, from {@link TraceNode#enter(MethodInfo)} until {@link #exit()}. Both wrapper engines
+ * drive it the same way: call the delegate, {@link #capture(Object[], Object)} if capturing, {@link #wrap(Object,
+ * Object)} the result, {@link #fail(Throwable)} on error and always {@link #exit()}.
+ */
+public interface Invocation {
+
+    boolean isCapturing();
+
+    void capture(Object[] args, Object result);
+
+    Object wrap(Object result, Object firstArg);
+
+    void fail(Throwable e);
+
+    void exit();
+}
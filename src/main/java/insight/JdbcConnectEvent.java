@@ -0,0 +1,20 @@
+package insight;
+
+import jdk.jfr.*;
+
+/**
+ * A connect through the delegate driver, recorded by the {@link Backend#JFR} backend.
+ */
+@Name("insight.JdbcConnect")
+@Label("JDBC Connect")
+@Category({"JDBC Insight"})
+@Description("Connection opened through the delegate driver")
+@StackTrace(true)
+@Threshold("0 ms")
+public class JdbcConnectEvent extends Event {
+    @Label("URL")
+    public String url;
+
+    @Label("Failed")
+    public boolean failed;
+}
@@ -0,0 +1,30 @@
+package insight;
+
+import jdk.jfr.*;
+
+/**
+ * An {@code execute*} call, recorded by the {@link Backend#JFR} backend.
+ */
+@Name("insight.JdbcExecute")
+@Label("JDBC Execute")
+@Category({"JDBC Insight"})
+@Description("Statement execution with its SQL text")
+@StackTrace(true)
+@Threshold("10 ms")
+public class JdbcExecuteEvent extends Event {
+    @Label("Method")
+    public String method;
+
+    @Label("SQL")
+    public String sql;
+
+    @Label("Fingerprint")
+    @Description("SQL with literals replaced by ?")
+    public String fingerprint;
+
+    @Label("Failed")
+    public boolean failed;
+
+    @Label("SQLState")
+    public String sqlState;
+}
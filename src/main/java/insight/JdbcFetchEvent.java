@@ -0,0 +1,27 @@
+package insight;
+
+import jdk.jfr.*;
+
+/**
+ * A ResultSet from creation until it is exhausted or closed, recorded by the {@link Backend#JFR} backend.
+ */
+@Name("insight.JdbcFetch")
+@Label("JDBC Fetch")
+@Category({"JDBC Insight"})
+@Description("ResultSet fetch summary")
+@StackTrace(false)
+@Threshold("10 ms")
+public class JdbcFetchEvent extends Event {
+    @Label("Fingerprint")
+    public String fingerprint;
+
+    @Label("Rows")
+    public long rows;
+
+    @Label("Time in next()")
+    @Timespan(Timespan.NANOSECONDS)
+    public long nextTime;
+
+    @Label("Exhausted")
+    public boolean exhausted;
+}
@@ -0,0 +1,20 @@
+package insight;
+
+import jdk.jfr.*;
+
+/**
+ * A {@code commit()} or {@code rollback()} call, recorded by the {@link Backend#JFR} backend.
+ */
+@Name("insight.JdbcTransaction")
+@Label("JDBC Transaction End")
+@Category({"JDBC Insight"})
+@Description("Commit or rollback")
+@StackTrace(false)
+@Threshold("0 ms")
+public class JdbcTransactionEvent extends Event {
+    @Label("Action")
+    public String action;
+
+    @Label("Failed")
+    public boolean failed;
+}
@@ -0,0 +1,212 @@
+package insight;
+
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+
+import java.sql.Connection;
+import java.sql.Driver;
+import java.sql.SQLException;
+import java.util.Properties;
+
+/**
+ * The {@link Backend#JFR} backend. Events are created per call, but unless a recording has the event enabled, they
+ * are not filled in or committed, and no node or invocation beyond the untraced ones is created.
+ */
+final class JfrRecorder {
+    private JfrRecorder() {
+    }
+
+    static Connection connect(DriverInsight driver, String targetUrl, Properties properties, InsightConfig config)
+            throws SQLException {
+        JdbcConnectEvent event = new JdbcConnectEvent();
+        event.begin();
+        try {
+            Driver delegate = driver.loadDriver(config.jdbcPath(), config.jdbcClass(), targetUrl);
+            Connection conn = driver.driverConnect(delegate, targetUrl, properties, config);
+            return driver.wrap(conn, null, Context.root(), config, true);
+        } catch (SQLException | RuntimeException e) {
+            event.failed = true;
+            throw e;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.url = targetUrl;
+                event.commit();
+            }
+        }
+    }
+
+    static Invocation enter(TraceNode node, MethodInfo info) {
+        if (info.executesStatement()) {
+            JdbcExecuteEvent event = new JdbcExecuteEvent();
+            if (event.isEnabled()) {
+                return new Call(node, info, event);
+            }
+        } else if (info.transactionRole() == MethodInfo.TransactionRole.COMMIT
+                || info.transactionRole() == MethodInfo.TransactionRole.ROLLBACK) {
+            JdbcTransactionEvent event = new JdbcTransactionEvent();
+            if (event.isEnabled()) {
+                return new Call(node, info, event);
+            }
+        }
+        return node.untraced(info);
+    }
+
+    static TraceNode resultSet(TraceNode node, Tracer tracer, Context context, QueryStats query) {
+        JdbcFetchEvent event = new JdbcFetchEvent();
+        return event.isEnabled() ? new Fetch(tracer, context, node.connection, query, node.activeSql(), event) : null;
+    }
+
+    /**
+     * An {@code execute*}, {@code commit()} or {@code rollback()} call timed by its event.
+     */
+    private static final class Call implements Invocation {
+        private final TraceNode node;
+        private final MethodInfo info;
+        private final jdk.jfr.Event event;
+        private final String sql;
+        private Throwable failure;
+
+        Call(TraceNode node, MethodInfo info, jdk.jfr.Event event) {
+            this.node = node;
+            this.info = info;
+            this.event = event;
+            this.sql = node.activeSql();
+            event.begin();
+        }
+
+        @Override
+        public boolean isCapturing() {
+            return false;
+        }
+
+        @Override
+        public void capture(Object[] args, Object result) {
+        }
+
+        @Override
+        public Object wrap(Object result, Object firstArg) {
+            return node.wrap(info, node.context, firstArg, result);
+        }
+
+        @Override
+        public void fail(Throwable e) {
+            failure = e;
+            node.failed(e);
+        }
+
+        @Override
+        public void exit() {
+            event.end();
+            if (!event.shouldCommit()) {
+                return;
+            }
+            if (event instanceof JdbcExecuteEvent execute) {
+                execute.method = info.method().getName();
+                if (sql != null) {
+                    execute.sql = node.capturing() ? node.config.capture().render(sql) : null;
+                    execute.fingerprint = SqlNormalizer.normalize(sql);
+                }
+                execute.failed = failure != null;
+                if (failure instanceof SQLException e) {
+                    execute.sqlState = e.getSQLState();
+                }
+            } else if (event instanceof JdbcTransactionEvent transaction) {
+                transaction.action = info.method().getName();
+                transaction.failed = failure != null;
+            }
+            event.commit();
+        }
+    }
+
+    /**
+     * A ResultSet node that counts rows and time in {@code next()} into one event, committed when the cursor is
+     * exhausted or closed, by itself or along with its statement. Like {@link ResultSetAggregator}, it is its own
+     * invocation.
+     */
+    private static final class Fetch extends TraceNode implements Invocation {
+        private final JdbcFetchEvent event;
+        private final QueryStats query;
+        private final String sql;
+        private MethodInfo current;
+        private long startNanos;
+        private long rows;
+        private long nextNanos;
+        private boolean exhausted;
+        private boolean ended;
+
+        Fetch(Tracer tracer, Context context, ConnectionState connection, QueryStats query, String sql,
+              JdbcFetchEvent event) {
+            super(tracer, context, connection);
+            this.event = event;
+            this.query = query;
+            this.sql = sql;
+            event.begin();
+        }
+
+        @Override
+        public Invocation enter(MethodInfo info) {
+            track(info);
+            current = info;
+            startNanos = System.nanoTime();
+            return this;
+        }
+
+        @Override
+        public boolean isCapturing() {
+            return current.resultSetRole() == MethodInfo.ResultSetRole.NEXT;
+        }
+
+        @Override
+        public void capture(Object[] args, Object result) {
+            if (Boolean.TRUE.equals(result)) {
+                rows++;
+            } else {
+                exhausted = true;
+            }
+        }
+
+        @Override
+        public Object wrap(Object result, Object firstArg) {
+            return wrap(current, context, firstArg, result);
+        }
+
+        @Override
+        public void fail(Throwable e) {
+            failed(e);
+        }
+
+        @Override
+        public void exit() {
+            if (current.resultSetRole() == MethodInfo.ResultSetRole.NEXT) {
+                nextNanos += System.nanoTime() - startNanos;
+            }
+            if (exhausted || current.resultSetRole() == MethodInfo.ResultSetRole.CLOSE) {
+                end();
+            }
+        }
+
+        @Override
+        void released() {
+            end();
+        }
+
+        private void end() {
+            if (ended) {
+                return;
+            }
+            ended = true;
+            event.end();
+            if (event.shouldCommit()) {
+                event.fingerprint = sql == null ? null : SqlNormalizer.normalize(sql);
+                event.rows = rows;
+                event.nextTime = nextNanos;
+                event.exhausted = exhausted;
+                event.commit();
+            }
+            if (query != null) {
+                query.addRows(rows);
+            }
+        }
+    }
+}
@@ -0,0 +1,327 @@
+package insight;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.sdk.trace.data.EventData;
+import io.opentelemetry.sdk.trace.data.SpanData;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fixed-size ring of spans in a memory-mapped file. The file holds a header and {@link #SLOT_SIZE}-byte slots; each
+ * span takes one slot, claimed with an atomic cursor, so writers never lock or block and the oldest spans are
+ * overwritten once the ring is full. Attributes and events that do not fit a slot are left out and the record is
+ * marked truncated. A slot's sequence number is written last, so a reader skips slots that are being written.
+ * <p>
+ * Slot layout: sequence (8 bytes), payload length (4), flags (1), then trace id (16), span id (8), parent span id (8),
+ * start and end epoch nanos (8 each), kind and status (1 each), scope and name, attributes and events.
+ */
+public final class Journal implements Closeable {
+    public static final int SLOT_SIZE = 1024;
+
+    static final int HEADER_SIZE = 64;
+    private static final byte[] MAGIC = "JINSIGHT".getBytes(StandardCharsets.US_ASCII);
+    private static final int VERSION = 1;
+    private static final int SLOT_HEADER = 13;
+    private static final long WRITING = -1;
+    private static final byte TRUNCATED = 1;
+    private static final int MAX_SCOPE = 128;
+    private static final int MAX_NAME = 256;
+    private static final byte STRING = 0;
+    private static final byte BOOLEAN = 1;
+    private static final byte LONG = 2;
+    private static final byte DOUBLE = 3;
+    private static final SpanKind[] KINDS = SpanKind.values();
+    private static final StatusCode[] STATUSES = StatusCode.values();
+
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int slots;
+    private final AtomicLong cursor;
+    private final AtomicLong truncated = new AtomicLong();
+
+    private Journal(FileChannel channel, MappedByteBuffer buffer, int slots) {
+        this.channel = channel;
+        this.buffer = buffer;
+        this.slots = slots;
+        this.cursor = new AtomicLong(lastSequence());
+    }
+
+    /**
+     * Opens the journal for writing, creating the file, or starting over if it was written with another size. An
+     * existing journal of the same size is continued after its last record.
+     */
+    public static Journal open(Path path, long size) throws IOException {
+        int slots = (int) ((Math.min(size, Integer.MAX_VALUE) - HEADER_SIZE) / SLOT_SIZE);
+        if (slots < 1) {
+            throw new IllegalArgumentException("Journal size must be at least " + (HEADER_SIZE + SLOT_SIZE));
+        }
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        try {
+            long fileSize = HEADER_SIZE + (long) slots * SLOT_SIZE;
+            boolean resume = channel.size() == fileSize;
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, fileSize);
+            if (!resume || !matchesHeader(buffer, slots)) {
+                channel.truncate(0);
+                buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, fileSize);
+                buffer.put(0, MAGIC);
+                buffer.putInt(MAGIC.length, VERSION);
+                buffer.putInt(MAGIC.length + 4, SLOT_SIZE);
+                buffer.putInt(MAGIC.length + 8, slots);
+            }
+            return new Journal(channel, buffer, slots);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Opens an existing journal for reading.
+     */
+    public static Journal openForRead(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            if (channel.size() < HEADER_SIZE) {
+                throw new IOException("Not a JDBC Insight journal: " + path);
+            }
+            MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE);
+            int slots = header.getInt(MAGIC.length + 8);
+            if (!matchesHeader(header, slots) || channel.size() != HEADER_SIZE + (long) slots * SLOT_SIZE) {
+                throw new IOException("Not a JDBC Insight journal: " + path);
+            }
+            return new Journal(channel, channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()), slots);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public int capacity() {
+        return slots;
+    }
+
+    /**
+     * Sequence number of the last record claimed; records are numbered from 1.
+     */
+    public long sequence() {
+        return cursor.get();
+    }
+
+    /**
+     * Records that did not fit a slot whole.
+     */
+    public long truncated() {
+        return truncated.get();
+    }
+
+    public void append(SpanData span) {
+        long sequence = cursor.incrementAndGet();
+        ByteBuffer slot = buffer.slice(slotOffset(sequence), SLOT_SIZE);
+        slot.putLong(0, WRITING);
+        slot.position(SLOT_HEADER);
+        boolean complete = encode(span, slot);
+        slot.putInt(8, slot.position() - SLOT_HEADER);
+        slot.put(12, complete ? 0 : TRUNCATED);
+        slot.putLong(0, sequence);
+        if (!complete) {
+            truncated.incrementAndGet();
+        }
+    }
+
+    /**
+     * Records in the journal, oldest first.
+     */
+    public List<JournalRecord> records() {
+        List<JournalRecord> records = new ArrayList<>();
+        for (int i = 0; i < slots; i++) {
+            ByteBuffer slot = buffer.slice(HEADER_SIZE + i * SLOT_SIZE, SLOT_SIZE);
+            long sequence = slot.getLong(0);
+            int length = slot.getInt(8);
+            if (sequence <= 0 || length <= 0 || length > SLOT_SIZE - SLOT_HEADER) {
+                continue;
+            }
+            try {
+                JournalRecord record = decode(sequence, slot);
+                if (slot.getLong(0) == sequence) {
+                    records.add(record);
+                }
+            } catch (RuntimeException e) {
+                // overwritten while being read
+            }
+        }
+        records.sort(Comparator.comparingLong(JournalRecord::sequence));
+        return records;
+    }
+
+    public void force() {
+        if (!buffer.isReadOnly()) {
+            buffer.force();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        force();
+        channel.close();
+    }
+
+    private int slotOffset(long sequence) {
+        return HEADER_SIZE + (int) ((sequence - 1) % slots) * SLOT_SIZE;
+    }
+
+    private long lastSequence() {
+        long last = 0;
+        for (int i = 0; i < slots; i++) {
+            last = Math.max(last, buffer.getLong(HEADER_SIZE + i * SLOT_SIZE));
+        }
+        return last;
+    }
+
+    private static boolean matchesHeader(ByteBuffer header, int slots) {
+        byte[] magic = new byte[MAGIC.length];
+        header.get(0, magic);
+        return Arrays.equals(magic, MAGIC) && header.getInt(MAGIC.length) == VERSION
+                && header.getInt(MAGIC.length + 4) == SLOT_SIZE && header.getInt(MAGIC.length + 8) == slots;
+    }
+
+    private static boolean encode(SpanData span, ByteBuffer slot) {
+        slot.put(span.getSpanContext().getTraceIdBytes());
+        slot.put(span.getSpanContext().getSpanIdBytes());
+        slot.put(span.getParentSpanContext().isValid() ? span.getParentSpanContext().getSpanIdBytes() : new byte[8]);
+        slot.putLong(span.getStartEpochNanos());
+        slot.putLong(span.getEndEpochNanos());
+        slot.put((byte) span.getKind().ordinal());
+        slot.put((byte) span.getStatus().getStatusCode().ordinal());
+        boolean complete = putString(slot, span.getInstrumentationScopeInfo().getName(), MAX_SCOPE);
+        complete &= putString(slot, span.getName(), MAX_NAME);
+        complete &= putAttributes(slot, span.getAttributes(), 2);
+        int countAt = slot.position();
+        slot.putShort((short) 0);
+        short count = 0;
+        for (EventData event : span.getEvents()) {
+            if (!complete || slot.remaining() < 2 + 8 + 2) {
+                complete = false;
+                break;
+            }
+            complete = putString(slot, event.getName(), Math.min(MAX_NAME, slot.remaining() - 2 - 8 - 2));
+            slot.putLong(event.getEpochNanos());
+            complete &= putAttributes(slot, event.getAttributes(), 0);
+            count++;
+        }
+        slot.putShort(countAt, count);
+        return complete;
+    }
+
+    /**
+     * Writes the attributes that fit, leaving {@code reserve} bytes free.
+     *
+     * @return whether all attributes were written whole
+     */
+    private static boolean putAttributes(ByteBuffer slot, Attributes attributes, int reserve) {
+        int countAt = slot.position();
+        slot.putShort((short) 0);
+        short count = 0;
+        boolean complete = true;
+        for (Map.Entry<AttributeKey<?>, Object> attribute : attributes.asMap().entrySet()) {
+            byte[] key = attribute.getKey().getKey().getBytes(StandardCharsets.UTF_8);
+            Object value = attribute.getValue();
+            int valueSize = value instanceof Boolean ? 1 : value instanceof Long || value instanceof Double ? 8 : 2;
+            if (key.length > MAX_NAME || slot.remaining() - reserve < 2 + key.length + 1 + valueSize) {
+                complete = false;
+                break;
+            }
+            slot.putShort((short) key.length).put(key);
+            if (value instanceof Boolean bool) {
+                slot.put(BOOLEAN).put((byte) (bool ? 1 : 0));
+            } else if (value instanceof Long number) {
+                slot.put(LONG).putLong(number);
+            } else if (value instanceof Double number) {
+                slot.put(DOUBLE).putDouble(number);
+            } else {
+                slot.put(STRING);
+                complete &= putString(slot, String.valueOf(value), slot.remaining() - reserve - 2);
+            }
+            count++;
+        }
+        slot.putShort(countAt, count);
+        return complete;
+    }
+
+    /**
+     * Writes the string as UTF-8, cut to {@code maxBytes} and to the room left in the slot.
+     *
+     * @return whether the string was written whole
+     */
+    private static boolean putString(ByteBuffer slot, String value, int maxBytes) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        int length = Math.max(0, Math.min(Math.min(bytes.length, maxBytes), Math.min(slot.remaining() - 2, 0xFFFF)));
+        slot.putShort((short) length);
+        slot.put(bytes, 0, length);
+        return length == bytes.length;
+    }
+
+    private static JournalRecord decode(long sequence, ByteBuffer slot) {
+        slot.position(SLOT_HEADER);
+        String traceId = hex(slot, 16);
+        String spanId = hex(slot, 8);
+        String parentSpanId = hex(slot, 8);
+        if (parentSpanId.chars().allMatch(c -> c == '0')) {
+            parentSpanId = "";
+        }
+        long start = slot.getLong();
+        long end = slot.getLong();
+        SpanKind kind = KINDS[slot.get()];
+        StatusCode status = STATUSES[slot.get()];
+        String scope = getString(slot);
+        String name = getString(slot);
+        Map<String, Object> attributes = getAttributes(slot);
+        int count = slot.getShort();
+        List<JournalRecord.Event> events = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            events.add(new JournalRecord.Event(getString(slot), slot.getLong(), getAttributes(slot)));
+        }
+        return new JournalRecord(sequence, traceId, spanId, parentSpanId, scope, name, kind, status, start, end,
+                attributes, events, slot.get(12) == TRUNCATED);
+    }
+
+    private static Map<String, Object> getAttributes(ByteBuffer slot) {
+        int count = slot.getShort();
+        Map<String, Object> attributes = new LinkedHashMap<>();
+        for (int i = 0; i < count; i++) {
+            String key = getString(slot);
+            byte type = slot.get();
+            attributes.put(key, switch (type) {
+                case BOOLEAN -> slot.get() == 1;
+                case LONG -> slot.getLong();
+                case DOUBLE -> slot.getDouble();
+                default -> getString(slot);
+            });
+        }
+        return attributes;
+    }
+
+    private static String getString(ByteBuffer slot) {
+        byte[] bytes = new byte[Short.toUnsignedInt(slot.getShort())];
+        slot.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static String hex(ByteBuffer slot, int length) {
+        byte[] bytes = new byte[length];
+        slot.get(bytes);
+        return HexFormat.of().formatHex(bytes);
+    }
+}
@@ -0,0 +1,218 @@
+package insight;
+
+import io.opentelemetry.api.trace.StatusCode;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Command-line tool for {@link Journal} files:
+ * <pre>
+ * java -cp jdbc-insight.jar insight.JournalReader dump &lt;journal&gt;
+ * java -cp jdbc-insight.jar insight.JournalReader otlp &lt;journal&gt; [output.json]
+ * java -cp jdbc-insight.jar insight.JournalReader replay &lt;journal&gt; [http://127.0.0.1:4318/v1/traces]
+ * </pre>
+ * {@code otlp} converts the journal to OTLP JSON and {@code replay} posts it to an OTLP/HTTP collector.
+ */
+public final class JournalReader {
+    public static final String DEFAULT_ENDPOINT = "http://127.0.0.1:4318/v1/traces";
+    static final int REPLAY_BATCH_SIZE = 512;
+
+    private JournalReader() {
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length < 2) {
+            usage();
+            return;
+        }
+        List<JournalRecord> records;
+        try (Journal journal = Journal.openForRead(Path.of(args[1]))) {
+            records = journal.records();
+        }
+        switch (args[0]) {
+            case "dump" -> records.forEach(record -> System.out.println(format(record)));
+            case "otlp" -> {
+                String json = toOtlpJson(records);
+                if (args.length > 2) {
+                    Files.writeString(Path.of(args[2]), json);
+                } else {
+                    System.out.println(json);
+                }
+            }
+            case "replay" -> {
+                int sent = replay(records, URI.create(args.length > 2 ? args[2] : DEFAULT_ENDPOINT));
+                System.out.println("Replayed " + sent + " spans");
+            }
+            default -> usage();
+        }
+    }
+
+    /**
+     * One line per span: sequence, start time, duration, ids, name and attributes.
+     */
+    public static String format(JournalRecord record) {
+        return "#" + record.sequence()
+                + " " + Instant.EPOCH.plusNanos(record.startEpochNanos())
+                + " " + (record.endEpochNanos() - record.startEpochNanos()) / 1000 + "us"
+                + " " + record.traceId() + "/" + record.spanId()
+                + (record.parentSpanId().isEmpty() ? "" : " <- " + record.parentSpanId())
+                + " " + record.name()
+                + (record.status() == StatusCode.UNSET ? "" : " " + record.status())
+                + " " + record.attributes()
+                + (record.events().isEmpty() ? "" : " events=" + record.events().stream()
+                        .map(JournalRecord.Event::name).collect(Collectors.toList()))
+                + (record.truncated() ? " [truncated]" : "");
+    }
+
+    /**
+     * Posts the records to an OTLP/HTTP endpoint as JSON, {@value #REPLAY_BATCH_SIZE} spans per request.
+     *
+     * @return the number of spans sent
+     */
+    public static int replay(List<JournalRecord> records, URI endpoint) throws IOException, InterruptedException {
+        HttpClient client = HttpClient.newHttpClient();
+        for (int from = 0; from < records.size(); from += REPLAY_BATCH_SIZE) {
+            List<JournalRecord> batch = records.subList(from, Math.min(records.size(), from + REPLAY_BATCH_SIZE));
+            HttpRequest request = HttpRequest.newBuilder(endpoint)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(toOtlpJson(batch)))
+                    .build();
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() / 100 != 2) {
+                throw new IOException("Collector at " + endpoint + " answered " + response.statusCode() + ": "
+                        + response.body());
+            }
+        }
+        return records.size();
+    }
+
+    /**
+     * Encodes the records as an OTLP {@code ExportTraceServiceRequest} in the protobuf JSON mapping.
+     */
+    public static String toOtlpJson(List<JournalRecord> records) {
+        Map<String, List<JournalRecord>> byScope = new LinkedHashMap<>();
+        for (JournalRecord record : records) {
+            byScope.computeIfAbsent(record.scope(), scope -> new ArrayList<>()).add(record);
+        }
+        StringBuilder json = new StringBuilder();
+        json.append("{\"resourceSpans\":[{\"resource\":{\"attributes\":[");
+        attribute(json, "service.name", OtelFactory.SERVICE_NAME);
+        json.append("]},\"scopeSpans\":[");
+        boolean firstScope = true;
+        for (Map.Entry<String, List<JournalRecord>> scope : byScope.entrySet()) {
+            json.append(firstScope ? "" : ",").append("{\"scope\":{\"name\":");
+            string(json, scope.getKey());
+            json.append("},\"spans\":[");
+            boolean firstSpan = true;
+            for (JournalRecord record : scope.getValue()) {
+                json.append(firstSpan ? "" : ",");
+                span(json, record);
+                firstSpan = false;
+            }
+            json.append("]}");
+            firstScope = false;
+        }
+        return json.append("]}]}").toString();
+    }
+
+    private static void span(StringBuilder json, JournalRecord record) {
+        json.append("{\"traceId\":\"").append(record.traceId())
+                .append("\",\"spanId\":\"").append(record.spanId()).append('"');
+        if (!record.parentSpanId().isEmpty()) {
+            json.append(",\"parentSpanId\":\"").append(record.parentSpanId()).append('"');
+        }
+        json.append(",\"name\":");
+        string(json, record.name());
+        json.append(",\"kind\":").append(record.kind().ordinal() + 1)
+                .append(",\"startTimeUnixNano\":\"").append(record.startEpochNanos())
+                .append("\",\"endTimeUnixNano\":\"").append(record.endEpochNanos())
+                .append("\",\"attributes\":[");
+        attributes(json, record.attributes());
+        json.append("],\"events\":[");
+        boolean first = true;
+        for (JournalRecord.Event event : record.events()) {
+            json.append(first ? "" : ",").append("{\"timeUnixNano\":\"").append(event.epochNanos())
+                    .append("\",\"name\":");
+            string(json, event.name());
+            json.append(",\"attributes\":[");
+            attributes(json, event.attributes());
+            json.append("]}");
+            first = false;
+        }
+        json.append("],\"status\":{\"code\":").append(statusCode(record.status())).append("}}");
+    }
+
+    private static int statusCode(StatusCode status) {
+        return switch (status) {
+            case UNSET -> 0;
+            case OK -> 1;
+            case ERROR -> 2;
+        };
+    }
+
+    private static void attributes(StringBuilder json, Map<String, Object> attributes) {
+        boolean first = true;
+        for (Map.Entry<String, Object> attribute : attributes.entrySet()) {
+            json.append(first ? "" : ",");
+            attribute(json, attribute.getKey(), attribute.getValue());
+            first = false;
+        }
+    }
+
+    private static void attribute(StringBuilder json, String key, Object value) {
+        json.append("{\"key\":");
+        string(json, key);
+        json.append(",\"value\":{");
+        if (value instanceof Boolean) {
+            json.append("\"boolValue\":").append(value);
+        } else if (value instanceof Long) {
+            json.append("\"intValue\":\"").append(value).append('"');
+        } else if (value instanceof Double number && Double.isFinite(number)) {
+            json.append("\"doubleValue\":").append(number);
+        } else {
+            json.append("\"stringValue\":");
+            string(json, String.valueOf(value));
+        }
+        json.append("}}");
+    }
+
+    private static void string(StringBuilder json, String value) {
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> json.append("\\\"");
+                case '\\' -> json.append("\\\\");
+                case '\n' -> json.append("\\n");
+                case '\r' -> json.append("\\r");
+                case '\t' -> json.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        json.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        json.append(c);
+                    }
+                }
+            }
+        }
+        json.append('"');
+    }
+
+    private static void usage() {
+        System.err.println("Usage: JournalReader dump <journal>");
+        System.err.println("       JournalReader otlp <journal> [output.json]");
+        System.err.println("       JournalReader replay <journal> [" + DEFAULT_ENDPOINT + "]");
+    }
+}
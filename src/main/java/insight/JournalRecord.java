@@ -0,0 +1,21 @@
+package insight;
+
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A span read back from a {@link Journal}. Ids are lower-case hex; {@code parentSpanId} is empty for root spans.
+ *
+ * @param truncated whether attributes or events were left out, or values cut, to fit the journal slot
+ */
+public record JournalRecord(long sequence, String traceId, String spanId, String parentSpanId, String scope,
+                            String name, SpanKind kind, StatusCode status, long startEpochNanos,
+                            long endEpochNanos, Map<String, Object> attributes, List<Event> events,
+                            boolean truncated) {
+
+    public record Event(String name, long epochNanos, Map<String, Object> attributes) {
+    }
+}
@@ -0,0 +1,66 @@
+package insight;
+
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Writes spans to a {@link Journal} on local disk instead of sending them to a collector, so the most recent JDBC
+ * activity is kept when no collector is reachable. {@link JournalReader} dumps the journal or replays it later.
+ */
+public class JournalSpanExporter implements SpanExporter {
+    private final Journal journal;
+    private final AtomicBoolean shutdown = new AtomicBoolean();
+
+    public JournalSpanExporter(Journal journal) {
+        this.journal = journal;
+    }
+
+    public static JournalSpanExporter open(Path path, long size) {
+        try {
+            return new JournalSpanExporter(Journal.open(path, size));
+        } catch (IOException e) {
+            throw new UncheckedIOException("JDBC Insight failed to open journal " + path, e);
+        }
+    }
+
+    public Journal journal() {
+        return journal;
+    }
+
+    @Override
+    public CompletableResultCode export(Collection<SpanData> spans) {
+        if (shutdown.get()) {
+            return CompletableResultCode.ofFailure();
+        }
+        for (SpanData span : spans) {
+            journal.append(span);
+        }
+        return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+        journal.force();
+        return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        if (!shutdown.compareAndSet(false, true)) {
+            return CompletableResultCode.ofSuccess();
+        }
+        try {
+            journal.close();
+            return CompletableResultCode.ofSuccess();
+        } catch (IOException e) {
+            return CompletableResultCode.ofFailure();
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package insight;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.sdk.metrics.data.HistogramPointData;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histogram on striped adders, so recording from many threads does not contend.
+ * <p>
+ * Bucket {@code i} counts calls that took more than 2<sup>i-1</sup> and at most 2<sup>i</sup> microseconds; the last
+ * bucket takes everything slower.
+ */
+public final class LatencyHistogram {
+    static final int BUCKETS = 25;
+    static final List<Double> BOUNDARIES_SECONDS;
+
+    static {
+        List<Double> boundaries = new ArrayList<>(BUCKETS - 1);
+        for (int i = 0; i < BUCKETS - 1; i++) {
+            boundaries.add((1L << i) / 1_000_000.0);
+        }
+        BOUNDARIES_SECONDS = Collections.unmodifiableList(boundaries);
+    }
+
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAdder[] buckets = new LongAdder[BUCKETS];
+
+    public LatencyHistogram() {
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    public void record(long nanos) {
+        buckets[bucket(nanos)].increment();
+        totalNanos.add(nanos);
+    }
+
+    public long[] counts() {
+        long[] counts = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets[i].sum();
+        }
+        return counts;
+    }
+
+    public long totalNanos() {
+        return totalNanos.sum();
+    }
+
+    static HistogramPointData point(long startEpochNanos, long epochNanos, Attributes attributes, long[] counts,
+                                    long totalNanos) {
+        List<Long> boxed = new ArrayList<>(counts.length);
+        for (long count : counts) {
+            boxed.add(count);
+        }
+        return ProducedMetrics.histogramPoint(startEpochNanos, epochNanos, attributes, totalNanos / 1e9,
+                BOUNDARIES_SECONDS, boxed);
+    }
+
+    static int bucket(long nanos) {
+        long micros = nanos / 1000;
+        if (micros <= 1) {
+            return 0;
+        }
+        return Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(micros - 1));
+    }
+}
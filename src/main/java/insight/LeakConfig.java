@@ -0,0 +1,25 @@
+package insight;
+
+import java.util.Map;
+
+import static insight.ConfigParser.*;
+
+/**
+ * Settings of leak detection for one connection: whether its objects are watched, and the fraction of them whose
+ * creation stack is captured.
+ */
+public record LeakConfig(boolean enabled, double siteRatio) {
+
+    public static final LeakConfig DISABLED = new LeakConfig(false, 0.01);
+
+    public LeakConfig {
+        if (!(siteRatio >= 0 && siteRatio <= 1)) {
+            throw new IllegalArgumentException("Leak site ratio must be between 0 and 1");
+        }
+    }
+
+    public static LeakConfig from(Map<String, String> config) {
+        return new LeakConfig(getBoolean(config, LEAK_DETECTION, DISABLED.enabled),
+                getDouble(config, LEAK_SITE_RATIO, DISABLED.siteRatio));
+    }
+}
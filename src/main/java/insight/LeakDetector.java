@@ -0,0 +1,247 @@
+package insight;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.common.AttributesBuilder;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.Tracer;
+
+import java.lang.ref.PhantomReference;
+import java.lang.ref.ReferenceQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Finds Connections, Statements and ResultSets that became unreachable without {@code close()}. Each wrapper is
+ * watched through a phantom reference that holds its {@link TraceNode} but never the wrapper or the driver object, so
+ * tracking keeps nothing alive. Objects JDBC closes implicitly, through their connection or statement or by running
+ * the statement again, are not leaks. A leak is counted in {@link DriverMetrics#LEAKED_METRIC} and, on traced
+ * connections, reported as a {@value #SPAN_NAME} span under the object's span with its SQL, connection and age. The
+ * creation stack is captured for a sampled fraction of objects only. Leaks are reported by one daemon thread, started
+ * with the first tracked object.
+ */
+public class LeakDetector {
+    public static final String SPAN_NAME = "leak";
+    static final int MAX_FRAMES = 32;
+
+    static final AttributeKey<String> RESOURCE = AttributeKey.stringKey("db.leak.resource");
+    static final AttributeKey<Long> CONNECTION = AttributeKey.longKey("db.leak.connection");
+    static final AttributeKey<Long> AGE = AttributeKey.longKey("db.leak.age_ms");
+    static final AttributeKey<String> STACKTRACE = AttributeKey.stringKey("code.stacktrace");
+
+    private static final AtomicLong CONNECTION_IDS = new AtomicLong();
+
+    private final DriverMetrics metrics;
+    private final Tracer tracer;
+    private final ReferenceQueue<Object> queue = new ReferenceQueue<>();
+    private final Set<Tracked> tracked = ConcurrentHashMap.newKeySet();
+    private volatile Thread reporter;
+    private volatile boolean shutdown;
+
+    public LeakDetector(DriverMetrics metrics, Tracer tracer) {
+        this.metrics = metrics;
+        this.tracer = tracer;
+    }
+
+    /**
+     * Starts watching a wrapper.
+     *
+     * @param owner tracked object that closes this one when it is closed, or {@code null} for a connection
+     * @param sql   SQL the object belongs to, if it is not the statement's own
+     */
+    Tracked track(Object wrapper, DriverMetrics.ResourceKind kind, TraceNode node, Tracked owner, String sql) {
+        if (reporter == null) {
+            start();
+        }
+        double siteRatio = node.config.leaks().siteRatio();
+        Throwable site = siteRatio > 0 && ThreadLocalRandom.current().nextDouble() < siteRatio
+                ? new Throwable("created here") : null;
+        Tracked entry = new Tracked(wrapper, this, kind, node, owner, sql, site);
+        tracked.add(entry);
+        return entry;
+    }
+
+    /**
+     * Objects watched and not yet closed or reported.
+     */
+    public int tracked() {
+        return tracked.size();
+    }
+
+    void shutdown() {
+        shutdown = true;
+        Thread thread = reporter;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    private synchronized void start() {
+        if (reporter != null || shutdown) {
+            return;
+        }
+        Thread thread = new Thread(this::run, "jdbc-insight-leaks");
+        thread.setDaemon(true);
+        thread.start();
+        reporter = thread;
+    }
+
+    private void run() {
+        while (!shutdown) {
+            try {
+                report((Tracked) queue.remove());
+            } catch (InterruptedException e) {
+                return;
+            } catch (RuntimeException e) {
+                // a failing report must not stop the reporter
+            }
+        }
+    }
+
+    private boolean report(Tracked entry) {
+        if (!tracked.remove(entry) || entry.implicitlyClosed()) {
+            return false;
+        }
+        metrics.leaked(entry.kind);
+        TraceNode node = entry.node;
+        if (node.handle != null) {
+            node.handle.release();
+        }
+        if (node.config.tracing() && node.config.backend() == Backend.OTEL && node.sampled) {
+            long ageMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - entry.createdNanos);
+            AttributesBuilder attributes = Attributes.builder()
+                    .put(RESOURCE, entry.kind.name().toLowerCase())
+                    .put(CONNECTION, entry.connectionId)
+                    .put(AGE, ageMs);
+            String sql = entry.sql();
+            if (sql != null) {
+                attributes.put(QueryStatsRegistry.FINGERPRINT,
+                        node.connection.otelFactory().queryStats().fingerprint(sql));
+                if (node.config.capture().enabled()) {
+                    attributes.put(TraceNode.DB_STATEMENT, node.config.capture().render(sql));
+                }
+            }
+            if (entry.site != null) {
+                attributes.put(STACKTRACE, render(entry.site.getStackTrace()));
+            }
+            Span span = tracer.spanBuilder(SPAN_NAME).setParent(node.context).setAllAttributes(attributes.build())
+                    .startSpan();
+            span.setAttribute(SpanInvocation.ERROR, true);
+            span.end();
+        }
+        return true;
+    }
+
+    /**
+     * Frames of the creation site from the caller of the wrapper on, one per line.
+     */
+    static String render(StackTraceElement[] frames) {
+        int start = 0;
+        for (int i = 0; i < frames.length; i++) {
+            String className = frames[i].getClassName();
+            if (isEntryPoint(className)) {
+                start = i + 1;
+            } else if (!className.startsWith("insight.")) {
+                break;
+            }
+        }
+        StringBuilder builder = new StringBuilder();
+        for (int i = start; i < frames.length; i++) {
+            if (i - start == MAX_FRAMES) {
+                builder.append("\t...\n");
+                break;
+            }
+            builder.append("\tat ").append(frames[i]).append('\n');
+        }
+        return builder.toString();
+    }
+
+    private static boolean isEntryPoint(String className) {
+        return className.startsWith("jdk.proxy") || className.startsWith("com.sun.proxy")
+                || className.startsWith("insight.") && (className.endsWith("Wrapper")
+                || className.equals(DriverInsight.class.getName()));
+    }
+
+    /**
+     * Watch on one wrapper, and the close state its own objects check against.
+     */
+    static final class Tracked extends PhantomReference<Object> {
+        private final LeakDetector detector;
+        private final DriverMetrics.ResourceKind kind;
+        private final TraceNode node;
+        private final Tracked owner;
+        private final String sql;
+        private final Throwable site;
+        private final long connectionId;
+        private final long createdNanos = System.nanoTime();
+        private final int ownerExecutions;
+        private volatile int executions;
+        private volatile boolean closed;
+
+        private Tracked(Object wrapper, LeakDetector detector, DriverMetrics.ResourceKind kind, TraceNode node,
+                        Tracked owner, String sql, Throwable site) {
+            super(wrapper, detector.queue);
+            this.detector = detector;
+            this.kind = kind;
+            this.node = node;
+            this.owner = owner;
+            this.sql = sql;
+            this.site = site;
+            this.connectionId = owner == null ? CONNECTION_IDS.incrementAndGet() : owner.connectionId;
+            this.ownerExecutions = owner == null ? 0 : owner.executions;
+        }
+
+        boolean holdsChildren() {
+            return kind != DriverMetrics.ResourceKind.RESULT_SET;
+        }
+
+        /**
+         * This watch or the nearest one of its owners that is of the kind, or {@code null}.
+         */
+        Tracked find(DriverMetrics.ResourceKind kind) {
+            Tracked entry = this;
+            while (entry != null && entry.kind != kind) {
+                entry = entry.owner;
+            }
+            return entry;
+        }
+
+        void closed() {
+            closed = true;
+            if (detector.tracked.remove(this)) {
+                clear();
+            }
+        }
+
+        /**
+         * Marks a new execution of a statement, which closes the ResultSets of the previous one.
+         */
+        void executed() {
+            executions++;
+        }
+
+        private String sql() {
+            if (sql != null) {
+                return sql;
+            }
+            return node.sql != null ? node.sql : node.activeSql();
+        }
+
+        private boolean implicitlyClosed() {
+            for (Tracked entry = this; entry != null; entry = entry.owner) {
+                if (entry.closed) {
+                    return true;
+                }
+                if (entry.kind == DriverMetrics.ResourceKind.RESULT_SET && entry.owner != null
+                        && entry.owner.kind == DriverMetrics.ResourceKind.STATEMENT
+                        && entry.owner.executions != entry.ownerExecutions) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
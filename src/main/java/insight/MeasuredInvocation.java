@@ -0,0 +1,60 @@
+package insight;
+
+/**
+ * A call timed for the {@link OverheadGovernor}: the driver runs from when {@link TraceNode#enter(MethodInfo)}
+ * returns until the wrapper first touches the invocation again, and everything else is instrumentation.
+ */
+final class MeasuredInvocation implements Invocation {
+    private final OverheadGovernor governor;
+    private final MethodInfo info;
+    private final Invocation invocation;
+    private final long startNanos;
+    private final long driverStartNanos;
+    private long driverEndNanos;
+
+    MeasuredInvocation(OverheadGovernor governor, MethodInfo info, long startNanos, Invocation invocation) {
+        this.governor = governor;
+        this.info = info;
+        this.invocation = invocation;
+        this.startNanos = startNanos;
+        this.driverStartNanos = System.nanoTime();
+    }
+
+    @Override
+    public boolean isCapturing() {
+        driverReturned();
+        return invocation.isCapturing();
+    }
+
+    @Override
+    public void capture(Object[] args, Object result) {
+        invocation.capture(args, result);
+    }
+
+    @Override
+    public Object wrap(Object result, Object firstArg) {
+        driverReturned();
+        return invocation.wrap(result, firstArg);
+    }
+
+    @Override
+    public void fail(Throwable e) {
+        driverReturned();
+        invocation.fail(e);
+    }
+
+    @Override
+    public void exit() {
+        driverReturned();
+        invocation.exit();
+        long end = System.nanoTime();
+        governor.record(OverheadGovernor.CallClass.of(info),
+                (driverStartNanos - startNanos) + (end - driverEndNanos), driverEndNanos - driverStartNanos, end);
+    }
+
+    private void driverReturned() {
+        if (driverEndNanos == 0) {
+            driverEndNanos = System.nanoTime();
+        }
+    }
+}
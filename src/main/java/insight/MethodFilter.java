@@ -0,0 +1,122 @@
+package insight;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+/**
+ * Decides which JDBC methods are traced. Patterns are {@code Interface.method} or just {@code method}, with {@code *}
+ * as a wildcard, for example {@code Statement.execute*} or {@code isClosed}. An interface pattern also matches methods
+ * declared by its sub-interfaces, so {@code Statement.execute*} covers {@code PreparedStatement.executeQuery()}. A method is
+ * traced if it matches an include pattern (or there are none) and no exclude pattern. Decisions are made once per
+ * method and kept in a table indexed by {@link MethodInfo#id()}.
+ */
+public class MethodFilter {
+    public static final MethodFilter ALL = new MethodFilter(List.of(), List.of());
+
+    private static final byte UNKNOWN = 0;
+    private static final byte TRACED = 1;
+    private static final byte FILTERED = 2;
+
+    private final List<Rule> includes;
+    private final List<Rule> excludes;
+    private volatile byte[] decisions = new byte[0];
+
+    private MethodFilter(List<Rule> includes, List<Rule> excludes) {
+        this.includes = includes;
+        this.excludes = excludes;
+    }
+
+    public static MethodFilter parse(String includes, String excludes) {
+        if (Objects.isNull(includes) && Objects.isNull(excludes)) {
+            return ALL;
+        }
+        return new MethodFilter(rules(includes), rules(excludes));
+    }
+
+    public boolean isTraced(MethodInfo info) {
+        if (this == ALL) {
+            return true;
+        }
+        byte[] current = decisions;
+        int id = info.id();
+        if (id < current.length && current[id] != UNKNOWN) {
+            return current[id] == TRACED;
+        }
+        return decide(info);
+    }
+
+    private synchronized boolean decide(MethodInfo info) {
+        boolean traced = matches(includes, info, true) && !matches(excludes, info, false);
+        byte[] current = decisions;
+        if (info.id() >= current.length) {
+            current = Arrays.copyOf(current, Math.max(info.id() + 1, current.length * 2));
+        }
+        current[info.id()] = traced ? TRACED : FILTERED;
+        decisions = current;
+        return traced;
+    }
+
+    private static boolean matches(List<Rule> rules, MethodInfo info, boolean whenEmpty) {
+        if (rules.isEmpty()) {
+            return whenEmpty;
+        }
+        for (Rule rule : rules) {
+            if (rule.matches(info)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<Rule> rules(String patterns) {
+        List<Rule> rules = new ArrayList<>();
+        if (Objects.isNull(patterns)) {
+            return rules;
+        }
+        for (String pattern : patterns.split(",")) {
+            pattern = pattern.trim();
+            if (pattern.isEmpty()) {
+                continue;
+            }
+            int dot = pattern.lastIndexOf('.');
+            rules.add(new Rule(dot < 0 ? null : glob(pattern.substring(0, dot)), glob(pattern.substring(dot + 1))));
+        }
+        return rules;
+    }
+
+    private static Pattern glob(String glob) {
+        StringBuilder regex = new StringBuilder();
+        for (String part : glob.split("\\*", -1)) {
+            if (regex.length() > 0) {
+                regex.append(".*");
+            }
+            regex.append(Pattern.quote(part));
+        }
+        return Pattern.compile(regex.toString());
+    }
+
+    private record Rule(Pattern type, Pattern method) {
+
+        boolean matches(MethodInfo info) {
+            if (!method.matcher(info.method().getName()).matches()) {
+                return false;
+            }
+            return Objects.isNull(type) || matchesType(info.method().getDeclaringClass());
+        }
+
+        private boolean matchesType(Class<?> type) {
+            if (this.type.matcher(type.getSimpleName()).matches()) {
+                return true;
+            }
+            for (Class<?> superType : type.getInterfaces()) {
+                if (matchesType(superType)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
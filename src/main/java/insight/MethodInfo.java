@@ -0,0 +1,341 @@
+package insight;
+
+import io.opentelemetry.api.common.AttributeKey;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static insight.Utils.buildMethodSignature;
+
+/**
+ * Everything the invocation path needs to know about a JDBC method, computed once per {@link Method}. The cache hangs
+ * off the declaring class, so metadata of vendor interfaces goes away with their class loader.
+ */
+public final class MethodInfo {
+    public static final AttributeKey<String> RETURN_KEY = AttributeKey.stringKey("return");
+
+    private static final AtomicInteger IDS = new AtomicInteger();
+    private static final ClassValue<Map<Method, MethodInfo>> CACHE = new ClassValue<>() {
+        @Override
+        protected Map<Method, MethodInfo> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    /**
+     * Column getters of {@link ResultSet}, in the order used by {@link #getterIndex()}.
+     */
+    public static final List<String> RESULT_SET_GETTERS = List.of("getArray", "getAsciiStream", "getBigDecimal",
+            "getBinaryStream", "getBlob", "getBoolean", "getByte", "getBytes", "getCharacterStream", "getClob",
+            "getDate", "getDouble", "getFloat", "getInt", "getLong", "getNCharacterStream", "getNClob", "getNString",
+            "getObject", "getRef", "getRowId", "getSQLXML", "getShort", "getString", "getTime", "getTimestamp",
+            "getURL", "getUnicodeStream");
+
+    public enum ReturnKind {
+        VOID,
+        /**
+         * A class, or a {@code java.util} collection such as the type map, returned as it is.
+         */
+        VALUE,
+        PROXY,
+        RESULT_SET,
+        /**
+         * An {@code InputStream}, {@code Reader}, {@code OutputStream} or {@code Writer}, as returned by LOB and
+         * stream getters.
+         */
+        STREAM
+    }
+
+    public enum ResultSetRole {
+        NONE,
+        NEXT,
+        GETTER,
+        CLOSE
+    }
+
+    public enum ParameterRole {
+        NONE,
+        BIND,
+        BIND_NULL,
+        CLEAR
+    }
+
+    public enum BatchRole {
+        NONE,
+        ADD,
+        CLEAR,
+        EXECUTE
+    }
+
+    public enum TransactionRole {
+        NONE,
+        COMMIT,
+        ROLLBACK,
+        SET_AUTO_COMMIT,
+        GET_AUTO_COMMIT,
+        SAVEPOINT,
+        ROLLBACK_TO_SAVEPOINT,
+        RELEASE_SAVEPOINT,
+        /**
+         * {@code Connection.close()}, which ends an open transaction.
+         */
+        CLOSE
+    }
+
+    private final int id;
+    private final Method method;
+    private final String spanName;
+    private final List<AttributeKey<String>> argKeys;
+    private final ReturnKind returnKind;
+    private final String returnScope;
+    private final ResultSetRole resultSetRole;
+    private final int getterIndex;
+    private final boolean executesStatement;
+    private final ParameterRole parameterRole;
+    private final TransactionRole transactionRole;
+    private final BatchRole batchRole;
+    private final boolean closesResource;
+
+    private MethodInfo(Method method) {
+        this.id = IDS.getAndIncrement();
+        this.method = method;
+        this.spanName = buildMethodSignature(method);
+        List<AttributeKey<String>> keys = new ArrayList<>(method.getParameterCount());
+        for (int i = 0; i < method.getParameterCount(); i++) {
+            keys.add(AttributeKey.stringKey("arg" + i));
+        }
+        this.argKeys = List.copyOf(keys);
+        this.returnKind = classify(method.getReturnType());
+        this.returnScope = method.getReturnType().getSimpleName();
+        this.getterIndex = ResultSet.class.isAssignableFrom(method.getDeclaringClass())
+                && method.getParameterCount() > 0 ? RESULT_SET_GETTERS.indexOf(method.getName()) : -1;
+        this.resultSetRole = resultSetRole(method, getterIndex);
+        this.executesStatement = Statement.class.isAssignableFrom(method.getDeclaringClass())
+                && method.getName().startsWith("execute");
+        this.parameterRole = parameterRole(method);
+        this.transactionRole = transactionRole(method);
+        this.batchRole = batchRole(method);
+        this.closesResource = method.getParameterCount() == 0 && method.getName().equals("close");
+    }
+
+    public static MethodInfo of(Method method) {
+        Map<Method, MethodInfo> infos = CACHE.get(method.getDeclaringClass());
+        MethodInfo info = infos.get(method);
+        if (info == null) {
+            info = infos.computeIfAbsent(method, MethodInfo::new);
+        }
+        return info;
+    }
+
+    public static MethodInfo of(Class<?> type, String name, Class<?>... parameterTypes) {
+        try {
+            return of(type.getMethod(name, parameterTypes));
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException("JDBC Insight expects " + type.getName() + "." + name, e);
+        }
+    }
+
+    /**
+     * Small unique number, usable as an index into per-connection decision tables.
+     */
+    public int id() {
+        return id;
+    }
+
+    public Method method() {
+        return method;
+    }
+
+    public String spanName() {
+        return spanName;
+    }
+
+    public AttributeKey<String> argKey(int index) {
+        return argKeys.get(index);
+    }
+
+    public boolean capturesArgs() {
+        return !argKeys.isEmpty();
+    }
+
+    public boolean capturesReturn() {
+        return returnKind != ReturnKind.VOID;
+    }
+
+    public ReturnKind returnKind() {
+        return returnKind;
+    }
+
+    public boolean returnsProxy() {
+        return returnKind == ReturnKind.PROXY || returnKind == ReturnKind.RESULT_SET;
+    }
+
+    /**
+     * Whether the returned object is wrapped: a JDBC object, or a stream counted by a {@link StreamTracker}.
+     */
+    public boolean wrapsResult() {
+        return returnKind != ReturnKind.VOID && returnKind != ReturnKind.VALUE;
+    }
+
+    public boolean returnsStatement() {
+        return returnKind == ReturnKind.PROXY && Statement.class.isAssignableFrom(method.getReturnType());
+    }
+
+    /**
+     * Whether this is one of the {@code execute*} methods of a statement.
+     */
+    public boolean executesStatement() {
+        return executesStatement;
+    }
+
+    public ParameterRole parameterRole() {
+        return parameterRole;
+    }
+
+    public TransactionRole transactionRole() {
+        return transactionRole;
+    }
+
+    /**
+     * Part the method plays in a statement batch: {@code addBatch}, {@code clearBatch} or
+     * {@code executeBatch}/{@code executeLargeBatch}.
+     */
+    public BatchRole batchRole() {
+        return batchRole;
+    }
+
+    /**
+     * Whether this is the {@code close()} method of the object.
+     */
+    public boolean closesResource() {
+        return closesResource;
+    }
+
+    /**
+     * Whether the call creates a statement, as opposed to returning an existing one.
+     */
+    public boolean createsStatement() {
+        return returnsStatement() && Connection.class.isAssignableFrom(method.getDeclaringClass());
+    }
+
+    /**
+     * Kind of the object returned when the call returns what the object was opened through, as {@code getStatement()}
+     * and {@code getConnection()} do, otherwise {@code null}.
+     */
+    public DriverMetrics.ResourceKind returnedOwner() {
+        if (method.getReturnType() == Connection.class) {
+            return DriverMetrics.ResourceKind.CONNECTION;
+        }
+        return returnsStatement() && !createsStatement() ? DriverMetrics.ResourceKind.STATEMENT : null;
+    }
+
+    public String returnScope() {
+        return returnScope;
+    }
+
+    public ResultSetRole resultSetRole() {
+        return resultSetRole;
+    }
+
+    /**
+     * Position of the method name in {@link #RESULT_SET_GETTERS}, or -1 if it is not a ResultSet column getter.
+     */
+    public int getterIndex() {
+        return getterIndex;
+    }
+
+    private static ResultSetRole resultSetRole(Method method, int getterIndex) {
+        if (!ResultSet.class.isAssignableFrom(method.getDeclaringClass())) {
+            return ResultSetRole.NONE;
+        }
+        if (getterIndex >= 0) {
+            return ResultSetRole.GETTER;
+        }
+        if (method.getParameterCount() == 0 && method.getName().equals("next")) {
+            return ResultSetRole.NEXT;
+        }
+        if (method.getParameterCount() == 0 && method.getName().equals("close")) {
+            return ResultSetRole.CLOSE;
+        }
+        return ResultSetRole.NONE;
+    }
+
+    private static TransactionRole transactionRole(Method method) {
+        if (!Connection.class.isAssignableFrom(method.getDeclaringClass())) {
+            return TransactionRole.NONE;
+        }
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        if (parameterTypes.length == 0) {
+            return switch (method.getName()) {
+                case "commit" -> TransactionRole.COMMIT;
+                case "rollback" -> TransactionRole.ROLLBACK;
+                case "getAutoCommit" -> TransactionRole.GET_AUTO_COMMIT;
+                case "setSavepoint" -> TransactionRole.SAVEPOINT;
+                case "close" -> TransactionRole.CLOSE;
+                default -> TransactionRole.NONE;
+            };
+        }
+        if (parameterTypes.length > 1) {
+            return TransactionRole.NONE;
+        }
+        return switch (method.getName()) {
+            case "setAutoCommit" -> TransactionRole.SET_AUTO_COMMIT;
+            case "setSavepoint" -> TransactionRole.SAVEPOINT;
+            case "rollback" -> TransactionRole.ROLLBACK_TO_SAVEPOINT;
+            case "releaseSavepoint" -> TransactionRole.RELEASE_SAVEPOINT;
+            default -> TransactionRole.NONE;
+        };
+    }
+
+    private static BatchRole batchRole(Method method) {
+        if (!Statement.class.isAssignableFrom(method.getDeclaringClass())) {
+            return BatchRole.NONE;
+        }
+        return switch (method.getName()) {
+            case "addBatch" -> BatchRole.ADD;
+            case "clearBatch" -> BatchRole.CLEAR;
+            case "executeBatch", "executeLargeBatch" -> BatchRole.EXECUTE;
+            default -> BatchRole.NONE;
+        };
+    }
+
+    private static ParameterRole parameterRole(Method method) {
+        if (!PreparedStatement.class.isAssignableFrom(method.getDeclaringClass())) {
+            return ParameterRole.NONE;
+        }
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        if (method.getName().startsWith("set") && parameterTypes.length >= 2 && parameterTypes[0] == int.class) {
+            return method.getName().equals("setNull") ? ParameterRole.BIND_NULL : ParameterRole.BIND;
+        }
+        if (parameterTypes.length == 0 && method.getName().equals("clearParameters")) {
+            return ParameterRole.CLEAR;
+        }
+        return ParameterRole.NONE;
+    }
+
+    private static ReturnKind classify(Class<?> returnType) {
+        if (void.class.equals(returnType)) {
+            return ReturnKind.VOID;
+        }
+        if (returnType == InputStream.class || returnType == Reader.class || returnType == OutputStream.class
+                || returnType == Writer.class) {
+            return ReturnKind.STREAM;
+        }
+        if (!returnType.isInterface() || returnType.getPackageName().equals("java.util")) {
+            return ReturnKind.VALUE;
+        }
+        return returnType.isAssignableFrom(ResultSet.class) ? ReturnKind.RESULT_SET : ReturnKind.PROXY;
+    }
+}
@@ -0,0 +1,29 @@
+package insight;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static insight.ConfigParser.*;
+
+/**
+ * Settings of N+1 detection for one connection. A threshold of 0 turns detection off.
+ */
+public record NPlusOneConfig(int threshold, Duration window) {
+
+    public static final NPlusOneConfig DEFAULT = new NPlusOneConfig(10, Duration.ofSeconds(1));
+
+    public NPlusOneConfig {
+        if (threshold < 0 || window.isNegative() || window.isZero()) {
+            throw new IllegalArgumentException("N+1 threshold must not be negative and window must be positive");
+        }
+    }
+
+    public static NPlusOneConfig from(Map<String, String> config) {
+        return new NPlusOneConfig(getInt(config, N_PLUS_ONE_THRESHOLD, DEFAULT.threshold),
+                Duration.ofMillis(getInt(config, N_PLUS_ONE_WINDOW_MS, (int) DEFAULT.window.toMillis())));
+    }
+
+    public boolean enabled() {
+        return threshold > 0;
+    }
+}
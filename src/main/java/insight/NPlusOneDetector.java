@@ -0,0 +1,95 @@
+package insight;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Spots N+1 patterns on one connection: the same SQL fingerprint executed {@code threshold} times inside one
+ * transaction or, outside transactions, inside one time window. Only distinct executions count: running the same SQL
+ * text with the same bound values again, as polling does, is not a repeat. Each pattern is reported once per
+ * transaction or window, as a {@value #EVENT_NAME} span event and in {@link QueryStatsRegistry#N_PLUS_ONE_METRIC}.
+ * At most {@link #MAX_FINGERPRINTS} fingerprints are followed, the least recently executed forgotten first. Like the
+ * connection, it expects to be used by one thread at a time.
+ */
+public class NPlusOneDetector {
+    public static final String EVENT_NAME = "db.query.n_plus_one";
+    public static final int MAX_FINGERPRINTS = 32;
+
+    static final AttributeKey<Long> REPEATS = AttributeKey.longKey("db.query.repeats");
+
+    private final QueryStatsRegistry registry;
+    private final int threshold;
+    private final long windowNanos;
+    private final Map<String, Repeats> recent = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Repeats> eldest) {
+            return size() > MAX_FINGERPRINTS;
+        }
+    };
+
+    public NPlusOneDetector(QueryStatsRegistry registry, NPlusOneConfig config) {
+        this.registry = registry;
+        this.threshold = config.threshold();
+        this.windowNanos = config.window().toNanos();
+    }
+
+    /**
+     * Counts an execution of the SQL, inside the given transaction or outside any when it is -1.
+     *
+     * @param values hash of the SQL text and bound values, equal for executions that are not counted again
+     * @return attributes of the event to record if this execution completes a pattern, otherwise {@code null}
+     */
+    Attributes executed(String sql, int values, long transaction, long now) {
+        String fingerprint = registry.fingerprint(sql);
+        Repeats repeats = recent.get(fingerprint);
+        if (repeats == null) {
+            repeats = new Repeats();
+            recent.put(fingerprint, repeats);
+            repeats.reset(transaction, now);
+        } else if (repeats.transaction != transaction || transaction < 0 && now - repeats.startNanos > windowNanos) {
+            repeats.reset(transaction, now);
+        }
+        if (repeats.count >= threshold || !repeats.add(values) || repeats.count != threshold) {
+            return null;
+        }
+        registry.repeated(fingerprint);
+        return Attributes.of(QueryStatsRegistry.FINGERPRINT, fingerprint, REPEATS, (long) threshold);
+    }
+
+    int size() {
+        return recent.size();
+    }
+
+    private static final class Repeats {
+        long transaction;
+        long startNanos;
+        int count;
+        int[] seen = new int[4];
+
+        void reset(long transaction, long now) {
+            this.transaction = transaction;
+            this.startNanos = now;
+            this.count = 0;
+        }
+
+        /**
+         * Counts the execution unless one with the same values was already counted.
+         */
+        boolean add(int values) {
+            for (int i = 0; i < count; i++) {
+                if (seen[i] == values) {
+                    return false;
+                }
+            }
+            if (count == seen.length) {
+                seen = Arrays.copyOf(seen, count * 2);
+            }
+            seen[count++] = values;
+            return true;
+        }
+    }
+}
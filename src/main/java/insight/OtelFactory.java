@@ -1,37 +1,315 @@
 package insight;
 
-import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
 import io.opentelemetry.api.trace.Tracer;
 import io.opentelemetry.exporter.logging.LoggingSpanExporter;
+import io.opentelemetry.exporter.otlp.metrics.OtlpGrpcMetricExporter;
 import io.opentelemetry.exporter.otlp.trace.OtlpGrpcSpanExporter;
 import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.metrics.SdkMeterProvider;
+import io.opentelemetry.sdk.metrics.SdkMeterProviderBuilder;
+import io.opentelemetry.sdk.metrics.export.MetricReader;
+import io.opentelemetry.sdk.metrics.export.PeriodicMetricReader;
 import io.opentelemetry.sdk.resources.Resource;
 import io.opentelemetry.sdk.trace.SdkTracerProvider;
-import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
+/**
+ * Owns the OpenTelemetry SDK used by the driver. The SDK and its exporters are built once, on the first
+ * {@link #initTracer(String)} call, and tracers are cached per instrumentation scope. Metrics are produced from
+ * driver-side counters when the metric reader collects; the reader is only created once a connection records metrics.
+ */
 public class OtelFactory {
+    public static final String SERVICE_NAME = "jdbc-insight";
+    static final int MAX_TRACERS = 256;
 
-    public Tracer initTracer(String serviceName) {
-        OtlpGrpcSpanExporter grpcSpanExporter = OtlpGrpcSpanExporter.builder()
-                .setEndpoint("http://127.0.0.1:4317")
-                .build();
+    private static final OtelFactory INSTANCE = new OtelFactory();
+
+    private final Function<ExportConfig, SpanExporter> exporterFactory;
+    private final Function<ExportConfig, MetricReader> metricReaderFactory;
+    private final Map<String, Tracer> tracers = new ConcurrentHashMap<>();
+    private volatile ExportConfig exportConfig = ExportConfig.DEFAULT;
+    private volatile BoundedBatchSpanProcessor spanProcessor;
+    private volatile SlowQuerySpanProcessor slowQueryProcessor;
+    private volatile QueryStatsRegistry queryStats;
+    private volatile DriverMetrics driverMetrics;
+    private volatile LeakDetector leakDetector;
+    private volatile OverheadGovernor overheadGovernor;
+    private volatile WorkloadRecorder workloadRecorder;
+    private volatile CallCost callCost;
+    private volatile Resource resource;
+    private volatile SdkMeterProvider meterProvider;
+    private volatile OpenTelemetrySdk sdk;
+    private volatile boolean shutdown;
+
+    public OtelFactory() {
+        this.exporterFactory = OtelFactory::defaultExporter;
+        this.metricReaderFactory = OtelFactory::defaultMetricReader;
+    }
+
+    public OtelFactory(Supplier<SpanExporter> exporterFactory) {
+        this(exporterFactory, () -> null);
+    }
+
+    /**
+     * @param metricReaderFactory supplies the reader that collects metrics, or {@code null} to not export metrics
+     */
+    public OtelFactory(Supplier<SpanExporter> exporterFactory, Supplier<MetricReader> metricReaderFactory) {
+        this.exporterFactory = config -> exporterFactory.get();
+        this.metricReaderFactory = config -> metricReaderFactory.get();
+    }
+
+    public static OtelFactory getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the tracer for the given instrumentation scope. Once {@link #MAX_TRACERS} scopes are registered,
+     * unknown scopes share the default {@value #SERVICE_NAME} tracer.
+     */
+    public Tracer initTracer(String scopeName) {
+        Tracer tracer = tracers.get(scopeName);
+        if (tracer != null) {
+            return tracer;
+        }
+        if (tracers.size() >= MAX_TRACERS) {
+            return tracers.computeIfAbsent(SERVICE_NAME, this::buildTracer);
+        }
+        return tracers.computeIfAbsent(scopeName, this::buildTracer);
+    }
+
+    /**
+     * Sets the export pipeline settings. Has no effect once the SDK has been built.
+     *
+     * @return {@code true} if the settings were applied
+     */
+    public synchronized boolean configure(ExportConfig exportConfig) {
+        if (sdk != null) {
+            return false;
+        }
+        this.exportConfig = Objects.requireNonNull(exportConfig);
+        return true;
+    }
+
+    /**
+     * Export pipeline settings in effect, or to be used when the SDK is built.
+     */
+    public ExportConfig exportConfig() {
+        return exportConfig;
+    }
+
+    public BoundedBatchSpanProcessor.Stats exportStats() {
+        BoundedBatchSpanProcessor processor = spanProcessor;
+        return processor == null ? new BoundedBatchSpanProcessor.Stats(0, 0, 0, 0, 0) : processor.stats();
+    }
+
+    public SlowQuerySpanProcessor.Stats slowQueryStats() {
+        SlowQuerySpanProcessor processor = slowQueryProcessor;
+        return processor == null ? new SlowQuerySpanProcessor.Stats(0, 0, 0, 0, 0) : processor.stats();
+    }
+
+    /**
+     * Per-fingerprint statement statistics of the whole process, including the "top queries by total time" view.
+     */
+    public QueryStatsRegistry queryStats() {
+        sdk();
+        return queryStats;
+    }
+
+    /**
+     * Connection and statement activity of the whole process.
+     */
+    public DriverMetrics driverMetrics() {
+        sdk();
+        return driverMetrics;
+    }
 
-        LoggingSpanExporter loggingSpanExporter = new LoggingSpanExporter();
+    /**
+     * Unclosed-object detection of the whole process.
+     */
+    public LeakDetector leakDetector() {
+        sdk();
+        return leakDetector;
+    }
+
+    /**
+     * Governor of instrumentation detail, or {@code null} if no overhead budget is set.
+     */
+    public OverheadGovernor overheadGovernor() {
+        sdk();
+        return overheadGovernor;
+    }
+
+    /**
+     * CPU time and allocation of measured driver calls. Created on the first call, which turns on the JVM's thread CPU
+     * time and allocation measurement.
+     */
+    public CallCost callCost() {
+        CallCost current = callCost;
+        if (current == null) {
+            synchronized (this) {
+                current = callCost;
+                if (current == null) {
+                    current = new CallCost();
+                    callCost = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Capture of the workload, or {@code null} if no workload path is set.
+     */
+    public WorkloadRecorder workloadRecorder() {
+        sdk();
+        return workloadRecorder;
+    }
+
+    /**
+     * Starts exporting metrics, for a connection that records them. Has no effect after the first call.
+     */
+    void exportMetrics() {
+        if (meterProvider != null) {
+            return;
+        }
+        sdk();
+        synchronized (this) {
+            if (meterProvider == null && !shutdown) {
+                meterProvider = buildMeterProvider();
+            }
+        }
+    }
+
+    public void forceFlush() {
+        BoundedBatchSpanProcessor processor = spanProcessor;
+        if (processor != null) {
+            processor.forceFlush();
+        }
+    }
+
+    public void shutdown() {
+        OpenTelemetrySdk current;
+        SdkMeterProvider meters;
+        synchronized (this) {
+            shutdown = true;
+            current = sdk;
+            meters = meterProvider;
+        }
+        if (current != null) {
+            leakDetector.shutdown();
+            if (workloadRecorder != null) {
+                try {
+                    workloadRecorder.close();
+                } catch (IOException e) {
+                    // the log keeps what was written before the failure
+                }
+            }
+            current.getSdkTracerProvider().shutdown().join(10, TimeUnit.SECONDS);
+            if (meters != null) {
+                meters.shutdown().join(10, TimeUnit.SECONDS);
+            }
+        }
+    }
+
+    int tracerCount() {
+        return tracers.size();
+    }
+
+    private Tracer buildTracer(String scopeName) {
+        return sdk().getTracerProvider().tracerBuilder(scopeName).build();
+    }
+
+    private OpenTelemetrySdk sdk() {
+        OpenTelemetrySdk current = sdk;
+        if (current == null) {
+            synchronized (this) {
+                current = sdk;
+                if (current == null) {
+                    if (shutdown) {
+                        throw new IllegalStateException("JDBC Insight telemetry has been shut down");
+                    }
+                    current = buildSdk();
+                    sdk = current;
+                    Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown, "jdbc-insight-shutdown"));
+                }
+            }
+        }
+        return current;
+    }
 
+    private OpenTelemetrySdk buildSdk() {
+        resource = Resource.getDefault().merge(Resource.builder()
+                .put(AttributeKey.stringKey("service.name"), SERVICE_NAME)
+                .build());
+        queryStats = new QueryStatsRegistry(exportConfig.fingerprintCacheSize(), exportConfig.maxFingerprints());
+        driverMetrics = new DriverMetrics();
+        overheadGovernor = exportConfig.overheadBudgetPercent() > 0
+                ? new OverheadGovernor(exportConfig.overheadBudgetPercent(), Duration.ofSeconds(1)) : null;
+        workloadRecorder = exportConfig.workloadPath() != null
+                ? WorkloadRecorder.open(Path.of(exportConfig.workloadPath())) : null;
+        spanProcessor = new BoundedBatchSpanProcessor(exporterFactory.apply(exportConfig), exportConfig);
+        slowQueryProcessor = new SlowQuerySpanProcessor(spanProcessor, exportConfig.slowQueryMaxSpans());
         SdkTracerProvider tracerProvider = SdkTracerProvider.builder()
-                .addSpanProcessor(SimpleSpanProcessor.builder(grpcSpanExporter).build())
-                .addSpanProcessor(SimpleSpanProcessor.builder(loggingSpanExporter).build())
-                .setResource(Resource.getDefault().merge(Resource.builder()
-                        .put("service.name", serviceName)
-                        .build()))
+                .addSpanProcessor(slowQueryProcessor)
+                .setSampler(SlowQuerySpanProcessor.sampler(Sampler.parentBased(Sampler.alwaysOn())))
+                .setResource(resource)
                 .build();
+        leakDetector = new LeakDetector(driverMetrics, tracerProvider.tracerBuilder("LeakDetector").build());
 
-        OpenTelemetry openTelemetry = OpenTelemetrySdk.builder()
+        return OpenTelemetrySdk.builder()
                 .setTracerProvider(tracerProvider)
                 .build();
+    }
+
+    private SdkMeterProvider buildMeterProvider() {
+        SdkMeterProviderBuilder meterProvider = SdkMeterProvider.builder()
+                .setResource(resource);
+        MetricReader metricReader = metricReaderFactory.apply(exportConfig);
+        if (metricReader != null) {
+            meterProvider.registerMetricReader(metricReader)
+                    .registerMetricProducer(queryStats)
+                    .registerMetricProducer(driverMetrics)
+                    .registerMetricProducer(resource -> {
+                        CallCost current = callCost;
+                        return current == null ? List.of() : current.produce(resource);
+                    });
+            if (overheadGovernor != null) {
+                meterProvider.registerMetricProducer(overheadGovernor);
+            }
+        }
+        return meterProvider.build();
+    }
 
-        return openTelemetry.getTracerProvider().tracerBuilder("scope_name_" + serviceName).build();
+    private static MetricReader defaultMetricReader(ExportConfig config) {
+        return PeriodicMetricReader.builder(OtlpGrpcMetricExporter.builder()
+                        .setEndpoint("http://127.0.0.1:4317")
+                        .build())
+                .setInterval(config.metricsInterval())
+                .build();
     }
 
+    private static SpanExporter defaultExporter(ExportConfig config) {
+        SpanExporter spanExporter = config.journalPath() != null
+                ? JournalSpanExporter.open(Path.of(config.journalPath()), config.journalSizeMb() * 1024L * 1024L)
+                : OtlpGrpcSpanExporter.builder()
+                        .setEndpoint("http://127.0.0.1:4317")
+                        .build();
+        if (!config.loggingExporter()) {
+            return spanExporter;
+        }
+        return SpanExporter.composite(spanExporter, LoggingSpanExporter.create());
+    }
 }
@@ -0,0 +1,218 @@
+package insight;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.metrics.data.DoublePointData;
+import io.opentelemetry.sdk.metrics.data.MetricData;
+import io.opentelemetry.sdk.metrics.export.MetricProducer;
+import io.opentelemetry.sdk.resources.Resource;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps the time spent in instrumentation within a budget of the time spent in the driver. One call in
+ * {@value #SAMPLE_EVERY} per connection is timed, split into instrumentation and driver time by call class. Once per
+ * interval, if instrumentation took more than the budget, detail steps down one {@link Level}; after
+ * {@value #CALM_INTERVALS} intervals below half the budget, it steps back up. The level and the overhead of the last
+ * interval are exported as {@value #LEVEL_METRIC} and {@value #OVERHEAD_METRIC}.
+ */
+public class OverheadGovernor implements MetricProducer {
+    public static final String LEVEL_METRIC = "db.client.instrumentation.level";
+    public static final String OVERHEAD_METRIC = "db.client.instrumentation.overhead";
+    static final AttributeKey<String> LEVEL = AttributeKey.stringKey("db.client.instrumentation.detail");
+    static final AttributeKey<String> CALL_CLASS = AttributeKey.stringKey("db.client.call_class");
+    static final int SAMPLE_EVERY = 64;
+    static final int MIN_SAMPLES = 16;
+    static final int CALM_INTERVALS = 3;
+    static final double SAMPLED_STATEMENT_RATIO = 0.1;
+
+    private static final InstrumentationScopeInfo SCOPE = InstrumentationScopeInfo.create(OtelFactory.SERVICE_NAME);
+
+    public enum Level {
+        /**
+         * Everything the connection is configured for.
+         */
+        FULL,
+        /**
+         * No argument, return, bind or SQL text capture.
+         */
+        NO_CAPTURE,
+        /**
+         * Only {@code execute*} calls get spans.
+         */
+        EXECUTIONS_ONLY,
+        /**
+         * Only {@value #SAMPLED_STATEMENT_RATIO} of the statements are traced.
+         */
+        SAMPLED
+    }
+
+    public enum CallClass {
+        EXECUTE,
+        FETCH,
+        OTHER;
+
+        static CallClass of(MethodInfo info) {
+            if (info.executesStatement()) {
+                return EXECUTE;
+            }
+            return info.resultSetRole() == MethodInfo.ResultSetRole.NONE ? OTHER : FETCH;
+        }
+    }
+
+    private final double budget;
+    private final long intervalNanos;
+    private final LongAdder[] overheadNanos = adders();
+    private final LongAdder[] driverNanos = adders();
+    private final LongAdder[] samples = adders();
+    private final AtomicLong nextEvaluation;
+    private final long[] lastOverhead = new long[CallClass.values().length];
+    private final long[] lastDriver = new long[CallClass.values().length];
+    private final long[] lastSamples = new long[CallClass.values().length];
+    private final double[] classOverhead = new double[CallClass.values().length];
+    private volatile Level level = Level.FULL;
+    private volatile double overhead;
+    private int calmIntervals;
+
+    /**
+     * @param budgetPercent instrumentation time allowed, in percent of driver time
+     */
+    public OverheadGovernor(double budgetPercent, Duration interval) {
+        if (!(budgetPercent > 0) || interval.isNegative() || interval.isZero()) {
+            throw new IllegalArgumentException("Overhead budget and interval must be positive");
+        }
+        this.budget = budgetPercent / 100;
+        this.intervalNanos = interval.toNanos();
+        this.nextEvaluation = new AtomicLong(System.nanoTime() + intervalNanos);
+    }
+
+    public Level level() {
+        return level;
+    }
+
+    /**
+     * Instrumentation time over driver time of the timed calls in the last interval.
+     */
+    public double overhead() {
+        return overhead;
+    }
+
+    boolean captures() {
+        return level == Level.FULL;
+    }
+
+    /**
+     * Whether a call gets a span at the current level.
+     */
+    boolean traces(MethodInfo info) {
+        return level.compareTo(Level.EXECUTIONS_ONLY) < 0 || info.executesStatement();
+    }
+
+    boolean sampleStatement() {
+        return level != Level.SAMPLED || ThreadLocalRandom.current().nextDouble() < SAMPLED_STATEMENT_RATIO;
+    }
+
+    void record(CallClass callClass, long overheadNanos, long driverNanos, long now) {
+        this.overheadNanos[callClass.ordinal()].add(overheadNanos);
+        this.driverNanos[callClass.ordinal()].add(driverNanos);
+        samples[callClass.ordinal()].increment();
+        long next = nextEvaluation.get();
+        if (now - next >= 0 && nextEvaluation.compareAndSet(next, now + intervalNanos)) {
+            evaluate();
+        }
+    }
+
+    private synchronized void evaluate() {
+        int classes = classOverhead.length;
+        long[] totalOverhead = new long[classes];
+        long[] totalDriver = new long[classes];
+        long[] totalSamples = new long[classes];
+        long windowSamples = 0;
+        for (int i = 0; i < classes; i++) {
+            totalOverhead[i] = overheadNanos[i].sum();
+            totalDriver[i] = driverNanos[i].sum();
+            totalSamples[i] = samples[i].sum();
+            windowSamples += totalSamples[i] - lastSamples[i];
+        }
+        if (windowSamples < MIN_SAMPLES) {
+            // too few calls to measure, which is as calm as it gets
+            calm();
+            return;
+        }
+        long windowOverhead = 0;
+        long windowDriver = 0;
+        for (int i = 0; i < classes; i++) {
+            if (totalSamples[i] > lastSamples[i]) {
+                classOverhead[i] = ratio(totalOverhead[i] - lastOverhead[i], totalDriver[i] - lastDriver[i]);
+            }
+            windowOverhead += totalOverhead[i] - lastOverhead[i];
+            windowDriver += totalDriver[i] - lastDriver[i];
+            lastOverhead[i] = totalOverhead[i];
+            lastDriver[i] = totalDriver[i];
+            lastSamples[i] = totalSamples[i];
+        }
+        double current = ratio(windowOverhead, windowDriver);
+        overhead = current;
+        if (current > budget) {
+            calmIntervals = 0;
+            if (level.ordinal() < Level.values().length - 1) {
+                level = Level.values()[level.ordinal() + 1];
+            }
+        } else if (current < budget / 2) {
+            calm();
+        } else {
+            calmIntervals = 0;
+        }
+    }
+
+    private void calm() {
+        if (level != Level.FULL && ++calmIntervals >= CALM_INTERVALS) {
+            calmIntervals = 0;
+            level = Level.values()[level.ordinal() - 1];
+        }
+    }
+
+    @Override
+    public Collection<MetricData> produce(Resource resource) {
+        long now = TimeUnit.MILLISECONDS.toNanos(System.currentTimeMillis());
+        List<DoublePointData> overheads = new ArrayList<>(classOverhead.length + 1);
+        synchronized (this) {
+            for (CallClass callClass : CallClass.values()) {
+                if (samples[callClass.ordinal()].sum() > 0) {
+                    overheads.add(ProducedMetrics.doublePoint(now, now,
+                            Attributes.of(CALL_CLASS, callClass.name().toLowerCase()),
+                            classOverhead[callClass.ordinal()]));
+                }
+            }
+        }
+        Level current = level;
+        return List.of(
+                ProducedMetrics.longGauge(resource, SCOPE, LEVEL_METRIC,
+                        "Instrumentation detail, from 0 for full detail to 3 for sampled statements", "1",
+                        List.of(ProducedMetrics.longPoint(now, now,
+                                Attributes.of(LEVEL, current.name().toLowerCase()), current.ordinal()))),
+                ProducedMetrics.doubleGauge(resource, SCOPE, OVERHEAD_METRIC,
+                        "Instrumentation time over driver time of the timed calls in the last interval", "1",
+                        overheads));
+    }
+
+    private static double ratio(long overheadNanos, long driverNanos) {
+        return (double) overheadNanos / Math.max(driverNanos, 1);
+    }
+
+    private static LongAdder[] adders() {
+        LongAdder[] adders = new LongAdder[CallClass.values().length];
+        for (int i = 0; i < adders.length; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+}
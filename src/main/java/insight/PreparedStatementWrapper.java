@@ -0,0 +1,2009 @@
+package insight;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.net.URL;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.NClob;
+import java.sql.ParameterMetaData;
+import java.sql.PreparedStatement;
+import java.sql.Ref;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.RowId;
+import java.sql.SQLException;
+import java.sql.SQLType;
+import java.sql.SQLWarning;
+import java.sql.SQLXML;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Calendar;
+
+/**
+ * Traces {@link PreparedStatement} calls without reflection. Generated by {@code WrapperGenerator}, do not edit.
+ */
+@SuppressWarnings("deprecation")
+public final class PreparedStatementWrapper implements PreparedStatement {
+    private static final MethodInfo ADD_BATCH = MethodInfo.of(PreparedStatement.class, "addBatch");
+    private static final MethodInfo ADD_BATCH_STRING = MethodInfo.of(PreparedStatement.class, "addBatch", String.class);
+    private static final MethodInfo CANCEL = MethodInfo.of(PreparedStatement.class, "cancel");
+    private static final MethodInfo CLEAR_BATCH = MethodInfo.of(PreparedStatement.class, "clearBatch");
+    private static final MethodInfo CLEAR_PARAMETERS = MethodInfo.of(PreparedStatement.class, "clearParameters");
+    private static final MethodInfo CLEAR_WARNINGS = MethodInfo.of(PreparedStatement.class, "clearWarnings");
+    private static final MethodInfo CLOSE = MethodInfo.of(PreparedStatement.class, "close");
+    private static final MethodInfo CLOSE_ON_COMPLETION = MethodInfo.of(PreparedStatement.class, "closeOnCompletion");
+    private static final MethodInfo ENQUOTE_IDENTIFIER_STRING_BOOLEAN = MethodInfo.of(PreparedStatement.class, "enquoteIdentifier", String.class, boolean.class);
+    private static final MethodInfo ENQUOTE_LITERAL_STRING = MethodInfo.of(PreparedStatement.class, "enquoteLiteral", String.class);
+    private static final MethodInfo ENQUOTE_NCHAR_LITERAL_STRING = MethodInfo.of(PreparedStatement.class, "enquoteNCharLiteral", String.class);
+    private static final MethodInfo EXECUTE = MethodInfo.of(PreparedStatement.class, "execute");
+    private static final MethodInfo EXECUTE_STRING = MethodInfo.of(PreparedStatement.class, "execute", String.class);
+    private static final MethodInfo EXECUTE_STRING_INT_ARRAY = MethodInfo.of(PreparedStatement.class, "execute", String.class, int[].class);
+    private static final MethodInfo EXECUTE_STRING_STRING_ARRAY = MethodInfo.of(PreparedStatement.class, "execute", String.class, String[].class);
+    private static final MethodInfo EXECUTE_STRING_INT = MethodInfo.of(PreparedStatement.class, "execute", String.class, int.class);
+    private static final MethodInfo EXECUTE_BATCH = MethodInfo.of(PreparedStatement.class, "executeBatch");
+    private static final MethodInfo EXECUTE_LARGE_BATCH = MethodInfo.of(PreparedStatement.class, "executeLargeBatch");
+    private static final MethodInfo EXECUTE_LARGE_UPDATE = MethodInfo.of(PreparedStatement.class, "executeLargeUpdate");
+    private static final MethodInfo EXECUTE_LARGE_UPDATE_STRING = MethodInfo.of(PreparedStatement.class, "executeLargeUpdate", String.class);
+    private static final MethodInfo EXECUTE_LARGE_UPDATE_STRING_INT_ARRAY = MethodInfo.of(PreparedStatement.class, "executeLargeUpdate", String.class, int[].class);
+    private static final MethodInfo EXECUTE_LARGE_UPDATE_STRING_STRING_ARRAY = MethodInfo.of(PreparedStatement.class, "executeLargeUpdate", String.class, String[].class);
+    private static final MethodInfo EXECUTE_LARGE_UPDATE_STRING_INT = MethodInfo.of(PreparedStatement.class, "executeLargeUpdate", String.class, int.class);
+    private static final MethodInfo EXECUTE_QUERY = MethodInfo.of(PreparedStatement.class, "executeQuery");
+    private static final MethodInfo EXECUTE_QUERY_STRING = MethodInfo.of(PreparedStatement.class, "executeQuery", String.class);
+    private static final MethodInfo EXECUTE_UPDATE = MethodInfo.of(PreparedStatement.class, "executeUpdate");
+    private static final MethodInfo EXECUTE_UPDATE_STRING = MethodInfo.of(PreparedStatement.class, "executeUpdate", String.class);
+    private static final MethodInfo EXECUTE_UPDATE_STRING_INT_ARRAY = MethodInfo.of(PreparedStatement.class, "executeUpdate", String.class, int[].class);
+    private static final MethodInfo EXECUTE_UPDATE_STRING_STRING_ARRAY = MethodInfo.of(PreparedStatement.class, "executeUpdate", String.class, String[].class);
+    private static final MethodInfo EXECUTE_UPDATE_STRING_INT = MethodInfo.of(PreparedStatement.class, "executeUpdate", String.class, int.class);
+    private static final MethodInfo GET_CONNECTION = MethodInfo.of(PreparedStatement.class, "getConnection");
+    private static final MethodInfo GET_FETCH_DIRECTION = MethodInfo.of(PreparedStatement.class, "getFetchDirection");
+    private static final MethodInfo GET_FETCH_SIZE = MethodInfo.of(PreparedStatement.class, "getFetchSize");
+    private static final MethodInfo GET_GENERATED_KEYS = MethodInfo.of(PreparedStatement.class, "getGeneratedKeys");
+    private static final MethodInfo GET_LARGE_MAX_ROWS = MethodInfo.of(PreparedStatement.class, "getLargeMaxRows");
+    private static final MethodInfo GET_LARGE_UPDATE_COUNT = MethodInfo.of(PreparedStatement.class, "getLargeUpdateCount");
+    private static final MethodInfo GET_MAX_FIELD_SIZE = MethodInfo.of(PreparedStatement.class, "getMaxFieldSize");
+    private static final MethodInfo GET_MAX_ROWS = MethodInfo.of(PreparedStatement.class, "getMaxRows");
+    private static final MethodInfo GET_META_DATA = MethodInfo.of(PreparedStatement.class, "getMetaData");
+    private static final MethodInfo GET_MORE_RESULTS = MethodInfo.of(PreparedStatement.class, "getMoreResults");
+    private static final MethodInfo GET_MORE_RESULTS_INT = MethodInfo.of(PreparedStatement.class, "getMoreResults", int.class);
+    private static final MethodInfo GET_PARAMETER_META_DATA = MethodInfo.of(PreparedStatement.class, "getParameterMetaData");
+    private static final MethodInfo GET_QUERY_TIMEOUT = MethodInfo.of(PreparedStatement.class, "getQueryTimeout");
+    private static final MethodInfo GET_RESULT_SET = MethodInfo.of(PreparedStatement.class, "getResultSet");
+    private static final MethodInfo GET_RESULT_SET_CONCURRENCY = MethodInfo.of(PreparedStatement.class, "getResultSetConcurrency");
+    private static final MethodInfo GET_RESULT_SET_HOLDABILITY = MethodInfo.of(PreparedStatement.class, "getResultSetHoldability");
+    private static final MethodInfo GET_RESULT_SET_TYPE = MethodInfo.of(PreparedStatement.class, "getResultSetType");
+    private static final MethodInfo GET_UPDATE_COUNT = MethodInfo.of(PreparedStatement.class, "getUpdateCount");
+    private static final MethodInfo GET_WARNINGS = MethodInfo.of(PreparedStatement.class, "getWarnings");
+    private static final MethodInfo IS_CLOSE_ON_COMPLETION = MethodInfo.of(PreparedStatement.class, "isCloseOnCompletion");
+    private static final MethodInfo IS_CLOSED = MethodInfo.of(PreparedStatement.class, "isClosed");
+    private static final MethodInfo IS_POOLABLE = MethodInfo.of(PreparedStatement.class, "isPoolable");
+    private static final MethodInfo IS_SIMPLE_IDENTIFIER_STRING = MethodInfo.of(PreparedStatement.class, "isSimpleIdentifier", String.class);
+    private static final MethodInfo IS_WRAPPER_FOR_CLASS = MethodInfo.of(PreparedStatement.class, "isWrapperFor", Class.class);
+    private static final MethodInfo SET_ARRAY_INT_ARRAY = MethodInfo.of(PreparedStatement.class, "setArray", int.class, Array.class);
+    private static final MethodInfo SET_ASCII_STREAM_INT_INPUT_STREAM = MethodInfo.of(PreparedStatement.class, "setAsciiStream", int.class, InputStream.class);
+    private static final MethodInfo SET_ASCII_STREAM_INT_INPUT_STREAM_INT = MethodInfo.of(PreparedStatement.class, "setAsciiStream", int.class, InputStream.class, int.class);
+    private static final MethodInfo SET_ASCII_STREAM_INT_INPUT_STREAM_LONG = MethodInfo.of(PreparedStatement.class, "setAsciiStream", int.class, InputStream.class, long.class);
+    private static final MethodInfo SET_BIG_DECIMAL_INT_BIG_DECIMAL = MethodInfo.of(PreparedStatement.class, "setBigDecimal", int.class, BigDecimal.class);
+    private static final MethodInfo SET_BINARY_STREAM_INT_INPUT_STREAM = MethodInfo.of(PreparedStatement.class, "setBinaryStream", int.class, InputStream.class);
+    private static final MethodInfo SET_BINARY_STREAM_INT_INPUT_STREAM_INT = MethodInfo.of(PreparedStatement.class, "setBinaryStream", int.class, InputStream.class, int.class);
+    private static final MethodInfo SET_BINARY_STREAM_INT_INPUT_STREAM_LONG = MethodInfo.of(PreparedStatement.class, "setBinaryStream", int.class, InputStream.class, long.class);
+    private static final MethodInfo SET_BLOB_INT_INPUT_STREAM = MethodInfo.of(PreparedStatement.class, "setBlob", int.class, InputStream.class);
+    private static final MethodInfo SET_BLOB_INT_INPUT_STREAM_LONG = MethodInfo.of(PreparedStatement.class, "setBlob", int.class, InputStream.class, long.class);
+    private static final MethodInfo SET_BLOB_INT_BLOB = MethodInfo.of(PreparedStatement.class, "setBlob", int.class, Blob.class);
+    private static final MethodInfo SET_BOOLEAN_INT_BOOLEAN = MethodInfo.of(PreparedStatement.class, "setBoolean", int.class, boolean.class);
+    private static final MethodInfo SET_BYTE_INT_BYTE = MethodInfo.of(PreparedStatement.class, "setByte", int.class, byte.class);
+    private static final MethodInfo SET_BYTES_INT_BYTE_ARRAY = MethodInfo.of(PreparedStatement.class, "setBytes", int.class, byte[].class);
+    private static final MethodInfo SET_CHARACTER_STREAM_INT_READER = MethodInfo.of(PreparedStatement.class, "setCharacterStream", int.class, Reader.class);
+    private static final MethodInfo SET_CHARACTER_STREAM_INT_READER_INT = MethodInfo.of(PreparedStatement.class, "setCharacterStream", int.class, Reader.class, int.class);
+    private static final MethodInfo SET_CHARACTER_STREAM_INT_READER_LONG = MethodInfo.of(PreparedStatement.class, "setCharacterStream", int.class, Reader.class, long.class);
+    private static final MethodInfo SET_CLOB_INT_READER = MethodInfo.of(PreparedStatement.class, "setClob", int.class, Reader.class);
+    private static final MethodInfo SET_CLOB_INT_READER_LONG = MethodInfo.of(PreparedStatement.class, "setClob", int.class, Reader.class, long.class);
+    private static final MethodInfo SET_CLOB_INT_CLOB = MethodInfo.of(PreparedStatement.class, "setClob", int.class, Clob.class);
+    private static final MethodInfo SET_CURSOR_NAME_STRING = MethodInfo.of(PreparedStatement.class, "setCursorName", String.class);
+    private static final MethodInfo SET_DATE_INT_DATE = MethodInfo.of(PreparedStatement.class, "setDate", int.class, Date.class);
+    private static final MethodInfo SET_DATE_INT_DATE_CALENDAR = MethodInfo.of(PreparedStatement.class, "setDate", int.class, Date.class, Calendar.class);
+    private static final MethodInfo SET_DOUBLE_INT_DOUBLE = MethodInfo.of(PreparedStatement.class, "setDouble", int.class, double.class);
+    private static final MethodInfo SET_ESCAPE_PROCESSING_BOOLEAN = MethodInfo.of(PreparedStatement.class, "setEscapeProcessing", boolean.class);
+    private static final MethodInfo SET_FETCH_DIRECTION_INT = MethodInfo.of(PreparedStatement.class, "setFetchDirection", int.class);
+    private static final MethodInfo SET_FETCH_SIZE_INT = MethodInfo.of(PreparedStatement.class, "setFetchSize", int.class);
+    private static final MethodInfo SET_FLOAT_INT_FLOAT = MethodInfo.of(PreparedStatement.class, "setFloat", int.class, float.class);
+    private static final MethodInfo SET_INT_INT_INT = MethodInfo.of(PreparedStatement.class, "setInt", int.class, int.class);
+    private static final MethodInfo SET_LARGE_MAX_ROWS_LONG = MethodInfo.of(PreparedStatement.class, "setLargeMaxRows", long.class);
+    private static final MethodInfo SET_LONG_INT_LONG = MethodInfo.of(PreparedStatement.class, "setLong", int.class, long.class);
+    private static final MethodInfo SET_MAX_FIELD_SIZE_INT = MethodInfo.of(PreparedStatement.class, "setMaxFieldSize", int.class);
+    private static final MethodInfo SET_MAX_ROWS_INT = MethodInfo.of(PreparedStatement.class, "setMaxRows", int.class);
+    private static final MethodInfo SET_NCHARACTER_STREAM_INT_READER = MethodInfo.of(PreparedStatement.class, "setNCharacterStream", int.class, Reader.class);
+    private static final MethodInfo SET_NCHARACTER_STREAM_INT_READER_LONG = MethodInfo.of(PreparedStatement.class, "setNCharacterStream", int.class, Reader.class, long.class);
+    private static final MethodInfo SET_NCLOB_INT_READER = MethodInfo.of(PreparedStatement.class, "setNClob", int.class, Reader.class);
+    private static final MethodInfo SET_NCLOB_INT_READER_LONG = MethodInfo.of(PreparedStatement.class, "setNClob", int.class, Reader.class, long.class);
+    private static final MethodInfo SET_NCLOB_INT_NCLOB = MethodInfo.of(PreparedStatement.class, "setNClob", int.class, NClob.class);
+    private static final MethodInfo SET_NSTRING_INT_STRING = MethodInfo.of(PreparedStatement.class, "setNString", int.class, String.class);
+    private static final MethodInfo SET_NULL_INT_INT = MethodInfo.of(PreparedStatement.class, "setNull", int.class, int.class);
+    private static final MethodInfo SET_NULL_INT_INT_STRING = MethodInfo.of(PreparedStatement.class, "setNull", int.class, int.class, String.class);
+    private static final MethodInfo SET_OBJECT_INT_OBJECT = MethodInfo.of(PreparedStatement.class, "setObject", int.class, Object.class);
+    private static final MethodInfo SET_OBJECT_INT_OBJECT_INT = MethodInfo.of(PreparedStatement.class, "setObject", int.class, Object.class, int.class);
+    private static final MethodInfo SET_OBJECT_INT_OBJECT_INT_INT = MethodInfo.of(PreparedStatement.class, "setObject", int.class, Object.class, int.class, int.class);
+    private static final MethodInfo SET_OBJECT_INT_OBJECT_SQLTYPE = MethodInfo.of(PreparedStatement.class, "setObject", int.class, Object.class, SQLType.class);
+    private static final MethodInfo SET_OBJECT_INT_OBJECT_SQLTYPE_INT = MethodInfo.of(PreparedStatement.class, "setObject", int.class, Object.class, SQLType.class, int.class);
+    private static final MethodInfo SET_POOLABLE_BOOLEAN = MethodInfo.of(PreparedStatement.class, "setPoolable", boolean.class);
+    private static final MethodInfo SET_QUERY_TIMEOUT_INT = MethodInfo.of(PreparedStatement.class, "setQueryTimeout", int.class);
+    private static final MethodInfo SET_REF_INT_REF = MethodInfo.of(PreparedStatement.class, "setRef", int.class, Ref.class);
+    private static final MethodInfo SET_ROW_ID_INT_ROW_ID = MethodInfo.of(PreparedStatement.class, "setRowId", int.class, RowId.class);
+    private static final MethodInfo SET_SQLXML_INT_SQLXML = MethodInfo.of(PreparedStatement.class, "setSQLXML", int.class, SQLXML.class);
+    private static final MethodInfo SET_SHORT_INT_SHORT = MethodInfo.of(PreparedStatement.class, "setShort", int.class, short.class);
+    private static final MethodInfo SET_STRING_INT_STRING = MethodInfo.of(PreparedStatement.class, "setString", int.class, String.class);
+    private static final MethodInfo SET_TIME_INT_TIME = MethodInfo.of(PreparedStatement.class, "setTime", int.class, Time.class);
+    private static final MethodInfo SET_TIME_INT_TIME_CALENDAR = MethodInfo.of(PreparedStatement.class, "setTime", int.class, Time.class, Calendar.class);
+    private static final MethodInfo SET_TIMESTAMP_INT_TIMESTAMP = MethodInfo.of(PreparedStatement.class, "setTimestamp", int.class, Timestamp.class);
+    private static final MethodInfo SET_TIMESTAMP_INT_TIMESTAMP_CALENDAR = MethodInfo.of(PreparedStatement.class, "setTimestamp", int.class, Timestamp.class, Calendar.class);
+    private static final MethodInfo SET_URL_INT_URL = MethodInfo.of(PreparedStatement.class, "setURL", int.class, URL.class);
+    private static final MethodInfo SET_UNICODE_STREAM_INT_INPUT_STREAM_INT = MethodInfo.of(PreparedStatement.class, "setUnicodeStream", int.class, InputStream.class, int.class);
+    private static final MethodInfo UNWRAP_CLASS = MethodInfo.of(PreparedStatement.class, "unwrap", Class.class);
+
+    private final PreparedStatement delegate;
+    private final TraceNode node;
+
+    public PreparedStatementWrapper(PreparedStatement delegate, TraceNode node) {
+        this.delegate = delegate;
+        this.node = node;
+    }
+
+    @Override
+    public void addBatch() throws SQLException {
+        Invocation invocation = node.enter(ADD_BATCH);
+        try {
+            delegate.addBatch();
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void addBatch(String arg0) throws SQLException {
+        Invocation invocation = node.enter(ADD_BATCH_STRING);
+        try {
+            delegate.addBatch(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void cancel() throws SQLException {
+        Invocation invocation = node.enter(CANCEL);
+        try {
+            delegate.cancel();
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void clearBatch() throws SQLException {
+        Invocation invocation = node.enter(CLEAR_BATCH);
+        try {
+            delegate.clearBatch();
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void clearParameters() throws SQLException {
+        Invocation invocation = node.enter(CLEAR_PARAMETERS);
+        try {
+            delegate.clearParameters();
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void clearWarnings() throws SQLException {
+        Invocation invocation = node.enter(CLEAR_WARNINGS);
+        try {
+            delegate.clearWarnings();
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void close() throws SQLException {
+        Invocation invocation = node.enter(CLOSE);
+        try {
+            delegate.close();
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void closeOnCompletion() throws SQLException {
+        Invocation invocation = node.enter(CLOSE_ON_COMPLETION);
+        try {
+            delegate.closeOnCompletion();
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public String enquoteIdentifier(String arg0, boolean arg1) throws SQLException {
+        Invocation invocation = node.enter(ENQUOTE_IDENTIFIER_STRING_BOOLEAN);
+        try {
+            String result = delegate.enquoteIdentifier(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public String enquoteLiteral(String arg0) throws SQLException {
+        Invocation invocation = node.enter(ENQUOTE_LITERAL_STRING);
+        try {
+            String result = delegate.enquoteLiteral(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public String enquoteNCharLiteral(String arg0) throws SQLException {
+        Invocation invocation = node.enter(ENQUOTE_NCHAR_LITERAL_STRING);
+        try {
+            String result = delegate.enquoteNCharLiteral(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean execute() throws SQLException {
+        Invocation invocation = node.enter(EXECUTE, null);
+        try {
+            boolean result = delegate.execute();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean execute(String arg0) throws SQLException {
+        Invocation invocation = node.enter(EXECUTE_STRING, arg0);
+        try {
+            boolean result = delegate.execute(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean execute(String arg0, int[] arg1) throws SQLException {
+        Invocation invocation = node.enter(EXECUTE_STRING_INT_ARRAY, arg0);
+        try {
+            boolean result = delegate.execute(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean execute(String arg0, String[] arg1) throws SQLException {
+        Invocation invocation = node.enter(EXECUTE_STRING_STRING_ARRAY, arg0);
+        try {
+            boolean result = delegate.execute(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean execute(String arg0, int arg1) throws SQLException {
+        Invocation invocation = node.enter(EXECUTE_STRING_INT, arg0);
+        try {
+            boolean result = delegate.execute(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public int[] executeBatch() throws SQLException {
+        Invocation invocation = node.enter(EXECUTE_BATCH, null);
+        try {
+            int[] result = delegate.executeBatch();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public long[] executeLargeBatch() throws SQLException {
+        Invocation invocation = node.enter(EXECUTE_LARGE_BATCH, null);
+        try {
+            long[] result = delegate.executeLargeBatch();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public long executeLargeUpdate() throws SQLException {
+        Invocation invocation = node.enter(EXECUTE_LARGE_UPDATE, null);
+        try {
+            long result = delegate.executeLargeUpdate();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public long executeLargeUpdate(String arg0) throws SQLException {
+        Invocation invocation = node.enter(EXECUTE_LARGE_UPDATE_STRING, arg0);
+        try {
+            long result = delegate.executeLargeUpdate(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public long executeLargeUpdate(String arg0, int[] arg1) throws SQLException {
+        Invocation invocation = node.enter(EXECUTE_LARGE_UPDATE_STRING_INT_ARRAY, arg0);
+        try {
+            long result = delegate.executeLargeUpdate(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public long executeLargeUpdate(String arg0, String[] arg1) throws SQLException {
+        Invocation invocation = node.enter(EXECUTE_LARGE_UPDATE_STRING_STRING_ARRAY, arg0);
+        try {
+            long result = delegate.executeLargeUpdate(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public long executeLargeUpdate(String arg0, int arg1) throws SQLException {
+        Invocation invocation = node.enter(EXECUTE_LARGE_UPDATE_STRING_INT, arg0);
+        try {
+            long result = delegate.executeLargeUpdate(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public ResultSet executeQuery() throws SQLException {
+        Invocation invocation = node.enter(EXECUTE_QUERY, null);
+        try {
+            ResultSet result = delegate.executeQuery();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return (ResultSet) invocation.wrap(result, null);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public ResultSet executeQuery(String arg0) throws SQLException {
+        Invocation invocation = node.enter(EXECUTE_QUERY_STRING, arg0);
+        try {
+            ResultSet result = delegate.executeQuery(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return (ResultSet) invocation.wrap(result, arg0);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public int executeUpdate() throws SQLException {
+        Invocation invocation = node.enter(EXECUTE_UPDATE, null);
+        try {
+            int result = delegate.executeUpdate();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public int executeUpdate(String arg0) throws SQLException {
+        Invocation invocation = node.enter(EXECUTE_UPDATE_STRING, arg0);
+        try {
+            int result = delegate.executeUpdate(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public int executeUpdate(String arg0, int[] arg1) throws SQLException {
+        Invocation invocation = node.enter(EXECUTE_UPDATE_STRING_INT_ARRAY, arg0);
+        try {
+            int result = delegate.executeUpdate(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public int executeUpdate(String arg0, String[] arg1) throws SQLException {
+        Invocation invocation = node.enter(EXECUTE_UPDATE_STRING_STRING_ARRAY, arg0);
+        try {
+            int result = delegate.executeUpdate(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public int executeUpdate(String arg0, int arg1) throws SQLException {
+        Invocation invocation = node.enter(EXECUTE_UPDATE_STRING_INT, arg0);
+        try {
+            int result = delegate.executeUpdate(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Invocation invocation = node.enter(GET_CONNECTION);
+        try {
+            Connection result = delegate.getConnection();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return (Connection) invocation.wrap(result, null);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public int getFetchDirection() throws SQLException {
+        Invocation invocation = node.enter(GET_FETCH_DIRECTION);
+        try {
+            int result = delegate.getFetchDirection();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public int getFetchSize() throws SQLException {
+        Invocation invocation = node.enter(GET_FETCH_SIZE);
+        try {
+            int result = delegate.getFetchSize();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public ResultSet getGeneratedKeys() throws SQLException {
+        Invocation invocation = node.enter(GET_GENERATED_KEYS);
+        try {
+            ResultSet result = delegate.getGeneratedKeys();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return (ResultSet) invocation.wrap(result, null);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public long getLargeMaxRows() throws SQLException {
+        Invocation invocation = node.enter(GET_LARGE_MAX_ROWS);
+        try {
+            long result = delegate.getLargeMaxRows();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public long getLargeUpdateCount() throws SQLException {
+        Invocation invocation = node.enter(GET_LARGE_UPDATE_COUNT);
+        try {
+            long result = delegate.getLargeUpdateCount();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public int getMaxFieldSize() throws SQLException {
+        Invocation invocation = node.enter(GET_MAX_FIELD_SIZE);
+        try {
+            int result = delegate.getMaxFieldSize();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public int getMaxRows() throws SQLException {
+        Invocation invocation = node.enter(GET_MAX_ROWS);
+        try {
+            int result = delegate.getMaxRows();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public ResultSetMetaData getMetaData() throws SQLException {
+        Invocation invocation = node.enter(GET_META_DATA);
+        try {
+            ResultSetMetaData result = delegate.getMetaData();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return (ResultSetMetaData) invocation.wrap(result, null);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean getMoreResults() throws SQLException {
+        Invocation invocation = node.enter(GET_MORE_RESULTS);
+        try {
+            boolean result = delegate.getMoreResults();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean getMoreResults(int arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_MORE_RESULTS_INT);
+        try {
+            boolean result = delegate.getMoreResults(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public ParameterMetaData getParameterMetaData() throws SQLException {
+        Invocation invocation = node.enter(GET_PARAMETER_META_DATA);
+        try {
+            ParameterMetaData result = delegate.getParameterMetaData();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return (ParameterMetaData) invocation.wrap(result, null);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public int getQueryTimeout() throws SQLException {
+        Invocation invocation = node.enter(GET_QUERY_TIMEOUT);
+        try {
+            int result = delegate.getQueryTimeout();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public ResultSet getResultSet() throws SQLException {
+        Invocation invocation = node.enter(GET_RESULT_SET);
+        try {
+            ResultSet result = delegate.getResultSet();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return (ResultSet) invocation.wrap(result, null);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public int getResultSetConcurrency() throws SQLException {
+        Invocation invocation = node.enter(GET_RESULT_SET_CONCURRENCY);
+        try {
+            int result = delegate.getResultSetConcurrency();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public int getResultSetHoldability() throws SQLException {
+        Invocation invocation = node.enter(GET_RESULT_SET_HOLDABILITY);
+        try {
+            int result = delegate.getResultSetHoldability();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public int getResultSetType() throws SQLException {
+        Invocation invocation = node.enter(GET_RESULT_SET_TYPE);
+        try {
+            int result = delegate.getResultSetType();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public int getUpdateCount() throws SQLException {
+        Invocation invocation = node.enter(GET_UPDATE_COUNT);
+        try {
+            int result = delegate.getUpdateCount();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public SQLWarning getWarnings() throws SQLException {
+        Invocation invocation = node.enter(GET_WARNINGS);
+        try {
+            SQLWarning result = delegate.getWarnings();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean isCloseOnCompletion() throws SQLException {
+        Invocation invocation = node.enter(IS_CLOSE_ON_COMPLETION);
+        try {
+            boolean result = delegate.isCloseOnCompletion();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean isClosed() throws SQLException {
+        Invocation invocation = node.enter(IS_CLOSED);
+        try {
+            boolean result = delegate.isClosed();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean isPoolable() throws SQLException {
+        Invocation invocation = node.enter(IS_POOLABLE);
+        try {
+            boolean result = delegate.isPoolable();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean isSimpleIdentifier(String arg0) throws SQLException {
+        Invocation invocation = node.enter(IS_SIMPLE_IDENTIFIER_STRING);
+        try {
+            boolean result = delegate.isSimpleIdentifier(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> arg0) throws SQLException {
+        Invocation invocation = node.enter(IS_WRAPPER_FOR_CLASS);
+        try {
+            boolean result = delegate.isWrapperFor(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setArray(int arg0, Array arg1) throws SQLException {
+        Invocation invocation = node.enter(SET_ARRAY_INT_ARRAY);
+        try {
+            delegate.setArray(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setAsciiStream(int arg0, InputStream arg1) throws SQLException {
+        Invocation invocation = node.enter(SET_ASCII_STREAM_INT_INPUT_STREAM);
+        try {
+            delegate.setAsciiStream(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setAsciiStream(int arg0, InputStream arg1, int arg2) throws SQLException {
+        Invocation invocation = node.enter(SET_ASCII_STREAM_INT_INPUT_STREAM_INT);
+        try {
+            delegate.setAsciiStream(arg0, arg1, arg2);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setAsciiStream(int arg0, InputStream arg1, long arg2) throws SQLException {
+        Invocation invocation = node.enter(SET_ASCII_STREAM_INT_INPUT_STREAM_LONG);
+        try {
+            delegate.setAsciiStream(arg0, arg1, arg2);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setBigDecimal(int arg0, BigDecimal arg1) throws SQLException {
+        Invocation invocation = node.enter(SET_BIG_DECIMAL_INT_BIG_DECIMAL);
+        try {
+            delegate.setBigDecimal(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setBinaryStream(int arg0, InputStream arg1) throws SQLException {
+        Invocation invocation = node.enter(SET_BINARY_STREAM_INT_INPUT_STREAM);
+        try {
+            delegate.setBinaryStream(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setBinaryStream(int arg0, InputStream arg1, int arg2) throws SQLException {
+        Invocation invocation = node.enter(SET_BINARY_STREAM_INT_INPUT_STREAM_INT);
+        try {
+            delegate.setBinaryStream(arg0, arg1, arg2);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setBinaryStream(int arg0, InputStream arg1, long arg2) throws SQLException {
+        Invocation invocation = node.enter(SET_BINARY_STREAM_INT_INPUT_STREAM_LONG);
+        try {
+            delegate.setBinaryStream(arg0, arg1, arg2);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setBlob(int arg0, InputStream arg1) throws SQLException {
+        Invocation invocation = node.enter(SET_BLOB_INT_INPUT_STREAM);
+        try {
+            delegate.setBlob(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setBlob(int arg0, InputStream arg1, long arg2) throws SQLException {
+        Invocation invocation = node.enter(SET_BLOB_INT_INPUT_STREAM_LONG);
+        try {
+            delegate.setBlob(arg0, arg1, arg2);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setBlob(int arg0, Blob arg1) throws SQLException {
+        Invocation invocation = node.enter(SET_BLOB_INT_BLOB);
+        try {
+            delegate.setBlob(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setBoolean(int arg0, boolean arg1) throws SQLException {
+        Invocation invocation = node.enter(SET_BOOLEAN_INT_BOOLEAN);
+        try {
+            delegate.setBoolean(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setByte(int arg0, byte arg1) throws SQLException {
+        Invocation invocation = node.enter(SET_BYTE_INT_BYTE);
+        try {
+            delegate.setByte(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setBytes(int arg0, byte[] arg1) throws SQLException {
+        Invocation invocation = node.enter(SET_BYTES_INT_BYTE_ARRAY);
+        try {
+            delegate.setBytes(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setCharacterStream(int arg0, Reader arg1) throws SQLException {
+        Invocation invocation = node.enter(SET_CHARACTER_STREAM_INT_READER);
+        try {
+            delegate.setCharacterStream(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setCharacterStream(int arg0, Reader arg1, int arg2) throws SQLException {
+        Invocation invocation = node.enter(SET_CHARACTER_STREAM_INT_READER_INT);
+        try {
+            delegate.setCharacterStream(arg0, arg1, arg2);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setCharacterStream(int arg0, Reader arg1, long arg2) throws SQLException {
+        Invocation invocation = node.enter(SET_CHARACTER_STREAM_INT_READER_LONG);
+        try {
+            delegate.setCharacterStream(arg0, arg1, arg2);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setClob(int arg0, Reader arg1) throws SQLException {
+        Invocation invocation = node.enter(SET_CLOB_INT_READER);
+        try {
+            delegate.setClob(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setClob(int arg0, Reader arg1, long arg2) throws SQLException {
+        Invocation invocation = node.enter(SET_CLOB_INT_READER_LONG);
+        try {
+            delegate.setClob(arg0, arg1, arg2);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setClob(int arg0, Clob arg1) throws SQLException {
+        Invocation invocation = node.enter(SET_CLOB_INT_CLOB);
+        try {
+            delegate.setClob(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setCursorName(String arg0) throws SQLException {
+        Invocation invocation = node.enter(SET_CURSOR_NAME_STRING);
+        try {
+            delegate.setCursorName(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setDate(int arg0, Date arg1) throws SQLException {
+        Invocation invocation = node.enter(SET_DATE_INT_DATE);
+        try {
+            delegate.setDate(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setDate(int arg0, Date arg1, Calendar arg2) throws SQLException {
+        Invocation invocation = node.enter(SET_DATE_INT_DATE_CALENDAR);
+        try {
+            delegate.setDate(arg0, arg1, arg2);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setDouble(int arg0, double arg1) throws SQLException {
+        Invocation invocation = node.enter(SET_DOUBLE_INT_DOUBLE);
+        try {
+            delegate.setDouble(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setEscapeProcessing(boolean arg0) throws SQLException {
+        Invocation invocation = node.enter(SET_ESCAPE_PROCESSING_BOOLEAN);
+        try {
+            delegate.setEscapeProcessing(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setFetchDirection(int arg0) throws SQLException {
+        Invocation invocation = node.enter(SET_FETCH_DIRECTION_INT);
+        try {
+            delegate.setFetchDirection(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setFetchSize(int arg0) throws SQLException {
+        Invocation invocation = node.enter(SET_FETCH_SIZE_INT);
+        try {
+            delegate.setFetchSize(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setFloat(int arg0, float arg1) throws SQLException {
+        Invocation invocation = node.enter(SET_FLOAT_INT_FLOAT);
+        try {
+            delegate.setFloat(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setInt(int arg0, int arg1) throws SQLException {
+        Invocation invocation = node.enter(SET_INT_INT_INT);
+        try {
+            delegate.setInt(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setLargeMaxRows(long arg0) throws SQLException {
+        Invocation invocation = node.enter(SET_LARGE_MAX_ROWS_LONG);
+        try {
+            delegate.setLargeMaxRows(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setLong(int arg0, long arg1) throws SQLException {
+        Invocation invocation = node.enter(SET_LONG_INT_LONG);
+        try {
+            delegate.setLong(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setMaxFieldSize(int arg0) throws SQLException {
+        Invocation invocation = node.enter(SET_MAX_FIELD_SIZE_INT);
+        try {
+            delegate.setMaxFieldSize(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setMaxRows(int arg0) throws SQLException {
+        Invocation invocation = node.enter(SET_MAX_ROWS_INT);
+        try {
+            delegate.setMaxRows(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setNCharacterStream(int arg0, Reader arg1) throws SQLException {
+        Invocation invocation = node.enter(SET_NCHARACTER_STREAM_INT_READER);
+        try {
+            delegate.setNCharacterStream(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setNCharacterStream(int arg0, Reader arg1, long arg2) throws SQLException {
+        Invocation invocation = node.enter(SET_NCHARACTER_STREAM_INT_READER_LONG);
+        try {
+            delegate.setNCharacterStream(arg0, arg1, arg2);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setNClob(int arg0, Reader arg1) throws SQLException {
+        Invocation invocation = node.enter(SET_NCLOB_INT_READER);
+        try {
+            delegate.setNClob(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setNClob(int arg0, Reader arg1, long arg2) throws SQLException {
+        Invocation invocation = node.enter(SET_NCLOB_INT_READER_LONG);
+        try {
+            delegate.setNClob(arg0, arg1, arg2);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setNClob(int arg0, NClob arg1) throws SQLException {
+        Invocation invocation = node.enter(SET_NCLOB_INT_NCLOB);
+        try {
+            delegate.setNClob(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setNString(int arg0, String arg1) throws SQLException {
+        Invocation invocation = node.enter(SET_NSTRING_INT_STRING);
+        try {
+            delegate.setNString(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setNull(int arg0, int arg1) throws SQLException {
+        Invocation invocation = node.enter(SET_NULL_INT_INT);
+        try {
+            delegate.setNull(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setNull(int arg0, int arg1, String arg2) throws SQLException {
+        Invocation invocation = node.enter(SET_NULL_INT_INT_STRING);
+        try {
+            delegate.setNull(arg0, arg1, arg2);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setObject(int arg0, Object arg1) throws SQLException {
+        Invocation invocation = node.enter(SET_OBJECT_INT_OBJECT);
+        try {
+            delegate.setObject(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setObject(int arg0, Object arg1, int arg2) throws SQLException {
+        Invocation invocation = node.enter(SET_OBJECT_INT_OBJECT_INT);
+        try {
+            delegate.setObject(arg0, arg1, arg2);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setObject(int arg0, Object arg1, int arg2, int arg3) throws SQLException {
+        Invocation invocation = node.enter(SET_OBJECT_INT_OBJECT_INT_INT);
+        try {
+            delegate.setObject(arg0, arg1, arg2, arg3);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2, arg3}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setObject(int arg0, Object arg1, SQLType arg2) throws SQLException {
+        Invocation invocation = node.enter(SET_OBJECT_INT_OBJECT_SQLTYPE);
+        try {
+            delegate.setObject(arg0, arg1, arg2);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setObject(int arg0, Object arg1, SQLType arg2, int arg3) throws SQLException {
+        Invocation invocation = node.enter(SET_OBJECT_INT_OBJECT_SQLTYPE_INT);
+        try {
+            delegate.setObject(arg0, arg1, arg2, arg3);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2, arg3}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setPoolable(boolean arg0) throws SQLException {
+        Invocation invocation = node.enter(SET_POOLABLE_BOOLEAN);
+        try {
+            delegate.setPoolable(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setQueryTimeout(int arg0) throws SQLException {
+        Invocation invocation = node.enter(SET_QUERY_TIMEOUT_INT);
+        try {
+            delegate.setQueryTimeout(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setRef(int arg0, Ref arg1) throws SQLException {
+        Invocation invocation = node.enter(SET_REF_INT_REF);
+        try {
+            delegate.setRef(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setRowId(int arg0, RowId arg1) throws SQLException {
+        Invocation invocation = node.enter(SET_ROW_ID_INT_ROW_ID);
+        try {
+            delegate.setRowId(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setSQLXML(int arg0, SQLXML arg1) throws SQLException {
+        Invocation invocation = node.enter(SET_SQLXML_INT_SQLXML);
+        try {
+            delegate.setSQLXML(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setShort(int arg0, short arg1) throws SQLException {
+        Invocation invocation = node.enter(SET_SHORT_INT_SHORT);
+        try {
+            delegate.setShort(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setString(int arg0, String arg1) throws SQLException {
+        Invocation invocation = node.enter(SET_STRING_INT_STRING);
+        try {
+            delegate.setString(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setTime(int arg0, Time arg1) throws SQLException {
+        Invocation invocation = node.enter(SET_TIME_INT_TIME);
+        try {
+            delegate.setTime(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setTime(int arg0, Time arg1, Calendar arg2) throws SQLException {
+        Invocation invocation = node.enter(SET_TIME_INT_TIME_CALENDAR);
+        try {
+            delegate.setTime(arg0, arg1, arg2);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setTimestamp(int arg0, Timestamp arg1) throws SQLException {
+        Invocation invocation = node.enter(SET_TIMESTAMP_INT_TIMESTAMP);
+        try {
+            delegate.setTimestamp(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setTimestamp(int arg0, Timestamp arg1, Calendar arg2) throws SQLException {
+        Invocation invocation = node.enter(SET_TIMESTAMP_INT_TIMESTAMP_CALENDAR);
+        try {
+            delegate.setTimestamp(arg0, arg1, arg2);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setURL(int arg0, URL arg1) throws SQLException {
+        Invocation invocation = node.enter(SET_URL_INT_URL);
+        try {
+            delegate.setURL(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setUnicodeStream(int arg0, InputStream arg1, int arg2) throws SQLException {
+        Invocation invocation = node.enter(SET_UNICODE_STREAM_INT_INPUT_STREAM_INT);
+        try {
+            delegate.setUnicodeStream(arg0, arg1, arg2);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> arg0) throws SQLException {
+        Invocation invocation = node.enter(UNWRAP_CLASS);
+        try {
+            T result = delegate.unwrap(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return delegate.toString();
+    }
+}
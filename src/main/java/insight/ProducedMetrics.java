@@ -0,0 +1,266 @@
+package insight;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.metrics.data.AggregationTemporality;
+import io.opentelemetry.sdk.metrics.data.Data;
+import io.opentelemetry.sdk.metrics.data.DoubleExemplarData;
+import io.opentelemetry.sdk.metrics.data.DoublePointData;
+import io.opentelemetry.sdk.metrics.data.GaugeData;
+import io.opentelemetry.sdk.metrics.data.HistogramData;
+import io.opentelemetry.sdk.metrics.data.HistogramPointData;
+import io.opentelemetry.sdk.metrics.data.LongExemplarData;
+import io.opentelemetry.sdk.metrics.data.LongPointData;
+import io.opentelemetry.sdk.metrics.data.MetricData;
+import io.opentelemetry.sdk.metrics.data.MetricDataType;
+import io.opentelemetry.sdk.metrics.data.PointData;
+import io.opentelemetry.sdk.metrics.data.SumData;
+import io.opentelemetry.sdk.resources.Resource;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Metric data built by the {@link io.opentelemetry.sdk.metrics.export.MetricProducer}s of the driver, on the SDK's
+ * public data interfaces. Sums and histograms are cumulative, without exemplars.
+ */
+final class ProducedMetrics {
+    private ProducedMetrics() {
+    }
+
+    static LongPointData longPoint(long startEpochNanos, long epochNanos, Attributes attributes, long value) {
+        return new LongPoint(startEpochNanos, epochNanos, attributes, value);
+    }
+
+    static DoublePointData doublePoint(long startEpochNanos, long epochNanos, Attributes attributes, double value) {
+        return new DoublePoint(startEpochNanos, epochNanos, attributes, value);
+    }
+
+    /**
+     * Histogram point without min and max.
+     *
+     * @param counts one more than the boundaries, the last for values above the last boundary
+     */
+    static HistogramPointData histogramPoint(long startEpochNanos, long epochNanos, Attributes attributes, double sum,
+                                             List<Double> boundaries, List<Long> counts) {
+        long count = 0;
+        for (long bucket : counts) {
+            count += bucket;
+        }
+        return new HistogramPoint(startEpochNanos, epochNanos, attributes, sum, count, boundaries, List.copyOf(counts));
+    }
+
+    static MetricData longSum(Resource resource, InstrumentationScopeInfo scope, String name, String description,
+                              String unit, boolean monotonic, Collection<LongPointData> points) {
+        return new Metric(resource, scope, name, description, unit, MetricDataType.LONG_SUM,
+                new Sum<>(monotonic, points));
+    }
+
+    static MetricData longGauge(Resource resource, InstrumentationScopeInfo scope, String name, String description,
+                                String unit, Collection<LongPointData> points) {
+        return new Metric(resource, scope, name, description, unit, MetricDataType.LONG_GAUGE, new Gauge<>(points));
+    }
+
+    static MetricData doubleGauge(Resource resource, InstrumentationScopeInfo scope, String name, String description,
+                                  String unit, Collection<DoublePointData> points) {
+        return new Metric(resource, scope, name, description, unit, MetricDataType.DOUBLE_GAUGE, new Gauge<>(points));
+    }
+
+    static MetricData histogram(Resource resource, InstrumentationScopeInfo scope, String name, String description,
+                                String unit, Collection<HistogramPointData> points) {
+        return new Metric(resource, scope, name, description, unit, MetricDataType.HISTOGRAM, new Histogram(points));
+    }
+
+    private record Metric(Resource resource, InstrumentationScopeInfo scope, String name, String description,
+                          String unit, MetricDataType type, Data<?> data) implements MetricData {
+        @Override
+        public Resource getResource() {
+            return resource;
+        }
+
+        @Override
+        public InstrumentationScopeInfo getInstrumentationScopeInfo() {
+            return scope;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public String getDescription() {
+            return description;
+        }
+
+        @Override
+        public String getUnit() {
+            return unit;
+        }
+
+        @Override
+        public MetricDataType getType() {
+            return type;
+        }
+
+        @Override
+        public Data<?> getData() {
+            return data;
+        }
+    }
+
+    private record Sum<T extends PointData>(boolean monotonic, Collection<T> points) implements SumData<T> {
+        @Override
+        public boolean isMonotonic() {
+            return monotonic;
+        }
+
+        @Override
+        public AggregationTemporality getAggregationTemporality() {
+            return AggregationTemporality.CUMULATIVE;
+        }
+
+        @Override
+        public Collection<T> getPoints() {
+            return points;
+        }
+    }
+
+    private record Gauge<T extends PointData>(Collection<T> points) implements GaugeData<T> {
+        @Override
+        public Collection<T> getPoints() {
+            return points;
+        }
+    }
+
+    private record Histogram(Collection<HistogramPointData> points) implements HistogramData {
+        @Override
+        public AggregationTemporality getAggregationTemporality() {
+            return AggregationTemporality.CUMULATIVE;
+        }
+
+        @Override
+        public Collection<HistogramPointData> getPoints() {
+            return points;
+        }
+    }
+
+    private record LongPoint(long startEpochNanos, long epochNanos, Attributes attributes, long value)
+            implements LongPointData {
+        @Override
+        public long getStartEpochNanos() {
+            return startEpochNanos;
+        }
+
+        @Override
+        public long getEpochNanos() {
+            return epochNanos;
+        }
+
+        @Override
+        public Attributes getAttributes() {
+            return attributes;
+        }
+
+        @Override
+        public long getValue() {
+            return value;
+        }
+
+        @Override
+        public List<LongExemplarData> getExemplars() {
+            return List.of();
+        }
+    }
+
+    private record DoublePoint(long startEpochNanos, long epochNanos, Attributes attributes, double value)
+            implements DoublePointData {
+        @Override
+        public long getStartEpochNanos() {
+            return startEpochNanos;
+        }
+
+        @Override
+        public long getEpochNanos() {
+            return epochNanos;
+        }
+
+        @Override
+        public Attributes getAttributes() {
+            return attributes;
+        }
+
+        @Override
+        public double getValue() {
+            return value;
+        }
+
+        @Override
+        public List<DoubleExemplarData> getExemplars() {
+            return List.of();
+        }
+    }
+
+    private record HistogramPoint(long startEpochNanos, long epochNanos, Attributes attributes, double sum, long count,
+                                  List<Double> boundaries, List<Long> counts) implements HistogramPointData {
+        @Override
+        public long getStartEpochNanos() {
+            return startEpochNanos;
+        }
+
+        @Override
+        public long getEpochNanos() {
+            return epochNanos;
+        }
+
+        @Override
+        public Attributes getAttributes() {
+            return attributes;
+        }
+
+        @Override
+        public double getSum() {
+            return sum;
+        }
+
+        @Override
+        public long getCount() {
+            return count;
+        }
+
+        @Override
+        public boolean hasMin() {
+            return false;
+        }
+
+        @Override
+        public double getMin() {
+            return 0;
+        }
+
+        @Override
+        public boolean hasMax() {
+            return false;
+        }
+
+        @Override
+        public double getMax() {
+            return 0;
+        }
+
+        @Override
+        public List<Double> getBoundaries() {
+            return boundaries;
+        }
+
+        @Override
+        public List<Long> getCounts() {
+            return counts;
+        }
+
+        @Override
+        public List<DoubleExemplarData> getExemplars() {
+            return List.of();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package insight;
+
+/**
+ * Records an {@code execute*} call into the {@link QueryStats} of its SQL fingerprint and the latency histogram of its
+ * method, either of which may be {@code null}, around the invocation that traces it.
+ */
+final class QueryInvocation implements Invocation {
+    private final Invocation delegate;
+    private final QueryStats stats;
+    private final LatencyHistogram operation;
+    private final long startNanos = System.nanoTime();
+    private boolean failed;
+
+    QueryInvocation(Invocation delegate, QueryStats stats, LatencyHistogram operation) {
+        this.delegate = delegate;
+        this.stats = stats;
+        this.operation = operation;
+    }
+
+    @Override
+    public boolean isCapturing() {
+        return stats != null || delegate.isCapturing();
+    }
+
+    @Override
+    public void capture(Object[] args, Object result) {
+        if (delegate.isCapturing()) {
+            delegate.capture(args, result);
+        }
+        if (stats != null) {
+            stats.addRows(rowCount(result));
+        }
+    }
+
+    /**
+     * Rows affected according to the result of an {@code execute*} call, or 0 if it reports none.
+     */
+    static long rowCount(Object result) {
+        long rows = 0;
+        if (result instanceof Integer || result instanceof Long) {
+            rows = ((Number) result).longValue();
+        } else if (result instanceof int[] counts) {
+            for (int count : counts) {
+                rows += Math.max(0, count);
+            }
+        } else if (result instanceof long[] counts) {
+            for (long count : counts) {
+                rows += Math.max(0, count);
+            }
+        }
+        return Math.max(0, rows);
+    }
+
+    @Override
+    public Object wrap(Object result, Object firstArg) {
+        return delegate.wrap(result, firstArg);
+    }
+
+    @Override
+    public void fail(Throwable e) {
+        failed = true;
+        delegate.fail(e);
+    }
+
+    @Override
+    public void exit() {
+        long elapsed = System.nanoTime() - startNanos;
+        if (stats != null) {
+            stats.record(elapsed, failed);
+        }
+        if (operation != null) {
+            operation.record(elapsed);
+        }
+        delegate.exit();
+    }
+}
@@ -0,0 +1,48 @@
+package insight;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters and {@link LatencyHistogram} of one SQL fingerprint. All fields are striped adders, so recording from many
+ * threads does not contend; readers get a {@link Snapshot}.
+ */
+public final class QueryStats {
+
+    public record Snapshot(String fingerprint, long calls, long errors, long rows, long totalNanos, long[] counts) {
+    }
+
+    private final String fingerprint;
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder rows = new LongAdder();
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    public QueryStats(String fingerprint) {
+        this.fingerprint = fingerprint;
+    }
+
+    public String fingerprint() {
+        return fingerprint;
+    }
+
+    public void record(long nanos, boolean failed) {
+        latency.record(nanos);
+        if (failed) {
+            errors.increment();
+        }
+    }
+
+    public void addRows(long count) {
+        if (count > 0) {
+            rows.add(count);
+        }
+    }
+
+    public Snapshot snapshot() {
+        long[] counts = latency.counts();
+        long calls = 0;
+        for (long count : counts) {
+            calls += count;
+        }
+        return new Snapshot(fingerprint, calls, errors.sum(), rows.sum(), latency.totalNanos(), counts);
+    }
+}
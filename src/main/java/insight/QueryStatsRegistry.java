@@ -0,0 +1,143 @@
+package insight;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.metrics.data.HistogramPointData;
+import io.opentelemetry.sdk.metrics.data.LongPointData;
+import io.opentelemetry.sdk.metrics.data.MetricData;
+import io.opentelemetry.sdk.metrics.export.MetricProducer;
+import io.opentelemetry.sdk.resources.Resource;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Process-wide {@link QueryStats} by SQL fingerprint. The number of fingerprints is bounded; statements beyond the
+ * bound are counted under {@link #OTHER}. Exported as cumulative OpenTelemetry metrics, built from the counters only
+ * when a reader collects.
+ */
+public class QueryStatsRegistry implements MetricProducer {
+    public static final String OTHER = "<other>";
+    public static final String DURATION_METRIC = "db.client.query.duration";
+    public static final String ERRORS_METRIC = "db.client.query.errors";
+    public static final String ROWS_METRIC = "db.client.query.rows";
+    public static final String N_PLUS_ONE_METRIC = "db.client.query.n_plus_one";
+    static final AttributeKey<String> FINGERPRINT = AttributeKey.stringKey("db.query.fingerprint");
+
+    private static final InstrumentationScopeInfo SCOPE = InstrumentationScopeInfo.create(OtelFactory.SERVICE_NAME);
+
+    private final FingerprintCache cache;
+    private final int maxFingerprints;
+    private final Map<String, QueryStats> stats = new ConcurrentHashMap<>();
+    private final QueryStats other = new QueryStats(OTHER);
+    private final Map<String, LongAdder> repeated = new ConcurrentHashMap<>();
+    private final long startEpochNanos = epochNanos();
+
+    public QueryStatsRegistry(int cacheSize, int maxFingerprints) {
+        this.cache = new FingerprintCache(cacheSize);
+        this.maxFingerprints = maxFingerprints;
+    }
+
+    public String fingerprint(String sql) {
+        return cache.fingerprint(sql);
+    }
+
+    public FingerprintCache cache() {
+        return cache;
+    }
+
+    public QueryStats stats(String sql) {
+        String fingerprint = cache.fingerprint(sql);
+        QueryStats current = stats.get(fingerprint);
+        if (current != null) {
+            return current;
+        }
+        if (stats.size() >= maxFingerprints) {
+            return other;
+        }
+        return stats.computeIfAbsent(fingerprint, QueryStats::new);
+    }
+
+    /**
+     * Counts an N+1 pattern found by a {@link NPlusOneDetector}.
+     */
+    public void repeated(String fingerprint) {
+        LongAdder counter = repeated.get(fingerprint);
+        if (counter == null) {
+            counter = repeated.size() >= maxFingerprints
+                    ? repeated.computeIfAbsent(OTHER, key -> new LongAdder())
+                    : repeated.computeIfAbsent(fingerprint, key -> new LongAdder());
+        }
+        counter.increment();
+    }
+
+    /**
+     * N+1 patterns found so far for the fingerprint.
+     */
+    public long repeatedCount(String fingerprint) {
+        LongAdder counter = repeated.get(fingerprint);
+        return counter == null ? 0 : counter.sum();
+    }
+
+    /**
+     * Fingerprints with the highest total execution time, slowest first.
+     */
+    public List<QueryStats.Snapshot> top(int limit) {
+        return snapshots().stream()
+                .sorted(Comparator.comparingLong(QueryStats.Snapshot::totalNanos).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    @Override
+    public Collection<MetricData> produce(Resource resource) {
+        List<QueryStats.Snapshot> snapshots = snapshots();
+        long now = epochNanos();
+        List<MetricData> metrics = new ArrayList<>(4);
+        if (!snapshots.isEmpty()) {
+            List<HistogramPointData> durations = new ArrayList<>(snapshots.size());
+            List<LongPointData> errors = new ArrayList<>(snapshots.size());
+            List<LongPointData> rows = new ArrayList<>(snapshots.size());
+            for (QueryStats.Snapshot snapshot : snapshots) {
+                Attributes attributes = Attributes.of(FINGERPRINT, snapshot.fingerprint());
+                durations.add(LatencyHistogram.point(startEpochNanos, now, attributes, snapshot.counts(),
+                        snapshot.totalNanos()));
+                errors.add(ProducedMetrics.longPoint(startEpochNanos, now, attributes, snapshot.errors()));
+                rows.add(ProducedMetrics.longPoint(startEpochNanos, now, attributes, snapshot.rows()));
+            }
+            metrics.add(ProducedMetrics.histogram(resource, SCOPE, DURATION_METRIC,
+                    "Statement execution time by SQL fingerprint", "s", durations));
+            metrics.add(ProducedMetrics.longSum(resource, SCOPE, ERRORS_METRIC,
+                    "Failed statement executions by SQL fingerprint", "{error}", true, errors));
+            metrics.add(ProducedMetrics.longSum(resource, SCOPE, ROWS_METRIC,
+                    "Rows updated or fetched by SQL fingerprint", "{row}", true, rows));
+        }
+        if (!repeated.isEmpty()) {
+            List<LongPointData> patterns = new ArrayList<>(repeated.size());
+            repeated.forEach((fingerprint, count) -> patterns.add(ProducedMetrics.longPoint(startEpochNanos, now,
+                    Attributes.of(FINGERPRINT, fingerprint), count.sum())));
+            metrics.add(ProducedMetrics.longSum(resource, SCOPE, N_PLUS_ONE_METRIC,
+                    "N+1 query patterns found by SQL fingerprint", "{pattern}", true, patterns));
+        }
+        return metrics;
+    }
+
+    private List<QueryStats.Snapshot> snapshots() {
+        List<QueryStats.Snapshot> snapshots = new ArrayList<>(stats.size() + 1);
+        for (QueryStats entry : stats.values()) {
+            snapshots.add(entry.snapshot());
+        }
+        QueryStats.Snapshot overflow = other.snapshot();
+        if (overflow.calls() > 0) {
+            snapshots.add(overflow);
+        }
+        return snapshots;
+    }
+
+    private static long epochNanos() {
+        return TimeUnit.MILLISECONDS.toNanos(System.currentTimeMillis());
+    }
+}
@@ -0,0 +1,95 @@
+package insight;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Open state of a wrapped Connection, Statement, ResultSet or LOB stream. Closing a handle closes the handles opened
+ * under it, as JDBC does for the objects; a statement also closes its result sets when it executes again, and a result
+ * set its streams when it moves to the next row. A handle closed that way runs its release action, so that nodes
+ * reporting on close hear of it too. With driver metrics on, handles other than streams are behind the open-resource
+ * counts of {@link DriverMetrics}.
+ */
+final class ResourceHandle {
+    private final DriverMetrics metrics;
+    private final DriverMetrics.ResourceKind kind;
+    private final ResourceHandle owner;
+    private final Runnable release;
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private final Set<ResourceHandle> children;
+
+    ResourceHandle(DriverMetrics metrics, DriverMetrics.ResourceKind kind, ResourceHandle owner, Runnable release) {
+        this.metrics = metrics;
+        this.kind = kind;
+        this.owner = owner;
+        this.release = release;
+        this.children = kind == null ? null : ConcurrentHashMap.newKeySet();
+        if (metrics != null) {
+            metrics.opened(kind);
+        }
+        if (owner != null) {
+            owner.children.add(this);
+        }
+    }
+
+    /**
+     * Handle of a stream, which holds no other handles and is not counted.
+     */
+    ResourceHandle(ResourceHandle owner, Runnable release) {
+        this(null, null, owner, release);
+    }
+
+    /**
+     * This handle or the nearest one it was opened under that is of the kind, or {@code null}.
+     */
+    ResourceHandle find(DriverMetrics.ResourceKind kind) {
+        ResourceHandle handle = this;
+        while (handle != null && handle.kind != kind) {
+            handle = handle.owner;
+        }
+        return handle;
+    }
+
+    boolean holdsChildren() {
+        return children != null;
+    }
+
+    /**
+     * Closes the handle for a close call on its own object.
+     */
+    void close() {
+        closeOnce();
+    }
+
+    private boolean closeOnce() {
+        if (!closed.compareAndSet(false, true)) {
+            return false;
+        }
+        if (metrics != null) {
+            metrics.closed(kind);
+        }
+        if (owner != null) {
+            owner.children.remove(this);
+        }
+        closeChildren();
+        return true;
+    }
+
+    void closeChildren() {
+        if (children != null && !children.isEmpty()) {
+            for (ResourceHandle child : children) {
+                child.release();
+            }
+        }
+    }
+
+    /**
+     * Closes the handle without a close call on its object: along with its owner, or when the object is lost.
+     */
+    void release() {
+        if (closeOnce() && release != null) {
+            release.run();
+        }
+    }
+}
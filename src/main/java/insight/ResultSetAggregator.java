@@ -0,0 +1,204 @@
+package insight;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+
+import java.util.List;
+
+/**
+ * A ResultSet node that folds its calls into counters and reports them as one {@code fetch} span, ended when the
+ * cursor is exhausted or closed, including when its statement or connection closes it. The node is its own
+ * {@link Invocation}, so calls allocate nothing; like the ResultSet it wraps, it expects to be used by one thread at a
+ * time. Calls measured for {@link CallCost} add their CPU time and allocation to the {@code next} and getter totals.
+ */
+public class ResultSetAggregator extends TraceNode implements Invocation {
+    public static final String SPAN_NAME = "fetch";
+
+    static final AttributeKey<Long> ROWS = AttributeKey.longKey("resultset.rows");
+    static final AttributeKey<Long> NEXT_CALLS = AttributeKey.longKey("resultset.next.calls");
+    static final AttributeKey<Long> NEXT_TIME = AttributeKey.longKey("resultset.next.time_ns");
+    static final AttributeKey<Long> GET_CALLS = AttributeKey.longKey("resultset.get.calls");
+    static final AttributeKey<Long> GET_TIME = AttributeKey.longKey("resultset.get.time_ns");
+    static final AttributeKey<Long> OTHER_CALLS = AttributeKey.longKey("resultset.other.calls");
+    static final AttributeKey<Long> OTHER_TIME = AttributeKey.longKey("resultset.other.time_ns");
+    static final AttributeKey<Long> FIRST_ROW = AttributeKey.longKey("resultset.first_row_ns");
+    static final AttributeKey<Long> NEXT_CPU = AttributeKey.longKey("resultset.next.cpu_time_ns");
+    static final AttributeKey<Long> NEXT_ALLOCATED = AttributeKey.longKey("resultset.next.allocated_bytes");
+    static final AttributeKey<Long> GET_CPU = AttributeKey.longKey("resultset.get.cpu_time_ns");
+    static final AttributeKey<Long> GET_ALLOCATED = AttributeKey.longKey("resultset.get.allocated_bytes");
+    static final AttributeKey<Long> MEASURED_CALLS = AttributeKey.longKey("resultset.measured.calls");
+    static final AttributeKey<Boolean> EXHAUSTED = AttributeKey.booleanKey("resultset.exhausted");
+    static final List<AttributeKey<Long>> GETTER_CALLS = MethodInfo.RESULT_SET_GETTERS.stream()
+            .map(getter -> AttributeKey.longKey("resultset." + getter + ".calls"))
+            .toList();
+
+    private final Span span;
+    private final Context spanContext;
+    private final long createdNanos;
+    private final long[] getterCalls = new long[GETTER_CALLS.size()];
+    private final QueryStats query;
+    private final long transaction;
+
+    private MethodInfo current;
+    private long startNanos;
+    private boolean measuring;
+    private long startAllocated;
+    private long startCpu;
+    private boolean exhausted;
+    private boolean ended;
+
+    private long rows;
+    private long nextCalls;
+    private long nextNanos;
+    private long getNanos;
+    private long otherCalls;
+    private long otherNanos;
+    private long firstRowNanos = -1;
+    private long measuredCalls;
+    private long nextCpuNanos;
+    private long nextAllocated;
+    private long getCpuNanos;
+    private long getAllocated;
+
+    public ResultSetAggregator(Tracer tracer, Context context, ConnectionState connection, QueryStats query) {
+        super(tracer, context, connection);
+        this.query = query;
+        this.span = tracer.spanBuilder(SPAN_NAME).setParent(context).startSpan();
+        this.spanContext = context.with(span);
+        this.createdNanos = System.nanoTime();
+        this.transaction = connection.transactions() == null ? -1 : connection.transactions().generation();
+    }
+
+    @Override
+    public Invocation enter(MethodInfo info) {
+        track(info);
+        current = info;
+        measuring = connection.measureCost();
+        if (measuring) {
+            CallCost cost = connection.callCost();
+            startAllocated = cost.allocatedBytes();
+            startCpu = cost.cpuNanos();
+        }
+        startNanos = System.nanoTime();
+        return this;
+    }
+
+    @Override
+    public boolean isCapturing() {
+        return current.resultSetRole() == MethodInfo.ResultSetRole.NEXT;
+    }
+
+    @Override
+    public void capture(Object[] args, Object result) {
+        if (Boolean.TRUE.equals(result)) {
+            if (++rows == 1) {
+                firstRowNanos = System.nanoTime() - createdNanos;
+            }
+        } else {
+            exhausted = true;
+        }
+    }
+
+    @Override
+    public Object wrap(Object result, Object firstArg) {
+        return wrap(current, spanContext, firstArg, result);
+    }
+
+    @Override
+    public void fail(Throwable e) {
+        span.recordException(e, SpanInvocation.ESCAPED);
+        span.setAttribute(SpanInvocation.ERROR, true);
+        failed(e);
+    }
+
+    @Override
+    public void exit() {
+        long elapsed = System.nanoTime() - startNanos;
+        if (measuring) {
+            measured();
+        }
+        switch (current.resultSetRole()) {
+            case NEXT -> {
+                nextCalls++;
+                nextNanos += elapsed;
+            }
+            case GETTER -> {
+                getterCalls[current.getterIndex()]++;
+                getNanos += elapsed;
+            }
+            default -> {
+                otherCalls++;
+                otherNanos += elapsed;
+            }
+        }
+        if (exhausted || current.resultSetRole() == MethodInfo.ResultSetRole.CLOSE) {
+            end();
+        }
+    }
+
+    private void measured() {
+        CallCost cost = connection.callCost();
+        long cpuNanos = Math.max(0, cost.cpuNanos() - startCpu);
+        long allocated = Math.max(0, cost.allocatedBytes() - startAllocated);
+        cost.record(current, cpuNanos, allocated);
+        measuredCalls++;
+        switch (current.resultSetRole()) {
+            case NEXT -> {
+                nextCpuNanos += cpuNanos;
+                nextAllocated += allocated;
+            }
+            case GETTER -> {
+                getCpuNanos += cpuNanos;
+                getAllocated += allocated;
+            }
+            default -> {
+            }
+        }
+    }
+
+    @Override
+    void released() {
+        end();
+    }
+
+    private void end() {
+        if (ended) {
+            return;
+        }
+        ended = true;
+        long getCalls = 0;
+        for (int i = 0; i < getterCalls.length; i++) {
+            if (getterCalls[i] > 0) {
+                span.setAttribute(GETTER_CALLS.get(i), getterCalls[i]);
+                getCalls += getterCalls[i];
+            }
+        }
+        span.setAttribute(ROWS, rows);
+        span.setAttribute(NEXT_CALLS, nextCalls);
+        span.setAttribute(NEXT_TIME, nextNanos);
+        span.setAttribute(GET_CALLS, getCalls);
+        span.setAttribute(GET_TIME, getNanos);
+        span.setAttribute(OTHER_CALLS, otherCalls);
+        span.setAttribute(OTHER_TIME, otherNanos);
+        span.setAttribute(EXHAUSTED, exhausted);
+        if (measuredCalls > 0) {
+            span.setAttribute(MEASURED_CALLS, measuredCalls);
+            span.setAttribute(NEXT_CPU, nextCpuNanos);
+            span.setAttribute(NEXT_ALLOCATED, nextAllocated);
+            span.setAttribute(GET_CPU, getCpuNanos);
+            span.setAttribute(GET_ALLOCATED, getAllocated);
+        }
+        if (firstRowNanos >= 0) {
+            span.setAttribute(FIRST_ROW, firstRowNanos);
+        }
+        span.end();
+        if (query != null) {
+            query.addRows(rows);
+        }
+        if (connection.transactions() != null) {
+            connection.transactions().fetched(transaction, nextNanos + getNanos);
+        }
+    }
+}
@@ -0,0 +1,438 @@
+package insight;
+
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+
+/**
+ * Traces {@link ResultSetMetaData} calls without reflection. Generated by {@code WrapperGenerator}, do not edit.
+ */
+@SuppressWarnings("deprecation")
+public final class ResultSetMetaDataWrapper implements ResultSetMetaData {
+    private static final MethodInfo GET_CATALOG_NAME_INT = MethodInfo.of(ResultSetMetaData.class, "getCatalogName", int.class);
+    private static final MethodInfo GET_COLUMN_CLASS_NAME_INT = MethodInfo.of(ResultSetMetaData.class, "getColumnClassName", int.class);
+    private static final MethodInfo GET_COLUMN_COUNT = MethodInfo.of(ResultSetMetaData.class, "getColumnCount");
+    private static final MethodInfo GET_COLUMN_DISPLAY_SIZE_INT = MethodInfo.of(ResultSetMetaData.class, "getColumnDisplaySize", int.class);
+    private static final MethodInfo GET_COLUMN_LABEL_INT = MethodInfo.of(ResultSetMetaData.class, "getColumnLabel", int.class);
+    private static final MethodInfo GET_COLUMN_NAME_INT = MethodInfo.of(ResultSetMetaData.class, "getColumnName", int.class);
+    private static final MethodInfo GET_COLUMN_TYPE_INT = MethodInfo.of(ResultSetMetaData.class, "getColumnType", int.class);
+    private static final MethodInfo GET_COLUMN_TYPE_NAME_INT = MethodInfo.of(ResultSetMetaData.class, "getColumnTypeName", int.class);
+    private static final MethodInfo GET_PRECISION_INT = MethodInfo.of(ResultSetMetaData.class, "getPrecision", int.class);
+    private static final MethodInfo GET_SCALE_INT = MethodInfo.of(ResultSetMetaData.class, "getScale", int.class);
+    private static final MethodInfo GET_SCHEMA_NAME_INT = MethodInfo.of(ResultSetMetaData.class, "getSchemaName", int.class);
+    private static final MethodInfo GET_TABLE_NAME_INT = MethodInfo.of(ResultSetMetaData.class, "getTableName", int.class);
+    private static final MethodInfo IS_AUTO_INCREMENT_INT = MethodInfo.of(ResultSetMetaData.class, "isAutoIncrement", int.class);
+    private static final MethodInfo IS_CASE_SENSITIVE_INT = MethodInfo.of(ResultSetMetaData.class, "isCaseSensitive", int.class);
+    private static final MethodInfo IS_CURRENCY_INT = MethodInfo.of(ResultSetMetaData.class, "isCurrency", int.class);
+    private static final MethodInfo IS_DEFINITELY_WRITABLE_INT = MethodInfo.of(ResultSetMetaData.class, "isDefinitelyWritable", int.class);
+    private static final MethodInfo IS_NULLABLE_INT = MethodInfo.of(ResultSetMetaData.class, "isNullable", int.class);
+    private static final MethodInfo IS_READ_ONLY_INT = MethodInfo.of(ResultSetMetaData.class, "isReadOnly", int.class);
+    private static final MethodInfo IS_SEARCHABLE_INT = MethodInfo.of(ResultSetMetaData.class, "isSearchable", int.class);
+    private static final MethodInfo IS_SIGNED_INT = MethodInfo.of(ResultSetMetaData.class, "isSigned", int.class);
+    private static final MethodInfo IS_WRAPPER_FOR_CLASS = MethodInfo.of(ResultSetMetaData.class, "isWrapperFor", Class.class);
+    private static final MethodInfo IS_WRITABLE_INT = MethodInfo.of(ResultSetMetaData.class, "isWritable", int.class);
+    private static final MethodInfo UNWRAP_CLASS = MethodInfo.of(ResultSetMetaData.class, "unwrap", Class.class);
+
+    private final ResultSetMetaData delegate;
+    private final TraceNode node;
+
+    public ResultSetMetaDataWrapper(ResultSetMetaData delegate, TraceNode node) {
+        this.delegate = delegate;
+        this.node = node;
+    }
+
+    @Override
+    public String getCatalogName(int arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_CATALOG_NAME_INT);
+        try {
+            String result = delegate.getCatalogName(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public String getColumnClassName(int arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_COLUMN_CLASS_NAME_INT);
+        try {
+            String result = delegate.getColumnClassName(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public int getColumnCount() throws SQLException {
+        Invocation invocation = node.enter(GET_COLUMN_COUNT);
+        try {
+            int result = delegate.getColumnCount();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public int getColumnDisplaySize(int arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_COLUMN_DISPLAY_SIZE_INT);
+        try {
+            int result = delegate.getColumnDisplaySize(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public String getColumnLabel(int arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_COLUMN_LABEL_INT);
+        try {
+            String result = delegate.getColumnLabel(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public String getColumnName(int arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_COLUMN_NAME_INT);
+        try {
+            String result = delegate.getColumnName(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public int getColumnType(int arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_COLUMN_TYPE_INT);
+        try {
+            int result = delegate.getColumnType(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public String getColumnTypeName(int arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_COLUMN_TYPE_NAME_INT);
+        try {
+            String result = delegate.getColumnTypeName(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public int getPrecision(int arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_PRECISION_INT);
+        try {
+            int result = delegate.getPrecision(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public int getScale(int arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_SCALE_INT);
+        try {
+            int result = delegate.getScale(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public String getSchemaName(int arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_SCHEMA_NAME_INT);
+        try {
+            String result = delegate.getSchemaName(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public String getTableName(int arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_TABLE_NAME_INT);
+        try {
+            String result = delegate.getTableName(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean isAutoIncrement(int arg0) throws SQLException {
+        Invocation invocation = node.enter(IS_AUTO_INCREMENT_INT);
+        try {
+            boolean result = delegate.isAutoIncrement(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean isCaseSensitive(int arg0) throws SQLException {
+        Invocation invocation = node.enter(IS_CASE_SENSITIVE_INT);
+        try {
+            boolean result = delegate.isCaseSensitive(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean isCurrency(int arg0) throws SQLException {
+        Invocation invocation = node.enter(IS_CURRENCY_INT);
+        try {
+            boolean result = delegate.isCurrency(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean isDefinitelyWritable(int arg0) throws SQLException {
+        Invocation invocation = node.enter(IS_DEFINITELY_WRITABLE_INT);
+        try {
+            boolean result = delegate.isDefinitelyWritable(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public int isNullable(int arg0) throws SQLException {
+        Invocation invocation = node.enter(IS_NULLABLE_INT);
+        try {
+            int result = delegate.isNullable(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean isReadOnly(int arg0) throws SQLException {
+        Invocation invocation = node.enter(IS_READ_ONLY_INT);
+        try {
+            boolean result = delegate.isReadOnly(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean isSearchable(int arg0) throws SQLException {
+        Invocation invocation = node.enter(IS_SEARCHABLE_INT);
+        try {
+            boolean result = delegate.isSearchable(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean isSigned(int arg0) throws SQLException {
+        Invocation invocation = node.enter(IS_SIGNED_INT);
+        try {
+            boolean result = delegate.isSigned(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> arg0) throws SQLException {
+        Invocation invocation = node.enter(IS_WRAPPER_FOR_CLASS);
+        try {
+            boolean result = delegate.isWrapperFor(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean isWritable(int arg0) throws SQLException {
+        Invocation invocation = node.enter(IS_WRITABLE_INT);
+        try {
+            boolean result = delegate.isWritable(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> arg0) throws SQLException {
+        Invocation invocation = node.enter(UNWRAP_CLASS);
+        try {
+            T result = delegate.unwrap(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return delegate.toString();
+    }
+}
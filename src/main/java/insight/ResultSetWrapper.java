@@ -0,0 +1,3422 @@
+package insight;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.net.URL;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Date;
+import java.sql.NClob;
+import java.sql.Ref;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.RowId;
+import java.sql.SQLException;
+import java.sql.SQLType;
+import java.sql.SQLWarning;
+import java.sql.SQLXML;
+import java.sql.Statement;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Calendar;
+import java.util.Map;
+
+/**
+ * Traces {@link ResultSet} calls without reflection. Generated by {@code WrapperGenerator}, do not edit.
+ */
+@SuppressWarnings("deprecation")
+public final class ResultSetWrapper implements ResultSet {
+    private static final MethodInfo ABSOLUTE_INT = MethodInfo.of(ResultSet.class, "absolute", int.class);
+    private static final MethodInfo AFTER_LAST = MethodInfo.of(ResultSet.class, "afterLast");
+    private static final MethodInfo BEFORE_FIRST = MethodInfo.of(ResultSet.class, "beforeFirst");
+    private static final MethodInfo CANCEL_ROW_UPDATES = MethodInfo.of(ResultSet.class, "cancelRowUpdates");
+    private static final MethodInfo CLEAR_WARNINGS = MethodInfo.of(ResultSet.class, "clearWarnings");
+    private static final MethodInfo CLOSE = MethodInfo.of(ResultSet.class, "close");
+    private static final MethodInfo DELETE_ROW = MethodInfo.of(ResultSet.class, "deleteRow");
+    private static final MethodInfo FIND_COLUMN_STRING = MethodInfo.of(ResultSet.class, "findColumn", String.class);
+    private static final MethodInfo FIRST = MethodInfo.of(ResultSet.class, "first");
+    private static final MethodInfo GET_ARRAY_INT = MethodInfo.of(ResultSet.class, "getArray", int.class);
+    private static final MethodInfo GET_ARRAY_STRING = MethodInfo.of(ResultSet.class, "getArray", String.class);
+    private static final MethodInfo GET_ASCII_STREAM_INT = MethodInfo.of(ResultSet.class, "getAsciiStream", int.class);
+    private static final MethodInfo GET_ASCII_STREAM_STRING = MethodInfo.of(ResultSet.class, "getAsciiStream", String.class);
+    private static final MethodInfo GET_BIG_DECIMAL_INT = MethodInfo.of(ResultSet.class, "getBigDecimal", int.class);
+    private static final MethodInfo GET_BIG_DECIMAL_INT_INT = MethodInfo.of(ResultSet.class, "getBigDecimal", int.class, int.class);
+    private static final MethodInfo GET_BIG_DECIMAL_STRING = MethodInfo.of(ResultSet.class, "getBigDecimal", String.class);
+    private static final MethodInfo GET_BIG_DECIMAL_STRING_INT = MethodInfo.of(ResultSet.class, "getBigDecimal", String.class, int.class);
+    private static final MethodInfo GET_BINARY_STREAM_INT = MethodInfo.of(ResultSet.class, "getBinaryStream", int.class);
+    private static final MethodInfo GET_BINARY_STREAM_STRING = MethodInfo.of(ResultSet.class, "getBinaryStream", String.class);
+    private static final MethodInfo GET_BLOB_INT = MethodInfo.of(ResultSet.class, "getBlob", int.class);
+    private static final MethodInfo GET_BLOB_STRING = MethodInfo.of(ResultSet.class, "getBlob", String.class);
+    private static final MethodInfo GET_BOOLEAN_INT = MethodInfo.of(ResultSet.class, "getBoolean", int.class);
+    private static final MethodInfo GET_BOOLEAN_STRING = MethodInfo.of(ResultSet.class, "getBoolean", String.class);
+    private static final MethodInfo GET_BYTE_INT = MethodInfo.of(ResultSet.class, "getByte", int.class);
+    private static final MethodInfo GET_BYTE_STRING = MethodInfo.of(ResultSet.class, "getByte", String.class);
+    private static final MethodInfo GET_BYTES_INT = MethodInfo.of(ResultSet.class, "getBytes", int.class);
+    private static final MethodInfo GET_BYTES_STRING = MethodInfo.of(ResultSet.class, "getBytes", String.class);
+    private static final MethodInfo GET_CHARACTER_STREAM_INT = MethodInfo.of(ResultSet.class, "getCharacterStream", int.class);
+    private static final MethodInfo GET_CHARACTER_STREAM_STRING = MethodInfo.of(ResultSet.class, "getCharacterStream", String.class);
+    private static final MethodInfo GET_CLOB_INT = MethodInfo.of(ResultSet.class, "getClob", int.class);
+    private static final MethodInfo GET_CLOB_STRING = MethodInfo.of(ResultSet.class, "getClob", String.class);
+    private static final MethodInfo GET_CONCURRENCY = MethodInfo.of(ResultSet.class, "getConcurrency");
+    private static final MethodInfo GET_CURSOR_NAME = MethodInfo.of(ResultSet.class, "getCursorName");
+    private static final MethodInfo GET_DATE_INT = MethodInfo.of(ResultSet.class, "getDate", int.class);
+    private static final MethodInfo GET_DATE_INT_CALENDAR = MethodInfo.of(ResultSet.class, "getDate", int.class, Calendar.class);
+    private static final MethodInfo GET_DATE_STRING = MethodInfo.of(ResultSet.class, "getDate", String.class);
+    private static final MethodInfo GET_DATE_STRING_CALENDAR = MethodInfo.of(ResultSet.class, "getDate", String.class, Calendar.class);
+    private static final MethodInfo GET_DOUBLE_INT = MethodInfo.of(ResultSet.class, "getDouble", int.class);
+    private static final MethodInfo GET_DOUBLE_STRING = MethodInfo.of(ResultSet.class, "getDouble", String.class);
+    private static final MethodInfo GET_FETCH_DIRECTION = MethodInfo.of(ResultSet.class, "getFetchDirection");
+    private static final MethodInfo GET_FETCH_SIZE = MethodInfo.of(ResultSet.class, "getFetchSize");
+    private static final MethodInfo GET_FLOAT_INT = MethodInfo.of(ResultSet.class, "getFloat", int.class);
+    private static final MethodInfo GET_FLOAT_STRING = MethodInfo.of(ResultSet.class, "getFloat", String.class);
+    private static final MethodInfo GET_HOLDABILITY = MethodInfo.of(ResultSet.class, "getHoldability");
+    private static final MethodInfo GET_INT_INT = MethodInfo.of(ResultSet.class, "getInt", int.class);
+    private static final MethodInfo GET_INT_STRING = MethodInfo.of(ResultSet.class, "getInt", String.class);
+    private static final MethodInfo GET_LONG_INT = MethodInfo.of(ResultSet.class, "getLong", int.class);
+    private static final MethodInfo GET_LONG_STRING = MethodInfo.of(ResultSet.class, "getLong", String.class);
+    private static final MethodInfo GET_META_DATA = MethodInfo.of(ResultSet.class, "getMetaData");
+    private static final MethodInfo GET_NCHARACTER_STREAM_INT = MethodInfo.of(ResultSet.class, "getNCharacterStream", int.class);
+    private static final MethodInfo GET_NCHARACTER_STREAM_STRING = MethodInfo.of(ResultSet.class, "getNCharacterStream", String.class);
+    private static final MethodInfo GET_NCLOB_INT = MethodInfo.of(ResultSet.class, "getNClob", int.class);
+    private static final MethodInfo GET_NCLOB_STRING = MethodInfo.of(ResultSet.class, "getNClob", String.class);
+    private static final MethodInfo GET_NSTRING_INT = MethodInfo.of(ResultSet.class, "getNString", int.class);
+    private static final MethodInfo GET_NSTRING_STRING = MethodInfo.of(ResultSet.class, "getNString", String.class);
+    private static final MethodInfo GET_OBJECT_INT = MethodInfo.of(ResultSet.class, "getObject", int.class);
+    private static final MethodInfo GET_OBJECT_INT_CLASS = MethodInfo.of(ResultSet.class, "getObject", int.class, Class.class);
+    private static final MethodInfo GET_OBJECT_INT_MAP = MethodInfo.of(ResultSet.class, "getObject", int.class, Map.class);
+    private static final MethodInfo GET_OBJECT_STRING = MethodInfo.of(ResultSet.class, "getObject", String.class);
+    private static final MethodInfo GET_OBJECT_STRING_CLASS = MethodInfo.of(ResultSet.class, "getObject", String.class, Class.class);
+    private static final MethodInfo GET_OBJECT_STRING_MAP = MethodInfo.of(ResultSet.class, "getObject", String.class, Map.class);
+    private static final MethodInfo GET_REF_INT = MethodInfo.of(ResultSet.class, "getRef", int.class);
+    private static final MethodInfo GET_REF_STRING = MethodInfo.of(ResultSet.class, "getRef", String.class);
+    private static final MethodInfo GET_ROW = MethodInfo.of(ResultSet.class, "getRow");
+    private static final MethodInfo GET_ROW_ID_INT = MethodInfo.of(ResultSet.class, "getRowId", int.class);
+    private static final MethodInfo GET_ROW_ID_STRING = MethodInfo.of(ResultSet.class, "getRowId", String.class);
+    private static final MethodInfo GET_SQLXML_INT = MethodInfo.of(ResultSet.class, "getSQLXML", int.class);
+    private static final MethodInfo GET_SQLXML_STRING = MethodInfo.of(ResultSet.class, "getSQLXML", String.class);
+    private static final MethodInfo GET_SHORT_INT = MethodInfo.of(ResultSet.class, "getShort", int.class);
+    private static final MethodInfo GET_SHORT_STRING = MethodInfo.of(ResultSet.class, "getShort", String.class);
+    private static final MethodInfo GET_STATEMENT = MethodInfo.of(ResultSet.class, "getStatement");
+    private static final MethodInfo GET_STRING_INT = MethodInfo.of(ResultSet.class, "getString", int.class);
+    private static final MethodInfo GET_STRING_STRING = MethodInfo.of(ResultSet.class, "getString", String.class);
+    private static final MethodInfo GET_TIME_INT = MethodInfo.of(ResultSet.class, "getTime", int.class);
+    private static final MethodInfo GET_TIME_INT_CALENDAR = MethodInfo.of(ResultSet.class, "getTime", int.class, Calendar.class);
+    private static final MethodInfo GET_TIME_STRING = MethodInfo.of(ResultSet.class, "getTime", String.class);
+    private static final MethodInfo GET_TIME_STRING_CALENDAR = MethodInfo.of(ResultSet.class, "getTime", String.class, Calendar.class);
+    private static final MethodInfo GET_TIMESTAMP_INT = MethodInfo.of(ResultSet.class, "getTimestamp", int.class);
+    private static final MethodInfo GET_TIMESTAMP_INT_CALENDAR = MethodInfo.of(ResultSet.class, "getTimestamp", int.class, Calendar.class);
+    private static final MethodInfo GET_TIMESTAMP_STRING = MethodInfo.of(ResultSet.class, "getTimestamp", String.class);
+    private static final MethodInfo GET_TIMESTAMP_STRING_CALENDAR = MethodInfo.of(ResultSet.class, "getTimestamp", String.class, Calendar.class);
+    private static final MethodInfo GET_TYPE = MethodInfo.of(ResultSet.class, "getType");
+    private static final MethodInfo GET_URL_INT = MethodInfo.of(ResultSet.class, "getURL", int.class);
+    private static final MethodInfo GET_URL_STRING = MethodInfo.of(ResultSet.class, "getURL", String.class);
+    private static final MethodInfo GET_UNICODE_STREAM_INT = MethodInfo.of(ResultSet.class, "getUnicodeStream", int.class);
+    private static final MethodInfo GET_UNICODE_STREAM_STRING = MethodInfo.of(ResultSet.class, "getUnicodeStream", String.class);
+    private static final MethodInfo GET_WARNINGS = MethodInfo.of(ResultSet.class, "getWarnings");
+    private static final MethodInfo INSERT_ROW = MethodInfo.of(ResultSet.class, "insertRow");
+    private static final MethodInfo IS_AFTER_LAST = MethodInfo.of(ResultSet.class, "isAfterLast");
+    private static final MethodInfo IS_BEFORE_FIRST = MethodInfo.of(ResultSet.class, "isBeforeFirst");
+    private static final MethodInfo IS_CLOSED = MethodInfo.of(ResultSet.class, "isClosed");
+    private static final MethodInfo IS_FIRST = MethodInfo.of(ResultSet.class, "isFirst");
+    private static final MethodInfo IS_LAST = MethodInfo.of(ResultSet.class, "isLast");
+    private static final MethodInfo IS_WRAPPER_FOR_CLASS = MethodInfo.of(ResultSet.class, "isWrapperFor", Class.class);
+    private static final MethodInfo LAST = MethodInfo.of(ResultSet.class, "last");
+    private static final MethodInfo MOVE_TO_CURRENT_ROW = MethodInfo.of(ResultSet.class, "moveToCurrentRow");
+    private static final MethodInfo MOVE_TO_INSERT_ROW = MethodInfo.of(ResultSet.class, "moveToInsertRow");
+    private static final MethodInfo NEXT = MethodInfo.of(ResultSet.class, "next");
+    private static final MethodInfo PREVIOUS = MethodInfo.of(ResultSet.class, "previous");
+    private static final MethodInfo REFRESH_ROW = MethodInfo.of(ResultSet.class, "refreshRow");
+    private static final MethodInfo RELATIVE_INT = MethodInfo.of(ResultSet.class, "relative", int.class);
+    private static final MethodInfo ROW_DELETED = MethodInfo.of(ResultSet.class, "rowDeleted");
+    private static final MethodInfo ROW_INSERTED = MethodInfo.of(ResultSet.class, "rowInserted");
+    private static final MethodInfo ROW_UPDATED = MethodInfo.of(ResultSet.class, "rowUpdated");
+    private static final MethodInfo SET_FETCH_DIRECTION_INT = MethodInfo.of(ResultSet.class, "setFetchDirection", int.class);
+    private static final MethodInfo SET_FETCH_SIZE_INT = MethodInfo.of(ResultSet.class, "setFetchSize", int.class);
+    private static final MethodInfo UNWRAP_CLASS = MethodInfo.of(ResultSet.class, "unwrap", Class.class);
+    private static final MethodInfo UPDATE_ARRAY_INT_ARRAY = MethodInfo.of(ResultSet.class, "updateArray", int.class, Array.class);
+    private static final MethodInfo UPDATE_ARRAY_STRING_ARRAY = MethodInfo.of(ResultSet.class, "updateArray", String.class, Array.class);
+    private static final MethodInfo UPDATE_ASCII_STREAM_INT_INPUT_STREAM = MethodInfo.of(ResultSet.class, "updateAsciiStream", int.class, InputStream.class);
+    private static final MethodInfo UPDATE_ASCII_STREAM_INT_INPUT_STREAM_INT = MethodInfo.of(ResultSet.class, "updateAsciiStream", int.class, InputStream.class, int.class);
+    private static final MethodInfo UPDATE_ASCII_STREAM_INT_INPUT_STREAM_LONG = MethodInfo.of(ResultSet.class, "updateAsciiStream", int.class, InputStream.class, long.class);
+    private static final MethodInfo UPDATE_ASCII_STREAM_STRING_INPUT_STREAM = MethodInfo.of(ResultSet.class, "updateAsciiStream", String.class, InputStream.class);
+    private static final MethodInfo UPDATE_ASCII_STREAM_STRING_INPUT_STREAM_INT = MethodInfo.of(ResultSet.class, "updateAsciiStream", String.class, InputStream.class, int.class);
+    private static final MethodInfo UPDATE_ASCII_STREAM_STRING_INPUT_STREAM_LONG = MethodInfo.of(ResultSet.class, "updateAsciiStream", String.class, InputStream.class, long.class);
+    private static final MethodInfo UPDATE_BIG_DECIMAL_INT_BIG_DECIMAL = MethodInfo.of(ResultSet.class, "updateBigDecimal", int.class, BigDecimal.class);
+    private static final MethodInfo UPDATE_BIG_DECIMAL_STRING_BIG_DECIMAL = MethodInfo.of(ResultSet.class, "updateBigDecimal", String.class, BigDecimal.class);
+    private static final MethodInfo UPDATE_BINARY_STREAM_INT_INPUT_STREAM = MethodInfo.of(ResultSet.class, "updateBinaryStream", int.class, InputStream.class);
+    private static final MethodInfo UPDATE_BINARY_STREAM_INT_INPUT_STREAM_INT = MethodInfo.of(ResultSet.class, "updateBinaryStream", int.class, InputStream.class, int.class);
+    private static final MethodInfo UPDATE_BINARY_STREAM_INT_INPUT_STREAM_LONG = MethodInfo.of(ResultSet.class, "updateBinaryStream", int.class, InputStream.class, long.class);
+    private static final MethodInfo UPDATE_BINARY_STREAM_STRING_INPUT_STREAM = MethodInfo.of(ResultSet.class, "updateBinaryStream", String.class, InputStream.class);
+    private static final MethodInfo UPDATE_BINARY_STREAM_STRING_INPUT_STREAM_INT = MethodInfo.of(ResultSet.class, "updateBinaryStream", String.class, InputStream.class, int.class);
+    private static final MethodInfo UPDATE_BINARY_STREAM_STRING_INPUT_STREAM_LONG = MethodInfo.of(ResultSet.class, "updateBinaryStream", String.class, InputStream.class, long.class);
+    private static final MethodInfo UPDATE_BLOB_INT_INPUT_STREAM = MethodInfo.of(ResultSet.class, "updateBlob", int.class, InputStream.class);
+    private static final MethodInfo UPDATE_BLOB_INT_INPUT_STREAM_LONG = MethodInfo.of(ResultSet.class, "updateBlob", int.class, InputStream.class, long.class);
+    private static final MethodInfo UPDATE_BLOB_INT_BLOB = MethodInfo.of(ResultSet.class, "updateBlob", int.class, Blob.class);
+    private static final MethodInfo UPDATE_BLOB_STRING_INPUT_STREAM = MethodInfo.of(ResultSet.class, "updateBlob", String.class, InputStream.class);
+    private static final MethodInfo UPDATE_BLOB_STRING_INPUT_STREAM_LONG = MethodInfo.of(ResultSet.class, "updateBlob", String.class, InputStream.class, long.class);
+    private static final MethodInfo UPDATE_BLOB_STRING_BLOB = MethodInfo.of(ResultSet.class, "updateBlob", String.class, Blob.class);
+    private static final MethodInfo UPDATE_BOOLEAN_INT_BOOLEAN = MethodInfo.of(ResultSet.class, "updateBoolean", int.class, boolean.class);
+    private static final MethodInfo UPDATE_BOOLEAN_STRING_BOOLEAN = MethodInfo.of(ResultSet.class, "updateBoolean", String.class, boolean.class);
+    private static final MethodInfo UPDATE_BYTE_INT_BYTE = MethodInfo.of(ResultSet.class, "updateByte", int.class, byte.class);
+    private static final MethodInfo UPDATE_BYTE_STRING_BYTE = MethodInfo.of(ResultSet.class, "updateByte", String.class, byte.class);
+    private static final MethodInfo UPDATE_BYTES_INT_BYTE_ARRAY = MethodInfo.of(ResultSet.class, "updateBytes", int.class, byte[].class);
+    private static final MethodInfo UPDATE_BYTES_STRING_BYTE_ARRAY = MethodInfo.of(ResultSet.class, "updateBytes", String.class, byte[].class);
+    private static final MethodInfo UPDATE_CHARACTER_STREAM_INT_READER = MethodInfo.of(ResultSet.class, "updateCharacterStream", int.class, Reader.class);
+    private static final MethodInfo UPDATE_CHARACTER_STREAM_INT_READER_INT = MethodInfo.of(ResultSet.class, "updateCharacterStream", int.class, Reader.class, int.class);
+    private static final MethodInfo UPDATE_CHARACTER_STREAM_INT_READER_LONG = MethodInfo.of(ResultSet.class, "updateCharacterStream", int.class, Reader.class, long.class);
+    private static final MethodInfo UPDATE_CHARACTER_STREAM_STRING_READER = MethodInfo.of(ResultSet.class, "updateCharacterStream", String.class, Reader.class);
+    private static final MethodInfo UPDATE_CHARACTER_STREAM_STRING_READER_INT = MethodInfo.of(ResultSet.class, "updateCharacterStream", String.class, Reader.class, int.class);
+    private static final MethodInfo UPDATE_CHARACTER_STREAM_STRING_READER_LONG = MethodInfo.of(ResultSet.class, "updateCharacterStream", String.class, Reader.class, long.class);
+    private static final MethodInfo UPDATE_CLOB_INT_READER = MethodInfo.of(ResultSet.class, "updateClob", int.class, Reader.class);
+    private static final MethodInfo UPDATE_CLOB_INT_READER_LONG = MethodInfo.of(ResultSet.class, "updateClob", int.class, Reader.class, long.class);
+    private static final MethodInfo UPDATE_CLOB_INT_CLOB = MethodInfo.of(ResultSet.class, "updateClob", int.class, Clob.class);
+    private static final MethodInfo UPDATE_CLOB_STRING_READER = MethodInfo.of(ResultSet.class, "updateClob", String.class, Reader.class);
+    private static final MethodInfo UPDATE_CLOB_STRING_READER_LONG = MethodInfo.of(ResultSet.class, "updateClob", String.class, Reader.class, long.class);
+    private static final MethodInfo UPDATE_CLOB_STRING_CLOB = MethodInfo.of(ResultSet.class, "updateClob", String.class, Clob.class);
+    private static final MethodInfo UPDATE_DATE_INT_DATE = MethodInfo.of(ResultSet.class, "updateDate", int.class, Date.class);
+    private static final MethodInfo UPDATE_DATE_STRING_DATE = MethodInfo.of(ResultSet.class, "updateDate", String.class, Date.class);
+    private static final MethodInfo UPDATE_DOUBLE_INT_DOUBLE = MethodInfo.of(ResultSet.class, "updateDouble", int.class, double.class);
+    private static final MethodInfo UPDATE_DOUBLE_STRING_DOUBLE = MethodInfo.of(ResultSet.class, "updateDouble", String.class, double.class);
+    private static final MethodInfo UPDATE_FLOAT_INT_FLOAT = MethodInfo.of(ResultSet.class, "updateFloat", int.class, float.class);
+    private static final MethodInfo UPDATE_FLOAT_STRING_FLOAT = MethodInfo.of(ResultSet.class, "updateFloat", String.class, float.class);
+    private static final MethodInfo UPDATE_INT_INT_INT = MethodInfo.of(ResultSet.class, "updateInt", int.class, int.class);
+    private static final MethodInfo UPDATE_INT_STRING_INT = MethodInfo.of(ResultSet.class, "updateInt", String.class, int.class);
+    private static final MethodInfo UPDATE_LONG_INT_LONG = MethodInfo.of(ResultSet.class, "updateLong", int.class, long.class);
+    private static final MethodInfo UPDATE_LONG_STRING_LONG = MethodInfo.of(ResultSet.class, "updateLong", String.class, long.class);
+    private static final MethodInfo UPDATE_NCHARACTER_STREAM_INT_READER = MethodInfo.of(ResultSet.class, "updateNCharacterStream", int.class, Reader.class);
+    private static final MethodInfo UPDATE_NCHARACTER_STREAM_INT_READER_LONG = MethodInfo.of(ResultSet.class, "updateNCharacterStream", int.class, Reader.class, long.class);
+    private static final MethodInfo UPDATE_NCHARACTER_STREAM_STRING_READER = MethodInfo.of(ResultSet.class, "updateNCharacterStream", String.class, Reader.class);
+    private static final MethodInfo UPDATE_NCHARACTER_STREAM_STRING_READER_LONG = MethodInfo.of(ResultSet.class, "updateNCharacterStream", String.class, Reader.class, long.class);
+    private static final MethodInfo UPDATE_NCLOB_INT_READER = MethodInfo.of(ResultSet.class, "updateNClob", int.class, Reader.class);
+    private static final MethodInfo UPDATE_NCLOB_INT_READER_LONG = MethodInfo.of(ResultSet.class, "updateNClob", int.class, Reader.class, long.class);
+    private static final MethodInfo UPDATE_NCLOB_INT_NCLOB = MethodInfo.of(ResultSet.class, "updateNClob", int.class, NClob.class);
+    private static final MethodInfo UPDATE_NCLOB_STRING_READER = MethodInfo.of(ResultSet.class, "updateNClob", String.class, Reader.class);
+    private static final MethodInfo UPDATE_NCLOB_STRING_READER_LONG = MethodInfo.of(ResultSet.class, "updateNClob", String.class, Reader.class, long.class);
+    private static final MethodInfo UPDATE_NCLOB_STRING_NCLOB = MethodInfo.of(ResultSet.class, "updateNClob", String.class, NClob.class);
+    private static final MethodInfo UPDATE_NSTRING_INT_STRING = MethodInfo.of(ResultSet.class, "updateNString", int.class, String.class);
+    private static final MethodInfo UPDATE_NSTRING_STRING_STRING = MethodInfo.of(ResultSet.class, "updateNString", String.class, String.class);
+    private static final MethodInfo UPDATE_NULL_INT = MethodInfo.of(ResultSet.class, "updateNull", int.class);
+    private static final MethodInfo UPDATE_NULL_STRING = MethodInfo.of(ResultSet.class, "updateNull", String.class);
+    private static final MethodInfo UPDATE_OBJECT_INT_OBJECT = MethodInfo.of(ResultSet.class, "updateObject", int.class, Object.class);
+    private static final MethodInfo UPDATE_OBJECT_INT_OBJECT_INT = MethodInfo.of(ResultSet.class, "updateObject", int.class, Object.class, int.class);
+    private static final MethodInfo UPDATE_OBJECT_INT_OBJECT_SQLTYPE = MethodInfo.of(ResultSet.class, "updateObject", int.class, Object.class, SQLType.class);
+    private static final MethodInfo UPDATE_OBJECT_INT_OBJECT_SQLTYPE_INT = MethodInfo.of(ResultSet.class, "updateObject", int.class, Object.class, SQLType.class, int.class);
+    private static final MethodInfo UPDATE_OBJECT_STRING_OBJECT = MethodInfo.of(ResultSet.class, "updateObject", String.class, Object.class);
+    private static final MethodInfo UPDATE_OBJECT_STRING_OBJECT_INT = MethodInfo.of(ResultSet.class, "updateObject", String.class, Object.class, int.class);
+    private static final MethodInfo UPDATE_OBJECT_STRING_OBJECT_SQLTYPE = MethodInfo.of(ResultSet.class, "updateObject", String.class, Object.class, SQLType.class);
+    private static final MethodInfo UPDATE_OBJECT_STRING_OBJECT_SQLTYPE_INT = MethodInfo.of(ResultSet.class, "updateObject", String.class, Object.class, SQLType.class, int.class);
+    private static final MethodInfo UPDATE_REF_INT_REF = MethodInfo.of(ResultSet.class, "updateRef", int.class, Ref.class);
+    private static final MethodInfo UPDATE_REF_STRING_REF = MethodInfo.of(ResultSet.class, "updateRef", String.class, Ref.class);
+    private static final MethodInfo UPDATE_ROW = MethodInfo.of(ResultSet.class, "updateRow");
+    private static final MethodInfo UPDATE_ROW_ID_INT_ROW_ID = MethodInfo.of(ResultSet.class, "updateRowId", int.class, RowId.class);
+    private static final MethodInfo UPDATE_ROW_ID_STRING_ROW_ID = MethodInfo.of(ResultSet.class, "updateRowId", String.class, RowId.class);
+    private static final MethodInfo UPDATE_SQLXML_INT_SQLXML = MethodInfo.of(ResultSet.class, "updateSQLXML", int.class, SQLXML.class);
+    private static final MethodInfo UPDATE_SQLXML_STRING_SQLXML = MethodInfo.of(ResultSet.class, "updateSQLXML", String.class, SQLXML.class);
+    private static final MethodInfo UPDATE_SHORT_INT_SHORT = MethodInfo.of(ResultSet.class, "updateShort", int.class, short.class);
+    private static final MethodInfo UPDATE_SHORT_STRING_SHORT = MethodInfo.of(ResultSet.class, "updateShort", String.class, short.class);
+    private static final MethodInfo UPDATE_STRING_INT_STRING = MethodInfo.of(ResultSet.class, "updateString", int.class, String.class);
+    private static final MethodInfo UPDATE_STRING_STRING_STRING = MethodInfo.of(ResultSet.class, "updateString", String.class, String.class);
+    private static final MethodInfo UPDATE_TIME_INT_TIME = MethodInfo.of(ResultSet.class, "updateTime", int.class, Time.class);
+    private static final MethodInfo UPDATE_TIME_STRING_TIME = MethodInfo.of(ResultSet.class, "updateTime", String.class, Time.class);
+    private static final MethodInfo UPDATE_TIMESTAMP_INT_TIMESTAMP = MethodInfo.of(ResultSet.class, "updateTimestamp", int.class, Timestamp.class);
+    private static final MethodInfo UPDATE_TIMESTAMP_STRING_TIMESTAMP = MethodInfo.of(ResultSet.class, "updateTimestamp", String.class, Timestamp.class);
+    private static final MethodInfo WAS_NULL = MethodInfo.of(ResultSet.class, "wasNull");
+
+    private final ResultSet delegate;
+    private final TraceNode node;
+
+    public ResultSetWrapper(ResultSet delegate, TraceNode node) {
+        this.delegate = delegate;
+        this.node = node;
+    }
+
+    @Override
+    public boolean absolute(int arg0) throws SQLException {
+        Invocation invocation = node.enter(ABSOLUTE_INT);
+        try {
+            boolean result = delegate.absolute(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void afterLast() throws SQLException {
+        Invocation invocation = node.enter(AFTER_LAST);
+        try {
+            delegate.afterLast();
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void beforeFirst() throws SQLException {
+        Invocation invocation = node.enter(BEFORE_FIRST);
+        try {
+            delegate.beforeFirst();
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void cancelRowUpdates() throws SQLException {
+        Invocation invocation = node.enter(CANCEL_ROW_UPDATES);
+        try {
+            delegate.cancelRowUpdates();
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void clearWarnings() throws SQLException {
+        Invocation invocation = node.enter(CLEAR_WARNINGS);
+        try {
+            delegate.clearWarnings();
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void close() throws SQLException {
+        Invocation invocation = node.enter(CLOSE);
+        try {
+            delegate.close();
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void deleteRow() throws SQLException {
+        Invocation invocation = node.enter(DELETE_ROW);
+        try {
+            delegate.deleteRow();
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public int findColumn(String arg0) throws SQLException {
+        Invocation invocation = node.enter(FIND_COLUMN_STRING);
+        try {
+            int result = delegate.findColumn(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean first() throws SQLException {
+        Invocation invocation = node.enter(FIRST);
+        try {
+            boolean result = delegate.first();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public Array getArray(int arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_ARRAY_INT);
+        try {
+            Array result = delegate.getArray(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return (Array) invocation.wrap(result, arg0);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public Array getArray(String arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_ARRAY_STRING);
+        try {
+            Array result = delegate.getArray(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return (Array) invocation.wrap(result, arg0);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public InputStream getAsciiStream(int arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_ASCII_STREAM_INT);
+        try {
+            InputStream result = delegate.getAsciiStream(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return (InputStream) invocation.wrap(result, arg0);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public InputStream getAsciiStream(String arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_ASCII_STREAM_STRING);
+        try {
+            InputStream result = delegate.getAsciiStream(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return (InputStream) invocation.wrap(result, arg0);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public BigDecimal getBigDecimal(int arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_BIG_DECIMAL_INT);
+        try {
+            BigDecimal result = delegate.getBigDecimal(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public BigDecimal getBigDecimal(int arg0, int arg1) throws SQLException {
+        Invocation invocation = node.enter(GET_BIG_DECIMAL_INT_INT);
+        try {
+            BigDecimal result = delegate.getBigDecimal(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public BigDecimal getBigDecimal(String arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_BIG_DECIMAL_STRING);
+        try {
+            BigDecimal result = delegate.getBigDecimal(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public BigDecimal getBigDecimal(String arg0, int arg1) throws SQLException {
+        Invocation invocation = node.enter(GET_BIG_DECIMAL_STRING_INT);
+        try {
+            BigDecimal result = delegate.getBigDecimal(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public InputStream getBinaryStream(int arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_BINARY_STREAM_INT);
+        try {
+            InputStream result = delegate.getBinaryStream(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return (InputStream) invocation.wrap(result, arg0);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public InputStream getBinaryStream(String arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_BINARY_STREAM_STRING);
+        try {
+            InputStream result = delegate.getBinaryStream(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return (InputStream) invocation.wrap(result, arg0);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public Blob getBlob(int arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_BLOB_INT);
+        try {
+            Blob result = delegate.getBlob(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return (Blob) invocation.wrap(result, arg0);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public Blob getBlob(String arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_BLOB_STRING);
+        try {
+            Blob result = delegate.getBlob(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return (Blob) invocation.wrap(result, arg0);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean getBoolean(int arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_BOOLEAN_INT);
+        try {
+            boolean result = delegate.getBoolean(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean getBoolean(String arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_BOOLEAN_STRING);
+        try {
+            boolean result = delegate.getBoolean(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public byte getByte(int arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_BYTE_INT);
+        try {
+            byte result = delegate.getByte(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public byte getByte(String arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_BYTE_STRING);
+        try {
+            byte result = delegate.getByte(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public byte[] getBytes(int arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_BYTES_INT);
+        try {
+            byte[] result = delegate.getBytes(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public byte[] getBytes(String arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_BYTES_STRING);
+        try {
+            byte[] result = delegate.getBytes(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public Reader getCharacterStream(int arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_CHARACTER_STREAM_INT);
+        try {
+            Reader result = delegate.getCharacterStream(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return (Reader) invocation.wrap(result, arg0);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public Reader getCharacterStream(String arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_CHARACTER_STREAM_STRING);
+        try {
+            Reader result = delegate.getCharacterStream(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return (Reader) invocation.wrap(result, arg0);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public Clob getClob(int arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_CLOB_INT);
+        try {
+            Clob result = delegate.getClob(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return (Clob) invocation.wrap(result, arg0);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public Clob getClob(String arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_CLOB_STRING);
+        try {
+            Clob result = delegate.getClob(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return (Clob) invocation.wrap(result, arg0);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public int getConcurrency() throws SQLException {
+        Invocation invocation = node.enter(GET_CONCURRENCY);
+        try {
+            int result = delegate.getConcurrency();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public String getCursorName() throws SQLException {
+        Invocation invocation = node.enter(GET_CURSOR_NAME);
+        try {
+            String result = delegate.getCursorName();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public Date getDate(int arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_DATE_INT);
+        try {
+            Date result = delegate.getDate(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public Date getDate(int arg0, Calendar arg1) throws SQLException {
+        Invocation invocation = node.enter(GET_DATE_INT_CALENDAR);
+        try {
+            Date result = delegate.getDate(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public Date getDate(String arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_DATE_STRING);
+        try {
+            Date result = delegate.getDate(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public Date getDate(String arg0, Calendar arg1) throws SQLException {
+        Invocation invocation = node.enter(GET_DATE_STRING_CALENDAR);
+        try {
+            Date result = delegate.getDate(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public double getDouble(int arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_DOUBLE_INT);
+        try {
+            double result = delegate.getDouble(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public double getDouble(String arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_DOUBLE_STRING);
+        try {
+            double result = delegate.getDouble(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public int getFetchDirection() throws SQLException {
+        Invocation invocation = node.enter(GET_FETCH_DIRECTION);
+        try {
+            int result = delegate.getFetchDirection();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public int getFetchSize() throws SQLException {
+        Invocation invocation = node.enter(GET_FETCH_SIZE);
+        try {
+            int result = delegate.getFetchSize();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public float getFloat(int arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_FLOAT_INT);
+        try {
+            float result = delegate.getFloat(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public float getFloat(String arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_FLOAT_STRING);
+        try {
+            float result = delegate.getFloat(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public int getHoldability() throws SQLException {
+        Invocation invocation = node.enter(GET_HOLDABILITY);
+        try {
+            int result = delegate.getHoldability();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public int getInt(int arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_INT_INT);
+        try {
+            int result = delegate.getInt(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public int getInt(String arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_INT_STRING);
+        try {
+            int result = delegate.getInt(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public long getLong(int arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_LONG_INT);
+        try {
+            long result = delegate.getLong(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public long getLong(String arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_LONG_STRING);
+        try {
+            long result = delegate.getLong(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public ResultSetMetaData getMetaData() throws SQLException {
+        Invocation invocation = node.enter(GET_META_DATA);
+        try {
+            ResultSetMetaData result = delegate.getMetaData();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return (ResultSetMetaData) invocation.wrap(result, null);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public Reader getNCharacterStream(int arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_NCHARACTER_STREAM_INT);
+        try {
+            Reader result = delegate.getNCharacterStream(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return (Reader) invocation.wrap(result, arg0);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public Reader getNCharacterStream(String arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_NCHARACTER_STREAM_STRING);
+        try {
+            Reader result = delegate.getNCharacterStream(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return (Reader) invocation.wrap(result, arg0);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public NClob getNClob(int arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_NCLOB_INT);
+        try {
+            NClob result = delegate.getNClob(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return (NClob) invocation.wrap(result, arg0);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public NClob getNClob(String arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_NCLOB_STRING);
+        try {
+            NClob result = delegate.getNClob(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return (NClob) invocation.wrap(result, arg0);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public String getNString(int arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_NSTRING_INT);
+        try {
+            String result = delegate.getNString(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public String getNString(String arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_NSTRING_STRING);
+        try {
+            String result = delegate.getNString(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public Object getObject(int arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_OBJECT_INT);
+        try {
+            Object result = delegate.getObject(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public <T> T getObject(int arg0, Class<T> arg1) throws SQLException {
+        Invocation invocation = node.enter(GET_OBJECT_INT_CLASS);
+        try {
+            T result = delegate.getObject(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public Object getObject(int arg0, Map<String, Class<?>> arg1) throws SQLException {
+        Invocation invocation = node.enter(GET_OBJECT_INT_MAP);
+        try {
+            Object result = delegate.getObject(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public Object getObject(String arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_OBJECT_STRING);
+        try {
+            Object result = delegate.getObject(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public <T> T getObject(String arg0, Class<T> arg1) throws SQLException {
+        Invocation invocation = node.enter(GET_OBJECT_STRING_CLASS);
+        try {
+            T result = delegate.getObject(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public Object getObject(String arg0, Map<String, Class<?>> arg1) throws SQLException {
+        Invocation invocation = node.enter(GET_OBJECT_STRING_MAP);
+        try {
+            Object result = delegate.getObject(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public Ref getRef(int arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_REF_INT);
+        try {
+            Ref result = delegate.getRef(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return (Ref) invocation.wrap(result, arg0);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public Ref getRef(String arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_REF_STRING);
+        try {
+            Ref result = delegate.getRef(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return (Ref) invocation.wrap(result, arg0);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public int getRow() throws SQLException {
+        Invocation invocation = node.enter(GET_ROW);
+        try {
+            int result = delegate.getRow();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public RowId getRowId(int arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_ROW_ID_INT);
+        try {
+            RowId result = delegate.getRowId(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return (RowId) invocation.wrap(result, arg0);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public RowId getRowId(String arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_ROW_ID_STRING);
+        try {
+            RowId result = delegate.getRowId(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return (RowId) invocation.wrap(result, arg0);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public SQLXML getSQLXML(int arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_SQLXML_INT);
+        try {
+            SQLXML result = delegate.getSQLXML(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return (SQLXML) invocation.wrap(result, arg0);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public SQLXML getSQLXML(String arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_SQLXML_STRING);
+        try {
+            SQLXML result = delegate.getSQLXML(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return (SQLXML) invocation.wrap(result, arg0);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public short getShort(int arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_SHORT_INT);
+        try {
+            short result = delegate.getShort(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public short getShort(String arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_SHORT_STRING);
+        try {
+            short result = delegate.getShort(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public Statement getStatement() throws SQLException {
+        Invocation invocation = node.enter(GET_STATEMENT);
+        try {
+            Statement result = delegate.getStatement();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return (Statement) invocation.wrap(result, null);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public String getString(int arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_STRING_INT);
+        try {
+            String result = delegate.getString(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public String getString(String arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_STRING_STRING);
+        try {
+            String result = delegate.getString(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public Time getTime(int arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_TIME_INT);
+        try {
+            Time result = delegate.getTime(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public Time getTime(int arg0, Calendar arg1) throws SQLException {
+        Invocation invocation = node.enter(GET_TIME_INT_CALENDAR);
+        try {
+            Time result = delegate.getTime(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public Time getTime(String arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_TIME_STRING);
+        try {
+            Time result = delegate.getTime(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public Time getTime(String arg0, Calendar arg1) throws SQLException {
+        Invocation invocation = node.enter(GET_TIME_STRING_CALENDAR);
+        try {
+            Time result = delegate.getTime(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public Timestamp getTimestamp(int arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_TIMESTAMP_INT);
+        try {
+            Timestamp result = delegate.getTimestamp(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public Timestamp getTimestamp(int arg0, Calendar arg1) throws SQLException {
+        Invocation invocation = node.enter(GET_TIMESTAMP_INT_CALENDAR);
+        try {
+            Timestamp result = delegate.getTimestamp(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public Timestamp getTimestamp(String arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_TIMESTAMP_STRING);
+        try {
+            Timestamp result = delegate.getTimestamp(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public Timestamp getTimestamp(String arg0, Calendar arg1) throws SQLException {
+        Invocation invocation = node.enter(GET_TIMESTAMP_STRING_CALENDAR);
+        try {
+            Timestamp result = delegate.getTimestamp(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public int getType() throws SQLException {
+        Invocation invocation = node.enter(GET_TYPE);
+        try {
+            int result = delegate.getType();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public URL getURL(int arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_URL_INT);
+        try {
+            URL result = delegate.getURL(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public URL getURL(String arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_URL_STRING);
+        try {
+            URL result = delegate.getURL(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public InputStream getUnicodeStream(int arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_UNICODE_STREAM_INT);
+        try {
+            InputStream result = delegate.getUnicodeStream(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return (InputStream) invocation.wrap(result, arg0);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public InputStream getUnicodeStream(String arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_UNICODE_STREAM_STRING);
+        try {
+            InputStream result = delegate.getUnicodeStream(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return (InputStream) invocation.wrap(result, arg0);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public SQLWarning getWarnings() throws SQLException {
+        Invocation invocation = node.enter(GET_WARNINGS);
+        try {
+            SQLWarning result = delegate.getWarnings();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void insertRow() throws SQLException {
+        Invocation invocation = node.enter(INSERT_ROW);
+        try {
+            delegate.insertRow();
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean isAfterLast() throws SQLException {
+        Invocation invocation = node.enter(IS_AFTER_LAST);
+        try {
+            boolean result = delegate.isAfterLast();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean isBeforeFirst() throws SQLException {
+        Invocation invocation = node.enter(IS_BEFORE_FIRST);
+        try {
+            boolean result = delegate.isBeforeFirst();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean isClosed() throws SQLException {
+        Invocation invocation = node.enter(IS_CLOSED);
+        try {
+            boolean result = delegate.isClosed();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean isFirst() throws SQLException {
+        Invocation invocation = node.enter(IS_FIRST);
+        try {
+            boolean result = delegate.isFirst();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean isLast() throws SQLException {
+        Invocation invocation = node.enter(IS_LAST);
+        try {
+            boolean result = delegate.isLast();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> arg0) throws SQLException {
+        Invocation invocation = node.enter(IS_WRAPPER_FOR_CLASS);
+        try {
+            boolean result = delegate.isWrapperFor(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean last() throws SQLException {
+        Invocation invocation = node.enter(LAST);
+        try {
+            boolean result = delegate.last();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void moveToCurrentRow() throws SQLException {
+        Invocation invocation = node.enter(MOVE_TO_CURRENT_ROW);
+        try {
+            delegate.moveToCurrentRow();
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void moveToInsertRow() throws SQLException {
+        Invocation invocation = node.enter(MOVE_TO_INSERT_ROW);
+        try {
+            delegate.moveToInsertRow();
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean next() throws SQLException {
+        Invocation invocation = node.enter(NEXT);
+        try {
+            boolean result = delegate.next();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean previous() throws SQLException {
+        Invocation invocation = node.enter(PREVIOUS);
+        try {
+            boolean result = delegate.previous();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void refreshRow() throws SQLException {
+        Invocation invocation = node.enter(REFRESH_ROW);
+        try {
+            delegate.refreshRow();
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean relative(int arg0) throws SQLException {
+        Invocation invocation = node.enter(RELATIVE_INT);
+        try {
+            boolean result = delegate.relative(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean rowDeleted() throws SQLException {
+        Invocation invocation = node.enter(ROW_DELETED);
+        try {
+            boolean result = delegate.rowDeleted();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean rowInserted() throws SQLException {
+        Invocation invocation = node.enter(ROW_INSERTED);
+        try {
+            boolean result = delegate.rowInserted();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean rowUpdated() throws SQLException {
+        Invocation invocation = node.enter(ROW_UPDATED);
+        try {
+            boolean result = delegate.rowUpdated();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setFetchDirection(int arg0) throws SQLException {
+        Invocation invocation = node.enter(SET_FETCH_DIRECTION_INT);
+        try {
+            delegate.setFetchDirection(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setFetchSize(int arg0) throws SQLException {
+        Invocation invocation = node.enter(SET_FETCH_SIZE_INT);
+        try {
+            delegate.setFetchSize(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> arg0) throws SQLException {
+        Invocation invocation = node.enter(UNWRAP_CLASS);
+        try {
+            T result = delegate.unwrap(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void updateArray(int arg0, Array arg1) throws SQLException {
+        Invocation invocation = node.enter(UPDATE_ARRAY_INT_ARRAY);
+        try {
+            delegate.updateArray(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void updateArray(String arg0, Array arg1) throws SQLException {
+        Invocation invocation = node.enter(UPDATE_ARRAY_STRING_ARRAY);
+        try {
+            delegate.updateArray(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void updateAsciiStream(int arg0, InputStream arg1) throws SQLException {
+        Invocation invocation = node.enter(UPDATE_ASCII_STREAM_INT_INPUT_STREAM);
+        try {
+            delegate.updateAsciiStream(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void updateAsciiStream(int arg0, InputStream arg1, int arg2) throws SQLException {
+        Invocation invocation = node.enter(UPDATE_ASCII_STREAM_INT_INPUT_STREAM_INT);
+        try {
+            delegate.updateAsciiStream(arg0, arg1, arg2);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void updateAsciiStream(int arg0, InputStream arg1, long arg2) throws SQLException {
+        Invocation invocation = node.enter(UPDATE_ASCII_STREAM_INT_INPUT_STREAM_LONG);
+        try {
+            delegate.updateAsciiStream(arg0, arg1, arg2);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void updateAsciiStream(String arg0, InputStream arg1) throws SQLException {
+        Invocation invocation = node.enter(UPDATE_ASCII_STREAM_STRING_INPUT_STREAM);
+        try {
+            delegate.updateAsciiStream(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void updateAsciiStream(String arg0, InputStream arg1, int arg2) throws SQLException {
+        Invocation invocation = node.enter(UPDATE_ASCII_STREAM_STRING_INPUT_STREAM_INT);
+        try {
+            delegate.updateAsciiStream(arg0, arg1, arg2);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void updateAsciiStream(String arg0, InputStream arg1, long arg2) throws SQLException {
+        Invocation invocation = node.enter(UPDATE_ASCII_STREAM_STRING_INPUT_STREAM_LONG);
+        try {
+            delegate.updateAsciiStream(arg0, arg1, arg2);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void updateBigDecimal(int arg0, BigDecimal arg1) throws SQLException {
+        Invocation invocation = node.enter(UPDATE_BIG_DECIMAL_INT_BIG_DECIMAL);
+        try {
+            delegate.updateBigDecimal(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void updateBigDecimal(String arg0, BigDecimal arg1) throws SQLException {
+        Invocation invocation = node.enter(UPDATE_BIG_DECIMAL_STRING_BIG_DECIMAL);
+        try {
+            delegate.updateBigDecimal(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void updateBinaryStream(int arg0, InputStream arg1) throws SQLException {
+        Invocation invocation = node.enter(UPDATE_BINARY_STREAM_INT_INPUT_STREAM);
+        try {
+            delegate.updateBinaryStream(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void updateBinaryStream(int arg0, InputStream arg1, int arg2) throws SQLException {
+        Invocation invocation = node.enter(UPDATE_BINARY_STREAM_INT_INPUT_STREAM_INT);
+        try {
+            delegate.updateBinaryStream(arg0, arg1, arg2);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void updateBinaryStream(int arg0, InputStream arg1, long arg2) throws SQLException {
+        Invocation invocation = node.enter(UPDATE_BINARY_STREAM_INT_INPUT_STREAM_LONG);
+        try {
+            delegate.updateBinaryStream(arg0, arg1, arg2);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void updateBinaryStream(String arg0, InputStream arg1) throws SQLException {
+        Invocation invocation = node.enter(UPDATE_BINARY_STREAM_STRING_INPUT_STREAM);
+        try {
+            delegate.updateBinaryStream(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void updateBinaryStream(String arg0, InputStream arg1, int arg2) throws SQLException {
+        Invocation invocation = node.enter(UPDATE_BINARY_STREAM_STRING_INPUT_STREAM_INT);
+        try {
+            delegate.updateBinaryStream(arg0, arg1, arg2);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void updateBinaryStream(String arg0, InputStream arg1, long arg2) throws SQLException {
+        Invocation invocation = node.enter(UPDATE_BINARY_STREAM_STRING_INPUT_STREAM_LONG);
+        try {
+            delegate.updateBinaryStream(arg0, arg1, arg2);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void updateBlob(int arg0, InputStream arg1) throws SQLException {
+        Invocation invocation = node.enter(UPDATE_BLOB_INT_INPUT_STREAM);
+        try {
+            delegate.updateBlob(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void updateBlob(int arg0, InputStream arg1, long arg2) throws SQLException {
+        Invocation invocation = node.enter(UPDATE_BLOB_INT_INPUT_STREAM_LONG);
+        try {
+            delegate.updateBlob(arg0, arg1, arg2);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void updateBlob(int arg0, Blob arg1) throws SQLException {
+        Invocation invocation = node.enter(UPDATE_BLOB_INT_BLOB);
+        try {
+            delegate.updateBlob(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void updateBlob(String arg0, InputStream arg1) throws SQLException {
+        Invocation invocation = node.enter(UPDATE_BLOB_STRING_INPUT_STREAM);
+        try {
+            delegate.updateBlob(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void updateBlob(String arg0, InputStream arg1, long arg2) throws SQLException {
+        Invocation invocation = node.enter(UPDATE_BLOB_STRING_INPUT_STREAM_LONG);
+        try {
+            delegate.updateBlob(arg0, arg1, arg2);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void updateBlob(String arg0, Blob arg1) throws SQLException {
+        Invocation invocation = node.enter(UPDATE_BLOB_STRING_BLOB);
+        try {
+            delegate.updateBlob(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void updateBoolean(int arg0, boolean arg1) throws SQLException {
+        Invocation invocation = node.enter(UPDATE_BOOLEAN_INT_BOOLEAN);
+        try {
+            delegate.updateBoolean(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void updateBoolean(String arg0, boolean arg1) throws SQLException {
+        Invocation invocation = node.enter(UPDATE_BOOLEAN_STRING_BOOLEAN);
+        try {
+            delegate.updateBoolean(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void updateByte(int arg0, byte arg1) throws SQLException {
+        Invocation invocation = node.enter(UPDATE_BYTE_INT_BYTE);
+        try {
+            delegate.updateByte(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void updateByte(String arg0, byte arg1) throws SQLException {
+        Invocation invocation = node.enter(UPDATE_BYTE_STRING_BYTE);
+        try {
+            delegate.updateByte(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void updateBytes(int arg0, byte[] arg1) throws SQLException {
+        Invocation invocation = node.enter(UPDATE_BYTES_INT_BYTE_ARRAY);
+        try {
+            delegate.updateBytes(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void updateBytes(String arg0, byte[] arg1) throws SQLException {
+        Invocation invocation = node.enter(UPDATE_BYTES_STRING_BYTE_ARRAY);
+        try {
+            delegate.updateBytes(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void updateCharacterStream(int arg0, Reader arg1) throws SQLException {
+        Invocation invocation = node.enter(UPDATE_CHARACTER_STREAM_INT_READER);
+        try {
+            delegate.updateCharacterStream(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void updateCharacterStream(int arg0, Reader arg1, int arg2) throws SQLException {
+        Invocation invocation = node.enter(UPDATE_CHARACTER_STREAM_INT_READER_INT);
+        try {
+            delegate.updateCharacterStream(arg0, arg1, arg2);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void updateCharacterStream(int arg0, Reader arg1, long arg2) throws SQLException {
+        Invocation invocation = node.enter(UPDATE_CHARACTER_STREAM_INT_READER_LONG);
+        try {
+            delegate.updateCharacterStream(arg0, arg1, arg2);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void updateCharacterStream(String arg0, Reader arg1) throws SQLException {
+        Invocation invocation = node.enter(UPDATE_CHARACTER_STREAM_STRING_READER);
+        try {
+            delegate.updateCharacterStream(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void updateCharacterStream(String arg0, Reader arg1, int arg2) throws SQLException {
+        Invocation invocation = node.enter(UPDATE_CHARACTER_STREAM_STRING_READER_INT);
+        try {
+            delegate.updateCharacterStream(arg0, arg1, arg2);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void updateCharacterStream(String arg0, Reader arg1, long arg2) throws SQLException {
+        Invocation invocation = node.enter(UPDATE_CHARACTER_STREAM_STRING_READER_LONG);
+        try {
+            delegate.updateCharacterStream(arg0, arg1, arg2);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void updateClob(int arg0, Reader arg1) throws SQLException {
+        Invocation invocation = node.enter(UPDATE_CLOB_INT_READER);
+        try {
+            delegate.updateClob(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void updateClob(int arg0, Reader arg1, long arg2) throws SQLException {
+        Invocation invocation = node.enter(UPDATE_CLOB_INT_READER_LONG);
+        try {
+            delegate.updateClob(arg0, arg1, arg2);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void updateClob(int arg0, Clob arg1) throws SQLException {
+        Invocation invocation = node.enter(UPDATE_CLOB_INT_CLOB);
+        try {
+            delegate.updateClob(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void updateClob(String arg0, Reader arg1) throws SQLException {
+        Invocation invocation = node.enter(UPDATE_CLOB_STRING_READER);
+        try {
+            delegate.updateClob(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void updateClob(String arg0, Reader arg1, long arg2) throws SQLException {
+        Invocation invocation = node.enter(UPDATE_CLOB_STRING_READER_LONG);
+        try {
+            delegate.updateClob(arg0, arg1, arg2);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void updateClob(String arg0, Clob arg1) throws SQLException {
+        Invocation invocation = node.enter(UPDATE_CLOB_STRING_CLOB);
+        try {
+            delegate.updateClob(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void updateDate(int arg0, Date arg1) throws SQLException {
+        Invocation invocation = node.enter(UPDATE_DATE_INT_DATE);
+        try {
+            delegate.updateDate(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void updateDate(String arg0, Date arg1) throws SQLException {
+        Invocation invocation = node.enter(UPDATE_DATE_STRING_DATE);
+        try {
+            delegate.updateDate(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void updateDouble(int arg0, double arg1) throws SQLException {
+        Invocation invocation = node.enter(UPDATE_DOUBLE_INT_DOUBLE);
+        try {
+            delegate.updateDouble(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void updateDouble(String arg0, double arg1) throws SQLException {
+        Invocation invocation = node.enter(UPDATE_DOUBLE_STRING_DOUBLE);
+        try {
+            delegate.updateDouble(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void updateFloat(int arg0, float arg1) throws SQLException {
+        Invocation invocation = node.enter(UPDATE_FLOAT_INT_FLOAT);
+        try {
+            delegate.updateFloat(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void updateFloat(String arg0, float arg1) throws SQLException {
+        Invocation invocation = node.enter(UPDATE_FLOAT_STRING_FLOAT);
+        try {
+            delegate.updateFloat(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void updateInt(int arg0, int arg1) throws SQLException {
+        Invocation invocation = node.enter(UPDATE_INT_INT_INT);
+        try {
+            delegate.updateInt(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void updateInt(String arg0, int arg1) throws SQLException {
+        Invocation invocation = node.enter(UPDATE_INT_STRING_INT);
+        try {
+            delegate.updateInt(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void updateLong(int arg0, long arg1) throws SQLException {
+        Invocation invocation = node.enter(UPDATE_LONG_INT_LONG);
+        try {
+            delegate.updateLong(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void updateLong(String arg0, long arg1) throws SQLException {
+        Invocation invocation = node.enter(UPDATE_LONG_STRING_LONG);
+        try {
+            delegate.updateLong(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void updateNCharacterStream(int arg0, Reader arg1) throws SQLException {
+        Invocation invocation = node.enter(UPDATE_NCHARACTER_STREAM_INT_READER);
+        try {
+            delegate.updateNCharacterStream(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void updateNCharacterStream(int arg0, Reader arg1, long arg2) throws SQLException {
+        Invocation invocation = node.enter(UPDATE_NCHARACTER_STREAM_INT_READER_LONG);
+        try {
+            delegate.updateNCharacterStream(arg0, arg1, arg2);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void updateNCharacterStream(String arg0, Reader arg1) throws SQLException {
+        Invocation invocation = node.enter(UPDATE_NCHARACTER_STREAM_STRING_READER);
+        try {
+            delegate.updateNCharacterStream(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void updateNCharacterStream(String arg0, Reader arg1, long arg2) throws SQLException {
+        Invocation invocation = node.enter(UPDATE_NCHARACTER_STREAM_STRING_READER_LONG);
+        try {
+            delegate.updateNCharacterStream(arg0, arg1, arg2);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void updateNClob(int arg0, Reader arg1) throws SQLException {
+        Invocation invocation = node.enter(UPDATE_NCLOB_INT_READER);
+        try {
+            delegate.updateNClob(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void updateNClob(int arg0, Reader arg1, long arg2) throws SQLException {
+        Invocation invocation = node.enter(UPDATE_NCLOB_INT_READER_LONG);
+        try {
+            delegate.updateNClob(arg0, arg1, arg2);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void updateNClob(int arg0, NClob arg1) throws SQLException {
+        Invocation invocation = node.enter(UPDATE_NCLOB_INT_NCLOB);
+        try {
+            delegate.updateNClob(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void updateNClob(String arg0, Reader arg1) throws SQLException {
+        Invocation invocation = node.enter(UPDATE_NCLOB_STRING_READER);
+        try {
+            delegate.updateNClob(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void updateNClob(String arg0, Reader arg1, long arg2) throws SQLException {
+        Invocation invocation = node.enter(UPDATE_NCLOB_STRING_READER_LONG);
+        try {
+            delegate.updateNClob(arg0, arg1, arg2);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void updateNClob(String arg0, NClob arg1) throws SQLException {
+        Invocation invocation = node.enter(UPDATE_NCLOB_STRING_NCLOB);
+        try {
+            delegate.updateNClob(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void updateNString(int arg0, String arg1) throws SQLException {
+        Invocation invocation = node.enter(UPDATE_NSTRING_INT_STRING);
+        try {
+            delegate.updateNString(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void updateNString(String arg0, String arg1) throws SQLException {
+        Invocation invocation = node.enter(UPDATE_NSTRING_STRING_STRING);
+        try {
+            delegate.updateNString(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void updateNull(int arg0) throws SQLException {
+        Invocation invocation = node.enter(UPDATE_NULL_INT);
+        try {
+            delegate.updateNull(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void updateNull(String arg0) throws SQLException {
+        Invocation invocation = node.enter(UPDATE_NULL_STRING);
+        try {
+            delegate.updateNull(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void updateObject(int arg0, Object arg1) throws SQLException {
+        Invocation invocation = node.enter(UPDATE_OBJECT_INT_OBJECT);
+        try {
+            delegate.updateObject(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void updateObject(int arg0, Object arg1, int arg2) throws SQLException {
+        Invocation invocation = node.enter(UPDATE_OBJECT_INT_OBJECT_INT);
+        try {
+            delegate.updateObject(arg0, arg1, arg2);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void updateObject(int arg0, Object arg1, SQLType arg2) throws SQLException {
+        Invocation invocation = node.enter(UPDATE_OBJECT_INT_OBJECT_SQLTYPE);
+        try {
+            delegate.updateObject(arg0, arg1, arg2);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void updateObject(int arg0, Object arg1, SQLType arg2, int arg3) throws SQLException {
+        Invocation invocation = node.enter(UPDATE_OBJECT_INT_OBJECT_SQLTYPE_INT);
+        try {
+            delegate.updateObject(arg0, arg1, arg2, arg3);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2, arg3}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void updateObject(String arg0, Object arg1) throws SQLException {
+        Invocation invocation = node.enter(UPDATE_OBJECT_STRING_OBJECT);
+        try {
+            delegate.updateObject(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void updateObject(String arg0, Object arg1, int arg2) throws SQLException {
+        Invocation invocation = node.enter(UPDATE_OBJECT_STRING_OBJECT_INT);
+        try {
+            delegate.updateObject(arg0, arg1, arg2);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void updateObject(String arg0, Object arg1, SQLType arg2) throws SQLException {
+        Invocation invocation = node.enter(UPDATE_OBJECT_STRING_OBJECT_SQLTYPE);
+        try {
+            delegate.updateObject(arg0, arg1, arg2);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void updateObject(String arg0, Object arg1, SQLType arg2, int arg3) throws SQLException {
+        Invocation invocation = node.enter(UPDATE_OBJECT_STRING_OBJECT_SQLTYPE_INT);
+        try {
+            delegate.updateObject(arg0, arg1, arg2, arg3);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1, arg2, arg3}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void updateRef(int arg0, Ref arg1) throws SQLException {
+        Invocation invocation = node.enter(UPDATE_REF_INT_REF);
+        try {
+            delegate.updateRef(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void updateRef(String arg0, Ref arg1) throws SQLException {
+        Invocation invocation = node.enter(UPDATE_REF_STRING_REF);
+        try {
+            delegate.updateRef(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void updateRow() throws SQLException {
+        Invocation invocation = node.enter(UPDATE_ROW);
+        try {
+            delegate.updateRow();
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void updateRowId(int arg0, RowId arg1) throws SQLException {
+        Invocation invocation = node.enter(UPDATE_ROW_ID_INT_ROW_ID);
+        try {
+            delegate.updateRowId(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void updateRowId(String arg0, RowId arg1) throws SQLException {
+        Invocation invocation = node.enter(UPDATE_ROW_ID_STRING_ROW_ID);
+        try {
+            delegate.updateRowId(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void updateSQLXML(int arg0, SQLXML arg1) throws SQLException {
+        Invocation invocation = node.enter(UPDATE_SQLXML_INT_SQLXML);
+        try {
+            delegate.updateSQLXML(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void updateSQLXML(String arg0, SQLXML arg1) throws SQLException {
+        Invocation invocation = node.enter(UPDATE_SQLXML_STRING_SQLXML);
+        try {
+            delegate.updateSQLXML(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void updateShort(int arg0, short arg1) throws SQLException {
+        Invocation invocation = node.enter(UPDATE_SHORT_INT_SHORT);
+        try {
+            delegate.updateShort(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void updateShort(String arg0, short arg1) throws SQLException {
+        Invocation invocation = node.enter(UPDATE_SHORT_STRING_SHORT);
+        try {
+            delegate.updateShort(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void updateString(int arg0, String arg1) throws SQLException {
+        Invocation invocation = node.enter(UPDATE_STRING_INT_STRING);
+        try {
+            delegate.updateString(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void updateString(String arg0, String arg1) throws SQLException {
+        Invocation invocation = node.enter(UPDATE_STRING_STRING_STRING);
+        try {
+            delegate.updateString(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void updateTime(int arg0, Time arg1) throws SQLException {
+        Invocation invocation = node.enter(UPDATE_TIME_INT_TIME);
+        try {
+            delegate.updateTime(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void updateTime(String arg0, Time arg1) throws SQLException {
+        Invocation invocation = node.enter(UPDATE_TIME_STRING_TIME);
+        try {
+            delegate.updateTime(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void updateTimestamp(int arg0, Timestamp arg1) throws SQLException {
+        Invocation invocation = node.enter(UPDATE_TIMESTAMP_INT_TIMESTAMP);
+        try {
+            delegate.updateTimestamp(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void updateTimestamp(String arg0, Timestamp arg1) throws SQLException {
+        Invocation invocation = node.enter(UPDATE_TIMESTAMP_STRING_TIMESTAMP);
+        try {
+            delegate.updateTimestamp(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean wasNull() throws SQLException {
+        Invocation invocation = node.enter(WAS_NULL);
+        try {
+            boolean result = delegate.wasNull();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return delegate.toString();
+    }
+}
@@ -0,0 +1,30 @@
+package insight;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static insight.ConfigParser.*;
+
+/**
+ * Settings of slow-query capture for one connection. Capture is off unless a threshold is set.
+ */
+public record SlowQueryConfig(Duration threshold, int maxSpans) {
+
+    public static final SlowQueryConfig DISABLED = new SlowQueryConfig(null, 1000);
+
+    public SlowQueryConfig {
+        if ((threshold != null && threshold.isNegative()) || maxSpans < 1) {
+            throw new IllegalArgumentException("Slow query threshold must not be negative and max spans must be positive");
+        }
+    }
+
+    public static SlowQueryConfig from(Map<String, String> config) {
+        int thresholdMs = getInt(config, SLOW_QUERY_THRESHOLD_MS, -1);
+        return new SlowQueryConfig(thresholdMs < 0 ? null : Duration.ofMillis(thresholdMs),
+                getInt(config, SLOW_QUERY_MAX_SPANS, DISABLED.maxSpans));
+    }
+
+    public boolean enabled() {
+        return threshold != null;
+    }
+}
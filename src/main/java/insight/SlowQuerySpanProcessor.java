@@ -0,0 +1,268 @@
+package insight;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import io.opentelemetry.sdk.trace.data.LinkData;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import io.opentelemetry.sdk.trace.samplers.SamplingResult;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Tail-based capture of slow statements. Spans of a {@link StatementExecution} are held back until all of them have
+ * ended, then passed on if the execution took longer than its connection's threshold or recorded an error, and dropped
+ * otherwise. An execution whose {@code execute*} call crosses the threshold while still running is passed on at that
+ * point; one whose ResultSet is merely still open waits for it to be closed, which its statement or connection does at
+ * the latest. Spans outside an execution pass straight through.
+ * <p>
+ * Buffered spans are bounded per connection and for the whole process; spans over either bound are dropped and
+ * counted in {@link Stats#overflow()}. Open executions are bounded by the same limits, so that one whose ResultSet is
+ * never closed cannot pile up: past either bound, the oldest open execution is discarded and counted in
+ * {@link Stats#evicted()}. Spans of it that end later are passed on.
+ */
+public class SlowQuerySpanProcessor implements SpanProcessor {
+    static final long SWEEP_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    public record Stats(long exported, long discarded, long overflow, long evicted, long buffered) {
+    }
+
+    private final SpanProcessor downstream;
+    private final int maxSpans;
+    private final Map<ReadableSpan, StatementExecution> pending = new ConcurrentHashMap<>();
+    private final Set<StatementExecution> active = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger buffered = new AtomicInteger();
+    private final AtomicLong lastSweep = new AtomicLong(System.nanoTime());
+    private final LongAdder exported = new LongAdder();
+    private final LongAdder discarded = new LongAdder();
+    private final LongAdder overflow = new LongAdder();
+    private final LongAdder evicted = new LongAdder();
+
+    public SlowQuerySpanProcessor(SpanProcessor downstream, int maxSpans) {
+        this.downstream = downstream;
+        this.maxSpans = maxSpans;
+    }
+
+    /**
+     * Wraps the given sampler so that spans started under a discarded execution, such as calls on a ResultSet that
+     * outlives its fast statement, are not recorded.
+     */
+    public static Sampler sampler(Sampler delegate) {
+        return new Sampler() {
+            @Override
+            public SamplingResult shouldSample(Context parentContext, String traceId, String name, SpanKind spanKind,
+                                               Attributes attributes, List<LinkData> parentLinks) {
+                StatementExecution execution = parentContext.get(StatementExecution.KEY);
+                if (execution != null && execution.state == StatementExecution.State.DISCARDED) {
+                    return SamplingResult.drop();
+                }
+                return delegate.shouldSample(parentContext, traceId, name, spanKind, attributes, parentLinks);
+            }
+
+            @Override
+            public String getDescription() {
+                return "SlowQuerySampler{" + delegate.getDescription() + "}";
+            }
+        };
+    }
+
+    public Stats stats() {
+        return new Stats(exported.sum(), discarded.sum(), overflow.sum(), evicted.sum(), buffered.get());
+    }
+
+    @Override
+    public void onStart(Context parentContext, ReadWriteSpan span) {
+        downstream.onStart(parentContext, span);
+        StatementExecution execution = parentContext.get(StatementExecution.KEY);
+        if (execution == null) {
+            return;
+        }
+        boolean registered = false;
+        synchronized (execution) {
+            if (execution.state != StatementExecution.State.BUFFERING) {
+                return;
+            }
+            if (!execution.registered) {
+                execution.registered = true;
+                execution.statement = span;
+                active.add(execution);
+                execution.connection.activeExecutions().incrementAndGet();
+                registered = true;
+            }
+            execution.open.add(span);
+            pending.put(span, execution);
+        }
+        if (registered) {
+            evictOverLimits(execution.connection);
+        }
+        sweepIfDue();
+    }
+
+    @Override
+    public boolean isStartRequired() {
+        return true;
+    }
+
+    @Override
+    public void onEnd(ReadableSpan span) {
+        StatementExecution execution = pending.isEmpty() ? null : pending.remove(span);
+        if (execution == null) {
+            downstream.onEnd(span);
+            return;
+        }
+        List<ReadableSpan> release;
+        synchronized (execution) {
+            execution.open.remove(span);
+            if (execution.state != StatementExecution.State.BUFFERING) {
+                release = List.of(span);
+            } else {
+                if (Boolean.TRUE.equals(span.getAttribute(SpanInvocation.ERROR))) {
+                    execution.failed = true;
+                }
+                if (reserve(execution)) {
+                    execution.buffered.add(span);
+                } else {
+                    overflow.increment();
+                }
+                if (execution.isSlow(System.nanoTime()) || (execution.failed && execution.open.isEmpty())) {
+                    release = export(execution);
+                } else {
+                    if (execution.open.isEmpty()) {
+                        discard(execution);
+                    }
+                    release = List.of();
+                }
+            }
+        }
+        release.forEach(downstream::onEnd);
+    }
+
+    @Override
+    public boolean isEndRequired() {
+        return true;
+    }
+
+    @Override
+    public CompletableResultCode forceFlush() {
+        return downstream.forceFlush();
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        return downstream.shutdown();
+    }
+
+    /**
+     * Passes on executions whose {@code execute*} call is still running past its threshold.
+     */
+    private void sweepIfDue() {
+        long now = System.nanoTime();
+        long last = lastSweep.get();
+        if (now - last < SWEEP_INTERVAL_NANOS || !lastSweep.compareAndSet(last, now)) {
+            return;
+        }
+        for (StatementExecution execution : active) {
+            List<ReadableSpan> release = List.of();
+            synchronized (execution) {
+                if (execution.state == StatementExecution.State.BUFFERING && execution.isRunningSlow(now)) {
+                    release = export(execution);
+                }
+            }
+            release.forEach(downstream::onEnd);
+        }
+    }
+
+    /**
+     * Discards the oldest open executions, of the connection or of any, while either has more than its span limit.
+     */
+    private void evictOverLimits(ConnectionState connection) {
+        while (connection.activeExecutions().get() > connection.config().slowQuery().maxSpans()) {
+            if (!evict(connection)) {
+                break;
+            }
+        }
+        while (active.size() > maxSpans) {
+            if (!evict(null)) {
+                break;
+            }
+        }
+    }
+
+    private boolean evict(ConnectionState connection) {
+        StatementExecution oldest = null;
+        for (StatementExecution execution : active) {
+            if ((connection == null || execution.connection == connection)
+                    && (oldest == null || execution.startNanos - oldest.startNanos < 0)) {
+                oldest = execution;
+            }
+        }
+        if (oldest == null) {
+            return false;
+        }
+        synchronized (oldest) {
+            if (oldest.state == StatementExecution.State.BUFFERING) {
+                for (ReadableSpan span : oldest.open) {
+                    pending.remove(span);
+                }
+                oldest.open.clear();
+                oldest.state = StatementExecution.State.DISCARDED;
+                complete(oldest);
+                evicted.increment();
+            }
+        }
+        return true;
+    }
+
+    private boolean reserve(StatementExecution execution) {
+        AtomicInteger connectionSpans = execution.connection.bufferedSpans();
+        if (connectionSpans.incrementAndGet() > execution.connection.config().slowQuery().maxSpans()) {
+            connectionSpans.decrementAndGet();
+            return false;
+        }
+        if (buffered.incrementAndGet() > maxSpans) {
+            buffered.decrementAndGet();
+            connectionSpans.decrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    private List<ReadableSpan> export(StatementExecution execution) {
+        execution.state = StatementExecution.State.EXPORTING;
+        for (ReadableSpan span : execution.open) {
+            pending.remove(span);
+        }
+        execution.open.clear();
+        List<ReadableSpan> release = List.copyOf(execution.buffered);
+        complete(execution);
+        exported.increment();
+        return release;
+    }
+
+    private void discard(StatementExecution execution) {
+        execution.state = StatementExecution.State.DISCARDED;
+        complete(execution);
+        discarded.increment();
+    }
+
+    private void complete(StatementExecution execution) {
+        int count = execution.buffered.size();
+        execution.buffered.clear();
+        execution.connection.bufferedSpans().addAndGet(-count);
+        buffered.addAndGet(-count);
+        if (active.remove(execution)) {
+            execution.connection.activeExecutions().decrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package insight;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
+
+import java.util.Objects;
+
+/**
+ * A call traced with its own span, which is current from {@link TraceNode#enter(MethodInfo)} until {@link #exit()}.
+ */
+public final class SpanInvocation implements Invocation {
+    static final Attributes ESCAPED = Attributes.of(AttributeKey.booleanKey("exception.escaped"), true);
+    static final AttributeKey<Boolean> ERROR = AttributeKey.booleanKey("error");
+
+    private final TraceNode node;
+    private final MethodInfo info;
+    private final Span span;
+    private final Scope scope;
+
+    SpanInvocation(TraceNode node, MethodInfo info, Span span, Scope scope) {
+        this.node = node;
+        this.info = info;
+        this.span = span;
+        this.scope = scope;
+    }
+
+    @Override
+    public boolean isCapturing() {
+        return span.isRecording() && node.capturing();
+    }
+
+    @Override
+    public void capture(Object[] args, Object result) {
+        CapturePolicy policy = node.config.capture();
+        if (info.capturesArgs() && !Objects.isNull(args)) {
+            for (int i = 0; i < args.length; i++) {
+                span.setAttribute(info.argKey(i), policy.render(args[i]));
+            }
+        }
+        if (info.capturesReturn()) {
+            span.setAttribute(MethodInfo.RETURN_KEY, policy.render(result));
+        }
+    }
+
+    @Override
+    public Object wrap(Object result, Object firstArg) {
+        return node.wrap(info, Context.current(), firstArg, result);
+    }
+
+    @Override
+    public void fail(Throwable e) {
+        span.recordException(e, ESCAPED);
+        span.setAttribute(ERROR, true);
+        node.failed(e);
+    }
+
+    @Override
+    public void exit() {
+        scope.close();
+        span.end();
+    }
+}
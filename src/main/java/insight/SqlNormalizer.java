@@ -0,0 +1,120 @@
+package insight;
+
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Reduces SQL text to a fingerprint shared by all executions of the same query shape: literals and numbered
+ * placeholders become {@code ?}, IN-lists and multi-row VALUES collapse to one element, comments are dropped,
+ * whitespace is normalized and unquoted text is lower-cased. Quoted identifiers are kept as written.
+ */
+public final class SqlNormalizer {
+    private static final Pattern IN_LIST = Pattern.compile("\\bin ?\\(\\?(?:, \\?)+\\)");
+    private static final Pattern VALUES_ROWS = Pattern.compile(
+            "\\bvalues ?(\\((?:\\?, )*\\?\\))(?:, \\((?:\\?, )*\\?\\))+");
+
+    private SqlNormalizer() {
+    }
+
+    public static String normalize(String sql) {
+        StringBuilder out = new StringBuilder(sql.length());
+        boolean space = false;
+        int n = sql.length();
+        int i = 0;
+        while (i < n) {
+            char c = sql.charAt(i);
+            char next = i + 1 < n ? sql.charAt(i + 1) : 0;
+            if (Character.isWhitespace(c)) {
+                space = true;
+                i++;
+                continue;
+            }
+            if (c == '-' && next == '-') {
+                while (i < n && sql.charAt(i) != '\n') {
+                    i++;
+                }
+                space = true;
+                continue;
+            }
+            if (c == '/' && next == '*') {
+                int end = sql.indexOf("*/", i + 2);
+                i = end < 0 ? n : end + 2;
+                space = true;
+                continue;
+            }
+            if (c == ',' || c == ')') {
+                out.append(c);
+                space = c == ',';
+                i++;
+                continue;
+            }
+            if (space && !out.isEmpty() && out.charAt(out.length() - 1) != '(') {
+                out.append(' ');
+            }
+            space = false;
+            if (c == '\'') {
+                i = skipQuoted(sql, i, '\'');
+                dropLiteralPrefix(out);
+                out.append('?');
+            } else if (c == '"' || c == '`') {
+                int end = skipQuoted(sql, i, c);
+                out.append(sql, i, end);
+                i = end;
+            } else if (Character.isDigit(c) || (c == '$' && Character.isDigit(next))) {
+                i++;
+                while (i < n && isNumberPart(sql, i)) {
+                    i++;
+                }
+                out.append('?');
+            } else if (Character.isJavaIdentifierStart(c)) {
+                int start = i;
+                while (i < n && Character.isJavaIdentifierPart(sql.charAt(i))) {
+                    i++;
+                }
+                out.append(sql.substring(start, i).toLowerCase(Locale.ROOT));
+            } else {
+                out.append(c);
+                i++;
+            }
+        }
+        String normalized = IN_LIST.matcher(out).replaceAll("in (?)");
+        return VALUES_ROWS.matcher(normalized).replaceAll("values $1");
+    }
+
+    private static int skipQuoted(String sql, int start, char quote) {
+        int i = start + 1;
+        while (i < sql.length()) {
+            if (sql.charAt(i) == quote) {
+                if (i + 1 < sql.length() && sql.charAt(i + 1) == quote) {
+                    i += 2;
+                    continue;
+                }
+                return i + 1;
+            }
+            i++;
+        }
+        return i;
+    }
+
+    private static boolean isNumberPart(String sql, int i) {
+        char c = sql.charAt(i);
+        if (Character.isLetterOrDigit(c) || c == '.' || c == '_') {
+            return true;
+        }
+        char previous = sql.charAt(i - 1);
+        return (c == '+' || c == '-') && (previous == 'e' || previous == 'E');
+    }
+
+    /**
+     * Removes the prefix of literals such as {@code N'text'}, {@code E'text'} or {@code X'0F'}.
+     */
+    private static void dropLiteralPrefix(StringBuilder out) {
+        int length = out.length();
+        if (length == 0 || "enxbu".indexOf(out.charAt(length - 1)) < 0) {
+            return;
+        }
+        if (length == 1 || !Character.isJavaIdentifierPart(out.charAt(length - 2))) {
+            out.setLength(length - 1);
+        }
+    }
+}
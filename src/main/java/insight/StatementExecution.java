@@ -0,0 +1,59 @@
+package insight;
+
+import io.opentelemetry.context.ContextKey;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+
+import java.util.*;
+
+/**
+ * One logical statement execution under slow-query capture: the {@code execute*} span and everything started below
+ * it, including ResultSet activity. Carried in the {@link io.opentelemetry.context.Context} so that
+ * {@link SlowQuerySpanProcessor} can tell which spans belong to it. Fields are guarded by the instance lock.
+ */
+final class StatementExecution {
+    static final ContextKey<StatementExecution> KEY = ContextKey.named("jdbc-insight-statement-execution");
+
+    enum State {
+        /**
+         * Spans are held back until the execution completes or turns out to be slow.
+         */
+        BUFFERING,
+        /**
+         * The execution is slow or failed; its spans go straight to export.
+         */
+        EXPORTING,
+        /**
+         * The execution was fast; spans still started under it are dropped.
+         */
+        DISCARDED
+    }
+
+    final ConnectionState connection;
+    final long startNanos = System.nanoTime();
+    final long thresholdNanos;
+    final Set<ReadableSpan> open = Collections.newSetFromMap(new IdentityHashMap<>());
+    final List<ReadableSpan> buffered = new ArrayList<>();
+    /**
+     * The {@code execute*} span, the first one started under the execution.
+     */
+    ReadableSpan statement;
+    volatile State state = State.BUFFERING;
+    boolean registered;
+    boolean failed;
+
+    StatementExecution(ConnectionState connection) {
+        this.connection = connection;
+        this.thresholdNanos = connection.config().slowQuery().threshold().toNanos();
+    }
+
+    boolean isSlow(long nowNanos) {
+        return nowNanos - startNanos >= thresholdNanos;
+    }
+
+    /**
+     * Whether the {@code execute*} call is still running past the threshold, as opposed to spans below it being open.
+     */
+    boolean isRunningSlow(long nowNanos) {
+        return isSlow(nowNanos) && open.contains(statement);
+    }
+}
@@ -0,0 +1,1005 @@
+package insight;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLWarning;
+import java.sql.Statement;
+
+/**
+ * Traces {@link Statement} calls without reflection. Generated by {@code WrapperGenerator}, do not edit.
+ */
+@SuppressWarnings("deprecation")
+public final class StatementWrapper implements Statement {
+    private static final MethodInfo ADD_BATCH_STRING = MethodInfo.of(Statement.class, "addBatch", String.class);
+    private static final MethodInfo CANCEL = MethodInfo.of(Statement.class, "cancel");
+    private static final MethodInfo CLEAR_BATCH = MethodInfo.of(Statement.class, "clearBatch");
+    private static final MethodInfo CLEAR_WARNINGS = MethodInfo.of(Statement.class, "clearWarnings");
+    private static final MethodInfo CLOSE = MethodInfo.of(Statement.class, "close");
+    private static final MethodInfo CLOSE_ON_COMPLETION = MethodInfo.of(Statement.class, "closeOnCompletion");
+    private static final MethodInfo ENQUOTE_IDENTIFIER_STRING_BOOLEAN = MethodInfo.of(Statement.class, "enquoteIdentifier", String.class, boolean.class);
+    private static final MethodInfo ENQUOTE_LITERAL_STRING = MethodInfo.of(Statement.class, "enquoteLiteral", String.class);
+    private static final MethodInfo ENQUOTE_NCHAR_LITERAL_STRING = MethodInfo.of(Statement.class, "enquoteNCharLiteral", String.class);
+    private static final MethodInfo EXECUTE_STRING = MethodInfo.of(Statement.class, "execute", String.class);
+    private static final MethodInfo EXECUTE_STRING_INT_ARRAY = MethodInfo.of(Statement.class, "execute", String.class, int[].class);
+    private static final MethodInfo EXECUTE_STRING_STRING_ARRAY = MethodInfo.of(Statement.class, "execute", String.class, String[].class);
+    private static final MethodInfo EXECUTE_STRING_INT = MethodInfo.of(Statement.class, "execute", String.class, int.class);
+    private static final MethodInfo EXECUTE_BATCH = MethodInfo.of(Statement.class, "executeBatch");
+    private static final MethodInfo EXECUTE_LARGE_BATCH = MethodInfo.of(Statement.class, "executeLargeBatch");
+    private static final MethodInfo EXECUTE_LARGE_UPDATE_STRING = MethodInfo.of(Statement.class, "executeLargeUpdate", String.class);
+    private static final MethodInfo EXECUTE_LARGE_UPDATE_STRING_INT_ARRAY = MethodInfo.of(Statement.class, "executeLargeUpdate", String.class, int[].class);
+    private static final MethodInfo EXECUTE_LARGE_UPDATE_STRING_STRING_ARRAY = MethodInfo.of(Statement.class, "executeLargeUpdate", String.class, String[].class);
+    private static final MethodInfo EXECUTE_LARGE_UPDATE_STRING_INT = MethodInfo.of(Statement.class, "executeLargeUpdate", String.class, int.class);
+    private static final MethodInfo EXECUTE_QUERY_STRING = MethodInfo.of(Statement.class, "executeQuery", String.class);
+    private static final MethodInfo EXECUTE_UPDATE_STRING = MethodInfo.of(Statement.class, "executeUpdate", String.class);
+    private static final MethodInfo EXECUTE_UPDATE_STRING_INT_ARRAY = MethodInfo.of(Statement.class, "executeUpdate", String.class, int[].class);
+    private static final MethodInfo EXECUTE_UPDATE_STRING_STRING_ARRAY = MethodInfo.of(Statement.class, "executeUpdate", String.class, String[].class);
+    private static final MethodInfo EXECUTE_UPDATE_STRING_INT = MethodInfo.of(Statement.class, "executeUpdate", String.class, int.class);
+    private static final MethodInfo GET_CONNECTION = MethodInfo.of(Statement.class, "getConnection");
+    private static final MethodInfo GET_FETCH_DIRECTION = MethodInfo.of(Statement.class, "getFetchDirection");
+    private static final MethodInfo GET_FETCH_SIZE = MethodInfo.of(Statement.class, "getFetchSize");
+    private static final MethodInfo GET_GENERATED_KEYS = MethodInfo.of(Statement.class, "getGeneratedKeys");
+    private static final MethodInfo GET_LARGE_MAX_ROWS = MethodInfo.of(Statement.class, "getLargeMaxRows");
+    private static final MethodInfo GET_LARGE_UPDATE_COUNT = MethodInfo.of(Statement.class, "getLargeUpdateCount");
+    private static final MethodInfo GET_MAX_FIELD_SIZE = MethodInfo.of(Statement.class, "getMaxFieldSize");
+    private static final MethodInfo GET_MAX_ROWS = MethodInfo.of(Statement.class, "getMaxRows");
+    private static final MethodInfo GET_MORE_RESULTS = MethodInfo.of(Statement.class, "getMoreResults");
+    private static final MethodInfo GET_MORE_RESULTS_INT = MethodInfo.of(Statement.class, "getMoreResults", int.class);
+    private static final MethodInfo GET_QUERY_TIMEOUT = MethodInfo.of(Statement.class, "getQueryTimeout");
+    private static final MethodInfo GET_RESULT_SET = MethodInfo.of(Statement.class, "getResultSet");
+    private static final MethodInfo GET_RESULT_SET_CONCURRENCY = MethodInfo.of(Statement.class, "getResultSetConcurrency");
+    private static final MethodInfo GET_RESULT_SET_HOLDABILITY = MethodInfo.of(Statement.class, "getResultSetHoldability");
+    private static final MethodInfo GET_RESULT_SET_TYPE = MethodInfo.of(Statement.class, "getResultSetType");
+    private static final MethodInfo GET_UPDATE_COUNT = MethodInfo.of(Statement.class, "getUpdateCount");
+    private static final MethodInfo GET_WARNINGS = MethodInfo.of(Statement.class, "getWarnings");
+    private static final MethodInfo IS_CLOSE_ON_COMPLETION = MethodInfo.of(Statement.class, "isCloseOnCompletion");
+    private static final MethodInfo IS_CLOSED = MethodInfo.of(Statement.class, "isClosed");
+    private static final MethodInfo IS_POOLABLE = MethodInfo.of(Statement.class, "isPoolable");
+    private static final MethodInfo IS_SIMPLE_IDENTIFIER_STRING = MethodInfo.of(Statement.class, "isSimpleIdentifier", String.class);
+    private static final MethodInfo IS_WRAPPER_FOR_CLASS = MethodInfo.of(Statement.class, "isWrapperFor", Class.class);
+    private static final MethodInfo SET_CURSOR_NAME_STRING = MethodInfo.of(Statement.class, "setCursorName", String.class);
+    private static final MethodInfo SET_ESCAPE_PROCESSING_BOOLEAN = MethodInfo.of(Statement.class, "setEscapeProcessing", boolean.class);
+    private static final MethodInfo SET_FETCH_DIRECTION_INT = MethodInfo.of(Statement.class, "setFetchDirection", int.class);
+    private static final MethodInfo SET_FETCH_SIZE_INT = MethodInfo.of(Statement.class, "setFetchSize", int.class);
+    private static final MethodInfo SET_LARGE_MAX_ROWS_LONG = MethodInfo.of(Statement.class, "setLargeMaxRows", long.class);
+    private static final MethodInfo SET_MAX_FIELD_SIZE_INT = MethodInfo.of(Statement.class, "setMaxFieldSize", int.class);
+    private static final MethodInfo SET_MAX_ROWS_INT = MethodInfo.of(Statement.class, "setMaxRows", int.class);
+    private static final MethodInfo SET_POOLABLE_BOOLEAN = MethodInfo.of(Statement.class, "setPoolable", boolean.class);
+    private static final MethodInfo SET_QUERY_TIMEOUT_INT = MethodInfo.of(Statement.class, "setQueryTimeout", int.class);
+    private static final MethodInfo UNWRAP_CLASS = MethodInfo.of(Statement.class, "unwrap", Class.class);
+
+    private final Statement delegate;
+    private final TraceNode node;
+
+    public StatementWrapper(Statement delegate, TraceNode node) {
+        this.delegate = delegate;
+        this.node = node;
+    }
+
+    @Override
+    public void addBatch(String arg0) throws SQLException {
+        Invocation invocation = node.enter(ADD_BATCH_STRING);
+        try {
+            delegate.addBatch(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void cancel() throws SQLException {
+        Invocation invocation = node.enter(CANCEL);
+        try {
+            delegate.cancel();
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void clearBatch() throws SQLException {
+        Invocation invocation = node.enter(CLEAR_BATCH);
+        try {
+            delegate.clearBatch();
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void clearWarnings() throws SQLException {
+        Invocation invocation = node.enter(CLEAR_WARNINGS);
+        try {
+            delegate.clearWarnings();
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void close() throws SQLException {
+        Invocation invocation = node.enter(CLOSE);
+        try {
+            delegate.close();
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void closeOnCompletion() throws SQLException {
+        Invocation invocation = node.enter(CLOSE_ON_COMPLETION);
+        try {
+            delegate.closeOnCompletion();
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public String enquoteIdentifier(String arg0, boolean arg1) throws SQLException {
+        Invocation invocation = node.enter(ENQUOTE_IDENTIFIER_STRING_BOOLEAN);
+        try {
+            String result = delegate.enquoteIdentifier(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public String enquoteLiteral(String arg0) throws SQLException {
+        Invocation invocation = node.enter(ENQUOTE_LITERAL_STRING);
+        try {
+            String result = delegate.enquoteLiteral(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public String enquoteNCharLiteral(String arg0) throws SQLException {
+        Invocation invocation = node.enter(ENQUOTE_NCHAR_LITERAL_STRING);
+        try {
+            String result = delegate.enquoteNCharLiteral(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean execute(String arg0) throws SQLException {
+        Invocation invocation = node.enter(EXECUTE_STRING, arg0);
+        try {
+            boolean result = delegate.execute(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean execute(String arg0, int[] arg1) throws SQLException {
+        Invocation invocation = node.enter(EXECUTE_STRING_INT_ARRAY, arg0);
+        try {
+            boolean result = delegate.execute(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean execute(String arg0, String[] arg1) throws SQLException {
+        Invocation invocation = node.enter(EXECUTE_STRING_STRING_ARRAY, arg0);
+        try {
+            boolean result = delegate.execute(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean execute(String arg0, int arg1) throws SQLException {
+        Invocation invocation = node.enter(EXECUTE_STRING_INT, arg0);
+        try {
+            boolean result = delegate.execute(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public int[] executeBatch() throws SQLException {
+        Invocation invocation = node.enter(EXECUTE_BATCH, null);
+        try {
+            int[] result = delegate.executeBatch();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public long[] executeLargeBatch() throws SQLException {
+        Invocation invocation = node.enter(EXECUTE_LARGE_BATCH, null);
+        try {
+            long[] result = delegate.executeLargeBatch();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public long executeLargeUpdate(String arg0) throws SQLException {
+        Invocation invocation = node.enter(EXECUTE_LARGE_UPDATE_STRING, arg0);
+        try {
+            long result = delegate.executeLargeUpdate(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public long executeLargeUpdate(String arg0, int[] arg1) throws SQLException {
+        Invocation invocation = node.enter(EXECUTE_LARGE_UPDATE_STRING_INT_ARRAY, arg0);
+        try {
+            long result = delegate.executeLargeUpdate(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public long executeLargeUpdate(String arg0, String[] arg1) throws SQLException {
+        Invocation invocation = node.enter(EXECUTE_LARGE_UPDATE_STRING_STRING_ARRAY, arg0);
+        try {
+            long result = delegate.executeLargeUpdate(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public long executeLargeUpdate(String arg0, int arg1) throws SQLException {
+        Invocation invocation = node.enter(EXECUTE_LARGE_UPDATE_STRING_INT, arg0);
+        try {
+            long result = delegate.executeLargeUpdate(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public ResultSet executeQuery(String arg0) throws SQLException {
+        Invocation invocation = node.enter(EXECUTE_QUERY_STRING, arg0);
+        try {
+            ResultSet result = delegate.executeQuery(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return (ResultSet) invocation.wrap(result, arg0);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public int executeUpdate(String arg0) throws SQLException {
+        Invocation invocation = node.enter(EXECUTE_UPDATE_STRING, arg0);
+        try {
+            int result = delegate.executeUpdate(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public int executeUpdate(String arg0, int[] arg1) throws SQLException {
+        Invocation invocation = node.enter(EXECUTE_UPDATE_STRING_INT_ARRAY, arg0);
+        try {
+            int result = delegate.executeUpdate(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public int executeUpdate(String arg0, String[] arg1) throws SQLException {
+        Invocation invocation = node.enter(EXECUTE_UPDATE_STRING_STRING_ARRAY, arg0);
+        try {
+            int result = delegate.executeUpdate(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public int executeUpdate(String arg0, int arg1) throws SQLException {
+        Invocation invocation = node.enter(EXECUTE_UPDATE_STRING_INT, arg0);
+        try {
+            int result = delegate.executeUpdate(arg0, arg1);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0, arg1}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Invocation invocation = node.enter(GET_CONNECTION);
+        try {
+            Connection result = delegate.getConnection();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return (Connection) invocation.wrap(result, null);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public int getFetchDirection() throws SQLException {
+        Invocation invocation = node.enter(GET_FETCH_DIRECTION);
+        try {
+            int result = delegate.getFetchDirection();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public int getFetchSize() throws SQLException {
+        Invocation invocation = node.enter(GET_FETCH_SIZE);
+        try {
+            int result = delegate.getFetchSize();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public ResultSet getGeneratedKeys() throws SQLException {
+        Invocation invocation = node.enter(GET_GENERATED_KEYS);
+        try {
+            ResultSet result = delegate.getGeneratedKeys();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return (ResultSet) invocation.wrap(result, null);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public long getLargeMaxRows() throws SQLException {
+        Invocation invocation = node.enter(GET_LARGE_MAX_ROWS);
+        try {
+            long result = delegate.getLargeMaxRows();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public long getLargeUpdateCount() throws SQLException {
+        Invocation invocation = node.enter(GET_LARGE_UPDATE_COUNT);
+        try {
+            long result = delegate.getLargeUpdateCount();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public int getMaxFieldSize() throws SQLException {
+        Invocation invocation = node.enter(GET_MAX_FIELD_SIZE);
+        try {
+            int result = delegate.getMaxFieldSize();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public int getMaxRows() throws SQLException {
+        Invocation invocation = node.enter(GET_MAX_ROWS);
+        try {
+            int result = delegate.getMaxRows();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean getMoreResults() throws SQLException {
+        Invocation invocation = node.enter(GET_MORE_RESULTS);
+        try {
+            boolean result = delegate.getMoreResults();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean getMoreResults(int arg0) throws SQLException {
+        Invocation invocation = node.enter(GET_MORE_RESULTS_INT);
+        try {
+            boolean result = delegate.getMoreResults(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public int getQueryTimeout() throws SQLException {
+        Invocation invocation = node.enter(GET_QUERY_TIMEOUT);
+        try {
+            int result = delegate.getQueryTimeout();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public ResultSet getResultSet() throws SQLException {
+        Invocation invocation = node.enter(GET_RESULT_SET);
+        try {
+            ResultSet result = delegate.getResultSet();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return (ResultSet) invocation.wrap(result, null);
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public int getResultSetConcurrency() throws SQLException {
+        Invocation invocation = node.enter(GET_RESULT_SET_CONCURRENCY);
+        try {
+            int result = delegate.getResultSetConcurrency();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public int getResultSetHoldability() throws SQLException {
+        Invocation invocation = node.enter(GET_RESULT_SET_HOLDABILITY);
+        try {
+            int result = delegate.getResultSetHoldability();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public int getResultSetType() throws SQLException {
+        Invocation invocation = node.enter(GET_RESULT_SET_TYPE);
+        try {
+            int result = delegate.getResultSetType();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public int getUpdateCount() throws SQLException {
+        Invocation invocation = node.enter(GET_UPDATE_COUNT);
+        try {
+            int result = delegate.getUpdateCount();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public SQLWarning getWarnings() throws SQLException {
+        Invocation invocation = node.enter(GET_WARNINGS);
+        try {
+            SQLWarning result = delegate.getWarnings();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean isCloseOnCompletion() throws SQLException {
+        Invocation invocation = node.enter(IS_CLOSE_ON_COMPLETION);
+        try {
+            boolean result = delegate.isCloseOnCompletion();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean isClosed() throws SQLException {
+        Invocation invocation = node.enter(IS_CLOSED);
+        try {
+            boolean result = delegate.isClosed();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean isPoolable() throws SQLException {
+        Invocation invocation = node.enter(IS_POOLABLE);
+        try {
+            boolean result = delegate.isPoolable();
+            if (invocation.isCapturing()) {
+                invocation.capture(null, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean isSimpleIdentifier(String arg0) throws SQLException {
+        Invocation invocation = node.enter(IS_SIMPLE_IDENTIFIER_STRING);
+        try {
+            boolean result = delegate.isSimpleIdentifier(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> arg0) throws SQLException {
+        Invocation invocation = node.enter(IS_WRAPPER_FOR_CLASS);
+        try {
+            boolean result = delegate.isWrapperFor(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setCursorName(String arg0) throws SQLException {
+        Invocation invocation = node.enter(SET_CURSOR_NAME_STRING);
+        try {
+            delegate.setCursorName(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setEscapeProcessing(boolean arg0) throws SQLException {
+        Invocation invocation = node.enter(SET_ESCAPE_PROCESSING_BOOLEAN);
+        try {
+            delegate.setEscapeProcessing(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setFetchDirection(int arg0) throws SQLException {
+        Invocation invocation = node.enter(SET_FETCH_DIRECTION_INT);
+        try {
+            delegate.setFetchDirection(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setFetchSize(int arg0) throws SQLException {
+        Invocation invocation = node.enter(SET_FETCH_SIZE_INT);
+        try {
+            delegate.setFetchSize(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setLargeMaxRows(long arg0) throws SQLException {
+        Invocation invocation = node.enter(SET_LARGE_MAX_ROWS_LONG);
+        try {
+            delegate.setLargeMaxRows(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setMaxFieldSize(int arg0) throws SQLException {
+        Invocation invocation = node.enter(SET_MAX_FIELD_SIZE_INT);
+        try {
+            delegate.setMaxFieldSize(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setMaxRows(int arg0) throws SQLException {
+        Invocation invocation = node.enter(SET_MAX_ROWS_INT);
+        try {
+            delegate.setMaxRows(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setPoolable(boolean arg0) throws SQLException {
+        Invocation invocation = node.enter(SET_POOLABLE_BOOLEAN);
+        try {
+            delegate.setPoolable(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public void setQueryTimeout(int arg0) throws SQLException {
+        Invocation invocation = node.enter(SET_QUERY_TIMEOUT_INT);
+        try {
+            delegate.setQueryTimeout(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, null);
+            }
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> arg0) throws SQLException {
+        Invocation invocation = node.enter(UNWRAP_CLASS);
+        try {
+            T result = delegate.unwrap(arg0);
+            if (invocation.isCapturing()) {
+                invocation.capture(new Object[]{arg0}, result);
+            }
+            return result;
+        } catch (Exception e) {
+            invocation.fail(e);
+            throw e;
+        } finally {
+            invocation.exit();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return delegate.toString();
+    }
+}
@@ -0,0 +1,164 @@
+package insight;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+
+/**
+ * Accounting of one LOB or stream returned by the driver, such as {@code ResultSet.getBinaryStream} or
+ * {@code Clob.setCharacterStream}. The stream wrappers count bytes or characters and the calls that moved them, and
+ * time every call into the driver's stream; bulk reads and writes are forwarded as they are, without copying. At end
+ * of stream, on {@code close()}, or when the ResultSet or connection it came from moves on or closes, whichever comes
+ * first, the totals are counted in {@link DriverMetrics} and, on traced connections, reported as a {@value #SPAN_NAME}
+ * span under the call that returned the stream. Like the stream, it expects to be used by one thread at a time.
+ */
+public final class StreamTracker {
+    public static final String SPAN_NAME = "stream";
+
+    static final AttributeKey<String> KIND = DriverMetrics.STREAM;
+    static final AttributeKey<String> METHOD = AttributeKey.stringKey("db.stream.method");
+    static final AttributeKey<Long> BYTES = AttributeKey.longKey("db.stream.bytes");
+    static final AttributeKey<Long> CHARS = AttributeKey.longKey("db.stream.chars");
+    static final AttributeKey<Long> CHUNKS = AttributeKey.longKey("db.stream.chunks");
+    static final AttributeKey<Long> BLOCKED_TIME = AttributeKey.longKey("db.stream.blocked_time_ns");
+    static final AttributeKey<Long> FIRST_BYTE = AttributeKey.longKey("db.stream.first_byte_ns");
+    static final AttributeKey<Boolean> EXHAUSTED = AttributeKey.booleanKey("db.stream.exhausted");
+
+    public enum Kind {
+        BINARY_INPUT,
+        CHARACTER_INPUT,
+        BINARY_OUTPUT,
+        CHARACTER_OUTPUT
+    }
+
+    private final Kind kind;
+    private final DriverMetrics metrics;
+    private final Span span;
+    private final long createdNanos = System.nanoTime();
+    private ResourceHandle handle;
+    private long units;
+    private long chunks;
+    private long blockedNanos;
+    private long firstByteNanos = -1;
+    private boolean exhausted;
+    private boolean ended;
+
+    private StreamTracker(Kind kind, DriverMetrics metrics, Span span) {
+        this.kind = kind;
+        this.metrics = metrics;
+        this.span = span;
+    }
+
+    /**
+     * Wraps a stream returned by a call, or returns it as is if the connection neither traces nor counts it.
+     */
+    static Object wrap(TraceNode node, MethodInfo info, Context parentContext, Object stream, boolean traced) {
+        DriverMetrics metrics = node.connection.metrics();
+        Span span = null;
+        if (traced) {
+            Tracer tracer = node.config.backend().tracer(node.connection.otelFactory(), info.returnScope());
+            if (tracer != null) {
+                span = tracer.spanBuilder(SPAN_NAME).setParent(parentContext)
+                        .setAttribute(METHOD, info.method().getName())
+                        .startSpan();
+            }
+        }
+        if (metrics == null && span == null) {
+            return stream;
+        }
+        Kind kind = stream instanceof InputStream ? Kind.BINARY_INPUT : stream instanceof Reader
+                ? Kind.CHARACTER_INPUT : stream instanceof OutputStream ? Kind.BINARY_OUTPUT : Kind.CHARACTER_OUTPUT;
+        StreamTracker tracker = new StreamTracker(kind, metrics, span);
+        ResourceHandle owner = node.handle != null && node.handle.holdsChildren() ? node.handle : node.ownerHandle;
+        if (owner != null) {
+            tracker.handle = new ResourceHandle(owner, tracker::end);
+        }
+        return switch (kind) {
+            case BINARY_INPUT -> new TrackedInputStream((InputStream) stream, tracker);
+            case CHARACTER_INPUT -> new TrackedReader((Reader) stream, tracker);
+            case BINARY_OUTPUT -> new TrackedOutputStream((OutputStream) stream, tracker);
+            case CHARACTER_OUTPUT -> new TrackedWriter((Writer) stream, tracker);
+        };
+    }
+
+    /**
+     * Counts a read that started at {@code startNanos}: {@code count} units, or end of stream if negative.
+     */
+    void read(long startNanos, long count) {
+        long now = System.nanoTime();
+        blockedNanos += now - startNanos;
+        if (count > 0) {
+            transferred(now, count);
+        } else if (count < 0) {
+            exhausted = true;
+            end();
+        }
+    }
+
+    void written(long startNanos, long count) {
+        long now = System.nanoTime();
+        blockedNanos += now - startNanos;
+        if (count > 0) {
+            transferred(now, count);
+        }
+    }
+
+    /**
+     * Counts time blocked in a call that moves no data, such as {@code skip} or {@code flush}.
+     */
+    void blocked(long startNanos) {
+        blockedNanos += System.nanoTime() - startNanos;
+    }
+
+    void failed(Throwable e) {
+        if (span != null && !ended) {
+            span.recordException(e, SpanInvocation.ESCAPED);
+            span.setAttribute(SpanInvocation.ERROR, true);
+        }
+    }
+
+    void closed(long startNanos) {
+        blocked(startNanos);
+        end();
+    }
+
+    private void transferred(long now, long count) {
+        units += count;
+        chunks++;
+        if (firstByteNanos < 0) {
+            firstByteNanos = now - createdNanos;
+        }
+    }
+
+    private void end() {
+        if (ended) {
+            return;
+        }
+        ended = true;
+        if (handle != null) {
+            handle.close();
+        }
+        if (metrics != null) {
+            metrics.streamed(kind, units, blockedNanos);
+        }
+        if (span != null) {
+            span.setAttribute(KIND, kind.name().toLowerCase());
+            span.setAttribute(kind == Kind.BINARY_INPUT || kind == Kind.BINARY_OUTPUT ? BYTES : CHARS, units);
+            span.setAttribute(CHUNKS, chunks);
+            span.setAttribute(BLOCKED_TIME, blockedNanos);
+            if (firstByteNanos >= 0) {
+                span.setAttribute(FIRST_BYTE, firstByteNanos);
+            }
+            if (kind == Kind.BINARY_INPUT || kind == Kind.CHARACTER_INPUT) {
+                span.setAttribute(EXHAUSTED, exhausted);
+            }
+            span.end();
+        }
+    }
+}
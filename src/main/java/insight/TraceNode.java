@@ -0,0 +1,424 @@
+package insight;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static insight.Utils.initTreeNode;
+
+/**
+ * A wrapped JDBC object in the span tree. Holds what both wrapper engines need to trace calls on the object and to
+ * wrap the objects it returns. Calls on an unsampled node, and calls rejected by the connection's
+ * {@link MethodFilter}, do not touch the tracer; traced calls are recorded by the connection's {@link Backend}. The
+ * per-connection features in {@link ConnectionState} hook into each call here and are described on their own classes.
+ */
+public class TraceNode {
+    static final AttributeKey<String> DB_STATEMENT = AttributeKey.stringKey("db.statement");
+    static final AttributeKey<Long> BATCH_SIZE = AttributeKey.longKey("db.batch.size");
+
+    protected final Tracer tracer;
+    protected final Context context;
+    protected final ConnectionState connection;
+    protected final InsightConfig config;
+    protected final boolean sampled;
+    private BindParameters binds;
+    /**
+     * SQL the statement was prepared with, if any.
+     */
+    String sql;
+    private String activeSql;
+    private QueryStats activeQuery;
+    /**
+     * {@code addBatch} calls since the last {@code executeBatch}, which are counted into its span instead of traced.
+     */
+    private long batchSize;
+    private List<Object> workloadBatch;
+    /**
+     * Open state of this object, if it is a connection, statement or result set. Wrappers returned by
+     * {@code getStatement()} and {@code getConnection()} share the handle of the object they stand for.
+     */
+    ResourceHandle handle;
+    /**
+     * Nearest handle above this node that objects opened through it are closed with.
+     */
+    ResourceHandle ownerHandle;
+    /**
+     * Leak watch on this object, if it is a connection, statement or result set and leak detection is on, shared like
+     * the handle.
+     */
+    LeakDetector.Tracked leak;
+    /**
+     * Nearest leak watch above this node that objects opened through it are closed with.
+     */
+    LeakDetector.Tracked ownerLeak;
+    private Invocation untraced;
+
+    public TraceNode(Tracer tracer, Context context, ConnectionState connection) {
+        this(tracer, context, connection, true);
+    }
+
+    public TraceNode(Tracer tracer, Context context, ConnectionState connection, boolean sampled) {
+        this.tracer = tracer;
+        this.context = context;
+        this.connection = connection;
+        this.config = connection.config();
+        this.sampled = sampled;
+    }
+
+    /**
+     * Enters an {@code execute*} call. The SQL is the first argument, or the SQL the statement was prepared with when
+     * the argument is null.
+     */
+    public Invocation enter(MethodInfo info, Object sqlArg) {
+        OverheadGovernor governor = connection.governor();
+        if (governor != null && !connection.measure()) {
+            governor = null;
+        }
+        long start = governor != null ? System.nanoTime() : 0;
+        Span parent = connection.measureCost() ? Span.current() : null;
+        return measured(info, governor, start, parent, enterExecution(info, sqlArg));
+    }
+
+    public Invocation enter(MethodInfo info) {
+        OverheadGovernor governor = connection.governor();
+        if (governor != null && !connection.measure()) {
+            governor = null;
+        }
+        long start = governor != null ? System.nanoTime() : 0;
+        Span parent = connection.measureCost() ? Span.current() : null;
+        return measured(info, governor, start, parent, enterCall(info));
+    }
+
+    /**
+     * Wraps the call for {@link CallCost} if {@code parent} is set, as the span current before the call was entered,
+     * and for the governor if it is set.
+     */
+    private Invocation measured(MethodInfo info, OverheadGovernor governor, long start, Span parent,
+                                Invocation invocation) {
+        if (parent != null) {
+            Span span = Span.current();
+            invocation = new CostInvocation(connection.callCost(), info, span == parent ? null : span, invocation);
+        }
+        return governor == null ? invocation : new MeasuredInvocation(governor, info, start, invocation);
+    }
+
+    private Invocation enterExecution(MethodInfo info, Object sqlArg) {
+        activeSql = sqlArg instanceof String text ? text : sql;
+        activeQuery = null;
+        Invocation invocation = enterCall(info);
+        NPlusOneDetector nPlusOne = connection.nPlusOne();
+        if (nPlusOne != null && activeSql != null && info.batchRole() != MethodInfo.BatchRole.EXECUTE) {
+            detectNPlusOne(nPlusOne, info);
+        }
+        if (config.queryMetrics() && activeSql != null) {
+            activeQuery = connection.otelFactory().queryStats().stats(activeSql);
+        }
+        DriverMetrics metrics = connection.metrics();
+        WorkloadSession workload = connection.workload();
+        if (workload != null) {
+            invocation = captureExecution(workload, info, sqlArg, invocation);
+        }
+        if (activeQuery == null && metrics == null) {
+            return invocation;
+        }
+        return new QueryInvocation(invocation, activeQuery,
+                metrics == null ? null : metrics.operation(info.method().getName()));
+    }
+
+    private Invocation enterCall(MethodInfo info) {
+        track(info);
+        switch (info.parameterRole()) {
+            case BIND, BIND_NULL -> {
+                return bind(info);
+            }
+            case CLEAR -> {
+                if (binds != null) {
+                    binds.clear();
+                }
+            }
+            default -> {
+            }
+        }
+        switch (info.batchRole()) {
+            case ADD -> {
+                batchSize++;
+                WorkloadSession workload = connection.workload();
+                return workload == null ? untraced(info) : workload.batched(this, info, untraced(info));
+            }
+            case CLEAR -> {
+                batchSize = 0;
+                workloadBatch = null;
+            }
+            default -> {
+            }
+        }
+        TransactionTracker transactions = connection.transactions();
+        if (transactions != null) {
+            transactions.before(info);
+        }
+        Invocation invocation = traces(info) ? config.backend().enter(this, info) : untraced(info);
+        if (info.batchRole() == MethodInfo.BatchRole.EXECUTE) {
+            batchSize = 0;
+        }
+        WorkloadSession workload = connection.workload();
+        if (workload != null && info.transactionRole() != MethodInfo.TransactionRole.NONE) {
+            invocation = workload.transaction(info, invocation);
+        }
+        return transactions == null ? invocation : transactions.wrap(info, invocation);
+    }
+
+    /**
+     * Captures an execution for the workload log, with the values bound to a prepared statement and the pending batch.
+     */
+    private Invocation captureExecution(WorkloadSession workload, MethodInfo info, Object sqlArg,
+                                        Invocation invocation) {
+        boolean prepared = sql != null && !(sqlArg instanceof String);
+        if (info.batchRole() != MethodInfo.BatchRole.EXECUTE) {
+            return workload.execute(info, activeSql, prepared ? bindValues() : null, List.of(), invocation);
+        }
+        List<Object> batch = workloadBatch == null ? List.of() : workloadBatch;
+        workloadBatch = null;
+        return workload.execute(info, activeSql, prepared ? List.of() : null, batch, invocation);
+    }
+
+    /**
+     * Adds an {@code addBatch} entry to the batch captured for the workload log.
+     */
+    void batched(Object entry) {
+        if (workloadBatch == null) {
+            workloadBatch = new ArrayList<>();
+        }
+        workloadBatch.add(entry);
+    }
+
+    /**
+     * Values currently bound to the statement.
+     */
+    List<Object> bindValues() {
+        return binds == null ? List.of() : binds.values();
+    }
+
+    /**
+     * Counts the execution towards N+1 detection, told apart from others by its SQL text and bound values, and records
+     * a pattern it completes on the execution's span.
+     */
+    private void detectNPlusOne(NPlusOneDetector nPlusOne, MethodInfo info) {
+        TransactionTracker transactions = connection.transactions();
+        long transaction = transactions != null && transactions.open() ? transactions.generation() : -1;
+        int values = 31 * activeSql.hashCode() + (binds == null ? 0 : binds.valuesHash());
+        Attributes finding = nPlusOne.executed(activeSql, values, transaction, System.nanoTime());
+        if (finding != null && traces(info)) {
+            Span.current().addEvent(NPlusOneDetector.EVENT_NAME, finding);
+        }
+    }
+
+    /**
+     * Starts the span of a call for the {@link Backend#OTEL} backend.
+     */
+    Invocation startSpan(MethodInfo info) {
+        TransactionTracker transactions = connection.transactions();
+        Context parent = transactions == null ? context : transactions.parent(context);
+        if (info.executesStatement() && config.slowQuery().enabled()) {
+            StatementExecution execution = new StatementExecution(connection);
+            Span span = tracer.spanBuilder(info.spanName())
+                    .setParent(parent.with(StatementExecution.KEY, execution))
+                    .startSpan();
+            attachBinds(info, span);
+            Scope scope = Context.current().with(span).with(StatementExecution.KEY, execution).makeCurrent();
+            return new SpanInvocation(this, info, span, scope);
+        }
+        Span span = tracer.spanBuilder(info.spanName())
+                .setParent(parent)
+                .startSpan();
+        attachBinds(info, span);
+        return new SpanInvocation(this, info, span, span.makeCurrent());
+    }
+
+    /**
+     * Counts the call towards the resource handles, metrics and leak watches: closes, re-executions and transaction ends.
+     */
+    protected void track(MethodInfo info) {
+        if (leak != null) {
+            if (info.closesResource()) {
+                leak.closed();
+            } else if (info.executesStatement()) {
+                leak.executed();
+            }
+        }
+        if (handle != null) {
+            if (info.closesResource()) {
+                handle.close();
+            } else if (info.executesStatement() || info.resultSetRole() == MethodInfo.ResultSetRole.NEXT) {
+                handle.closeChildren();
+            }
+        }
+        DriverMetrics metrics = connection.metrics();
+        if (metrics == null) {
+            return;
+        }
+        switch (info.transactionRole()) {
+            case COMMIT -> metrics.committed();
+            case ROLLBACK -> metrics.rolledBack();
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * Called when the object is closed without a close call of its own: by closing or re-executing what it was opened
+     * through, or when it is lost unclosed.
+     */
+    void released() {
+    }
+
+    void failed(Throwable e) {
+        DriverMetrics metrics = connection.metrics();
+        if (metrics != null) {
+            metrics.failed(e);
+        }
+    }
+
+    private boolean traces(MethodInfo info) {
+        OverheadGovernor governor = connection.governor();
+        return sampled && config.filter().isTraced(info) && (governor == null || governor.traces(info));
+    }
+
+    /**
+     * Whether argument, return, bind and SQL values are recorded, as configured and allowed by the governor.
+     */
+    boolean capturing() {
+        OverheadGovernor governor = connection.governor();
+        return config.capture().enabled() && (governor == null || governor.captures());
+    }
+
+    /**
+     * Invocation of a call that records nothing but still wraps what it returns and counts towards the metrics.
+     */
+    Invocation untraced(MethodInfo info) {
+        if (info.wrapsResult()) {
+            return new UntracedInvocation(this, info);
+        }
+        return connection.metrics() == null ? UntracedInvocation.NOOP : untraced();
+    }
+
+    /**
+     * SQL of the {@code execute*} call in progress, or of the last one.
+     */
+    String activeSql() {
+        return activeSql;
+    }
+
+    private Invocation untraced() {
+        if (untraced == null) {
+            untraced = new UntracedInvocation(this, null);
+        }
+        return untraced;
+    }
+
+    private Invocation bind(MethodInfo info) {
+        boolean keepValues = sampled && capturing() && config.backend() == Backend.OTEL
+                || connection.workload() != null;
+        boolean hashValues = connection.nPlusOne() != null;
+        if (!keepValues && !hashValues) {
+            return UntracedInvocation.NOOP;
+        }
+        if (binds == null) {
+            binds = new BindParameters();
+        }
+        return binds.enter(info, keepValues, hashValues);
+    }
+
+    private void attachBinds(MethodInfo info, Span span) {
+        if (binds != null && info.executesStatement() && !binds.isEmpty() && span.isRecording() && capturing()) {
+            span.setAttribute(BindParameters.PARAMETERS, binds.render(config.capture()));
+        }
+        if (info.batchRole() == MethodInfo.BatchRole.EXECUTE && span.isRecording()) {
+            span.setAttribute(BATCH_SIZE, batchSize);
+        }
+    }
+
+    /**
+     * Starts the span an object returned by a call hangs off for the {@link Backend#OTEL} backend. ResultSets of
+     * {@code execute*} calls are named after the SQL fingerprint.
+     */
+    Context childSpan(MethodInfo info, Context parentContext, String sql) {
+        Tracer tracer = connection.otelFactory().initTracer(info.returnScope());
+        if (sql == null) {
+            return initTreeNode(tracer, parentContext, info.returnScope());
+        }
+        String fingerprint = connection.otelFactory().queryStats().fingerprint(sql);
+        Attributes attributes = capturing()
+                ? Attributes.of(DB_STATEMENT, config.capture().render(sql)) : Attributes.empty();
+        return initTreeNode(tracer, parentContext, "SQL: [" + fingerprint + "]", attributes);
+    }
+
+    Object wrap(MethodInfo info, Context parentContext, Object firstArg, Object result) {
+        return wrap(info, parentContext, firstArg, result, true);
+    }
+
+    Object wrapUntraced(MethodInfo info, Object firstArg, Object result) {
+        return wrap(info, context, firstArg, result, false);
+    }
+
+    private Object wrap(MethodInfo info, Context parentContext, Object firstArg, Object result, boolean traced) {
+        if (info.returnKind() == MethodInfo.ReturnKind.STREAM) {
+            return result == null ? null : StreamTracker.wrap(this, info, parentContext, result, traced && sampled);
+        }
+        if (!info.returnsProxy()) {
+            return result;
+        }
+        boolean childSampled = sampled && (!info.returnsStatement() || config.sampler().sampleStatement()
+                && (connection.governor() == null || connection.governor().sampleStatement()));
+        Tracer tracer = config.backend().tracer(connection.otelFactory(), info.returnScope());
+        boolean resultSet = info.returnKind() == MethodInfo.ReturnKind.RESULT_SET;
+        Context nodeContext = parentContext;
+        if (traced && childSampled) {
+            String resultSql = resultSet && info.executesStatement() ? activeSql : null;
+            nodeContext = config.backend().childContext(this, info, parentContext, resultSql);
+        }
+        if (Objects.isNull(result)) {
+            return null;
+        }
+        TraceNode node = childSampled && resultSet ? config.backend().resultSet(this, tracer, nodeContext,
+                info.executesStatement() ? activeQuery : null) : null;
+        if (node == null) {
+            node = new TraceNode(tracer, nodeContext, connection, childSampled);
+        }
+        if (info.returnsStatement() && firstArg instanceof String text) {
+            node.sql = text;
+        }
+        DriverMetrics metrics = connection.metrics();
+        node.ownerHandle = handle != null && handle.holdsChildren() ? handle : ownerHandle;
+        if (resultSet) {
+            node.handle = new ResourceHandle(metrics, DriverMetrics.ResourceKind.RESULT_SET, node.ownerHandle,
+                    node::released);
+        } else if (info.createsStatement()) {
+            node.handle = new ResourceHandle(metrics, DriverMetrics.ResourceKind.STATEMENT, node.ownerHandle, null);
+        } else if (info.returnedOwner() != null) {
+            ResourceHandle own = handle != null ? handle : ownerHandle;
+            node.handle = own == null ? null : own.find(info.returnedOwner());
+        }
+        Object wrapper = config.wrapper().wrap(result, info.method().getReturnType(), node);
+        LeakDetector leaks = connection.leaks();
+        if (leaks != null) {
+            node.ownerLeak = leak != null && leak.holdsChildren() ? leak : ownerLeak;
+            if (resultSet) {
+                node.leak = leaks.track(wrapper, DriverMetrics.ResourceKind.RESULT_SET, node, node.ownerLeak,
+                        info.executesStatement() ? activeSql : null);
+            } else if (info.createsStatement()) {
+                node.leak = leaks.track(wrapper, DriverMetrics.ResourceKind.STATEMENT, node, node.ownerLeak, null);
+            } else if (info.returnedOwner() != null) {
+                LeakDetector.Tracked own = leak != null ? leak : ownerLeak;
+                node.leak = own == null ? null : own.find(info.returnedOwner());
+            }
+        }
+        return wrapper;
+    }
+}
@@ -0,0 +1,117 @@
+package insight;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Binary LOB stream counted by a {@link StreamTracker}.
+ */
+final class TrackedInputStream extends InputStream {
+    private final InputStream delegate;
+    private final StreamTracker tracker;
+
+    TrackedInputStream(InputStream delegate, StreamTracker tracker) {
+        this.delegate = delegate;
+        this.tracker = tracker;
+    }
+
+    @Override
+    public int read() throws IOException {
+        long start = System.nanoTime();
+        try {
+            int value = delegate.read();
+            tracker.read(start, value < 0 ? -1 : 1);
+            return value;
+        } catch (IOException | RuntimeException e) {
+            tracker.failed(e);
+            throw e;
+        }
+    }
+
+    @Override
+    public int read(byte[] b) throws IOException {
+        return read(b, 0, b.length);
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        long start = System.nanoTime();
+        try {
+            int count = delegate.read(b, off, len);
+            tracker.read(start, count);
+            return count;
+        } catch (IOException | RuntimeException e) {
+            tracker.failed(e);
+            throw e;
+        }
+    }
+
+    @Override
+    public byte[] readAllBytes() throws IOException {
+        long start = System.nanoTime();
+        try {
+            byte[] data = delegate.readAllBytes();
+            tracker.read(start, data.length);
+            tracker.read(System.nanoTime(), -1);
+            return data;
+        } catch (IOException | RuntimeException e) {
+            tracker.failed(e);
+            throw e;
+        }
+    }
+
+    @Override
+    public long transferTo(OutputStream out) throws IOException {
+        long start = System.nanoTime();
+        try {
+            long count = delegate.transferTo(out);
+            tracker.read(start, count);
+            tracker.read(System.nanoTime(), -1);
+            return count;
+        } catch (IOException | RuntimeException e) {
+            tracker.failed(e);
+            throw e;
+        }
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long start = System.nanoTime();
+        try {
+            return delegate.skip(n);
+        } finally {
+            tracker.blocked(start);
+        }
+    }
+
+    @Override
+    public int available() throws IOException {
+        return delegate.available();
+    }
+
+    @Override
+    public void close() throws IOException {
+        long start = System.nanoTime();
+        try {
+            delegate.close();
+        } finally {
+            tracker.closed(start);
+        }
+    }
+
+    @Override
+    public void mark(int readlimit) {
+        delegate.mark(readlimit);
+    }
+
+    @Override
+    public void reset() throws IOException {
+        delegate.reset();
+    }
+
+    @Override
+    public boolean markSupported() {
+        return delegate.markSupported();
+    }
+}
@@ -0,0 +1,72 @@
+package insight;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Binary LOB stream written through a {@link StreamTracker}.
+ */
+final class TrackedOutputStream extends OutputStream {
+    private final OutputStream delegate;
+    private final StreamTracker tracker;
+
+    TrackedOutputStream(OutputStream delegate, StreamTracker tracker) {
+        this.delegate = delegate;
+        this.tracker = tracker;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        long start = System.nanoTime();
+        try {
+            delegate.write(b);
+            tracker.written(start, 1);
+        } catch (IOException | RuntimeException e) {
+            tracker.failed(e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void write(byte[] b) throws IOException {
+        write(b, 0, b.length);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        long start = System.nanoTime();
+        try {
+            delegate.write(b, off, len);
+            tracker.written(start, len);
+        } catch (IOException | RuntimeException e) {
+            tracker.failed(e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        long start = System.nanoTime();
+        try {
+            delegate.flush();
+        } catch (IOException | RuntimeException e) {
+            tracker.failed(e);
+            throw e;
+        } finally {
+            tracker.blocked(start);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        long start = System.nanoTime();
+        try {
+            delegate.close();
+        } catch (IOException | RuntimeException e) {
+            tracker.failed(e);
+            throw e;
+        } finally {
+            tracker.closed(start);
+        }
+    }
+}
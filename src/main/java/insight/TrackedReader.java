@@ -0,0 +1,112 @@
+package insight;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.CharBuffer;
+
+/**
+ * Character LOB stream counted by a {@link StreamTracker}.
+ */
+final class TrackedReader extends Reader {
+    private final Reader delegate;
+    private final StreamTracker tracker;
+
+    TrackedReader(Reader delegate, StreamTracker tracker) {
+        this.delegate = delegate;
+        this.tracker = tracker;
+    }
+
+    @Override
+    public int read() throws IOException {
+        long start = System.nanoTime();
+        try {
+            int value = delegate.read();
+            tracker.read(start, value < 0 ? -1 : 1);
+            return value;
+        } catch (IOException | RuntimeException e) {
+            tracker.failed(e);
+            throw e;
+        }
+    }
+
+    @Override
+    public int read(char[] cbuf, int off, int len) throws IOException {
+        long start = System.nanoTime();
+        try {
+            int count = delegate.read(cbuf, off, len);
+            tracker.read(start, count);
+            return count;
+        } catch (IOException | RuntimeException e) {
+            tracker.failed(e);
+            throw e;
+        }
+    }
+
+    @Override
+    public int read(CharBuffer target) throws IOException {
+        long start = System.nanoTime();
+        try {
+            int count = delegate.read(target);
+            tracker.read(start, count);
+            return count;
+        } catch (IOException | RuntimeException e) {
+            tracker.failed(e);
+            throw e;
+        }
+    }
+
+    @Override
+    public long transferTo(Writer out) throws IOException {
+        long start = System.nanoTime();
+        try {
+            long count = delegate.transferTo(out);
+            tracker.read(start, count);
+            tracker.read(System.nanoTime(), -1);
+            return count;
+        } catch (IOException | RuntimeException e) {
+            tracker.failed(e);
+            throw e;
+        }
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long start = System.nanoTime();
+        try {
+            return delegate.skip(n);
+        } finally {
+            tracker.blocked(start);
+        }
+    }
+
+    @Override
+    public boolean ready() throws IOException {
+        return delegate.ready();
+    }
+
+    @Override
+    public void close() throws IOException {
+        long start = System.nanoTime();
+        try {
+            delegate.close();
+        } finally {
+            tracker.closed(start);
+        }
+    }
+
+    @Override
+    public void mark(int readAheadLimit) throws IOException {
+        delegate.mark(readAheadLimit);
+    }
+
+    @Override
+    public void reset() throws IOException {
+        delegate.reset();
+    }
+
+    @Override
+    public boolean markSupported() {
+        return delegate.markSupported();
+    }
+}
@@ -0,0 +1,79 @@
+package insight;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Character LOB stream written through a {@link StreamTracker}.
+ */
+final class TrackedWriter extends Writer {
+    private final Writer delegate;
+    private final StreamTracker tracker;
+
+    TrackedWriter(Writer delegate, StreamTracker tracker) {
+        this.delegate = delegate;
+        this.tracker = tracker;
+    }
+
+    @Override
+    public void write(int c) throws IOException {
+        long start = System.nanoTime();
+        try {
+            delegate.write(c);
+            tracker.written(start, 1);
+        } catch (IOException | RuntimeException e) {
+            tracker.failed(e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void write(char[] cbuf, int off, int len) throws IOException {
+        long start = System.nanoTime();
+        try {
+            delegate.write(cbuf, off, len);
+            tracker.written(start, len);
+        } catch (IOException | RuntimeException e) {
+            tracker.failed(e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void write(String str, int off, int len) throws IOException {
+        long start = System.nanoTime();
+        try {
+            delegate.write(str, off, len);
+            tracker.written(start, len);
+        } catch (IOException | RuntimeException e) {
+            tracker.failed(e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        long start = System.nanoTime();
+        try {
+            delegate.flush();
+        } catch (IOException | RuntimeException e) {
+            tracker.failed(e);
+            throw e;
+        } finally {
+            tracker.blocked(start);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        long start = System.nanoTime();
+        try {
+            delegate.close();
+        } catch (IOException | RuntimeException e) {
+            tracker.failed(e);
+            throw e;
+        } finally {
+            tracker.closed(start);
+        }
+    }
+}
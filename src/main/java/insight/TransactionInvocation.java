@@ -0,0 +1,52 @@
+package insight;
+
+/**
+ * Reports a call that concerns the connection's transaction to its {@link TransactionTracker} once the invocation
+ * that records the call has ended.
+ */
+final class TransactionInvocation implements Invocation {
+    private final TransactionTracker tracker;
+    private final MethodInfo info;
+    private final Invocation delegate;
+    private final long startNanos = System.nanoTime();
+    private Object[] args;
+    private Object result;
+    private boolean failed;
+
+    TransactionInvocation(TransactionTracker tracker, MethodInfo info, Invocation delegate) {
+        this.tracker = tracker;
+        this.info = info;
+        this.delegate = delegate;
+    }
+
+    @Override
+    public boolean isCapturing() {
+        return true;
+    }
+
+    @Override
+    public void capture(Object[] args, Object result) {
+        if (delegate.isCapturing()) {
+            delegate.capture(args, result);
+        }
+        this.args = args;
+        this.result = result;
+    }
+
+    @Override
+    public Object wrap(Object result, Object firstArg) {
+        return delegate.wrap(result, firstArg);
+    }
+
+    @Override
+    public void fail(Throwable e) {
+        failed = true;
+        delegate.fail(e);
+    }
+
+    @Override
+    public void exit() {
+        delegate.exit();
+        tracker.completed(info, startNanos, System.nanoTime(), args, result, failed);
+    }
+}
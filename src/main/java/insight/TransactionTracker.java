@@ -0,0 +1,211 @@
+package insight;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanBuilder;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+
+/**
+ * Transactions of one traced connection. While auto-commit is off, the first {@code execute*} call opens a
+ * {@value #SPAN_NAME} span, and the calls on the connection and its statements hang off it until {@code commit()},
+ * {@code rollback()}, {@code setAutoCommit(true)} or {@code close()} ends it. The span is a child of the application
+ * span current at that point, or the root of a new trace linked to the connection, so a pooled connection does not
+ * put all its work into one trace. Like the connection, it expects to be used by one thread at a time.
+ */
+public class TransactionTracker {
+    public static final String SPAN_NAME = "transaction";
+
+    static final AttributeKey<Long> STATEMENTS = AttributeKey.longKey("db.transaction.statements");
+    static final AttributeKey<Long> ROWS = AttributeKey.longKey("db.transaction.rows");
+    static final AttributeKey<Long> SAVEPOINTS = AttributeKey.longKey("db.transaction.savepoints");
+    static final AttributeKey<Long> DB_TIME = AttributeKey.longKey("db.transaction.db_time_ns");
+    static final AttributeKey<Long> IDLE_TIME = AttributeKey.longKey("db.transaction.idle_time_ns");
+    static final AttributeKey<Long> MAX_IDLE = AttributeKey.longKey("db.transaction.max_idle_ns");
+    static final AttributeKey<Long> COMMIT_TIME = AttributeKey.longKey("db.transaction.commit_time_ns");
+    static final AttributeKey<Long> ROLLBACK_TIME = AttributeKey.longKey("db.transaction.rollback_time_ns");
+    static final AttributeKey<String> OUTCOME = AttributeKey.stringKey("db.transaction.outcome");
+
+    private final Tracer tracer;
+    private final SpanContext connectionSpan;
+    private boolean autoCommit;
+    private long generation;
+
+    private Span span;
+    private Context context;
+    private long startNanos;
+    private long lastActiveNanos;
+    private long dbNanos;
+    private long maxIdleNanos;
+    private long statements;
+    private long rows;
+    private long savepoints;
+
+    /**
+     * @param autoCommit auto-commit mode of the connection when it is wrapped
+     */
+    public TransactionTracker(Tracer tracer, Context connectionContext, boolean autoCommit) {
+        this.tracer = tracer;
+        this.autoCommit = autoCommit;
+        this.connectionSpan = Span.fromContext(connectionContext).getSpanContext();
+    }
+
+    /**
+     * Context the span of a call on a node hangs off: the open transaction, unless the node already belongs to it.
+     */
+    Context parent(Context nodeContext) {
+        if (span == null
+                || Span.fromContext(nodeContext).getSpanContext().getTraceId().equals(span.getSpanContext().getTraceId())) {
+            return nodeContext;
+        }
+        return context;
+    }
+
+    /**
+     * Opens a transaction before the first statement that runs with auto-commit off.
+     */
+    void before(MethodInfo info) {
+        if (span == null && !autoCommit && info.executesStatement()) {
+            begin();
+        }
+    }
+
+    /**
+     * Adds the transaction bookkeeping around the call's invocation, if the call concerns the transaction.
+     */
+    Invocation wrap(MethodInfo info, Invocation invocation) {
+        MethodInfo.TransactionRole role = info.transactionRole();
+        if (role == MethodInfo.TransactionRole.SET_AUTO_COMMIT || role == MethodInfo.TransactionRole.GET_AUTO_COMMIT
+                || span != null && (role != MethodInfo.TransactionRole.NONE || info.executesStatement())) {
+            return new TransactionInvocation(this, info, invocation);
+        }
+        return invocation;
+    }
+
+    /**
+     * Whether a transaction span is open.
+     */
+    boolean open() {
+        return span != null;
+    }
+
+    /**
+     * Number of the current transaction, to tell whether work reported later still belongs to it.
+     */
+    long generation() {
+        return generation;
+    }
+
+    /**
+     * Adds time spent fetching a ResultSet of the transaction.
+     */
+    void fetched(long generation, long nanos) {
+        if (span != null && generation == this.generation) {
+            dbNanos += nanos;
+            lastActiveNanos = System.nanoTime();
+        }
+    }
+
+    void completed(MethodInfo info, long start, long end, Object[] args, Object result, boolean failed) {
+        switch (info.transactionRole()) {
+            case SET_AUTO_COMMIT -> {
+                if (!failed && args != null && args[0] instanceof Boolean value) {
+                    if (value && span != null) {
+                        active(start, end);
+                        end("auto_commit", COMMIT_TIME, end - start);
+                    }
+                    autoCommit = value;
+                }
+            }
+            case GET_AUTO_COMMIT -> {
+                if (result instanceof Boolean value) {
+                    autoCommit = value;
+                }
+            }
+            case COMMIT, ROLLBACK -> {
+                if (span != null) {
+                    active(start, end);
+                    if (info.transactionRole() == MethodInfo.TransactionRole.COMMIT) {
+                        end(failed ? "commit_failed" : "commit", COMMIT_TIME, end - start);
+                    } else {
+                        end("rollback", ROLLBACK_TIME, end - start);
+                    }
+                }
+            }
+            case CLOSE -> {
+                if (span != null) {
+                    end("close", null, 0);
+                }
+            }
+            case SAVEPOINT, ROLLBACK_TO_SAVEPOINT, RELEASE_SAVEPOINT -> {
+                if (span != null) {
+                    active(start, end);
+                    if (info.transactionRole() == MethodInfo.TransactionRole.SAVEPOINT) {
+                        savepoints++;
+                    }
+                    span.addEvent(info.method().getName());
+                }
+            }
+            default -> {
+                if (span != null) {
+                    active(start, end);
+                    statements++;
+                    long count = QueryInvocation.rowCount(result);
+                    if (count > 0) {
+                        rows += count;
+                    }
+                }
+            }
+        }
+    }
+
+    private void begin() {
+        SpanBuilder builder = tracer.spanBuilder(SPAN_NAME);
+        Context current = Context.current();
+        if (Span.fromContext(current).getSpanContext().isValid()) {
+            builder.setParent(current);
+        } else {
+            builder.setNoParent();
+        }
+        if (connectionSpan.isValid()) {
+            builder.addLink(connectionSpan);
+        }
+        span = builder.startSpan();
+        context = Context.root().with(span);
+        startNanos = System.nanoTime();
+        lastActiveNanos = startNanos;
+    }
+
+    private void active(long start, long end) {
+        maxIdleNanos = Math.max(maxIdleNanos, start - lastActiveNanos);
+        dbNanos += end - start;
+        lastActiveNanos = end;
+    }
+
+    /**
+     * Ends the transaction span, recording how long the call that ended it took under {@code endCall}.
+     */
+    private void end(String outcome, AttributeKey<Long> endCall, long endCallNanos) {
+        long duration = System.nanoTime() - startNanos;
+        span.setAttribute(OUTCOME, outcome);
+        span.setAttribute(STATEMENTS, statements);
+        span.setAttribute(ROWS, rows);
+        span.setAttribute(SAVEPOINTS, savepoints);
+        span.setAttribute(DB_TIME, dbNanos);
+        span.setAttribute(IDLE_TIME, Math.max(0, duration - dbNanos));
+        span.setAttribute(MAX_IDLE, maxIdleNanos);
+        if (endCall != null) {
+            span.setAttribute(endCall, endCallNanos);
+        }
+        span.end();
+        span = null;
+        context = null;
+        dbNanos = 0;
+        maxIdleNanos = 0;
+        statements = 0;
+        rows = 0;
+        savepoints = 0;
+        generation++;
+    }
+}
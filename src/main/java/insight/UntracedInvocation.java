@@ -0,0 +1,42 @@
+package insight;
+
+/**
+ * A call that is filtered out or not sampled. It records nothing; only objects returned by the call are still wrapped,
+ * so that their own calls can be traced, and failures still count towards the connection's metrics.
+ */
+public final class UntracedInvocation implements Invocation {
+    public static final Invocation NOOP = new UntracedInvocation(null, null);
+
+    private final TraceNode node;
+    private final MethodInfo info;
+
+    UntracedInvocation(TraceNode node, MethodInfo info) {
+        this.node = node;
+        this.info = info;
+    }
+
+    @Override
+    public boolean isCapturing() {
+        return false;
+    }
+
+    @Override
+    public void capture(Object[] args, Object result) {
+    }
+
+    @Override
+    public Object wrap(Object result, Object firstArg) {
+        return info == null ? result : node.wrapUntraced(info, firstArg, result);
+    }
+
+    @Override
+    public void fail(Throwable e) {
+        if (node != null) {
+            node.failed(e);
+        }
+    }
+
+    @Override
+    public void exit() {
+    }
+}
@@ -1,5 +1,6 @@
 package insight;
 
+import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.api.trace.Span;
 import io.opentelemetry.api.trace.Tracer;
 import io.opentelemetry.context.Context;
@@ -27,7 +28,11 @@ public class Utils {
     }
 
     public static Context initTreeNode(Tracer tracer, Context context, String nodeName) {
-        Span span = tracer.spanBuilder(nodeName).setParent(context).startSpan();
+        return initTreeNode(tracer, context, nodeName, Attributes.empty());
+    }
+
+    public static Context initTreeNode(Tracer tracer, Context context, String nodeName, Attributes attributes) {
+        Span span = tracer.spanBuilder(nodeName).setParent(context).setAllAttributes(attributes).startSpan();
         try (Scope scope = span.makeCurrent()) {
             return Context.current();
         } finally {
@@ -0,0 +1,55 @@
+package insight;
+
+import java.util.List;
+
+/**
+ * One call in a workload captured by the {@link WorkloadRecorder}, as read back by {@link WorkloadLog#read}. Times are
+ * nanoseconds since the capture started.
+ *
+ * @param sql    SQL of an execution, or {@code null}
+ * @param params values bound to a prepared execution, or {@code null} for a plain statement
+ * @param batch  for a batch, the SQL of each entry of a plain statement or the bound values of each entry of a
+ *               prepared one; otherwise empty
+ * @param rows   rows the execution reported as updated, or -1
+ */
+public record WorkloadEvent(Type type, long connection, long startNanos, long durationNanos, Operation operation,
+                            String sql, List<Object> params, List<Object> batch, long rows, boolean failed,
+                            boolean autoCommit) {
+
+    public enum Type {
+        CONNECT,
+        EXECUTE,
+        COMMIT,
+        ROLLBACK,
+        AUTO_COMMIT,
+        CLOSE
+    }
+
+    public enum Operation {
+        NONE,
+        QUERY,
+        UPDATE,
+        EXECUTE,
+        BATCH;
+
+        static Operation of(MethodInfo info) {
+            if (info.batchRole() == MethodInfo.BatchRole.EXECUTE) {
+                return BATCH;
+            }
+            String name = info.method().getName();
+            if (name.equals("executeQuery")) {
+                return QUERY;
+            }
+            return name.equals("execute") ? EXECUTE : UPDATE;
+        }
+    }
+
+    static WorkloadEvent of(Type type, long connection, long startNanos, long durationNanos, boolean failed) {
+        return new WorkloadEvent(type, connection, startNanos, durationNanos, Operation.NONE, null, null, List.of(),
+                -1, failed, false);
+    }
+
+    public boolean prepared() {
+        return params != null;
+    }
+}
@@ -0,0 +1,92 @@
+package insight;
+
+import java.util.List;
+
+/**
+ * A call captured for the workload log, around the invocation that traces it. The event is queued on
+ * {@link #exit()}, with the arguments and result it needs.
+ */
+final class WorkloadInvocation implements Invocation {
+    private final WorkloadSession session;
+    private final TraceNode node;
+    private final MethodInfo info;
+    private final String sql;
+    private final List<Object> params;
+    private final List<Object> batch;
+    private final Invocation delegate;
+    private final long startNanos = System.nanoTime();
+    private Object firstArg;
+    private long rows = -1;
+    private boolean failed;
+
+    WorkloadInvocation(WorkloadSession session, TraceNode node, MethodInfo info, String sql, List<Object> params,
+                       List<Object> batch, Invocation delegate) {
+        this.session = session;
+        this.node = node;
+        this.info = info;
+        this.sql = sql;
+        this.params = params;
+        this.batch = batch;
+        this.delegate = delegate;
+    }
+
+    @Override
+    public boolean isCapturing() {
+        return true;
+    }
+
+    @Override
+    public void capture(Object[] args, Object result) {
+        if (delegate.isCapturing()) {
+            delegate.capture(args, result);
+        }
+        firstArg = args == null || args.length == 0 ? null : args[0];
+        if (info.executesStatement() && !(result instanceof Boolean)) {
+            rows = QueryInvocation.rowCount(result);
+        }
+    }
+
+    @Override
+    public Object wrap(Object result, Object firstArg) {
+        return delegate.wrap(result, firstArg);
+    }
+
+    @Override
+    public void fail(Throwable e) {
+        failed = true;
+        delegate.fail(e);
+    }
+
+    @Override
+    public void exit() {
+        long end = System.nanoTime();
+        delegate.exit();
+        long start = session.elapsed(startNanos);
+        long duration = end - startNanos;
+        if (info.batchRole() == MethodInfo.BatchRole.ADD) {
+            if (!failed) {
+                node.batched(firstArg instanceof String text ? text : node.bindValues());
+            }
+            return;
+        }
+        if (info.executesStatement()) {
+            session.record(new WorkloadEvent(WorkloadEvent.Type.EXECUTE, session.id(), start, duration,
+                    WorkloadEvent.Operation.of(info), sql, params, batch,
+                    info.method().getName().equals("executeQuery") ? -1 : rows, failed, false));
+            return;
+        }
+        switch (info.transactionRole()) {
+            case COMMIT -> session.record(WorkloadEvent.of(WorkloadEvent.Type.COMMIT, session.id(), start, duration,
+                    failed));
+            case ROLLBACK -> session.record(WorkloadEvent.of(WorkloadEvent.Type.ROLLBACK, session.id(), start,
+                    duration, failed));
+            case SET_AUTO_COMMIT -> session.record(new WorkloadEvent(WorkloadEvent.Type.AUTO_COMMIT, session.id(),
+                    start, duration, WorkloadEvent.Operation.NONE, null, null, List.of(), -1, failed,
+                    Boolean.TRUE.equals(firstArg)));
+            case CLOSE -> session.record(WorkloadEvent.of(WorkloadEvent.Type.CLOSE, session.id(), start, duration,
+                    failed));
+            default -> {
+            }
+        }
+    }
+}
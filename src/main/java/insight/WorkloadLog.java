@@ -0,0 +1,384 @@
+package insight;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Binary format of captured workloads. After a 20-byte header (magic {@code JIWORKLD}, version, capture start in epoch
+ * milliseconds), the file is a sequence of records: a type byte followed by varint-encoded fields. SQL text is written
+ * once into a dictionary record and referred to by number afterwards; past {@value #MAX_DICTIONARY} distinct texts, SQL
+ * is written inline. A record cut off by a crash ends the log.
+ */
+final class WorkloadLog {
+    static final byte[] MAGIC = "JIWORKLD".getBytes(StandardCharsets.US_ASCII);
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 20;
+    static final int MAX_DICTIONARY = 65_536;
+
+    private static final int SQL_DEFINITION = 0x10;
+    private static final int FAILED = 1;
+    private static final int PREPARED = 2;
+    private static final int AUTO_COMMIT = 4;
+
+    private static final int NULL = 0;
+    private static final int INT = 1;
+    private static final int LONG = 2;
+    private static final int DOUBLE = 3;
+    private static final int FLOAT = 4;
+    private static final int DECIMAL = 5;
+    private static final int STRING = 6;
+    private static final int BYTES = 7;
+    private static final int BOOLEAN = 8;
+    private static final int DATE = 9;
+    private static final int TIME = 10;
+    private static final int TIMESTAMP = 11;
+    /**
+     * Streams, LOBs and other values that cannot be captured without consuming them; replayed as null.
+     */
+    private static final int UNSUPPORTED = 12;
+
+    private WorkloadLog() {
+    }
+
+    /**
+     * Encodes events into a growing buffer, keeping the SQL dictionary of the log. Used by the writer thread only.
+     */
+    static final class Encoder {
+        private final Map<String, Integer> dictionary = new HashMap<>();
+        private byte[] bytes = new byte[64 * 1024];
+        private int size;
+
+        void header(long startEpochMillis) {
+            write(MAGIC, 0, MAGIC.length);
+            writeInt(VERSION);
+            writeInt((int) (startEpochMillis >>> 32));
+            writeInt((int) startEpochMillis);
+        }
+
+        void encode(WorkloadEvent event) {
+            int sql = event.sql() == null ? 0 : define(event.sql());
+            List<Integer> batchSql = null;
+            if (event.operation() == WorkloadEvent.Operation.BATCH && !event.prepared()) {
+                batchSql = new ArrayList<>(event.batch().size());
+                for (Object entry : event.batch()) {
+                    batchSql.add(define((String) entry));
+                }
+            }
+            writeByte(event.type().ordinal());
+            writeVarLong(event.connection());
+            writeVarLong(event.startNanos());
+            writeVarLong(event.durationNanos());
+            writeByte((event.failed() ? FAILED : 0) | (event.prepared() ? PREPARED : 0)
+                    | (event.autoCommit() ? AUTO_COMMIT : 0));
+            if (event.type() != WorkloadEvent.Type.EXECUTE) {
+                return;
+            }
+            writeByte(event.operation().ordinal());
+            writeSql(sql, event.sql());
+            writeVarLong(event.rows() + 1);
+            if (event.prepared()) {
+                writeValues(event.params());
+            }
+            writeVarLong(event.batch().size());
+            for (int i = 0; i < event.batch().size(); i++) {
+                Object entry = event.batch().get(i);
+                if (batchSql != null) {
+                    writeSql(batchSql.get(i), (String) entry);
+                } else {
+                    writeValues((List<?>) entry);
+                }
+            }
+        }
+
+        int size() {
+            return size;
+        }
+
+        void writeTo(FileChannel channel) throws IOException {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes, 0, size);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            size = 0;
+        }
+
+        /**
+         * Number of the SQL text in the dictionary, writing its definition first if it is new, or 0 if the dictionary
+         * is full.
+         */
+        private int define(String sql) {
+            Integer id = dictionary.get(sql);
+            if (id != null) {
+                return id;
+            }
+            if (dictionary.size() >= MAX_DICTIONARY) {
+                return 0;
+            }
+            id = dictionary.size() + 1;
+            dictionary.put(sql, id);
+            writeByte(SQL_DEFINITION);
+            writeVarLong(id);
+            writeString(sql);
+            return id;
+        }
+
+        /**
+         * Writes a dictionary number, or 0 and the text inline; missing SQL is written as empty inline text.
+         */
+        private void writeSql(int id, String sql) {
+            writeVarLong(id);
+            if (id == 0) {
+                writeString(sql == null ? "" : sql);
+            }
+        }
+
+        private void writeValues(List<?> values) {
+            writeVarLong(values.size());
+            for (Object value : values) {
+                writeValue(value);
+            }
+        }
+
+        private void writeValue(Object value) {
+            if (value == null) {
+                writeByte(NULL);
+            } else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                writeByte(INT);
+                writeVarLong(zigzag(((Number) value).longValue()));
+            } else if (value instanceof Long number) {
+                writeByte(LONG);
+                writeVarLong(zigzag(number));
+            } else if (value instanceof Double number) {
+                writeByte(DOUBLE);
+                writeVarLong(Double.doubleToRawLongBits(number));
+            } else if (value instanceof Float number) {
+                writeByte(FLOAT);
+                writeVarLong(Float.floatToRawIntBits(number) & 0xFFFFFFFFL);
+            } else if (value instanceof BigDecimal number) {
+                writeByte(DECIMAL);
+                writeString(number.toString());
+            } else if (value instanceof String text) {
+                writeByte(STRING);
+                writeString(text);
+            } else if (value instanceof byte[] data) {
+                writeByte(BYTES);
+                writeVarLong(data.length);
+                write(data, 0, data.length);
+            } else if (value instanceof Boolean flag) {
+                writeByte(BOOLEAN);
+                writeByte(flag ? 1 : 0);
+            } else if (value instanceof Timestamp timestamp) {
+                writeByte(TIMESTAMP);
+                writeVarLong(zigzag(timestamp.getTime()));
+                writeVarLong(timestamp.getNanos());
+            } else if (value instanceof Date date) {
+                writeByte(DATE);
+                writeVarLong(zigzag(date.getTime()));
+            } else if (value instanceof Time time) {
+                writeByte(TIME);
+                writeVarLong(zigzag(time.getTime()));
+            } else {
+                writeByte(UNSUPPORTED);
+            }
+        }
+
+        private void writeString(String text) {
+            byte[] utf8 = text.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(utf8.length);
+            write(utf8, 0, utf8.length);
+        }
+
+        private void writeVarLong(long value) {
+            ensure(10);
+            while ((value & ~0x7FL) != 0) {
+                bytes[size++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            bytes[size++] = (byte) value;
+        }
+
+        private void writeInt(int value) {
+            ensure(4);
+            bytes[size++] = (byte) (value >>> 24);
+            bytes[size++] = (byte) (value >>> 16);
+            bytes[size++] = (byte) (value >>> 8);
+            bytes[size++] = (byte) value;
+        }
+
+        private void writeByte(int value) {
+            ensure(1);
+            bytes[size++] = (byte) value;
+        }
+
+        private void write(byte[] data, int offset, int length) {
+            ensure(length);
+            System.arraycopy(data, offset, bytes, size, length);
+            size += length;
+        }
+
+        private void ensure(int more) {
+            if (size + more > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + more));
+            }
+        }
+    }
+
+    /**
+     * Contents of a workload log.
+     *
+     * @param truncated whether the log ends in the middle of a record
+     */
+    record Contents(long startEpochMillis, List<WorkloadEvent> events, boolean truncated) {
+    }
+
+    static Contents read(Path path) throws IOException {
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        byte[] magic = new byte[MAGIC.length];
+        if (buffer.remaining() < HEADER_SIZE) {
+            throw new IOException(path + " is not a JDBC Insight workload log");
+        }
+        buffer.get(magic);
+        if (!Arrays.equals(magic, MAGIC) || buffer.getInt() != VERSION) {
+            throw new IOException(path + " is not a JDBC Insight workload log of version " + VERSION);
+        }
+        long startEpochMillis = buffer.getLong();
+        List<String> dictionary = new ArrayList<>();
+        List<WorkloadEvent> events = new ArrayList<>();
+        boolean truncated = false;
+        while (buffer.hasRemaining()) {
+            int position = buffer.position();
+            try {
+                WorkloadEvent event = decode(buffer, dictionary);
+                if (event != null) {
+                    events.add(event);
+                }
+            } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+                buffer.position(position);
+                truncated = true;
+                break;
+            }
+        }
+        return new Contents(startEpochMillis, events, truncated);
+    }
+
+    private static WorkloadEvent decode(ByteBuffer buffer, List<String> dictionary) {
+        int type = buffer.get() & 0xFF;
+        if (type == SQL_DEFINITION) {
+            int id = (int) readVarLong(buffer);
+            String sql = readString(buffer);
+            if (id == dictionary.size() + 1) {
+                dictionary.add(sql);
+            }
+            return null;
+        }
+        WorkloadEvent.Type eventType = WorkloadEvent.Type.values()[type];
+        long connection = readVarLong(buffer);
+        long start = readVarLong(buffer);
+        long duration = readVarLong(buffer);
+        int flags = buffer.get();
+        boolean failed = (flags & FAILED) != 0;
+        boolean prepared = (flags & PREPARED) != 0;
+        if (eventType != WorkloadEvent.Type.EXECUTE) {
+            return new WorkloadEvent(eventType, connection, start, duration, WorkloadEvent.Operation.NONE, null, null,
+                    List.of(), -1, failed, (flags & AUTO_COMMIT) != 0);
+        }
+        WorkloadEvent.Operation operation = WorkloadEvent.Operation.values()[buffer.get()];
+        String sql = readSql(buffer, dictionary);
+        long rows = readVarLong(buffer) - 1;
+        List<Object> params = prepared ? readValues(buffer) : null;
+        int batchSize = (int) readVarLong(buffer);
+        List<Object> batch = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            batch.add(prepared ? readValues(buffer) : readSql(buffer, dictionary));
+        }
+        return new WorkloadEvent(eventType, connection, start, duration, operation, sql, params,
+                Collections.unmodifiableList(batch), rows, failed, false);
+    }
+
+    private static String readSql(ByteBuffer buffer, List<String> dictionary) {
+        int id = (int) readVarLong(buffer);
+        if (id != 0) {
+            return dictionary.get(id - 1);
+        }
+        String sql = readString(buffer);
+        return sql.isEmpty() ? null : sql;
+    }
+
+    private static List<Object> readValues(ByteBuffer buffer) {
+        int count = (int) readVarLong(buffer);
+        Object[] values = new Object[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = readValue(buffer);
+        }
+        return Collections.unmodifiableList(Arrays.asList(values));
+    }
+
+    private static Object readValue(ByteBuffer buffer) {
+        return switch (buffer.get()) {
+            case INT -> (int) unzigzag(readVarLong(buffer));
+            case LONG -> unzigzag(readVarLong(buffer));
+            case DOUBLE -> Double.longBitsToDouble(readVarLong(buffer));
+            case FLOAT -> Float.intBitsToFloat((int) readVarLong(buffer));
+            case DECIMAL -> new BigDecimal(readString(buffer));
+            case STRING -> readString(buffer);
+            case BYTES -> {
+                byte[] data = new byte[(int) readVarLong(buffer)];
+                buffer.get(data);
+                yield data;
+            }
+            case BOOLEAN -> buffer.get() != 0;
+            case DATE -> new Date(unzigzag(readVarLong(buffer)));
+            case TIME -> new Time(unzigzag(readVarLong(buffer)));
+            case TIMESTAMP -> {
+                Timestamp timestamp = new Timestamp(unzigzag(readVarLong(buffer)));
+                timestamp.setNanos((int) readVarLong(buffer));
+                yield timestamp;
+            }
+            default -> null;
+        };
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] utf8 = new byte[(int) readVarLong(buffer)];
+        buffer.get(utf8);
+        return new String(utf8, StandardCharsets.UTF_8);
+    }
+
+    private static long readVarLong(ByteBuffer buffer) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IndexOutOfBoundsException("Malformed varint");
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
@@ -0,0 +1,163 @@
+package insight;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Captures the statements, bind values, transaction boundaries and timing of every connection into a
+ * {@link WorkloadLog} for {@link WorkloadReplayer}. Application threads only queue events; one daemon thread encodes
+ * them and appends them to the file through a buffered channel. When the queue is full, events are dropped and
+ * counted rather than slowing the application down.
+ */
+public class WorkloadRecorder implements Closeable {
+    static final int QUEUE_SIZE = 65_536;
+    static final int FLUSH_BYTES = 64 * 1024;
+    static final long FLUSH_INTERVAL_MS = 200;
+
+    private final FileChannel channel;
+    private final BlockingQueue<Object> queue = new ArrayBlockingQueue<>(QUEUE_SIZE);
+    private final WorkloadLog.Encoder encoder = new WorkloadLog.Encoder();
+    private final AtomicLong connections = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final long startNanos = System.nanoTime();
+    private final Thread writer;
+    private volatile boolean closed;
+    private volatile IOException failure;
+
+    private WorkloadRecorder(FileChannel channel) {
+        this.channel = channel;
+        encoder.header(System.currentTimeMillis());
+        this.writer = new Thread(this::run, "jdbc-insight-workload");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Starts a new log at the path, replacing any file there.
+     */
+    public static WorkloadRecorder open(Path path) {
+        try {
+            return new WorkloadRecorder(FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open workload log " + path, e);
+        }
+    }
+
+    /**
+     * Starts capturing a new connection.
+     */
+    WorkloadSession connected() {
+        WorkloadSession session = new WorkloadSession(this, connections.incrementAndGet());
+        record(WorkloadEvent.of(WorkloadEvent.Type.CONNECT, session.id(), elapsed(System.nanoTime()), 0, false));
+        return session;
+    }
+
+    /**
+     * Nanoseconds between the start of the capture and the given {@link System#nanoTime()}.
+     */
+    long elapsed(long nanoTime) {
+        return Math.max(0, nanoTime - startNanos);
+    }
+
+    void record(WorkloadEvent event) {
+        if (closed || !queue.offer(event)) {
+            dropped.incrementAndGet();
+        }
+    }
+
+    /**
+     * Events lost because the queue was full or the recorder closed.
+     */
+    public long dropped() {
+        return dropped.get();
+    }
+
+    /**
+     * Writes out everything queued so far.
+     */
+    public void flush() throws IOException {
+        if (closed) {
+            if (failure != null) {
+                throw failure;
+            }
+            return;
+        }
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        try {
+            queue.put(done);
+            done.get(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            throw new IOException("Workload log was not flushed", e);
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        try {
+            flush();
+        } finally {
+            closed = true;
+            writer.interrupt();
+            channel.close();
+        }
+    }
+
+    private void run() {
+        List<Object> batch = new ArrayList<>();
+        while (!closed) {
+            try {
+                Object first = queue.poll(FLUSH_INTERVAL_MS, TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    queue.drainTo(batch);
+                }
+                for (Object item : batch) {
+                    if (item instanceof WorkloadEvent event) {
+                        encoder.encode(event);
+                        if (encoder.size() >= FLUSH_BYTES) {
+                            write();
+                        }
+                    } else {
+                        write();
+                        ((CompletableFuture<?>) item).complete(null);
+                    }
+                }
+                if (batch.isEmpty() && encoder.size() > 0) {
+                    write();
+                }
+                batch.clear();
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    private void write() {
+        try {
+            encoder.writeTo(channel);
+        } catch (IOException e) {
+            failure = e;
+            closed = true;
+        }
+    }
+}
@@ -0,0 +1,355 @@
+package insight;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Command-line tool that replays a log captured by the {@link WorkloadRecorder} against any JDBC URL:
+ * <pre>
+ * java -cp jdbc-insight.jar:driver.jar insight.WorkloadReplayer &lt;log&gt; &lt;jdbcUrl&gt; [--concurrency N]
+ *     [--speedup X] [--user U] [--password P]
+ * </pre>
+ * Each captured connection is replayed in order on its own connection and thread, a virtual thread where the runtime
+ * has them. At most {@code concurrency} connections run at once, 0 meaning all of them. Calls start at their captured
+ * offset divided by {@code speedup}, 0 meaning as fast as possible. Prepared statements are reused per SQL text and
+ * result sets are read to the end. The report gives throughput and latency percentiles of the executions.
+ */
+public final class WorkloadReplayer {
+    public static final double DEFAULT_SPEEDUP = 1;
+
+    private WorkloadReplayer() {
+    }
+
+    /**
+     * Outcome of a replay.
+     *
+     * @param statements executions replayed
+     * @param errors     executions and transaction calls that failed
+     */
+    public record Report(int connections, long statements, long errors, Duration wallTime, Duration p50,
+                         Duration p90, Duration p99, Duration max) {
+
+        public double throughput() {
+            return statements / Math.max(wallTime.toNanos() / 1e9, 1e-9);
+        }
+
+        @Override
+        public String toString() {
+            return "Replayed " + statements + " statements on " + connections + " connections in "
+                    + wallTime.toMillis() + "ms: " + Math.round(throughput()) + " statements/s, " + errors + " errors"
+                    + "\nLatency p50 " + micros(p50) + "us, p90 " + micros(p90) + "us, p99 " + micros(p99)
+                    + "us, max " + micros(max) + "us";
+        }
+
+        private static long micros(Duration duration) {
+            return TimeUnit.NANOSECONDS.toMicros(duration.toNanos());
+        }
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length < 2 || args.length % 2 != 0) {
+            usage();
+            return;
+        }
+        int concurrency = 0;
+        double speedup = DEFAULT_SPEEDUP;
+        Properties properties = new Properties();
+        for (int i = 2; i < args.length; i += 2) {
+            switch (args[i]) {
+                case "--concurrency" -> concurrency = Integer.parseInt(args[i + 1]);
+                case "--speedup" -> speedup = Double.parseDouble(args[i + 1]);
+                case "--user" -> properties.setProperty("user", args[i + 1]);
+                case "--password" -> properties.setProperty("password", args[i + 1]);
+                default -> {
+                    usage();
+                    return;
+                }
+            }
+        }
+        WorkloadLog.Contents contents = WorkloadLog.read(Path.of(args[0]));
+        if (contents.truncated()) {
+            System.err.println("Log ends in an incomplete record; replaying what precedes it");
+        }
+        System.out.println(replay(contents.events(), args[1], properties, concurrency, speedup));
+    }
+
+    /**
+     * Replays the events and waits for every connection to finish.
+     */
+    public static Report replay(List<WorkloadEvent> events, String url, Properties properties, int concurrency,
+                                double speedup) throws InterruptedException {
+        Map<Long, List<WorkloadEvent>> connections = new LinkedHashMap<>();
+        for (WorkloadEvent event : events) {
+            connections.computeIfAbsent(event.connection(), id -> new ArrayList<>()).add(event);
+        }
+        long firstStart = events.isEmpty() ? 0 : events.get(0).startNanos();
+        Semaphore permits = new Semaphore(concurrency > 0 ? concurrency : Math.max(1, connections.size()));
+        List<Replay> replays = new ArrayList<>(connections.size());
+        long replayStart = System.nanoTime();
+        ExecutorService executor = executor();
+        try {
+            for (List<WorkloadEvent> connectionEvents : connections.values()) {
+                Replay replay = new Replay(connectionEvents, url, properties, firstStart, replayStart, speedup);
+                replays.add(replay);
+                executor.execute(() -> {
+                    try {
+                        permits.acquire();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    try {
+                        replay.run();
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+        } finally {
+            executor.shutdown();
+        }
+        executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        Duration wallTime = Duration.ofNanos(System.nanoTime() - replayStart);
+        long errors = 0;
+        int count = 0;
+        for (Replay replay : replays) {
+            errors += replay.errors;
+            count += replay.count;
+        }
+        long[] latencies = new long[count];
+        int offset = 0;
+        for (Replay replay : replays) {
+            System.arraycopy(replay.latencies, 0, latencies, offset, replay.count);
+            offset += replay.count;
+        }
+        Arrays.sort(latencies);
+        return new Report(connections.size(), count, errors, wallTime, percentile(latencies, 0.5),
+                percentile(latencies, 0.9), percentile(latencies, 0.99), percentile(latencies, 1));
+    }
+
+    static Duration percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return Duration.ZERO;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return Duration.ofNanos(sorted[Math.max(0, Math.min(sorted.length - 1, index))]);
+    }
+
+    /**
+     * A thread per task, virtual on runtimes that have them.
+     */
+    private static ExecutorService executor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool(task -> {
+                Thread thread = new Thread(task, "jdbc-insight-replay");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    private static void usage() {
+        System.err.println("Usage: WorkloadReplayer <log> <jdbcUrl> [--concurrency N] [--speedup X] [--user U]"
+                + " [--password P]");
+    }
+
+    /**
+     * Replay of one captured connection.
+     */
+    private static final class Replay implements Runnable {
+        private final List<WorkloadEvent> events;
+        private final String url;
+        private final Properties properties;
+        private final long firstStart;
+        private final long replayStart;
+        private final double speedup;
+        private final Map<String, PreparedStatement> statements = new HashMap<>();
+        private Connection connection;
+        private long[] latencies = new long[64];
+        private int count;
+        private long errors;
+
+        Replay(List<WorkloadEvent> events, String url, Properties properties, long firstStart, long replayStart,
+               double speedup) {
+            this.events = events;
+            this.url = url;
+            this.properties = properties;
+            this.firstStart = firstStart;
+            this.replayStart = replayStart;
+            this.speedup = speedup;
+        }
+
+        @Override
+        public void run() {
+            try {
+                for (WorkloadEvent event : events) {
+                    pace(event);
+                    long start = System.nanoTime();
+                    try {
+                        replay(event);
+                    } catch (SQLException e) {
+                        errors++;
+                    }
+                    if (event.type() == WorkloadEvent.Type.EXECUTE) {
+                        latency(System.nanoTime() - start);
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                close();
+            }
+        }
+
+        private void pace(WorkloadEvent event) throws InterruptedException {
+            if (speedup <= 0) {
+                return;
+            }
+            long target = replayStart + (long) ((event.startNanos() - firstStart) / speedup);
+            long wait = target - System.nanoTime();
+            if (wait > 0) {
+                TimeUnit.NANOSECONDS.sleep(wait);
+            }
+        }
+
+        private void replay(WorkloadEvent event) throws SQLException {
+            switch (event.type()) {
+                case CONNECT -> connection();
+                case EXECUTE -> execute(event);
+                case COMMIT -> connection().commit();
+                case ROLLBACK -> connection().rollback();
+                case AUTO_COMMIT -> connection().setAutoCommit(event.autoCommit());
+                case CLOSE -> close();
+            }
+        }
+
+        private Connection connection() throws SQLException {
+            if (connection == null) {
+                connection = DriverManager.getConnection(url, properties);
+            }
+            return connection;
+        }
+
+        private void execute(WorkloadEvent event) throws SQLException {
+            if (event.prepared()) {
+                PreparedStatement statement = prepare(event.sql());
+                if (event.operation() == WorkloadEvent.Operation.BATCH) {
+                    for (Object entry : event.batch()) {
+                        bind(statement, (List<?>) entry);
+                        statement.addBatch();
+                    }
+                    statement.executeBatch();
+                    return;
+                }
+                bind(statement, event.params());
+                switch (event.operation()) {
+                    case QUERY -> drain(statement.executeQuery());
+                    case UPDATE -> statement.executeUpdate();
+                    default -> drain(statement, statement.execute());
+                }
+                return;
+            }
+            try (Statement statement = connection().createStatement()) {
+                switch (event.operation()) {
+                    case BATCH -> {
+                        for (Object entry : event.batch()) {
+                            statement.addBatch((String) entry);
+                        }
+                        statement.executeBatch();
+                    }
+                    case QUERY -> drain(statement.executeQuery(event.sql()));
+                    case UPDATE -> statement.executeUpdate(event.sql());
+                    default -> drain(statement, statement.execute(event.sql()));
+                }
+            }
+        }
+
+        private PreparedStatement prepare(String sql) throws SQLException {
+            PreparedStatement statement = statements.get(sql);
+            if (statement == null) {
+                String trimmed = sql.trim();
+                statement = trimmed.startsWith("{") || trimmed.regionMatches(true, 0, "call", 0, 4)
+                        ? connection().prepareCall(sql) : connection().prepareStatement(sql);
+                statements.put(sql, statement);
+            }
+            return statement;
+        }
+
+        private static void bind(PreparedStatement statement, List<?> values) throws SQLException {
+            statement.clearParameters();
+            for (int i = 0; i < values.size(); i++) {
+                Object value = values.get(i);
+                if (value == null) {
+                    statement.setNull(i + 1, Types.NULL);
+                } else {
+                    statement.setObject(i + 1, value);
+                }
+            }
+        }
+
+        private static void drain(Statement statement, boolean hasResultSet) throws SQLException {
+            if (hasResultSet) {
+                drain(statement.getResultSet());
+            }
+        }
+
+        private static void drain(ResultSet resultSet) throws SQLException {
+            if (resultSet == null) {
+                return;
+            }
+            try (resultSet) {
+                while (resultSet.next()) {
+                    // the rows are fetched, not read
+                }
+            }
+        }
+
+        private void latency(long nanos) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = nanos;
+        }
+
+        private void close() {
+            if (connection == null) {
+                return;
+            }
+            for (PreparedStatement statement : statements.values()) {
+                try {
+                    statement.close();
+                } catch (SQLException e) {
+                    errors++;
+                }
+            }
+            statements.clear();
+            try {
+                connection.close();
+            } catch (SQLException e) {
+                errors++;
+            }
+            connection = null;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package insight;
+
+import java.util.List;
+
+/**
+ * Workload capture of one connection. Like the connection, it expects to be used by one thread at a time, so its
+ * events reach the {@link WorkloadRecorder} in the order the connection ran them.
+ */
+final class WorkloadSession {
+    private final WorkloadRecorder recorder;
+    private final long id;
+
+    WorkloadSession(WorkloadRecorder recorder, long id) {
+        this.recorder = recorder;
+        this.id = id;
+    }
+
+    long id() {
+        return id;
+    }
+
+    /**
+     * Captures an {@code execute*} call.
+     *
+     * @param params values bound to a prepared statement, or {@code null} for a plain one
+     * @param batch  entries of a batch, or empty
+     */
+    Invocation execute(MethodInfo info, String sql, List<Object> params, List<Object> batch, Invocation invocation) {
+        return new WorkloadInvocation(this, null, info, sql, params, batch, invocation);
+    }
+
+    /**
+     * Captures an {@code addBatch} call into the pending batch of the statement node.
+     */
+    Invocation batched(TraceNode node, MethodInfo info, Invocation invocation) {
+        return new WorkloadInvocation(this, node, info, null, null, List.of(), invocation);
+    }
+
+    /**
+     * Captures a transaction boundary: {@code commit}, {@code rollback}, {@code setAutoCommit} or {@code close}.
+     */
+    Invocation transaction(MethodInfo info, Invocation invocation) {
+        return switch (info.transactionRole()) {
+            case COMMIT, ROLLBACK, SET_AUTO_COMMIT, CLOSE ->
+                    new WorkloadInvocation(this, null, info, null, null, List.of(), invocation);
+            default -> invocation;
+        };
+    }
+
+    void record(WorkloadEvent event) {
+        recorder.record(event);
+    }
+
+    long elapsed(long nanoTime) {
+        return recorder.elapsed(nanoTime);
+    }
+}
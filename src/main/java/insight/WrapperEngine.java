@@ -0,0 +1,44 @@
+package insight;
+
+import java.lang.reflect.Proxy;
+import java.sql.*;
+
+/**
+ * How returned JDBC objects are wrapped. {@link #STATIC} uses the generated wrappers, which call the delegate directly,
+ * for the core JDBC interfaces and falls back to {@link #PROXY} for everything else.
+ */
+public enum WrapperEngine {
+    PROXY {
+        @Override
+        public Object wrap(Object delegate, Class<?> type, TraceNode node) {
+            return Proxy.newProxyInstance(
+                    delegate.getClass().getClassLoader(),
+                    delegate.getClass().getInterfaces(),
+                    new GenericInvocationHandler(delegate, node)
+            );
+        }
+    },
+    STATIC {
+        @Override
+        public Object wrap(Object delegate, Class<?> type, TraceNode node) {
+            if (type == Connection.class) {
+                return new ConnectionWrapper((Connection) delegate, node);
+            } else if (type == Statement.class) {
+                return new StatementWrapper((Statement) delegate, node);
+            } else if (type == PreparedStatement.class) {
+                return new PreparedStatementWrapper((PreparedStatement) delegate, node);
+            } else if (type == CallableStatement.class) {
+                return new CallableStatementWrapper((CallableStatement) delegate, node);
+            } else if (type == ResultSet.class) {
+                return new ResultSetWrapper((ResultSet) delegate, node);
+            } else if (type == DatabaseMetaData.class) {
+                return new DatabaseMetaDataWrapper((DatabaseMetaData) delegate, node);
+            } else if (type == ResultSetMetaData.class) {
+                return new ResultSetMetaDataWrapper((ResultSetMetaData) delegate, node);
+            }
+            return PROXY.wrap(delegate, type, node);
+        }
+    };
+
+    public abstract Object wrap(Object delegate, Class<?> type, TraceNode node);
+}
@@ -0,0 +1,65 @@
+package insight;
+
+import io.opentelemetry.sdk.trace.data.SpanData;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.sql.*;
+import java.util.Collections;
+import java.util.List;
+
+class BindParametersTest extends DriverTestBase {
+    @EnumSource(WrapperEngine.class)
+    @ParameterizedTest
+    public void whenBinding_thenParametersOnExecuteSpan_Test(WrapperEngine engine) throws SQLException {
+        List<SpanData> spans = execute(engine, "16");
+
+        Assertions.assertTrue(spans.stream().noneMatch(s -> s.getName().startsWith("set")));
+        List<SpanData> updates = spans.stream().filter(s -> s.getName().startsWith("executeUpdate(")).toList();
+        Assertions.assertEquals(2, updates.size());
+        Assertions.assertEquals(List.of("abc", "NULL", "?", "0x0102"),
+                updates.get(0).getAttributes().get(BindParameters.PARAMETERS));
+        Assertions.assertEquals(List.of("0123456789abcdef...(20 chars)"),
+                updates.get(1).getAttributes().get(BindParameters.PARAMETERS));
+    }
+
+    @EnumSource(WrapperEngine.class)
+    @ParameterizedTest
+    public void whenCaptureDisabled_thenNoParameters_Test(WrapperEngine engine) throws SQLException {
+        List<SpanData> spans = execute(engine, "0");
+
+        Assertions.assertTrue(spans.stream().allMatch(s -> s.getAttributes().get(BindParameters.PARAMETERS) == null));
+        Assertions.assertTrue(spans.stream().allMatch(s -> s.getAttributes().get(MethodInfo.RETURN_KEY) == null));
+    }
+
+    @Test
+    public void whenOnlyHashing_thenValuesNotKept_Test() throws Exception {
+        MethodInfo setBytes = MethodInfo.of(PreparedStatement.class.getMethod("setBytes", int.class, byte[].class));
+        BindParameters binds = new BindParameters();
+
+        binds.enter(setBytes, false, true).capture(new Object[]{1, new byte[]{1}}, null);
+        int first = binds.valuesHash();
+        binds.enter(setBytes, false, true).capture(new Object[]{1, new byte[]{2}}, null);
+
+        Assertions.assertNotEquals(first, binds.valuesHash());
+        Assertions.assertEquals(List.of("?"), binds.render(new CapturePolicy(10)));
+        Assertions.assertEquals(Collections.singletonList(null), binds.values());
+    }
+
+    private List<SpanData> execute(WrapperEngine engine, String maxLength) throws SQLException {
+        try (Connection conn = connect(engine, "captureMaxLength", maxLength);
+             PreparedStatement stmt = conn.prepareStatement("update t set a = ?, b = ?, c = ?, d = ?")) {
+            stmt.setString(1, "abc");
+            stmt.setNull(2, Types.VARCHAR);
+            stmt.setBytes(4, new byte[]{1, 2});
+            stmt.executeUpdate();
+            stmt.clearParameters();
+            stmt.setString(1, "0123456789abcdefghij");
+            stmt.executeUpdate();
+        }
+        otelFactory.forceFlush();
+        return exporter.getFinishedSpanItems();
+    }
+}
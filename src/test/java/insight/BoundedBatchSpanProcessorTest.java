@@ -0,0 +1,141 @@
+package insight;
+
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static insight.ExportConfig.DropPolicy.DROP_NEWEST;
+import static insight.ExportConfig.DropPolicy.DROP_OLDEST;
+
+class BoundedBatchSpanProcessorTest {
+
+    @Test
+    public void whenFlushed_thenAllSpansExported_Test() {
+        BlockingExporter exporter = new BlockingExporter(false);
+        BoundedBatchSpanProcessor processor = new BoundedBatchSpanProcessor(exporter,
+                config(100, 10, Duration.ofMinutes(1), DROP_NEWEST));
+        Tracer tracer = tracer(processor);
+
+        for (int i = 0; i < 25; i++) {
+            tracer.spanBuilder("span" + i).startSpan().end();
+        }
+        processor.forceFlush();
+
+        Assertions.assertEquals(25, exporter.exported.size());
+        Assertions.assertEquals(new BoundedBatchSpanProcessor.Stats(25, 25, 0, 0, 0), processor.stats());
+        processor.shutdown();
+    }
+
+    @Test
+    public void whenQueueFullAndDropNewest_thenNewestSpanDropped_Test() throws InterruptedException {
+        BlockingExporter exporter = new BlockingExporter(true);
+        BoundedBatchSpanProcessor processor = new BoundedBatchSpanProcessor(exporter,
+                config(2, 1, Duration.ofMillis(1), DROP_NEWEST));
+        Tracer tracer = tracer(processor);
+
+        tracer.spanBuilder("first").startSpan().end();
+        Assertions.assertTrue(exporter.entered.await(10, TimeUnit.SECONDS));
+        for (String name : List.of("second", "third", "fourth")) {
+            tracer.spanBuilder(name).startSpan().end();
+        }
+        exporter.release.countDown();
+        processor.shutdown();
+
+        Assertions.assertEquals(List.of("first", "second", "third"), exporter.names());
+        Assertions.assertEquals(1, processor.stats().dropped());
+    }
+
+    @Test
+    public void whenQueueFullAndDropOldest_thenOldestQueuedSpanDropped_Test() throws InterruptedException {
+        BlockingExporter exporter = new BlockingExporter(true);
+        BoundedBatchSpanProcessor processor = new BoundedBatchSpanProcessor(exporter,
+                config(2, 1, Duration.ofMillis(1), DROP_OLDEST));
+        Tracer tracer = tracer(processor);
+
+        tracer.spanBuilder("first").startSpan().end();
+        Assertions.assertTrue(exporter.entered.await(10, TimeUnit.SECONDS));
+        for (String name : List.of("second", "third", "fourth")) {
+            tracer.spanBuilder(name).startSpan().end();
+        }
+        exporter.release.countDown();
+        processor.shutdown();
+
+        Assertions.assertEquals(List.of("first", "third", "fourth"), exporter.names());
+        Assertions.assertEquals(new BoundedBatchSpanProcessor.Stats(4, 3, 1, 0, 0), processor.stats());
+    }
+
+    @Test
+    public void whenBatchLargerThanQueue_thenConfigRejected_Test() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> config(10, 11, Duration.ofSeconds(1), DROP_NEWEST));
+        Assertions.assertEquals(100, ExportConfig.from(Map.of(ConfigParser.EXPORT_QUEUE_SIZE, "100")).batchSize());
+    }
+
+    @Test
+    public void whenSettingsDiffer_thenDifferencesNamed_Test() {
+        ExportConfig config = ExportConfig.from(Map.of(ConfigParser.EXPORT_QUEUE_SIZE, "100",
+                ConfigParser.WORKLOAD_PATH, "workload.log"));
+
+        Assertions.assertEquals(List.of("exportQueueSize", "exportBatchSize", "workloadPath"),
+                config.differences(ExportConfig.DEFAULT));
+        Assertions.assertEquals(List.of(), ExportConfig.DEFAULT.differences(ExportConfig.from(Map.of())));
+    }
+
+    private static ExportConfig config(int queueSize, int batchSize, Duration interval,
+                                       ExportConfig.DropPolicy dropPolicy) {
+        return new ExportConfig(queueSize, batchSize, interval, dropPolicy, false, 1, Duration.ofMinutes(1), 1, 1,
+                null, 1, 0, null);
+    }
+
+    private static Tracer tracer(BoundedBatchSpanProcessor processor) {
+        return SdkTracerProvider.builder().addSpanProcessor(processor).build().get("test");
+    }
+
+    private static class BlockingExporter implements SpanExporter {
+        private final List<SpanData> exported = new CopyOnWriteArrayList<>();
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private final CountDownLatch release;
+
+        BlockingExporter(boolean block) {
+            this.release = new CountDownLatch(block ? 1 : 0);
+        }
+
+        @Override
+        public CompletableResultCode export(Collection<SpanData> spans) {
+            entered.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exported.addAll(spans);
+            return CompletableResultCode.ofSuccess();
+        }
+
+        @Override
+        public CompletableResultCode flush() {
+            return CompletableResultCode.ofSuccess();
+        }
+
+        @Override
+        public CompletableResultCode shutdown() {
+            return CompletableResultCode.ofSuccess();
+        }
+
+        List<String> names() {
+            return exported.stream().map(SpanData::getName).toList();
+        }
+    }
+}
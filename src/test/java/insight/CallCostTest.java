@@ -0,0 +1,103 @@
+package insight;
+
+import io.opentelemetry.sdk.metrics.data.HistogramPointData;
+import io.opentelemetry.sdk.metrics.data.MetricData;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.sql.*;
+import java.util.List;
+
+class CallCostTest extends DriverTestBase {
+    @EnumSource(WrapperEngine.class)
+    @ParameterizedTest
+    public void whenCostMeasured_thenSpansCarryCpuAllocationAndWait_Test(WrapperEngine engine) throws SQLException {
+        Assumptions.assumeTrue(new CallCost().supported());
+        try (Connection conn = connect(engine, "all");
+             Statement stmt = conn.createStatement()) {
+            stmt.executeUpdate("update orders set status = 'shipped'");
+            try (ResultSet rs = stmt.executeQuery("select * from orders")) {
+                while (rs.next()) {
+                    rs.getString(1);
+                }
+            }
+        }
+
+        otelFactory.forceFlush();
+        List<SpanData> spans = exporter.getFinishedSpanItems();
+        SpanData update = spans.stream().filter(s -> s.getName().startsWith("executeUpdate("))
+                .findFirst().orElseThrow();
+        Assertions.assertTrue(update.getAttributes().get(CallCost.CPU_TIME) >= 0);
+        Assertions.assertTrue(update.getAttributes().get(CallCost.ALLOCATED) >= 0);
+        Assertions.assertTrue(update.getAttributes().get(CallCost.WAIT_TIME) >= 0);
+
+        SpanData fetch = spans.stream().filter(s -> s.getName().equals(ResultSetAggregator.SPAN_NAME))
+                .findFirst().orElseThrow();
+        Assertions.assertEquals(StubDriver.ROWS * 2 + 1,
+                fetch.getAttributes().get(ResultSetAggregator.MEASURED_CALLS));
+        Assertions.assertTrue(fetch.getAttributes().get(ResultSetAggregator.NEXT_CPU) >= 0);
+        Assertions.assertTrue(fetch.getAttributes().get(ResultSetAggregator.GET_ALLOCATED) >= 0);
+
+        MetricData cpu = metric(CallCost.CPU_TIME_METRIC);
+        HistogramPointData next = cpu.getHistogramData().getPoints().stream()
+                .filter(p -> "ResultSet.next".equals(p.getAttributes().get(CallCost.METHOD)))
+                .findFirst().orElseThrow();
+        Assertions.assertEquals(StubDriver.ROWS + 1, next.getCount());
+        Assertions.assertNotNull(metric(CallCost.ALLOCATED_METRIC));
+    }
+
+    @Test
+    public void whenCostSampled_thenOneCallInSampleMeasured_Test() throws SQLException {
+        Assumptions.assumeTrue(new CallCost().supported());
+        try (Connection conn = connect(WrapperEngine.PROXY, "sampled");
+             Statement stmt = conn.createStatement()) {
+            for (int i = 0; i < CallCost.SAMPLE_EVERY * 4; i++) {
+                stmt.executeUpdate("update orders set status = 'shipped'");
+            }
+        }
+
+        otelFactory.forceFlush();
+        long measured = exporter.getFinishedSpanItems().stream()
+                .filter(s -> s.getAttributes().get(CallCost.CPU_TIME) != null)
+                .count();
+        Assertions.assertTrue(measured >= 3 && measured <= 5, "measured " + measured);
+    }
+
+    @Test
+    public void whenCostOff_thenNothingMeasured_Test() throws SQLException {
+        try (Connection conn = connect(WrapperEngine.STATIC, "off");
+             Statement stmt = conn.createStatement()) {
+            stmt.executeUpdate("update orders set status = 'shipped'");
+        }
+
+        otelFactory.forceFlush();
+        Assertions.assertTrue(exporter.getFinishedSpanItems().stream()
+                .allMatch(s -> s.getAttributes().get(CallCost.CPU_TIME) == null));
+        Assertions.assertTrue(metricReader.collectAllMetrics().stream()
+                .noneMatch(m -> m.getName().equals(CallCost.CPU_TIME_METRIC)));
+    }
+
+    @Test
+    public void allocationBucketTest() {
+        Assertions.assertEquals(0, CallCost.allocationBucket(0));
+        Assertions.assertEquals(0, CallCost.allocationBucket(16));
+        Assertions.assertEquals(1, CallCost.allocationBucket(17));
+        Assertions.assertEquals(1, CallCost.allocationBucket(32));
+        Assertions.assertEquals(2, CallCost.allocationBucket(33));
+        Assertions.assertEquals(CallCost.ALLOCATION_BUCKETS - 1, CallCost.allocationBucket(Long.MAX_VALUE));
+    }
+
+    private MetricData metric(String name) {
+        return metricReader.collectAllMetrics().stream()
+                .filter(m -> m.getName().equals(name))
+                .findFirst().orElseThrow();
+    }
+
+    private Connection connect(WrapperEngine engine, String mode) throws SQLException {
+        return connect(engine, "callCost", mode);
+    }
+}
@@ -0,0 +1,54 @@
+package insight;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.ByteArrayInputStream;
+import java.lang.reflect.Proxy;
+import java.sql.Blob;
+import java.sql.ResultSet;
+import java.util.stream.Stream;
+
+class CapturePolicyTest {
+    private static final CapturePolicy POLICY = new CapturePolicy(8);
+
+    @MethodSource("values")
+    @ParameterizedTest
+    public void whenRendering_thenBoundedByType_Test(Object value, String expected) {
+        Assertions.assertEquals(expected, POLICY.render(value));
+    }
+
+    @Test
+    public void whenJdbcObject_thenToStringNotCalled_Test() {
+        ResultSet rs = (ResultSet) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{ResultSet.class},
+                (proxy, method, args) -> {
+                    throw new AssertionError("Unexpected call " + method.getName());
+                });
+        Assertions.assertEquals("<ResultSet>", POLICY.render(rs));
+    }
+
+    @Test
+    public void whenMaxLengthZero_thenCaptureDisabled_Test() {
+        Assertions.assertFalse(new CapturePolicy(0).enabled());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new CapturePolicy(-1));
+    }
+
+    private static Stream<Arguments> values() {
+        Blob blob = (Blob) Proxy.newProxyInstance(CapturePolicyTest.class.getClassLoader(), new Class<?>[]{Blob.class},
+                (proxy, method, args) -> null);
+        return Stream.of(
+                Arguments.of(null, null),
+                Arguments.of("short", "short"),
+                Arguments.of("0123456789", "01234567...(10 chars)"),
+                Arguments.of(42, "42"),
+                Arguments.of(new byte[]{0x0a, (byte) 0xff}, "0x0aff"),
+                Arguments.of(new byte[]{1, 2, 3, 4, 5, 6}, "0x01020304...(6 bytes)"),
+                Arguments.of(new int[]{1, 2}, "[1, 2]"),
+                Arguments.of(new int[]{1, 2, 3, 4, 5, 6, 7}, "[1, 2, 3, ...(7 items)]"),
+                Arguments.of(blob, "<Blob>"),
+                Arguments.of(new ByteArrayInputStream(new byte[0]), "<InputStream>"));
+    }
+}
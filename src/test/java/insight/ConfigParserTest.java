@@ -85,7 +85,27 @@ class ConfigParserTest {
                                     props.put("jdbcClass", "class_from_properties");
                                     return props;
                                 },
-                                Map.of(JDBC_PATH, "path_from_url", JDBC_CLASS, "class_from_url")))
+                                Map.of(JDBC_PATH, "path_from_url", JDBC_CLASS, "class_from_url"))),
+                named("Semicolon-separated Url parameters",
+                        new ParseArgs("jdbc:sqlserver://localhost:1433;databaseName=db;jdbcPath=jdbc_path;jdbcClass=jdbc_class",
+                                Properties::new,
+                                Map.of(JDBC_PATH, "jdbc_path", JDBC_CLASS, "jdbc_class"))),
+                named("Mixed Url parameter separators",
+                        new ParseArgs("jdbc:postgresql://localhost:5432/database;jdbcPath=jdbc_path?sampleRatio=0.5&traceExclude=ResultSet.get*,isClosed",
+                                Properties::new,
+                                Map.of(JDBC_PATH, "jdbc_path", SAMPLE_RATIO, "0.5", TRACE_EXCLUDE, "ResultSet.get*,isClosed"))),
+                named("Percent-encoded Url parameters",
+                        new ParseArgs("jdbc:postgresql://localhost:5432/database?jdbcPath=/opt/my%20drivers/driver.jar",
+                                Properties::new,
+                                Map.of(JDBC_PATH, "/opt/my drivers/driver.jar"))),
+                named("Export parameters",
+                        new ParseArgs("jdbc:postgresql://localhost:5432/database?exportBatchSize=64&exportDropPolicy=drop_oldest",
+                                () -> {
+                                    Properties props = new Properties();
+                                    props.put("loggingExporter", "true");
+                                    return props;
+                                },
+                                Map.of(EXPORT_BATCH_SIZE, "64", EXPORT_DROP_POLICY, "drop_oldest", LOGGING_EXPORTER, "true")))
         );
     }
 
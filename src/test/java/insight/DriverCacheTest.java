@@ -0,0 +1,100 @@
+package insight;
+
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+class DriverCacheTest {
+    private static final String JDBC_PATH = Path.of("target", "test-classes").toAbsolutePath() + "/";
+    private static final String JDBC_CLASS = StubDriver.class.getName();
+
+    private final InMemorySpanExporter exporter = InMemorySpanExporter.create();
+    private final OtelFactory otelFactory = new OtelFactory(() -> exporter);
+
+    @AfterEach
+    void shutdown() {
+        otelFactory.shutdown();
+    }
+
+    @Test
+    public void whenConnectingConcurrently_thenOneClassLoaderIsCreated_Test() throws Exception {
+        DriverInsight driver = new DriverInsight(otelFactory);
+        int threads = 16;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Connection>> connects = new ArrayList<>();
+            for (int i = 0; i < threads * 4; i++) {
+                connects.add(executor.submit(() -> {
+                    start.await();
+                    return driver.connect(StubDriver.INSIGHT_URL, props());
+                }));
+            }
+            start.countDown();
+            for (Future<Connection> connect : connects) {
+                connect.get().close();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Assertions.assertEquals(1, driver.classLoaderCount());
+        Assertions.assertEquals(1, driver.cachedConfigCount());
+    }
+
+    @Test
+    public void whenDriverIsInvalidated_thenNextConnectLoadsItAgain_Test() throws SQLException {
+        DriverInsight driver = new DriverInsight(otelFactory);
+        driver.connect(StubDriver.INSIGHT_URL, props()).close();
+        driver.connect(StubDriver.INSIGHT_URL, props()).close();
+
+        driver.invalidateDriver(JDBC_PATH, JDBC_CLASS);
+        driver.connect(StubDriver.INSIGHT_URL, props()).close();
+
+        Assertions.assertEquals(2, driver.classLoaderCount());
+    }
+
+    @Test
+    public void whenLoadFails_thenFailureIsNotCached_Test() {
+        DriverCache cache = new DriverCache(getClass().getClassLoader());
+
+        Assertions.assertThrows(SQLException.class, () -> cache.get(JDBC_PATH, "insight.MissingDriver"));
+        Assertions.assertThrows(SQLException.class, () -> cache.get(JDBC_PATH, "insight.MissingDriver"));
+
+        Assertions.assertEquals(2, cache.classLoaderCount());
+    }
+
+    @Test
+    public void whenPropertiesDiffer_thenConfigIsParsedPerProperties_Test() throws SQLException {
+        DriverInsight driver = new DriverInsight(otelFactory);
+        Properties sampled = props();
+        sampled.setProperty("sampleRatio", "0.5");
+        Properties unrelated = props();
+        unrelated.setProperty("user", "app");
+
+        driver.connect(StubDriver.INSIGHT_URL, props()).close();
+        driver.connect(StubDriver.INSIGHT_URL, unrelated).close();
+        driver.connect(StubDriver.INSIGHT_URL, sampled).close();
+
+        Assertions.assertEquals(2, driver.cachedConfigCount());
+    }
+
+    private static Properties props() {
+        Properties props = new Properties();
+        props.setProperty("jdbcPath", JDBC_PATH);
+        props.setProperty("jdbcClass", JDBC_CLASS);
+        return props;
+    }
+}
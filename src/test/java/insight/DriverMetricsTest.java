@@ -0,0 +1,121 @@
+package insight;
+
+import io.opentelemetry.sdk.metrics.data.MetricData;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import static insight.DriverMetrics.ResourceKind.*;
+
+class DriverMetricsTest extends DriverTestBase {
+    @EnumSource(WrapperEngine.class)
+    @ParameterizedTest
+    public void whenOpeningAndClosing_thenOpenCountsFollow_Test(WrapperEngine engine) throws SQLException {
+        DriverMetrics metrics = otelFactory.driverMetrics();
+        Connection conn = connect(engine, true);
+        Statement first = conn.createStatement();
+        Statement second = conn.prepareStatement("select 1");
+        ResultSet rs = first.executeQuery("select 1");
+        second.getConnection();
+        assertOpen(metrics, 1, 2, 1);
+
+        rs.close();
+        assertOpen(metrics, 1, 2, 0);
+
+        first.executeQuery("select 1");
+        first.executeQuery("select 2");
+        assertOpen(metrics, 1, 2, 1);
+
+        first.close();
+        assertOpen(metrics, 1, 1, 0);
+
+        conn.close();
+        second.close();
+        assertOpen(metrics, 0, 0, 0);
+    }
+
+    @Test
+    public void whenTracingDisabled_thenMetricsWithoutSpans_Test() throws SQLException {
+        try (Connection conn = connect(WrapperEngine.STATIC, false);
+             Statement stmt = conn.createStatement()) {
+            stmt.executeQuery("select 1").close();
+            stmt.executeUpdate("update t set a = 1");
+            Assertions.assertThrows(SQLException.class, () -> stmt.executeQuery(StubDriver.FAILING_SQL));
+            conn.commit();
+            conn.rollback();
+        }
+        otelFactory.forceFlush();
+
+        DriverMetrics metrics = otelFactory.driverMetrics();
+        Assertions.assertEquals(0, exporter.getFinishedSpanItems().size());
+        Assertions.assertEquals(1, metrics.errors("42000"));
+        Assertions.assertEquals(1, metrics.commits());
+        Assertions.assertEquals(1, metrics.rollbacks());
+        Assertions.assertEquals(2, sum(metrics.operation("executeQuery").counts()));
+        Assertions.assertEquals(1, sum(metrics.operation("executeUpdate").counts()));
+
+        Set<String> names = metricReader.collectAllMetrics().stream().map(MetricData::getName)
+                .collect(Collectors.toSet());
+        Assertions.assertTrue(names.containsAll(List.of(DriverMetrics.CONNECT_DURATION_METRIC,
+                DriverMetrics.OPEN_METRIC, DriverMetrics.OPERATION_DURATION_METRIC,
+                DriverMetrics.TRANSACTIONS_METRIC, DriverMetrics.ERRORS_METRIC)), names.toString());
+    }
+
+    @Test
+    public void whenManyThreads_thenNoUpdatesLost_Test() throws Exception {
+        int threads = 32;
+        int iterations = 200;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>(threads);
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    try (Connection conn = connect(WrapperEngine.STATIC, false);
+                         Statement stmt = conn.createStatement()) {
+                        for (int i = 0; i < iterations; i++) {
+                            stmt.executeUpdate("update t set a = 1");
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        DriverMetrics metrics = otelFactory.driverMetrics();
+        Assertions.assertEquals((long) threads * iterations, sum(metrics.operation("executeUpdate").counts()));
+        assertOpen(metrics, 0, 0, 0);
+    }
+
+    private Connection connect(WrapperEngine engine, boolean tracing) throws SQLException {
+        return connect(engine, "metrics", "true", "tracing", String.valueOf(tracing));
+    }
+
+    private static void assertOpen(DriverMetrics metrics, long connections, long statements, long resultSets) {
+        Assertions.assertEquals(connections, metrics.open(CONNECTION));
+        Assertions.assertEquals(statements, metrics.open(STATEMENT));
+        Assertions.assertEquals(resultSets, metrics.open(RESULT_SET));
+    }
+
+    private static long sum(long[] counts) {
+        long sum = 0;
+        for (long count : counts) {
+            sum += count;
+        }
+        return sum;
+    }
+}
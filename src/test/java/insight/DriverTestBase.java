@@ -0,0 +1,46 @@
+package insight;
+
+import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Properties;
+
+/**
+ * Fixture of the tests that connect through {@link DriverInsight} to the {@link StubDriver}: an {@link OtelFactory}
+ * exporting spans and metrics to memory, shut down after each test.
+ */
+abstract class DriverTestBase {
+    protected final InMemorySpanExporter exporter = InMemorySpanExporter.create();
+    protected final InMemoryMetricReader metricReader = InMemoryMetricReader.create();
+    protected final OtelFactory otelFactory = new OtelFactory(() -> exporter, () -> metricReader);
+
+    @BeforeAll
+    static void registerStubDriver() throws SQLException {
+        StubDriver.register();
+    }
+
+    @AfterEach
+    void shutdown() {
+        otelFactory.shutdown();
+    }
+
+    /**
+     * Connects with the given engine and properties, given as name and value pairs.
+     */
+    protected Connection connect(WrapperEngine engine, String... properties) throws SQLException {
+        Properties props = new Properties();
+        props.setProperty("wrapper", engine.name());
+        for (int i = 0; i < properties.length; i += 2) {
+            props.setProperty(properties[i], properties[i + 1]);
+        }
+        return connect(props);
+    }
+
+    protected Connection connect(Properties props) throws SQLException {
+        return new DriverInsight(otelFactory).connect(StubDriver.INSIGHT_URL, props);
+    }
+}
@@ -0,0 +1,137 @@
+package insight;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.*;
+import java.time.Duration;
+import java.util.List;
+import java.util.Properties;
+
+class JfrBackendTest extends DriverTestBase {
+    @TempDir
+    Path dir;
+
+    @EnumSource(WrapperEngine.class)
+    @ParameterizedTest
+    public void whenRecording_thenJdbcEventsAreCommitted_Test(WrapperEngine engine) throws Exception {
+        List<RecordedEvent> events = record(() -> {
+            try (Connection conn = connect(engine);
+                 Statement stmt = conn.createStatement()) {
+                try (ResultSet rs = stmt.executeQuery("select * from t where id = 42")) {
+                    while (rs.next()) {
+                        rs.getInt(1);
+                    }
+                }
+                Assertions.assertThrows(SQLException.class, () -> stmt.executeQuery(StubDriver.FAILING_SQL));
+                conn.commit();
+                conn.rollback();
+            }
+        });
+
+        RecordedEvent connect = event(events, "insight.JdbcConnect");
+        Assertions.assertEquals(StubDriver.URL + "?backend=jfr", connect.getString("url"));
+        Assertions.assertNotNull(connect.getStackTrace());
+        RecordedEvent execute = events.stream()
+                .filter(e -> e.getEventType().getName().equals("insight.JdbcExecute") && !e.getBoolean("failed"))
+                .findFirst().orElseThrow();
+        Assertions.assertEquals("executeQuery", execute.getString("method"));
+        Assertions.assertEquals("select * from t where id = 42", execute.getString("sql"));
+        Assertions.assertEquals("select * from t where id = ?", execute.getString("fingerprint"));
+        RecordedEvent failed = events.stream()
+                .filter(e -> e.getEventType().getName().equals("insight.JdbcExecute") && e.getBoolean("failed"))
+                .findFirst().orElseThrow();
+        Assertions.assertEquals("42000", failed.getString("sqlState"));
+        RecordedEvent fetch = event(events, "insight.JdbcFetch");
+        Assertions.assertEquals(StubDriver.ROWS, fetch.getLong("rows"));
+        Assertions.assertTrue(fetch.getBoolean("exhausted"));
+        Assertions.assertEquals(List.of("commit", "rollback"), events.stream()
+                .filter(e -> e.getEventType().getName().equals("insight.JdbcTransaction"))
+                .map(e -> e.getString("action")).toList());
+        Assertions.assertTrue(exporter.getFinishedSpanItems().isEmpty());
+    }
+
+    @EnumSource(WrapperEngine.class)
+    @ParameterizedTest
+    public void whenResultSetClosedByItsStatement_thenFetchEventIsCommitted_Test(WrapperEngine engine)
+            throws Exception {
+        List<RecordedEvent> events = record(() -> {
+            try (Connection conn = connect(engine);
+                 Statement stmt = conn.createStatement()) {
+                stmt.executeQuery("select 1").next();
+            }
+        });
+
+        RecordedEvent fetch = event(events, "insight.JdbcFetch");
+        Assertions.assertEquals(1, fetch.getLong("rows"));
+        Assertions.assertFalse(fetch.getBoolean("exhausted"));
+    }
+
+    @Test
+    public void whenNotRecording_thenCallsGoThroughWithoutSpans_Test() throws SQLException {
+        try (Connection conn = connect(WrapperEngine.PROXY);
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("select 1")) {
+            int rows = 0;
+            while (rs.next()) {
+                rows++;
+            }
+            Assertions.assertEquals(StubDriver.ROWS, rows);
+            Assertions.assertNotNull(rs.getStatement());
+        }
+
+        Assertions.assertTrue(exporter.getFinishedSpanItems().isEmpty());
+    }
+
+    @Test
+    public void whenBackendIsUnknown_thenConnectFails_Test() {
+        Properties props = new Properties();
+        props.setProperty("backend", "zipkin");
+
+        Assertions.assertThrows(SQLException.class,
+                () -> connect(props));
+    }
+
+    private interface Work {
+        void run() throws Exception;
+    }
+
+    private List<RecordedEvent> record(Work work) throws Exception {
+        Path file = dir.resolve("insight.jfr");
+        try (Recording recording = new Recording()) {
+            for (String event : List.of("insight.JdbcConnect", "insight.JdbcExecute", "insight.JdbcFetch",
+                    "insight.JdbcTransaction")) {
+                recording.enable(event).withThreshold(Duration.ZERO).withStackTrace();
+            }
+            recording.start();
+            work.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return readEvents(file);
+    }
+
+    private static List<RecordedEvent> readEvents(Path file) throws IOException {
+        return RecordingFile.readAllEvents(file).stream()
+                .filter(e -> e.getEventType().getName().startsWith("insight."))
+                .toList();
+    }
+
+    private static RecordedEvent event(List<RecordedEvent> events, String name) {
+        return events.stream().filter(e -> e.getEventType().getName().equals(name)).findFirst().orElseThrow();
+    }
+
+    private Connection connect(WrapperEngine engine) throws SQLException {
+        Properties props = new Properties();
+        props.setProperty("wrapper", engine.name());
+        return new DriverInsight(otelFactory).connect(StubDriver.INSIGHT_URL + "?backend=jfr", props);
+    }
+}
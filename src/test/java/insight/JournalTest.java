@@ -0,0 +1,237 @@
+package insight;
+
+import com.sun.net.httpserver.HttpServer;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.testing.trace.TestSpanData;
+import io.opentelemetry.sdk.trace.data.EventData;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.data.StatusData;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+class JournalTest {
+    private static final String TRACE_ID = "0af7651916cd43dd8448eb211c80319c";
+    private static final String PARENT_ID = "b7ad6b7169203331";
+
+    @TempDir
+    Path dir;
+
+    @BeforeAll
+    static void registerStubDriver() throws SQLException {
+        StubDriver.register();
+    }
+
+    @Test
+    public void whenSpanAppended_thenReadBackWhole_Test() throws IOException {
+        Path file = dir.resolve("spans.journal");
+        try (Journal journal = Journal.open(file, 64 * 1024)) {
+            journal.append(span(1, Attributes.builder()
+                    .put("arg0", "select 1")
+                    .put("resultset.rows", 3L)
+                    .put("error", true)
+                    .put("ratio", 0.5)
+                    .build()));
+        }
+
+        try (Journal journal = Journal.openForRead(file)) {
+            JournalRecord record = journal.records().get(0);
+            Assertions.assertEquals(1, record.sequence());
+            Assertions.assertEquals(TRACE_ID, record.traceId());
+            Assertions.assertEquals(spanId(1), record.spanId());
+            Assertions.assertEquals(PARENT_ID, record.parentSpanId());
+            Assertions.assertEquals("executeQuery(arg0: String): ResultSet", record.name());
+            Assertions.assertEquals("Statement", record.scope());
+            Assertions.assertEquals(SpanKind.CLIENT, record.kind());
+            Assertions.assertEquals(StatusCode.ERROR, record.status());
+            Assertions.assertEquals(1_000, record.startEpochNanos());
+            Assertions.assertEquals(3_000, record.endEpochNanos());
+            Assertions.assertEquals("select 1", record.attributes().get("arg0"));
+            Assertions.assertEquals(3L, record.attributes().get("resultset.rows"));
+            Assertions.assertEquals(true, record.attributes().get("error"));
+            Assertions.assertEquals(0.5, record.attributes().get("ratio"));
+            Assertions.assertEquals("exception", record.events().get(0).name());
+            Assertions.assertEquals("boom", record.events().get(0).attributes().get("exception.message"));
+            Assertions.assertFalse(record.truncated());
+        }
+    }
+
+    @Test
+    public void whenRingIsFull_thenOldestSpansAreOverwritten_Test() throws IOException {
+        Path file = dir.resolve("spans.journal");
+        try (Journal journal = Journal.open(file, Journal.HEADER_SIZE + 4 * Journal.SLOT_SIZE)) {
+            for (int i = 1; i <= 10; i++) {
+                journal.append(span(i, Attributes.empty()));
+            }
+            List<JournalRecord> records = journal.records();
+
+            Assertions.assertEquals(List.of(7L, 8L, 9L, 10L), records.stream().map(JournalRecord::sequence).toList());
+            Assertions.assertEquals(spanId(10), records.get(3).spanId());
+        }
+    }
+
+    @Test
+    public void whenJournalReopened_thenSequenceContinues_Test() throws IOException {
+        Path file = dir.resolve("spans.journal");
+        try (Journal journal = Journal.open(file, 64 * 1024)) {
+            journal.append(span(1, Attributes.empty()));
+            journal.append(span(2, Attributes.empty()));
+        }
+        try (Journal journal = Journal.open(file, 64 * 1024)) {
+            journal.append(span(3, Attributes.empty()));
+
+            Assertions.assertEquals(List.of(1L, 2L, 3L), journal.records().stream()
+                    .map(JournalRecord::sequence).toList());
+        }
+    }
+
+    @Test
+    public void whenSpanExceedsSlot_thenRecordIsTruncated_Test() throws IOException {
+        try (Journal journal = Journal.open(dir.resolve("spans.journal"), 64 * 1024)) {
+            journal.append(span(1, Attributes.builder()
+                    .put("arg0", "x".repeat(5000))
+                    .put("arg1", "y")
+                    .build()));
+
+            JournalRecord record = journal.records().get(0);
+            Assertions.assertTrue(record.truncated());
+            Assertions.assertTrue(((String) record.attributes().get("arg0")).length() < Journal.SLOT_SIZE);
+            Assertions.assertEquals(1, journal.truncated());
+        }
+    }
+
+    @Test
+    public void whenAppendingConcurrently_thenEverySpanGetsItsOwnSlot_Test() throws Exception {
+        int threads = 8;
+        int perThread = 200;
+        try (Journal journal = Journal.open(dir.resolve("spans.journal"),
+                Journal.HEADER_SIZE + (long) threads * perThread * Journal.SLOT_SIZE)) {
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            try {
+                List<Future<?>> writers = new ArrayList<>();
+                for (int t = 0; t < threads; t++) {
+                    int base = t * perThread;
+                    writers.add(executor.submit(() -> {
+                        for (int i = 1; i <= perThread; i++) {
+                            journal.append(span(base + i, Attributes.empty()));
+                        }
+                    }));
+                }
+                for (Future<?> writer : writers) {
+                    writer.get();
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+
+            List<JournalRecord> records = journal.records();
+            Assertions.assertEquals(threads * perThread, records.size());
+            Assertions.assertEquals(threads * perThread, records.stream().map(JournalRecord::spanId).distinct().count());
+        }
+    }
+
+    @Test
+    public void whenJournalConfigured_thenDriverSpansAreWrittenToIt_Test() throws Exception {
+        Path file = dir.resolve("spans.journal");
+        OtelFactory otelFactory = new OtelFactory(() -> JournalSpanExporter.open(file, 1024 * 1024));
+        try (Connection conn = new DriverInsight(otelFactory).connect(StubDriver.INSIGHT_URL, new Properties());
+             Statement stmt = conn.createStatement()) {
+            stmt.executeQuery("select 1").close();
+            Assertions.assertThrows(SQLException.class, () -> stmt.executeQuery(StubDriver.FAILING_SQL));
+        }
+        otelFactory.shutdown();
+
+        try (Journal journal = Journal.openForRead(file)) {
+            List<JournalRecord> records = journal.records();
+            Assertions.assertTrue(records.stream().anyMatch(r -> r.name().startsWith("createStatement(")));
+            JournalRecord failed = records.stream()
+                    .filter(r -> r.name().startsWith("executeQuery(") && !r.events().isEmpty())
+                    .findFirst().orElseThrow();
+            Assertions.assertEquals(true, failed.attributes().get("error"));
+        }
+    }
+
+    @Test
+    public void whenReplayed_thenCollectorReceivesOtlpJson_Test() throws Exception {
+        List<JournalRecord> records;
+        try (Journal journal = Journal.open(dir.resolve("spans.journal"), 64 * 1024)) {
+            journal.append(span(1, Attributes.of(AttributeKey.stringKey("arg0"), "select \"a\"\n")));
+            records = journal.records();
+        }
+        List<String> bodies = new ArrayList<>();
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/v1/traces", exchange -> {
+            bodies.add(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        server.start();
+        try {
+            URI endpoint = URI.create("http://127.0.0.1:" + server.getAddress().getPort() + "/v1/traces");
+            Assertions.assertEquals(1, JournalReader.replay(records, endpoint));
+        } finally {
+            server.stop(0);
+        }
+
+        String json = bodies.get(0);
+        Assertions.assertTrue(json.contains("\"traceId\":\"" + TRACE_ID + "\""));
+        Assertions.assertTrue(json.contains("\"parentSpanId\":\"" + PARENT_ID + "\""));
+        Assertions.assertTrue(json.contains("\"kind\":3"));
+        Assertions.assertTrue(json.contains("\"stringValue\":\"select \\\"a\\\"\\n\""));
+        Assertions.assertTrue(json.contains("\"status\":{\"code\":2}"));
+    }
+
+    @Test
+    public void whenFileIsNotAJournal_thenReadFails_Test() throws IOException {
+        Path file = Files.writeString(dir.resolve("other.txt"), "not a journal");
+
+        Assertions.assertThrows(IOException.class, () -> Journal.openForRead(file));
+    }
+
+    private static SpanData span(int id, Attributes attributes) {
+        return TestSpanData.builder()
+                .setSpanContext(SpanContext.create(TRACE_ID, spanId(id), TraceFlags.getSampled(),
+                        TraceState.getDefault()))
+                .setParentSpanContext(SpanContext.create(TRACE_ID, PARENT_ID, TraceFlags.getSampled(),
+                        TraceState.getDefault()))
+                .setInstrumentationScopeInfo(InstrumentationScopeInfo.create("Statement"))
+                .setName("executeQuery(arg0: String): ResultSet")
+                .setKind(SpanKind.CLIENT)
+                .setStatus(StatusData.error())
+                .setStartEpochNanos(1_000)
+                .setEndEpochNanos(3_000)
+                .setHasEnded(true)
+                .setAttributes(attributes)
+                .setTotalAttributeCount(attributes.size())
+                .setEvents(List.of(EventData.create(2_000, "exception",
+                        Attributes.of(AttributeKey.stringKey("exception.message"), "boom"))))
+                .setTotalRecordedEvents(1)
+                .build();
+    }
+
+    private static String spanId(int id) {
+        return String.format("%016x", id);
+    }
+}
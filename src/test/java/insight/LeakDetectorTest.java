@@ -0,0 +1,114 @@
+package insight;
+
+import io.opentelemetry.sdk.trace.data.SpanData;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.sql.*;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+class LeakDetectorTest extends DriverTestBase {
+    @EnumSource(WrapperEngine.class)
+    @ParameterizedTest
+    public void whenStatementIsNeverClosed_thenLeakReported_Test(WrapperEngine engine) throws Exception {
+        try (Connection conn = connect(engine)) {
+            leakStatement(conn, "select * from orders where id = 42");
+            awaitGc(() -> otelFactory.driverMetrics().leaks(DriverMetrics.ResourceKind.STATEMENT) == 1);
+        }
+        Assertions.assertEquals(1, otelFactory.driverMetrics().leaks(DriverMetrics.ResourceKind.RESULT_SET));
+        Assertions.assertEquals(0, otelFactory.driverMetrics().leaks(DriverMetrics.ResourceKind.CONNECTION));
+
+        List<SpanData> leaks = spans().stream().filter(s -> s.getName().equals(LeakDetector.SPAN_NAME)).toList();
+        Assertions.assertEquals(2, leaks.size());
+        SpanData statement = leaks.stream()
+                .filter(s -> "statement".equals(s.getAttributes().get(LeakDetector.RESOURCE)))
+                .findFirst().orElseThrow();
+        Assertions.assertEquals("select * from orders where id = ?",
+                statement.getAttributes().get(QueryStatsRegistry.FINGERPRINT));
+        Assertions.assertNotNull(statement.getAttributes().get(LeakDetector.CONNECTION));
+        Assertions.assertTrue(statement.getAttributes().get(LeakDetector.AGE) >= 0);
+        Assertions.assertTrue(statement.getAttributes().get(LeakDetector.STACKTRACE).contains("leakStatement"));
+    }
+
+    @Test
+    public void whenConnectionIsClosed_thenItsStatementsAreNotLeaks_Test() throws Exception {
+        Connection conn = connect(WrapperEngine.PROXY);
+        leakStatement(conn, "select 1");
+        conn.close();
+        conn = null;
+
+        awaitGc(() -> otelFactory.leakDetector().tracked() == 0);
+        Assertions.assertEquals(0, otelFactory.driverMetrics().leaks(DriverMetrics.ResourceKind.STATEMENT));
+        Assertions.assertEquals(0, otelFactory.driverMetrics().leaks(DriverMetrics.ResourceKind.RESULT_SET));
+    }
+
+    @Test
+    public void whenStatementRunsAgain_thenPreviousResultSetIsNotLeak_Test() throws Exception {
+        try (Connection conn = connect(WrapperEngine.STATIC);
+             Statement stmt = conn.createStatement()) {
+            stmt.executeQuery("select 1");
+            ResultSet current = stmt.executeQuery("select 2");
+
+            awaitGc(() -> otelFactory.leakDetector().tracked() == 3);
+            Assertions.assertEquals(0, otelFactory.driverMetrics().leaks(DriverMetrics.ResourceKind.RESULT_SET));
+            current.close();
+        }
+        Assertions.assertEquals(0, otelFactory.leakDetector().tracked());
+    }
+
+    @EnumSource(WrapperEngine.class)
+    @ParameterizedTest
+    public void whenStatementClosedThroughItsResultSet_thenNotLeak_Test(WrapperEngine engine) throws Exception {
+        try (Connection conn = connect(engine)) {
+            closeThroughResultSet(conn, "select 1");
+            Assertions.assertEquals(0, otelFactory.driverMetrics().open(DriverMetrics.ResourceKind.STATEMENT));
+            Assertions.assertEquals(0, otelFactory.driverMetrics().open(DriverMetrics.ResourceKind.RESULT_SET));
+
+            awaitGc(() -> otelFactory.leakDetector().tracked() == 1);
+        }
+        Assertions.assertEquals(0, otelFactory.driverMetrics().leaks(DriverMetrics.ResourceKind.STATEMENT));
+        Assertions.assertEquals(0, otelFactory.driverMetrics().leaks(DriverMetrics.ResourceKind.RESULT_SET));
+    }
+
+    @Test
+    public void renderSkipsWrapperFramesTest() {
+        StackTraceElement[] frames = {
+                new StackTraceElement("insight.TraceNode", "wrap", "TraceNode.java", 1),
+                new StackTraceElement("insight.ConnectionWrapper", "createStatement", "ConnectionWrapper.java", 2),
+                new StackTraceElement("com.example.Dao", "load", "Dao.java", 7),
+                new StackTraceElement("insight.ConnectionWrapper", "close", "ConnectionWrapper.java", 3)};
+
+        Assertions.assertEquals("\tat com.example.Dao.load(Dao.java:7)\n"
+                        + "\tat insight.ConnectionWrapper.close(ConnectionWrapper.java:3)\n",
+                LeakDetector.render(frames));
+    }
+
+    private static void leakStatement(Connection conn, String sql) throws SQLException {
+        conn.createStatement().executeQuery(sql);
+    }
+
+    private static void closeThroughResultSet(Connection conn, String sql) throws SQLException {
+        conn.createStatement().executeQuery(sql).getStatement().close();
+    }
+
+    private void awaitGc(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        while (!condition.getAsBoolean()) {
+            Assertions.assertTrue(System.nanoTime() < deadline, "timed out waiting for the garbage collector");
+            System.gc();
+            Thread.sleep(10);
+        }
+    }
+
+    private List<SpanData> spans() {
+        otelFactory.forceFlush();
+        return exporter.getFinishedSpanItems();
+    }
+
+    private Connection connect(WrapperEngine engine) throws SQLException {
+        return connect(engine, "leakDetection", "true", "leakSiteRatio", "1", "metrics", "true");
+    }
+}
@@ -0,0 +1,84 @@
+package insight;
+
+import io.opentelemetry.sdk.trace.data.SpanData;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.sql.*;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+
+class MethodFilterTest extends DriverTestBase {
+    @CsvSource(delimiter = '|', value = {
+            "Statement.execute*,Connection.commit | ResultSet.get*,isClosed | Statement            | executeQuery | true",
+            "Statement.execute*,Connection.commit | ResultSet.get*,isClosed | PreparedStatement    | executeQuery | true",
+            "Statement.execute*,Connection.commit | ResultSet.get*,isClosed | Connection           | commit       | true",
+            "Statement.execute*,Connection.commit | ResultSet.get*,isClosed | Connection           | rollback     | false",
+            "Statement.execute*,Connection.commit | ResultSet.get*,isClosed | Statement            | isClosed     | false",
+            "                                     | ResultSet.get*,isClosed | ResultSet            | next         | true",
+            "                                     | ResultSet.get*,isClosed | ResultSet            | getInt       | false",
+            "                                     | ResultSet.get*,isClosed | Connection           | isClosed     | false",
+            "                                     | ResultSet.get*,isClosed | Connection           | getMetaData  | true",
+    })
+    @ParameterizedTest
+    public void isTracedTest(String includes, String excludes, String type, String method, boolean expected)
+            throws ReflectiveOperationException {
+        MethodFilter filter = MethodFilter.parse(includes, excludes);
+        Class<?> jdbcType = Class.forName("java.sql." + type);
+        MethodInfo info = MethodInfo.of(Arrays.stream(jdbcType.getMethods())
+                .filter(m -> m.getName().equals(method))
+                .findFirst()
+                .orElseThrow());
+
+        Assertions.assertEquals(expected, filter.isTraced(info));
+        Assertions.assertEquals(expected, filter.isTraced(info));
+    }
+
+    @Test
+    public void whenCallsFilteredOut_thenOnlyIncludedCallsAreTraced_Test() throws SQLException {
+        Properties props = new Properties();
+        props.put("traceInclude", "Statement.execute*");
+        props.put("resultSetTracing", "calls");
+
+        List<String> spans = run(props);
+
+        Assertions.assertEquals(List.of("executeQuery(arg0: String): ResultSet"),
+                spans.stream().filter(name -> name.contains("(")).toList());
+    }
+
+    @Test
+    public void whenConnectionNotSampled_thenNoSpans_Test() throws SQLException {
+        Properties props = new Properties();
+        props.put("sampleRatio", "0");
+        props.put("sampleScope", "connection");
+
+        Assertions.assertEquals(List.of(), run(props));
+    }
+
+    @Test
+    public void whenStatementNotSampled_thenOnlyConnectionCallsAreTraced_Test() throws SQLException {
+        Properties props = new Properties();
+        props.put("sampleRatio", "0");
+
+        List<String> spans = run(props);
+
+        Assertions.assertTrue(spans.contains("createStatement(): Statement"));
+        Assertions.assertTrue(spans.stream().noneMatch(name -> name.startsWith("executeQuery")));
+        Assertions.assertTrue(spans.stream().noneMatch(name -> name.equals(ResultSetAggregator.SPAN_NAME)));
+    }
+
+    private List<String> run(Properties props) throws SQLException {
+        try (Connection conn = connect(props);
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("select 1")) {
+            while (rs.next()) {
+                rs.getInt(1);
+            }
+        }
+        otelFactory.forceFlush();
+        return exporter.getFinishedSpanItems().stream().map(SpanData::getName).toList();
+    }
+}
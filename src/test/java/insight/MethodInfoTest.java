@@ -0,0 +1,107 @@
+package insight;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Method;
+import java.sql.Clob;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Savepoint;
+import java.sql.Statement;
+
+class MethodInfoTest {
+    private static final int CALLS = 100_000;
+
+    @Test
+    public void whenSameMethod_thenMetadataIsCached_Test() throws NoSuchMethodException {
+        Method method = ResultSet.class.getMethod("getInt", int.class);
+
+        MethodInfo info = MethodInfo.of(method);
+
+        Assertions.assertSame(info, MethodInfo.of(method));
+        Assertions.assertEquals(Utils.buildMethodSignature(method), info.spanName());
+        Assertions.assertEquals("arg0", info.argKey(0).getKey());
+    }
+
+    @Test
+    public void returnKindTest() throws NoSuchMethodException {
+        Assertions.assertEquals(MethodInfo.ReturnKind.RESULT_SET,
+                MethodInfo.of(Statement.class.getMethod("executeQuery", String.class)).returnKind());
+        Assertions.assertEquals(MethodInfo.ReturnKind.PROXY,
+                MethodInfo.of(Connection.class.getMethod("getMetaData")).returnKind());
+        Assertions.assertEquals(MethodInfo.ReturnKind.VALUE,
+                MethodInfo.of(DatabaseMetaData.class.getMethod("getURL")).returnKind());
+        Assertions.assertEquals(MethodInfo.ReturnKind.VALUE,
+                MethodInfo.of(Connection.class.getMethod("getTypeMap")).returnKind());
+        Assertions.assertEquals(MethodInfo.ReturnKind.VOID,
+                MethodInfo.of(Connection.class.getMethod("close")).returnKind());
+        Assertions.assertEquals(MethodInfo.ReturnKind.STREAM,
+                MethodInfo.of(ResultSet.class.getMethod("getBinaryStream", int.class)).returnKind());
+        Assertions.assertEquals(MethodInfo.ReturnKind.STREAM,
+                MethodInfo.of(Clob.class.getMethod("setCharacterStream", long.class)).returnKind());
+    }
+
+    @Test
+    public void transactionRoleTest() throws NoSuchMethodException {
+        Assertions.assertEquals(MethodInfo.TransactionRole.COMMIT,
+                MethodInfo.of(Connection.class.getMethod("commit")).transactionRole());
+        Assertions.assertEquals(MethodInfo.TransactionRole.ROLLBACK,
+                MethodInfo.of(Connection.class.getMethod("rollback")).transactionRole());
+        Assertions.assertEquals(MethodInfo.TransactionRole.ROLLBACK_TO_SAVEPOINT,
+                MethodInfo.of(Connection.class.getMethod("rollback", Savepoint.class)).transactionRole());
+        Assertions.assertEquals(MethodInfo.TransactionRole.SAVEPOINT,
+                MethodInfo.of(Connection.class.getMethod("setSavepoint", String.class)).transactionRole());
+        Assertions.assertEquals(MethodInfo.TransactionRole.SET_AUTO_COMMIT,
+                MethodInfo.of(Connection.class.getMethod("setAutoCommit", boolean.class)).transactionRole());
+        Assertions.assertEquals(MethodInfo.TransactionRole.CLOSE,
+                MethodInfo.of(Connection.class.getMethod("close")).transactionRole());
+        Assertions.assertEquals(MethodInfo.TransactionRole.NONE,
+                MethodInfo.of(Statement.class.getMethod("close")).transactionRole());
+    }
+
+    @Test
+    public void batchRoleTest() throws NoSuchMethodException {
+        Assertions.assertEquals(MethodInfo.BatchRole.ADD,
+                MethodInfo.of(PreparedStatement.class.getMethod("addBatch")).batchRole());
+        Assertions.assertEquals(MethodInfo.BatchRole.ADD,
+                MethodInfo.of(Statement.class.getMethod("addBatch", String.class)).batchRole());
+        Assertions.assertEquals(MethodInfo.BatchRole.CLEAR,
+                MethodInfo.of(Statement.class.getMethod("clearBatch")).batchRole());
+        Assertions.assertEquals(MethodInfo.BatchRole.EXECUTE,
+                MethodInfo.of(Statement.class.getMethod("executeBatch")).batchRole());
+        Assertions.assertEquals(MethodInfo.BatchRole.EXECUTE,
+                MethodInfo.of(Statement.class.getMethod("executeLargeBatch")).batchRole());
+        Assertions.assertEquals(MethodInfo.BatchRole.NONE,
+                MethodInfo.of(Statement.class.getMethod("execute", String.class)).batchRole());
+    }
+
+    @Test
+    public void whenMetadataCached_thenLookupDoesNotAllocate_Test() throws NoSuchMethodException {
+        Method method = ResultSet.class.getMethod("getString", int.class);
+
+        long signatureBytes = allocatedPerCall(() -> Utils.buildMethodSignature(method));
+        long lookupBytes = allocatedPerCall(() -> MethodInfo.of(method));
+
+        Assertions.assertTrue(signatureBytes > lookupBytes,
+                "signature built with " + signatureBytes + " bytes per call, cached lookup " + lookupBytes);
+        Assertions.assertTrue(lookupBytes < 8, "cached lookup allocated " + lookupBytes + " bytes per call");
+    }
+
+    private static long allocatedPerCall(Runnable call) {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        for (int i = 0; i < CALLS; i++) {
+            call.run();
+        }
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < CALLS; i++) {
+            call.run();
+        }
+        return (threads.getThreadAllocatedBytes(threadId) - before) / CALLS;
+    }
+}
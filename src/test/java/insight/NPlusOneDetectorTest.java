@@ -0,0 +1,152 @@
+package insight;
+
+import io.opentelemetry.sdk.metrics.data.LongPointData;
+import io.opentelemetry.sdk.metrics.data.MetricData;
+import io.opentelemetry.sdk.trace.data.EventData;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.sql.*;
+import java.time.Duration;
+import java.util.List;
+
+class NPlusOneDetectorTest extends DriverTestBase {
+    @EnumSource(WrapperEngine.class)
+    @ParameterizedTest
+    public void whenSameQueryRepeats_thenPatternReportedOnce_Test(WrapperEngine engine) throws SQLException {
+        try (Connection conn = connect(engine, 3);
+             Statement stmt = conn.createStatement()) {
+            for (int id = 1; id <= 5; id++) {
+                stmt.executeQuery("select * from orders where customer_id = " + id).close();
+            }
+        }
+
+        List<EventData> events = nPlusOneEvents();
+        Assertions.assertEquals(1, events.size());
+        Assertions.assertEquals("select * from orders where customer_id = ?",
+                events.get(0).getAttributes().get(QueryStatsRegistry.FINGERPRINT));
+        Assertions.assertEquals(3, events.get(0).getAttributes().get(NPlusOneDetector.REPEATS));
+        LongPointData point = metric(QueryStatsRegistry.N_PLUS_ONE_METRIC).getLongSumData().getPoints()
+                .iterator().next();
+        Assertions.assertEquals(1, point.getValue());
+        Assertions.assertEquals("select * from orders where customer_id = ?",
+                point.getAttributes().get(QueryStatsRegistry.FINGERPRINT));
+    }
+
+    @EnumSource(WrapperEngine.class)
+    @ParameterizedTest
+    public void whenPreparedQueryRepeatsWithNewValues_thenPatternReported_Test(WrapperEngine engine)
+            throws SQLException {
+        try (Connection conn = connect(engine, 3);
+             PreparedStatement stmt = conn.prepareStatement("select * from orders where customer_id = ?")) {
+            for (int id = 1; id <= 3; id++) {
+                stmt.setInt(1, id);
+                stmt.executeQuery().close();
+            }
+        }
+
+        Assertions.assertEquals(1, nPlusOneEvents().size());
+    }
+
+    @EnumSource(WrapperEngine.class)
+    @ParameterizedTest
+    public void whenSameExecutionIsPolled_thenNoPattern_Test(WrapperEngine engine) throws SQLException {
+        try (Connection conn = connect(engine, 3);
+             Statement stmt = conn.createStatement();
+             PreparedStatement prepared = conn.prepareStatement("select * from jobs where queue = ?")) {
+            prepared.setString(1, "mail");
+            for (int i = 0; i < 5; i++) {
+                stmt.executeQuery("select * from orders where customer_id = 1").close();
+                prepared.executeQuery().close();
+            }
+        }
+
+        Assertions.assertTrue(nPlusOneEvents().isEmpty());
+    }
+
+    @Test
+    public void whenEachTransactionRunsQueryFewTimes_thenNoPattern_Test() throws SQLException {
+        try (Connection conn = connect(WrapperEngine.PROXY, 3);
+             PreparedStatement stmt = conn.prepareStatement("update t set a = ? where id = ?")) {
+            conn.setAutoCommit(false);
+            for (int i = 0; i < 3; i++) {
+                stmt.executeUpdate();
+                stmt.executeUpdate();
+                conn.commit();
+            }
+        }
+
+        Assertions.assertTrue(nPlusOneEvents().isEmpty());
+    }
+
+    @Test
+    public void whenBatched_thenCalledOnceWithBatchSize_Test() throws SQLException {
+        try (Connection conn = connect(WrapperEngine.STATIC, 3);
+             PreparedStatement stmt = conn.prepareStatement("insert into t values (?)")) {
+            for (int i = 0; i < 5; i++) {
+                stmt.setInt(1, i);
+                stmt.addBatch();
+            }
+            stmt.executeBatch();
+            stmt.addBatch();
+            stmt.clearBatch();
+            stmt.addBatch();
+            stmt.executeBatch();
+        }
+
+        List<SpanData> spans = spans();
+        Assertions.assertTrue(spans.stream().noneMatch(s -> s.getName().startsWith("addBatch(")));
+        List<Long> sizes = spans.stream().filter(s -> s.getName().startsWith("executeBatch("))
+                .map(s -> s.getAttributes().get(TraceNode.BATCH_SIZE)).toList();
+        Assertions.assertEquals(List.of(5L, 1L), sizes);
+        Assertions.assertTrue(nPlusOneEvents().isEmpty());
+    }
+
+    @Test
+    public void whenWindowPasses_thenCountStartsOver_Test() {
+        NPlusOneDetector detector = new NPlusOneDetector(new QueryStatsRegistry(16, 16),
+                new NPlusOneConfig(2, Duration.ofMillis(10)));
+        long start = System.nanoTime();
+
+        Assertions.assertNull(detector.executed("select 1", 1, -1, start));
+        Assertions.assertNull(detector.executed("select 1", 2, -1, start + Duration.ofMillis(20).toNanos()));
+        Assertions.assertNotNull(detector.executed("select 1", 3, -1, start + Duration.ofMillis(21).toNanos()));
+    }
+
+    @Test
+    public void whenManyFingerprints_thenStateStaysBounded_Test() {
+        QueryStatsRegistry registry = new QueryStatsRegistry(16, 16);
+        NPlusOneDetector detector = new NPlusOneDetector(registry, NPlusOneConfig.DEFAULT);
+
+        for (int i = 0; i < 1000; i++) {
+            detector.executed("select * from t" + i, i, -1, 0);
+        }
+
+        Assertions.assertEquals(NPlusOneDetector.MAX_FINGERPRINTS, detector.size());
+    }
+
+    private List<EventData> nPlusOneEvents() {
+        return spans().stream().flatMap(s -> s.getEvents().stream())
+                .filter(e -> e.getName().equals(NPlusOneDetector.EVENT_NAME))
+                .toList();
+    }
+
+    private List<SpanData> spans() {
+        otelFactory.forceFlush();
+        return exporter.getFinishedSpanItems();
+    }
+
+    private MetricData metric(String name) {
+        return metricReader.collectAllMetrics().stream()
+                .filter(m -> m.getName().equals(name))
+                .findFirst().orElseThrow();
+    }
+
+    private Connection connect(WrapperEngine engine, int threshold) throws SQLException {
+        return connect(engine, "nPlusOneThreshold", String.valueOf(threshold), "nPlusOneWindowMs", "60000",
+                "queryMetrics", "true");
+    }
+}
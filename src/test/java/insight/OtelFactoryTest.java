@@ -0,0 +1,91 @@
+package insight;
+
+import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class OtelFactoryTest {
+    private final AtomicInteger exporters = new AtomicInteger();
+    private final InMemorySpanExporter exporter = InMemorySpanExporter.create();
+    private final OtelFactory otelFactory = new OtelFactory(() -> {
+        exporters.incrementAndGet();
+        return exporter;
+    });
+
+    @BeforeAll
+    static void registerStubDriver() throws SQLException {
+        StubDriver.register();
+    }
+
+    @AfterEach
+    void shutdown() {
+        otelFactory.shutdown();
+    }
+
+    @Test
+    public void whenConnectRepeatedly_thenSingleExporterIsCreated_Test() throws SQLException {
+        DriverInsight driver = new DriverInsight(otelFactory);
+
+        for (int i = 0; i < 10; i++) {
+            try (Connection conn = driver.connect(StubDriver.INSIGHT_URL, new Properties());
+                 Statement stmt = conn.createStatement();
+                 ResultSet rs = stmt.executeQuery("select 1")) {
+                while (rs.next()) {
+                    rs.getInt(1);
+                }
+            }
+        }
+
+        otelFactory.forceFlush();
+
+        Assertions.assertEquals(1, exporters.get());
+        Assertions.assertFalse(exporter.getFinishedSpanItems().isEmpty());
+    }
+
+    @Test
+    public void whenNoConnectionRecordsMetrics_thenNoMetricReaderIsCreated_Test() throws SQLException {
+        AtomicInteger readers = new AtomicInteger();
+        OtelFactory factory = new OtelFactory(() -> exporter, () -> {
+            readers.incrementAndGet();
+            return InMemoryMetricReader.create();
+        });
+        try {
+            DriverInsight driver = new DriverInsight(factory);
+            driver.connect(StubDriver.INSIGHT_URL, new Properties()).close();
+            Assertions.assertEquals(0, readers.get());
+
+            Properties props = new Properties();
+            props.setProperty("metrics", "true");
+            driver.connect(StubDriver.INSIGHT_URL, props).close();
+            driver.connect(StubDriver.INSIGHT_URL, props).close();
+            Assertions.assertEquals(1, readers.get());
+        } finally {
+            factory.shutdown();
+        }
+    }
+
+    @Test
+    public void whenSameScopeRequested_thenTracerIsReused_Test() {
+        Assertions.assertSame(otelFactory.initTracer("Connection"), otelFactory.initTracer("Connection"));
+    }
+
+    @Test
+    public void whenScopeLimitReached_thenRegistryStopsGrowing_Test() {
+        for (int i = 0; i < OtelFactory.MAX_TRACERS * 2; i++) {
+            otelFactory.initTracer("scope" + i);
+        }
+
+        Assertions.assertTrue(otelFactory.tracerCount() <= OtelFactory.MAX_TRACERS + 1);
+        Assertions.assertEquals(1, exporters.get());
+    }
+}
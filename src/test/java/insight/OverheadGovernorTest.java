@@ -0,0 +1,112 @@
+package insight;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.sdk.metrics.data.MetricData;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.sql.*;
+import java.time.Duration;
+import java.util.List;
+
+class OverheadGovernorTest extends DriverTestBase {
+    private static final long SECOND = 1_000_000_000L;
+
+    @Test
+    public void whenOverBudget_thenDetailStepsDownAndBackUp_Test() {
+        OverheadGovernor governor = new OverheadGovernor(2, Duration.ofSeconds(1));
+        long now = System.nanoTime();
+
+        now = interval(governor, now, 5, 100);
+        Assertions.assertEquals(OverheadGovernor.Level.NO_CAPTURE, governor.level());
+        Assertions.assertEquals(0.05, governor.overhead(), 0.001);
+        now = interval(governor, now, 5, 100);
+        now = interval(governor, now, 5, 100);
+        now = interval(governor, now, 5, 100);
+        Assertions.assertEquals(OverheadGovernor.Level.SAMPLED, governor.level());
+
+        now = interval(governor, now, 1, 1000);
+        now = interval(governor, now, 1, 1000);
+        Assertions.assertEquals(OverheadGovernor.Level.SAMPLED, governor.level());
+        interval(governor, now, 1, 1000);
+        Assertions.assertEquals(OverheadGovernor.Level.EXECUTIONS_ONLY, governor.level());
+        Assertions.assertEquals(0.001, governor.overhead(), 0.0001);
+    }
+
+    @Test
+    public void whenWithinBudget_thenFullDetail_Test() {
+        OverheadGovernor governor = new OverheadGovernor(2, Duration.ofSeconds(1));
+        long now = System.nanoTime();
+
+        for (int i = 0; i < 5; i++) {
+            now = interval(governor, now, 1, 100);
+        }
+
+        Assertions.assertEquals(OverheadGovernor.Level.FULL, governor.level());
+    }
+
+    @EnumSource(WrapperEngine.class)
+    @ParameterizedTest
+    public void whenExecutionsOnly_thenOtherCallsUntraced_Test(WrapperEngine engine) throws SQLException {
+        try (Connection conn = connect(engine)) {
+            OverheadGovernor governor = otelFactory.overheadGovernor();
+            long now = System.nanoTime();
+            now = interval(governor, now, 50, 100);
+            interval(governor, now, 50, 100);
+            Assertions.assertEquals(OverheadGovernor.Level.EXECUTIONS_ONLY, governor.level());
+
+            try (Statement stmt = conn.createStatement()) {
+                stmt.setFetchSize(10);
+                stmt.executeUpdate("update t set a = 'secret'");
+            }
+        }
+
+        otelFactory.forceFlush();
+        List<SpanData> spans = exporter.getFinishedSpanItems();
+        Assertions.assertTrue(spans.stream().noneMatch(s -> s.getName().startsWith("setFetchSize(")));
+        SpanData execute = spans.stream().filter(s -> s.getName().startsWith("executeUpdate("))
+                .findFirst().orElseThrow();
+        Assertions.assertNull(execute.getAttributes().get(MethodInfo.RETURN_KEY));
+        Assertions.assertNull(execute.getAttributes().get(AttributeKey.stringKey("arg0")));
+    }
+
+    @Test
+    public void whenCallsAreSampled_thenLevelAndOverheadExported_Test() throws SQLException {
+        try (Connection conn = connect(WrapperEngine.PROXY);
+             Statement stmt = conn.createStatement()) {
+            for (int i = 0; i < OverheadGovernor.SAMPLE_EVERY * 4; i++) {
+                stmt.executeUpdate("update t set a = 1");
+            }
+        }
+
+        MetricData level = metric(OverheadGovernor.LEVEL_METRIC);
+        Assertions.assertEquals("full", level.getLongGaugeData().getPoints().iterator().next().getAttributes()
+                .get(OverheadGovernor.LEVEL));
+        Assertions.assertNotNull(metric(OverheadGovernor.OVERHEAD_METRIC));
+    }
+
+    /**
+     * Records one interval of timed calls with the given instrumentation and driver time each.
+     */
+    private static long interval(OverheadGovernor governor, long now, long overhead, long driver) {
+        for (int i = 0; i < OverheadGovernor.MIN_SAMPLES; i++) {
+            governor.record(OverheadGovernor.CallClass.EXECUTE, overhead, driver, now);
+        }
+        now += SECOND + 1;
+        governor.record(OverheadGovernor.CallClass.EXECUTE, overhead, driver, now);
+        return now;
+    }
+
+    private MetricData metric(String name) {
+        return metricReader.collectAllMetrics().stream()
+                .filter(m -> m.getName().equals(name))
+                .findFirst().orElseThrow();
+    }
+
+    private Connection connect(WrapperEngine engine) throws SQLException {
+        return connect(engine, "overheadBudgetPercent", "2");
+    }
+}
@@ -0,0 +1,102 @@
+package insight;
+
+import io.opentelemetry.sdk.metrics.data.HistogramPointData;
+import io.opentelemetry.sdk.metrics.data.MetricData;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.sql.*;
+import java.util.Collection;
+import java.util.List;
+
+class QueryStatsRegistryTest extends DriverTestBase {
+    @EnumSource(WrapperEngine.class)
+    @ParameterizedTest
+    public void whenQueriesDifferInLiterals_thenOneFingerprint_Test(WrapperEngine engine) throws SQLException {
+        try (Connection conn = connect(engine);
+             Statement stmt = conn.createStatement()) {
+            for (int i = 0; i < 3; i++) {
+                try (ResultSet rs = stmt.executeQuery("select * from t where id = " + i)) {
+                    while (rs.next()) {
+                        rs.getInt(1);
+                    }
+                }
+            }
+            stmt.executeUpdate("update t set a = 1");
+            Assertions.assertThrows(SQLException.class, () -> stmt.executeQuery(StubDriver.FAILING_SQL));
+        }
+
+        List<QueryStats.Snapshot> top = otelFactory.queryStats().top(10);
+        QueryStats.Snapshot select = find(top, "select * from t where id = ?");
+        Assertions.assertEquals(3, select.calls());
+        Assertions.assertEquals(3L * StubDriver.ROWS, select.rows());
+        Assertions.assertEquals(1, find(top, "update t set a = ?").rows());
+        Assertions.assertEquals(1, find(top, StubDriver.FAILING_SQL).errors());
+
+        otelFactory.forceFlush();
+        List<SpanData> spans = exporter.getFinishedSpanItems();
+        Assertions.assertEquals(3, spans.stream()
+                .filter(s -> s.getName().equals("SQL: [select * from t where id = ?]")).count());
+    }
+
+    @Test
+    public void whenPrepared_thenFingerprintFromPreparedSql_Test() throws SQLException {
+        try (Connection conn = connect(WrapperEngine.STATIC);
+             PreparedStatement stmt = conn.prepareStatement("select * from t where id = ?")) {
+            stmt.setInt(1, 7);
+            stmt.executeQuery().close();
+        }
+
+        Assertions.assertEquals(1, find(otelFactory.queryStats().top(10), "select * from t where id = ?").calls());
+    }
+
+    @Test
+    public void whenCollected_thenHistogramPerFingerprint_Test() throws SQLException {
+        try (Connection conn = connect(WrapperEngine.PROXY);
+             Statement stmt = conn.createStatement()) {
+            stmt.executeUpdate("delete from t where id = 1");
+            stmt.executeUpdate("delete from t where id = 2");
+        }
+
+        Collection<MetricData> metrics = metricReader.collectAllMetrics();
+        MetricData duration = metrics.stream().filter(m -> m.getName().equals(QueryStatsRegistry.DURATION_METRIC))
+                .findFirst().orElseThrow();
+        HistogramPointData point = duration.getHistogramData().getPoints().iterator().next();
+        Assertions.assertEquals("delete from t where id = ?",
+                point.getAttributes().get(QueryStatsRegistry.FINGERPRINT));
+        Assertions.assertEquals(2, point.getCount());
+        Assertions.assertEquals(LatencyHistogram.BUCKETS, point.getCounts().size());
+    }
+
+    @Test
+    public void whenTooManyFingerprints_thenCountedAsOther_Test() {
+        QueryStatsRegistry registry = new QueryStatsRegistry(16, 2);
+        registry.stats("select a from t").record(1000, false);
+        registry.stats("select b from t").record(1000, false);
+        registry.stats("select c from t").record(5_000_000, false);
+
+        List<QueryStats.Snapshot> top = registry.top(10);
+        Assertions.assertEquals(3, top.size());
+        Assertions.assertEquals(QueryStatsRegistry.OTHER, top.get(0).fingerprint());
+    }
+
+    @Test
+    public void whenRecording_thenBucketedByPowersOfTwoMicros_Test() {
+        Assertions.assertEquals(0, LatencyHistogram.bucket(500));
+        Assertions.assertEquals(1, LatencyHistogram.bucket(2_000));
+        Assertions.assertEquals(2, LatencyHistogram.bucket(3_000));
+        Assertions.assertEquals(10, LatencyHistogram.bucket(1_024_000));
+        Assertions.assertEquals(LatencyHistogram.BUCKETS - 1, LatencyHistogram.bucket(Long.MAX_VALUE));
+    }
+
+    private Connection connect(WrapperEngine engine) throws SQLException {
+        return connect(engine, "queryMetrics", "true");
+    }
+
+    private static QueryStats.Snapshot find(List<QueryStats.Snapshot> snapshots, String fingerprint) {
+        return snapshots.stream().filter(s -> s.fingerprint().equals(fingerprint)).findFirst().orElseThrow();
+    }
+}
@@ -0,0 +1,79 @@
+package insight;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.sql.*;
+import java.util.List;
+
+class ResultSetAggregatorTest extends DriverTestBase {
+    @EnumSource(WrapperEngine.class)
+    @ParameterizedTest
+    public void whenAggregating_thenOneSummarySpanPerResultSet_Test(WrapperEngine engine) throws SQLException {
+        List<SpanData> spans = iterate(engine, InsightConfig.ResultSetTracing.AGGREGATE);
+
+        List<SpanData> fetches = spans.stream().filter(s -> s.getName().equals(ResultSetAggregator.SPAN_NAME)).toList();
+        Assertions.assertEquals(1, fetches.size());
+        SpanData fetch = fetches.get(0);
+        Assertions.assertEquals(StubDriver.ROWS, fetch.getAttributes().get(ResultSetAggregator.ROWS));
+        Assertions.assertEquals(StubDriver.ROWS + 1, fetch.getAttributes().get(ResultSetAggregator.NEXT_CALLS));
+        Assertions.assertEquals(2L * StubDriver.ROWS, fetch.getAttributes().get(ResultSetAggregator.GET_CALLS));
+        Assertions.assertEquals(StubDriver.ROWS, fetch.getAttributes().get(getterCalls("getInt")));
+        Assertions.assertEquals(StubDriver.ROWS, fetch.getAttributes().get(getterCalls("getString")));
+        Assertions.assertEquals(true, fetch.getAttributes().get(ResultSetAggregator.EXHAUSTED));
+        Assertions.assertNotNull(fetch.getAttributes().get(ResultSetAggregator.FIRST_ROW));
+        Assertions.assertTrue(spans.stream().noneMatch(s -> s.getName().startsWith("next(")));
+    }
+
+    @EnumSource(WrapperEngine.class)
+    @ParameterizedTest
+    public void whenTracingCalls_thenSpanPerResultSetCall_Test(WrapperEngine engine) throws SQLException {
+        List<SpanData> spans = iterate(engine, InsightConfig.ResultSetTracing.CALLS);
+
+        Assertions.assertTrue(spans.stream().noneMatch(s -> s.getName().equals(ResultSetAggregator.SPAN_NAME)));
+        Assertions.assertEquals(StubDriver.ROWS + 1,
+                spans.stream().filter(s -> s.getName().startsWith("next(")).count());
+    }
+
+    @EnumSource(WrapperEngine.class)
+    @ParameterizedTest
+    public void whenResultSetClosedByItsStatement_thenFetchSpanEnds_Test(WrapperEngine engine) throws SQLException {
+        try (Connection conn = connect(engine, "resultSetTracing", InsightConfig.ResultSetTracing.AGGREGATE.name(),
+                "queryMetrics", "true")) {
+            Statement stmt = conn.createStatement();
+            stmt.executeQuery("select 1").next();
+            stmt.executeQuery("select 1").next();
+            stmt.close();
+        }
+        otelFactory.forceFlush();
+
+        List<SpanData> fetches = exporter.getFinishedSpanItems().stream()
+                .filter(s -> s.getName().equals(ResultSetAggregator.SPAN_NAME)).toList();
+        Assertions.assertEquals(2, fetches.size());
+        for (SpanData fetch : fetches) {
+            Assertions.assertEquals(1L, fetch.getAttributes().get(ResultSetAggregator.ROWS));
+            Assertions.assertEquals(false, fetch.getAttributes().get(ResultSetAggregator.EXHAUSTED));
+        }
+        Assertions.assertEquals(2, otelFactory.queryStats().stats("select 1").snapshot().rows());
+    }
+
+    private List<SpanData> iterate(WrapperEngine engine, InsightConfig.ResultSetTracing tracing) throws SQLException {
+        try (Connection conn = connect(engine, "resultSetTracing", tracing.name());
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("select 1")) {
+            while (rs.next()) {
+                rs.getInt(1);
+                rs.getString(1);
+            }
+        }
+        otelFactory.forceFlush();
+        return exporter.getFinishedSpanItems();
+    }
+
+    private static AttributeKey<Long> getterCalls(String getter) {
+        return ResultSetAggregator.GETTER_CALLS.get(MethodInfo.RESULT_SET_GETTERS.indexOf(getter));
+    }
+}
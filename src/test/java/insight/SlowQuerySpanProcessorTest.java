@@ -0,0 +1,134 @@
+package insight;
+
+import io.opentelemetry.sdk.trace.data.SpanData;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.sql.*;
+import java.util.List;
+import java.util.Properties;
+
+class SlowQuerySpanProcessorTest extends DriverTestBase {
+    private static final String EXECUTE_QUERY = "executeQuery(";
+
+    @EnumSource(InsightConfig.ResultSetTracing.class)
+    @ParameterizedTest
+    public void whenFasterThanThreshold_thenStatementSpansDiscarded_Test(InsightConfig.ResultSetTracing tracing)
+            throws SQLException {
+        List<SpanData> spans = query(props("60000", tracing), "select 1");
+
+        Assertions.assertTrue(spans.stream().noneMatch(s -> s.getName().startsWith(EXECUTE_QUERY)));
+        Assertions.assertTrue(spans.stream().noneMatch(s -> s.getName().equals(ResultSetAggregator.SPAN_NAME)));
+        Assertions.assertTrue(spans.stream().noneMatch(s -> s.getName().startsWith("next(")));
+        Assertions.assertTrue(spans.stream().anyMatch(s -> s.getName().startsWith("createStatement(")));
+        Assertions.assertEquals(1, otelFactory.slowQueryStats().discarded());
+        Assertions.assertEquals(0, otelFactory.slowQueryStats().buffered());
+    }
+
+    @Test
+    public void whenSlowerThanThreshold_thenStatementTreeExported_Test() throws SQLException {
+        List<SpanData> spans = query(props("0", InsightConfig.ResultSetTracing.AGGREGATE), "select 1");
+
+        SpanData execute = spans.stream().filter(s -> s.getName().startsWith(EXECUTE_QUERY)).findFirst().orElseThrow();
+        SpanData fetch = spans.stream().filter(s -> s.getName().equals(ResultSetAggregator.SPAN_NAME))
+                .findFirst().orElseThrow();
+        Assertions.assertEquals(execute.getTraceId(), fetch.getTraceId());
+        Assertions.assertEquals(1, otelFactory.slowQueryStats().exported());
+    }
+
+    @Test
+    public void whenStatementFails_thenStatementTreeExported_Test() throws SQLException {
+        Properties props = props("60000", InsightConfig.ResultSetTracing.AGGREGATE);
+        try (Connection conn = connect(props);
+             Statement stmt = conn.createStatement()) {
+            Assertions.assertThrows(SQLException.class, () -> stmt.executeQuery(StubDriver.FAILING_SQL));
+        }
+        otelFactory.forceFlush();
+
+        SpanData execute = exporter.getFinishedSpanItems().stream()
+                .filter(s -> s.getName().startsWith(EXECUTE_QUERY)).findFirst().orElseThrow();
+        Assertions.assertEquals(true, execute.getAttributes().get(SpanInvocation.ERROR));
+    }
+
+    @Test
+    public void whenResultSetOutlivesThreshold_thenExportedWhenStatementClosesIt_Test() throws Exception {
+        Properties props = props("50", InsightConfig.ResultSetTracing.AGGREGATE);
+        try (Connection conn = connect(props);
+             Statement stmt = conn.createStatement()) {
+            stmt.executeQuery("select 1");
+            Thread.sleep(200);
+            stmt.executeQuery("select 2").close();
+        }
+        otelFactory.forceFlush();
+
+        Assertions.assertTrue(exporter.getFinishedSpanItems().stream().anyMatch(s -> s.getName().startsWith(EXECUTE_QUERY)));
+        Assertions.assertEquals(0, otelFactory.slowQueryStats().buffered());
+    }
+
+    @Test
+    public void whenOnlyResultSetIsOpen_thenSweepDoesNotExport_Test() throws Exception {
+        Properties props = props("50", InsightConfig.ResultSetTracing.AGGREGATE);
+        try (Connection conn = connect(props);
+             Statement open = conn.createStatement();
+             Statement other = conn.createStatement()) {
+            open.executeQuery("select 1").next();
+            Thread.sleep(200);
+            other.executeQuery("select 2").close();
+            Thread.sleep(200);
+            other.executeQuery("select 3").close();
+
+            Assertions.assertEquals(0, otelFactory.slowQueryStats().exported());
+            Assertions.assertTrue(otelFactory.slowQueryStats().buffered() > 0);
+        }
+        Assertions.assertEquals(0, otelFactory.slowQueryStats().buffered());
+    }
+
+    @Test
+    public void whenConnectionBufferFull_thenSpansOverflow_Test() throws SQLException {
+        Properties props = props("60000", InsightConfig.ResultSetTracing.CALLS);
+        props.put("slowQueryMaxSpans", "1");
+        query(props, "select 1");
+
+        SlowQuerySpanProcessor.Stats stats = otelFactory.slowQueryStats();
+        Assertions.assertTrue(stats.overflow() > 0);
+        Assertions.assertEquals(0, stats.buffered());
+    }
+
+    @Test
+    public void whenResultSetsAreLeftOpen_thenOldestExecutionEvicted_Test() throws SQLException {
+        Properties props = props("60000", InsightConfig.ResultSetTracing.AGGREGATE);
+        props.put("slowQueryMaxSpans", "1");
+        try (Connection conn = connect(props);
+             Statement first = conn.createStatement();
+             Statement second = conn.createStatement()) {
+            first.executeQuery("select 1").next();
+            second.executeQuery("select 2").next();
+
+            SlowQuerySpanProcessor.Stats stats = otelFactory.slowQueryStats();
+            Assertions.assertEquals(1, stats.evicted());
+            Assertions.assertEquals(1, stats.buffered());
+        }
+        Assertions.assertEquals(0, otelFactory.slowQueryStats().buffered());
+    }
+
+    private List<SpanData> query(Properties props, String sql) throws SQLException {
+        try (Connection conn = connect(props);
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            while (rs.next()) {
+                rs.getInt(1);
+            }
+        }
+        otelFactory.forceFlush();
+        return exporter.getFinishedSpanItems();
+    }
+
+    private static Properties props(String thresholdMs, InsightConfig.ResultSetTracing tracing) {
+        Properties props = new Properties();
+        props.put("slowQueryThresholdMs", thresholdMs);
+        props.put("resultSetTracing", tracing.name());
+        return props;
+    }
+}
@@ -0,0 +1,51 @@
+package insight;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.stream.Stream;
+
+class SqlNormalizerTest {
+
+    @MethodSource("statements")
+    @ParameterizedTest
+    public void whenNormalizing_thenLiteralsStripped_Test(String sql, String expected) {
+        Assertions.assertEquals(expected, SqlNormalizer.normalize(sql));
+    }
+
+    private static Stream<Arguments> statements() {
+        return Stream.of(
+                Arguments.of("SELECT * FROM t WHERE id = 42", "select * from t where id = ?"),
+                Arguments.of("select *\n  from t\twhere name = 'O''Brien'", "select * from t where name = ?"),
+                Arguments.of("select * from t where id in (1, 2, 3)", "select * from t where id in (?)"),
+                Arguments.of("select * from t where id IN(?,?,?)", "select * from t where id in (?)"),
+                Arguments.of("insert into t (a, b) values (1, 'x'), (2, 'y')", "insert into t (a, b) values (?, ?)"),
+                Arguments.of("select \"Name\" from t1 -- comment", "select \"Name\" from t1"),
+                Arguments.of("select /* hint */ x from t where v = 1.5e-3", "select x from t where v = ?"),
+                Arguments.of("select * from t where a = $1 and b = N'text'", "select * from t where a = ? and b = ?"),
+                Arguments.of("select ( a ) from t", "select (a) from t"));
+    }
+
+    @Test
+    public void whenSameSqlRepeated_thenNormalizedOnce_Test() {
+        FingerprintCache cache = new FingerprintCache(64);
+        for (int i = 0; i < 10; i++) {
+            Assertions.assertEquals("select ?", cache.fingerprint("select 1"));
+        }
+        Assertions.assertEquals(1, cache.misses());
+    }
+
+    @Test
+    public void whenCacheFull_thenLeastRecentlyUsedEvicted_Test() {
+        FingerprintCache cache = new FingerprintCache(16);
+        for (int i = 0; i < 1000; i++) {
+            cache.fingerprint("select " + i);
+        }
+        long misses = cache.misses();
+        cache.fingerprint("select 0");
+        Assertions.assertEquals(misses + 1, cache.misses());
+    }
+}
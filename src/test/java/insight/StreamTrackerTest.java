@@ -0,0 +1,144 @@
+package insight;
+
+import io.opentelemetry.sdk.trace.data.SpanData;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.sql.*;
+import java.util.List;
+
+class StreamTrackerTest extends DriverTestBase {
+    @EnumSource(WrapperEngine.class)
+    @ParameterizedTest
+    public void whenStreamReadToEnd_thenSummarySpanUnderFetch_Test(WrapperEngine engine) throws Exception {
+        try (Connection conn = connect(engine, true, true);
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("select data from documents")) {
+            rs.next();
+            InputStream in = rs.getBinaryStream(1);
+            byte[] buffer = new byte[8];
+            while (in.read(buffer, 0, buffer.length) >= 0) {
+                // consume
+            }
+        }
+
+        SpanData stream = span(StreamTracker.SPAN_NAME);
+        Assertions.assertEquals("getBinaryStream", stream.getAttributes().get(StreamTracker.METHOD));
+        Assertions.assertEquals("binary_input", stream.getAttributes().get(StreamTracker.KIND));
+        Assertions.assertEquals(StubDriver.LOB.length(), stream.getAttributes().get(StreamTracker.BYTES));
+        Assertions.assertEquals((StubDriver.LOB.length() + 7) / 8, stream.getAttributes().get(StreamTracker.CHUNKS));
+        Assertions.assertTrue(stream.getAttributes().get(StreamTracker.EXHAUSTED));
+        Assertions.assertTrue(stream.getAttributes().get(StreamTracker.FIRST_BYTE) >= 0);
+        Assertions.assertTrue(stream.getAttributes().get(StreamTracker.BLOCKED_TIME) >= 0);
+        Assertions.assertEquals(span(ResultSetAggregator.SPAN_NAME).getSpanId(), stream.getParentSpanId());
+        Assertions.assertEquals(StubDriver.LOB.length(),
+                otelFactory.driverMetrics().streamed(StreamTracker.Kind.BINARY_INPUT));
+    }
+
+    @EnumSource(WrapperEngine.class)
+    @ParameterizedTest
+    public void whenReaderTransferred_thenCharactersCounted_Test(WrapperEngine engine) throws Exception {
+        StringWriter out = new StringWriter();
+        try (Connection conn = connect(engine, true, true);
+             PreparedStatement stmt = conn.prepareStatement("select data from documents where id = ?")) {
+            stmt.setInt(1, 1);
+            try (ResultSet rs = stmt.executeQuery()) {
+                rs.next();
+                try (Reader reader = rs.getCharacterStream("data")) {
+                    reader.transferTo(out);
+                }
+            }
+        }
+
+        Assertions.assertEquals(StubDriver.LOB, out.toString());
+        SpanData stream = span(StreamTracker.SPAN_NAME);
+        Assertions.assertEquals("character_input", stream.getAttributes().get(StreamTracker.KIND));
+        Assertions.assertEquals(StubDriver.LOB.length(), stream.getAttributes().get(StreamTracker.CHARS));
+        Assertions.assertEquals(1, stream.getAttributes().get(StreamTracker.CHUNKS));
+    }
+
+    @EnumSource(WrapperEngine.class)
+    @ParameterizedTest
+    public void whenResultSetMovesOn_thenPartlyReadStreamEnds_Test(WrapperEngine engine) throws Exception {
+        try (Connection conn = connect(engine, true, true);
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("select data from documents")) {
+            rs.next();
+            rs.getBinaryStream(1).read(new byte[4]);
+            rs.next();
+            rs.getCharacterStream(1).read(new char[2]);
+        }
+
+        List<SpanData> streams = spans(StreamTracker.SPAN_NAME);
+        Assertions.assertEquals(2, streams.size());
+        for (SpanData stream : streams) {
+            Assertions.assertFalse(stream.getAttributes().get(StreamTracker.EXHAUSTED));
+        }
+        Assertions.assertEquals(4, otelFactory.driverMetrics().streamed(StreamTracker.Kind.BINARY_INPUT));
+        Assertions.assertEquals(2, otelFactory.driverMetrics().streamed(StreamTracker.Kind.CHARACTER_INPUT));
+    }
+
+    @Test
+    public void whenBlobWritten_thenStreamEndsOnClose_Test() throws Exception {
+        try (Connection conn = connect(WrapperEngine.PROXY, true, true)) {
+            Blob blob = conn.createBlob();
+            OutputStream out = blob.setBinaryStream(1);
+            out.write(new byte[100], 10, 50);
+            out.write(1);
+            Assertions.assertTrue(exporter.getFinishedSpanItems().stream()
+                    .noneMatch(s -> s.getName().equals(StreamTracker.SPAN_NAME)));
+            out.close();
+        }
+
+        SpanData stream = span(StreamTracker.SPAN_NAME);
+        Assertions.assertEquals("binary_output", stream.getAttributes().get(StreamTracker.KIND));
+        Assertions.assertEquals(51, stream.getAttributes().get(StreamTracker.BYTES));
+        Assertions.assertEquals(2, stream.getAttributes().get(StreamTracker.CHUNKS));
+        Assertions.assertNull(stream.getAttributes().get(StreamTracker.EXHAUSTED));
+        Assertions.assertEquals(51, otelFactory.driverMetrics().streamed(StreamTracker.Kind.BINARY_OUTPUT));
+    }
+
+    @Test
+    public void whenTracingOff_thenStreamOnlyCounted_Test() throws Exception {
+        try (Connection conn = connect(WrapperEngine.STATIC, false, true);
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("select data from documents")) {
+            rs.next();
+            rs.getBinaryStream(1).readAllBytes();
+        }
+
+        otelFactory.forceFlush();
+        Assertions.assertTrue(exporter.getFinishedSpanItems().isEmpty());
+        Assertions.assertEquals(StubDriver.LOB.length(),
+                otelFactory.driverMetrics().streamed(StreamTracker.Kind.BINARY_INPUT));
+    }
+
+    @Test
+    public void whenNeitherTracedNorCounted_thenStreamNotWrapped_Test() throws Exception {
+        try (Connection conn = connect(WrapperEngine.STATIC, false, false);
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("select data from documents")) {
+            rs.next();
+            Assertions.assertFalse(rs.getBinaryStream(1) instanceof TrackedInputStream);
+        }
+    }
+
+    private SpanData span(String name) {
+        return spans(name).stream().findFirst().orElseThrow();
+    }
+
+    private List<SpanData> spans(String name) {
+        otelFactory.forceFlush();
+        return exporter.getFinishedSpanItems().stream().filter(s -> s.getName().equals(name)).toList();
+    }
+
+    private Connection connect(WrapperEngine engine, boolean tracing, boolean metrics) throws SQLException {
+        return connect(engine, "tracing", String.valueOf(tracing), "metrics", String.valueOf(metrics));
+    }
+}
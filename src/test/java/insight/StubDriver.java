@@ -0,0 +1,157 @@
+package insight;
+
+import java.io.*;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.sql.*;
+import java.util.Properties;
+import java.util.logging.Logger;
+
+/**
+ * In-memory driver for {@code jdbc:stub:} URLs. Every query returns {@link #ROWS} rows whose first column is the row
+ * number, except {@link #FAILING_SQL}, which fails with SQLState {@code 42000}. Stream getters read {@link #LOB}, and
+ * LOB writers accept anything. Connections start in auto-commit mode unless the {@link #AUTO_COMMIT} property is
+ * {@code false}.
+ */
+public class StubDriver implements Driver {
+    public static final String URL = "jdbc:stub:db";
+    public static final String INSIGHT_URL = "jdbc:insight:stub:db";
+    public static final int ROWS = 3;
+    public static final String FAILING_SQL = "fail";
+    public static final String LOB = "large object contents";
+    public static final String AUTO_COMMIT = "autocommit";
+
+    private static final StubDriver INSTANCE = new StubDriver();
+
+    public static synchronized void register() throws SQLException {
+        if (DriverManager.drivers().noneMatch(d -> d == INSTANCE)) {
+            DriverManager.registerDriver(INSTANCE);
+        }
+    }
+
+    @Override
+    public Connection connect(String url, Properties info) {
+        if (!acceptsURL(url)) {
+            return null;
+        }
+        Stub connection = new Stub();
+        connection.autoCommit = !"false".equals(info.getProperty(AUTO_COMMIT));
+        return stub(Connection.class, connection);
+    }
+
+    @Override
+    public boolean acceptsURL(String url) {
+        return url.startsWith("jdbc:stub:");
+    }
+
+    @Override
+    public DriverPropertyInfo[] getPropertyInfo(String url, Properties info) {
+        return new DriverPropertyInfo[0];
+    }
+
+    @Override
+    public int getMajorVersion() {
+        return 1;
+    }
+
+    @Override
+    public int getMinorVersion() {
+        return 0;
+    }
+
+    @Override
+    public boolean jdbcCompliant() {
+        return false;
+    }
+
+    @Override
+    public Logger getParentLogger() {
+        return null;
+    }
+
+    private static <T> T stub(Class<T> type) {
+        return stub(type, new Stub());
+    }
+
+    private static <T> T stub(Class<T> type, Stub handler) {
+        return type.cast(Proxy.newProxyInstance(StubDriver.class.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+
+    private static class Stub implements InvocationHandler {
+        private int row;
+        private boolean closed;
+        private boolean autoCommit = true;
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws SQLException {
+            if (args != null && args.length > 0 && FAILING_SQL.equals(args[0])) {
+                throw new SQLException("Stub failure", "42000");
+            }
+            switch (method.getName()) {
+                case "next":
+                    return ++row <= ROWS;
+                case "getInt":
+                case "getLong":
+                    return defaultValue(method.getReturnType(), row);
+                case "getString":
+                    return "value" + row;
+                case "close":
+                    closed = true;
+                    return null;
+                case "isClosed":
+                    return closed;
+                case "getAutoCommit":
+                    return autoCommit;
+                case "setAutoCommit":
+                    autoCommit = (Boolean) args[0];
+                    return null;
+                case "executeUpdate":
+                    return 1;
+                case "executeBatch":
+                    return new int[0];
+                case "toString":
+                    return "Stub" + proxy.getClass().getInterfaces()[0].getSimpleName();
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "equals":
+                    return proxy == args[0];
+                default:
+            }
+            Class<?> returnType = method.getReturnType();
+            if (returnType == InputStream.class) {
+                return new ByteArrayInputStream(LOB.getBytes(StandardCharsets.UTF_8));
+            } else if (returnType == Reader.class) {
+                return new StringReader(LOB);
+            } else if (returnType == OutputStream.class) {
+                return new ByteArrayOutputStream();
+            } else if (returnType == Writer.class) {
+                return new StringWriter();
+            }
+            if (returnType.isInterface() && returnType.getName().startsWith("java.sql.")) {
+                return stub(returnType);
+            }
+            return defaultValue(returnType, 0);
+        }
+
+        private static Object defaultValue(Class<?> type, int value) {
+            if (type == boolean.class) {
+                return false;
+            } else if (type == int.class) {
+                return value;
+            } else if (type == long.class) {
+                return (long) value;
+            } else if (type == short.class) {
+                return (short) value;
+            } else if (type == byte.class) {
+                return (byte) value;
+            } else if (type == double.class) {
+                return (double) value;
+            } else if (type == float.class) {
+                return (float) value;
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package insight;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.sql.*;
+import java.util.List;
+
+class TransactionTrackerTest extends DriverTestBase {
+    @EnumSource(WrapperEngine.class)
+    @ParameterizedTest
+    public void whenAutoCommitIsOff_thenStatementsHangOffTransactionSpan_Test(WrapperEngine engine)
+            throws Exception {
+        try (Connection conn = connect(engine, true)) {
+            Statement stmt = conn.createStatement();
+            conn.setAutoCommit(false);
+            stmt.executeUpdate("update t set a = 1");
+            Thread.sleep(20);
+            stmt.executeUpdate("update t set a = 2");
+            conn.commit();
+        }
+        List<SpanData> spans = spans();
+
+        SpanData transaction = only(spans, TransactionTracker.SPAN_NAME);
+        Assertions.assertEquals("commit", transaction.getAttributes().get(TransactionTracker.OUTCOME));
+        Assertions.assertEquals(2, transaction.getAttributes().get(TransactionTracker.STATEMENTS));
+        Assertions.assertEquals(2, transaction.getAttributes().get(TransactionTracker.ROWS));
+        Assertions.assertTrue(transaction.getAttributes().get(TransactionTracker.MAX_IDLE) >= 20_000_000);
+        Assertions.assertTrue(transaction.getAttributes().get(TransactionTracker.IDLE_TIME) >= 20_000_000);
+        Assertions.assertTrue(transaction.getAttributes().get(TransactionTracker.DB_TIME) > 0);
+        Assertions.assertNotNull(transaction.getAttributes().get(TransactionTracker.COMMIT_TIME));
+        Assertions.assertFalse(transaction.getParentSpanContext().isValid());
+        String connectionTrace = spans.stream().filter(s -> s.getName().startsWith("createStatement("))
+                .findFirst().orElseThrow().getTraceId();
+        Assertions.assertNotEquals(connectionTrace, transaction.getTraceId());
+        Assertions.assertEquals(1, transaction.getLinks().size());
+        Assertions.assertEquals(connectionTrace, transaction.getLinks().get(0).getSpanContext().getTraceId());
+        for (SpanData span : spans) {
+            if (span.getName().startsWith("executeUpdate(") || span.getName().startsWith("commit(")) {
+                Assertions.assertEquals(transaction.getSpanId(), span.getParentSpanId(), span.getName());
+            }
+        }
+    }
+
+    @Test
+    public void whenAutoCommitIsOn_thenNoTransactionSpan_Test() throws SQLException {
+        try (Connection conn = connect(WrapperEngine.PROXY, true);
+             Statement stmt = conn.createStatement()) {
+            stmt.executeUpdate("update t set a = 1");
+            conn.commit();
+        }
+
+        Assertions.assertTrue(spans().stream().noneMatch(s -> s.getName().equals(TransactionTracker.SPAN_NAME)));
+    }
+
+    @EnumSource(WrapperEngine.class)
+    @ParameterizedTest
+    public void whenConnectionOpensWithAutoCommitOff_thenFirstStatementStartsTransaction_Test(WrapperEngine engine)
+            throws SQLException {
+        try (Connection conn = connect(engine, "transactions", "true", StubDriver.AUTO_COMMIT, "false");
+             Statement stmt = conn.createStatement()) {
+            stmt.executeUpdate("update t set a = 1");
+            conn.commit();
+        }
+
+        SpanData transaction = only(spans(), TransactionTracker.SPAN_NAME);
+        Assertions.assertEquals("commit", transaction.getAttributes().get(TransactionTracker.OUTCOME));
+        Assertions.assertEquals(1, transaction.getAttributes().get(TransactionTracker.STATEMENTS));
+    }
+
+    @Test
+    public void whenRolledBackWithSavepoints_thenOutcomeAndSavepointsRecorded_Test() throws SQLException {
+        try (Connection conn = connect(WrapperEngine.STATIC, true);
+             Statement stmt = conn.createStatement()) {
+            conn.setAutoCommit(false);
+            stmt.executeUpdate("insert into t values (1)");
+            Savepoint savepoint = conn.setSavepoint();
+            stmt.executeUpdate("insert into t values (2)");
+            conn.rollback(savepoint);
+            conn.rollback();
+        }
+
+        SpanData transaction = only(spans(), TransactionTracker.SPAN_NAME);
+        Assertions.assertEquals("rollback", transaction.getAttributes().get(TransactionTracker.OUTCOME));
+        Assertions.assertEquals(1, transaction.getAttributes().get(TransactionTracker.SAVEPOINTS));
+        Assertions.assertNotNull(transaction.getAttributes().get(TransactionTracker.ROLLBACK_TIME));
+        Assertions.assertEquals(List.of("setSavepoint", "rollback"),
+                transaction.getEvents().stream().map(e -> e.getName()).toList());
+    }
+
+    @Test
+    public void whenTransactionsFollowEachOther_thenEachGetsItsOwnTrace_Test() throws SQLException {
+        try (Connection conn = connect(WrapperEngine.PROXY, true);
+             Statement stmt = conn.createStatement()) {
+            conn.setAutoCommit(false);
+            stmt.executeUpdate("update t set a = 1");
+            conn.commit();
+            stmt.executeUpdate("update t set a = 2");
+            conn.setAutoCommit(true);
+            stmt.executeUpdate("update t set a = 3");
+        }
+
+        List<SpanData> transactions = spans().stream()
+                .filter(s -> s.getName().equals(TransactionTracker.SPAN_NAME)).toList();
+        Assertions.assertEquals(2, transactions.size());
+        Assertions.assertNotEquals(transactions.get(0).getTraceId(), transactions.get(1).getTraceId());
+        Assertions.assertEquals("auto_commit", transactions.get(1).getAttributes().get(TransactionTracker.OUTCOME));
+    }
+
+    @Test
+    public void whenClosedInTransaction_thenTransactionEnds_Test() throws SQLException {
+        Connection conn = connect(WrapperEngine.PROXY, true);
+        conn.setAutoCommit(false);
+        conn.createStatement().executeUpdate("update t set a = 1");
+        conn.close();
+
+        SpanData transaction = only(spans(), TransactionTracker.SPAN_NAME);
+        Assertions.assertEquals("close", transaction.getAttributes().get(TransactionTracker.OUTCOME));
+    }
+
+    @Test
+    public void whenApplicationSpanIsCurrent_thenTransactionIsItsChild_Test() throws SQLException {
+        Tracer tracer = otelFactory.initTracer("application");
+        Span request = tracer.spanBuilder("request").startSpan();
+        try (Connection conn = connect(WrapperEngine.PROXY, true);
+             Statement stmt = conn.createStatement()) {
+            conn.setAutoCommit(false);
+            try (Scope scope = request.makeCurrent()) {
+                stmt.executeUpdate("update t set a = 1");
+                conn.commit();
+            }
+        } finally {
+            request.end();
+        }
+
+        SpanData transaction = only(spans(), TransactionTracker.SPAN_NAME);
+        Assertions.assertEquals(request.getSpanContext().getSpanId(), transaction.getParentSpanId());
+    }
+
+    @Test
+    public void whenTransactionsAreOff_thenNoTransactionSpan_Test() throws SQLException {
+        try (Connection conn = connect(WrapperEngine.PROXY, false);
+             Statement stmt = conn.createStatement()) {
+            conn.setAutoCommit(false);
+            stmt.executeUpdate("update t set a = 1");
+            conn.commit();
+        }
+
+        Assertions.assertTrue(spans().stream().noneMatch(s -> s.getName().equals(TransactionTracker.SPAN_NAME)));
+    }
+
+    private List<SpanData> spans() {
+        otelFactory.forceFlush();
+        return exporter.getFinishedSpanItems();
+    }
+
+    private static SpanData only(List<SpanData> spans, String name) {
+        List<SpanData> matching = spans.stream().filter(s -> s.getName().equals(name)).toList();
+        Assertions.assertEquals(1, matching.size(), name);
+        return matching.get(0);
+    }
+
+    private Connection connect(WrapperEngine engine, boolean transactions) throws SQLException {
+        return connect(engine, "transactions", String.valueOf(transactions));
+    }
+}
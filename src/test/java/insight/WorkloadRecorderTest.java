@@ -0,0 +1,171 @@
+package insight;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.*;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+
+class WorkloadRecorderTest extends DriverTestBase {
+    @TempDir
+    Path dir;
+
+    @EnumSource(WrapperEngine.class)
+    @ParameterizedTest
+    public void whenWorkloadRuns_thenLogReadsBackInOrder_Test(WrapperEngine engine) throws Exception {
+        Path log = dir.resolve("workload.log");
+        try (Connection conn = connect(engine, log)) {
+            runWorkload(conn);
+        }
+        otelFactory.workloadRecorder().flush();
+
+        WorkloadLog.Contents contents = WorkloadLog.read(log);
+        Assertions.assertFalse(contents.truncated());
+        List<WorkloadEvent> events = contents.events();
+        Assertions.assertEquals(List.of(WorkloadEvent.Type.CONNECT, WorkloadEvent.Type.AUTO_COMMIT,
+                WorkloadEvent.Type.EXECUTE, WorkloadEvent.Type.EXECUTE, WorkloadEvent.Type.EXECUTE,
+                WorkloadEvent.Type.EXECUTE, WorkloadEvent.Type.COMMIT, WorkloadEvent.Type.CLOSE),
+                events.stream().map(WorkloadEvent::type).toList());
+        Assertions.assertFalse(events.get(1).autoCommit());
+
+        WorkloadEvent update = events.get(2);
+        Assertions.assertEquals(WorkloadEvent.Operation.UPDATE, update.operation());
+        Assertions.assertEquals("update orders set status = ? where id = ?", update.sql());
+        Assertions.assertEquals(Arrays.asList(null, 42L), update.params());
+        Assertions.assertEquals(1, update.rows());
+
+        WorkloadEvent batch = events.get(3);
+        Assertions.assertEquals(WorkloadEvent.Operation.BATCH, batch.operation());
+        Assertions.assertTrue(batch.prepared());
+        Assertions.assertEquals(List.of(List.of("shipped", 1L), List.of("paid", 2L)), batch.batch());
+
+        WorkloadEvent query = events.get(4);
+        Assertions.assertEquals(WorkloadEvent.Operation.QUERY, query.operation());
+        Assertions.assertEquals("select * from orders", query.sql());
+        Assertions.assertFalse(query.prepared());
+
+        WorkloadEvent statementBatch = events.get(5);
+        Assertions.assertFalse(statementBatch.prepared());
+        Assertions.assertEquals(List.of("delete from orders where id = 1", "delete from orders where id = 2"),
+                statementBatch.batch());
+
+        for (int i = 1; i < events.size(); i++) {
+            Assertions.assertTrue(events.get(i).startNanos() >= events.get(i - 1).startNanos());
+            Assertions.assertEquals(events.get(0).connection(), events.get(i).connection());
+        }
+    }
+
+    @Test
+    public void whenLogReplayed_thenEveryConnectionRuns_Test() throws Exception {
+        Path log = dir.resolve("workload.log");
+        try (Connection first = connect(WrapperEngine.PROXY, log);
+             Connection second = connect(WrapperEngine.STATIC, log)) {
+            runWorkload(first);
+            runWorkload(second);
+        }
+        otelFactory.workloadRecorder().flush();
+
+        List<WorkloadEvent> events = WorkloadLog.read(log).events();
+        WorkloadReplayer.Report report = WorkloadReplayer.replay(events, StubDriver.URL, new Properties(), 1, 0);
+
+        Assertions.assertEquals(2, report.connections());
+        Assertions.assertEquals(8, report.statements());
+        Assertions.assertEquals(0, report.errors());
+        Assertions.assertTrue(report.p50().compareTo(report.max()) <= 0);
+        Assertions.assertTrue(report.throughput() > 0);
+    }
+
+    @EnumSource(WrapperEngine.class)
+    @ParameterizedTest
+    public void whenBoundValueChangedAfterExecute_thenLogHasValueAsExecuted_Test(WrapperEngine engine)
+            throws Exception {
+        Path log = dir.resolve("workload.log");
+        byte[] data = {1, 2, 3};
+        Timestamp timestamp = new Timestamp(1_000L);
+        try (Connection conn = connect(engine, log);
+             PreparedStatement stmt = conn.prepareStatement("update orders set data = ?, at = ?")) {
+            stmt.setBytes(1, data);
+            stmt.setTimestamp(2, timestamp);
+            stmt.executeUpdate();
+            data[0] = 9;
+            timestamp.setTime(2_000L);
+        }
+        otelFactory.workloadRecorder().flush();
+
+        WorkloadEvent update = WorkloadLog.read(log).events().stream()
+                .filter(e -> e.type() == WorkloadEvent.Type.EXECUTE).findFirst().orElseThrow();
+        Assertions.assertArrayEquals(new byte[]{1, 2, 3}, (byte[]) update.params().get(0));
+        Assertions.assertEquals(new Timestamp(1_000L), update.params().get(1));
+    }
+
+    @Test
+    public void whenPipelineBuiltWithoutWorkloadPath_thenConnectionNotCaptured_Test() throws Exception {
+        Connection first = connect(new Properties());
+        try (first;
+             Connection second = connect(WrapperEngine.PROXY, dir.resolve("workload.log"))) {
+            second.createStatement().executeUpdate("update orders set status = 'shipped'");
+        }
+        Assertions.assertNull(otelFactory.workloadRecorder());
+    }
+
+    @Test
+    public void whenLogIsCutOff_thenCompleteRecordsRead_Test() throws Exception {
+        Path log = dir.resolve("workload.log");
+        WorkloadLog.Encoder encoder = new WorkloadLog.Encoder();
+        encoder.header(System.currentTimeMillis());
+        encoder.encode(WorkloadEvent.of(WorkloadEvent.Type.CONNECT, 1, 0, 0, false));
+        encoder.encode(new WorkloadEvent(WorkloadEvent.Type.EXECUTE, 1, 10, 5, WorkloadEvent.Operation.QUERY,
+                "select * from orders where id = ?", List.of(7), List.of(), -1, false, false));
+        try (FileChannel channel = FileChannel.open(log, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            encoder.writeTo(channel);
+            channel.truncate(channel.size() - 1);
+        }
+
+        WorkloadLog.Contents contents = WorkloadLog.read(log);
+        Assertions.assertTrue(contents.truncated());
+        Assertions.assertEquals(1, contents.events().size());
+    }
+
+    @Test
+    public void percentileTest() {
+        long[] latencies = {1, 2, 3, 4, 5, 6, 7, 8, 9, 10};
+        Assertions.assertEquals(5, WorkloadReplayer.percentile(latencies, 0.5).toNanos());
+        Assertions.assertEquals(10, WorkloadReplayer.percentile(latencies, 0.99).toNanos());
+        Assertions.assertEquals(0, WorkloadReplayer.percentile(new long[0], 0.5).toNanos());
+    }
+
+    private static void runWorkload(Connection conn) throws SQLException {
+        conn.setAutoCommit(false);
+        try (PreparedStatement stmt = conn.prepareStatement("update orders set status = ? where id = ?")) {
+            stmt.setNull(1, Types.VARCHAR);
+            stmt.setLong(2, 42);
+            stmt.executeUpdate();
+            stmt.setString(1, "shipped");
+            stmt.setLong(2, 1);
+            stmt.addBatch();
+            stmt.setString(1, "paid");
+            stmt.setLong(2, 2);
+            stmt.addBatch();
+            stmt.executeBatch();
+        }
+        try (Statement stmt = conn.createStatement()) {
+            stmt.executeQuery("select * from orders").close();
+            stmt.addBatch("delete from orders where id = 1");
+            stmt.addBatch("delete from orders where id = 2");
+            stmt.executeBatch();
+        }
+        conn.commit();
+    }
+
+    private Connection connect(WrapperEngine engine, Path log) throws SQLException {
+        return connect(engine, "workloadPath", log.toString());
+    }
+}
@@ -0,0 +1,74 @@
+package insight;
+
+import io.opentelemetry.sdk.trace.data.SpanData;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.sql.*;
+import java.util.List;
+import java.util.Properties;
+
+class WrapperEngineTest extends DriverTestBase {
+    @Test
+    public void whenStaticEngine_thenCoreInterfacesUseGeneratedWrappers_Test() throws SQLException {
+        try (Connection conn = connect(WrapperEngine.STATIC);
+             PreparedStatement stmt = conn.prepareStatement("select ?");
+             ResultSet rs = stmt.executeQuery()) {
+            Assertions.assertInstanceOf(ConnectionWrapper.class, conn);
+            Assertions.assertInstanceOf(PreparedStatementWrapper.class, stmt);
+            Assertions.assertInstanceOf(ResultSetWrapper.class, rs);
+            Assertions.assertInstanceOf(DatabaseMetaDataWrapper.class, conn.getMetaData());
+        }
+    }
+
+    @Test
+    public void whenEnginesTraceSameCalls_thenSpansMatch_Test() throws SQLException {
+        List<String> proxySpans = trace(WrapperEngine.PROXY);
+        List<String> staticSpans = trace(WrapperEngine.STATIC);
+
+        Assertions.assertEquals(proxySpans, staticSpans);
+    }
+
+    @EnumSource(WrapperEngine.class)
+    @ParameterizedTest
+    public void whenDelegateFails_thenSqlExceptionIsRecordedAndRethrown_Test(WrapperEngine engine) throws SQLException {
+        try (Connection conn = connect(engine);
+             Statement stmt = conn.createStatement()) {
+            SQLException e = Assertions.assertThrows(SQLException.class,
+                    () -> stmt.executeQuery(StubDriver.FAILING_SQL));
+            Assertions.assertEquals("42000", e.getSQLState());
+        }
+        otelFactory.forceFlush();
+
+        SpanData failed = exporter.getFinishedSpanItems().stream()
+                .filter(span -> span.getName().startsWith("executeQuery"))
+                .findFirst()
+                .orElseThrow();
+        Assertions.assertEquals(SQLException.class.getName(),
+                failed.getEvents().get(0).getAttributes().asMap().entrySet().stream()
+                        .filter(e -> e.getKey().getKey().equals("exception.type"))
+                        .findFirst().orElseThrow().getValue());
+    }
+
+    private List<String> trace(WrapperEngine engine) throws SQLException {
+        exporter.reset();
+        try (Connection conn = connect(engine);
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("select 1")) {
+            while (rs.next()) {
+                rs.getInt(1);
+                rs.getString(1);
+            }
+        }
+        otelFactory.forceFlush();
+        return exporter.getFinishedSpanItems().stream().map(SpanData::getName).toList();
+    }
+
+    private Connection connect(WrapperEngine engine) throws SQLException {
+        Properties props = new Properties();
+        props.put("wrapper", engine.name().toLowerCase());
+        return connect(props);
+    }
+}
@@ -0,0 +1,271 @@
+package insight;
+
+import java.io.IOException;
+import java.lang.reflect.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.*;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Generates the static wrappers used by {@link WrapperEngine#STATIC}. Run {@link #main(String[])} from the project root
+ * after changing the template; {@code WrapperGeneratorTest} fails while the checked-in sources are out of date.
+ */
+public class WrapperGenerator {
+    public static final Path OUTPUT = Path.of("src/main/java/insight");
+    public static final List<Class<?>> TYPES = List.of(Connection.class, Statement.class, PreparedStatement.class,
+            CallableStatement.class, ResultSet.class, DatabaseMetaData.class, ResultSetMetaData.class);
+
+    public static void main(String[] args) throws IOException {
+        Path output = args.length > 0 ? Path.of(args[0]) : OUTPUT;
+        for (Class<?> type : TYPES) {
+            Files.writeString(output.resolve(fileName(type)), generate(type));
+        }
+    }
+
+    public static String fileName(Class<?> type) {
+        return className(type) + ".java";
+    }
+
+    public static String generate(Class<?> type) {
+        List<Method> methods = methods(type);
+        Set<Class<?>> imports = new TreeSet<>(Comparator.comparing(Class::getName));
+        imports.add(type);
+        for (Method method : methods) {
+            collect(method.getGenericReturnType(), imports);
+            for (Type parameter : method.getGenericParameterTypes()) {
+                collect(parameter, imports);
+            }
+            for (Class<?> exception : method.getExceptionTypes()) {
+                collect(exception, imports);
+            }
+        }
+        Set<String> simpleNames = new HashSet<>();
+        Set<String> ambiguous = new HashSet<>();
+        for (Class<?> imported : imports) {
+            if (!simpleNames.add(imported.getSimpleName())) {
+                ambiguous.add(imported.getSimpleName());
+            }
+        }
+        Types types = new Types(ambiguous);
+
+        StringBuilder out = new StringBuilder();
+        out.append("package insight;\n\n");
+        for (Class<?> imported : imports) {
+            if (!imported.getPackageName().equals("java.lang") && !ambiguous.contains(imported.getSimpleName())) {
+                out.append("import ").append(imported.getName()).append(";\n");
+            }
+        }
+        out.append("\n/**\n")
+                .append(" * Traces {@link ").append(type.getSimpleName()).append("} calls without reflection. ")
+                .append("Generated by {@code WrapperGenerator}, do not edit.\n")
+                .append(" */\n")
+                .append("@SuppressWarnings(\"deprecation\")\n")
+                .append("public final class ").append(className(type))
+                .append(" implements ").append(type.getSimpleName()).append(" {\n");
+
+        Map<Method, String> constants = new LinkedHashMap<>();
+        for (Method method : methods) {
+            String constant = constantName(method);
+            if (constants.containsValue(constant)) {
+                throw new IllegalStateException("Duplicate constant " + constant);
+            }
+            constants.put(method, constant);
+            out.append("    private static final MethodInfo ").append(constant).append(" = MethodInfo.of(")
+                    .append(type.getSimpleName()).append(".class, \"").append(method.getName()).append('"');
+            for (Class<?> parameter : method.getParameterTypes()) {
+                out.append(", ").append(types.raw(parameter)).append(".class");
+            }
+            out.append(");\n");
+        }
+
+        String delegateType = type.getSimpleName();
+        out.append("\n")
+                .append("    private final ").append(delegateType).append(" delegate;\n")
+                .append("    private final TraceNode node;\n\n")
+                .append("    public ").append(className(type)).append("(").append(delegateType)
+                .append(" delegate, TraceNode node) {\n")
+                .append("        this.delegate = delegate;\n")
+                .append("        this.node = node;\n")
+                .append("    }\n");
+
+        for (Method method : methods) {
+            out.append("\n");
+            generateMethod(out, method, constants.get(method), types);
+        }
+
+        out.append("\n")
+                .append("    @Override\n")
+                .append("    public String toString() {\n")
+                .append("        return delegate.toString();\n")
+                .append("    }\n")
+                .append("}\n");
+        return out.toString();
+    }
+
+    private static void generateMethod(StringBuilder out, Method method, String constant, Types types) {
+        Type returnType = method.getGenericReturnType();
+        boolean isVoid = returnType == void.class;
+        MethodInfo info = MethodInfo.of(method);
+        Parameter[] parameters = method.getParameters();
+        String arguments = Arrays.stream(parameters).map(Parameter::getName).collect(Collectors.joining(", "));
+
+        out.append("    @Override\n    public ");
+        TypeVariable<Method>[] typeParameters = method.getTypeParameters();
+        if (typeParameters.length > 0) {
+            out.append(Arrays.stream(typeParameters).map(types::typeParameter)
+                    .collect(Collectors.joining(", ", "<", "> ")));
+        }
+        out.append(types.render(returnType)).append(' ').append(method.getName()).append('(');
+        out.append(Arrays.stream(parameters)
+                .map(p -> types.render(p.getParameterizedType()) + " " + p.getName())
+                .collect(Collectors.joining(", ")));
+        out.append(')');
+        if (method.getExceptionTypes().length > 0) {
+            out.append(" throws ").append(Arrays.stream(method.getExceptionTypes()).map(types::raw)
+                    .collect(Collectors.joining(", ")));
+        }
+        out.append(" {\n");
+        out.append("        Invocation invocation = node.enter(").append(constant);
+        if (info.executesStatement()) {
+            out.append(", ").append(parameters.length > 0 ? parameters[0].getName() : "null");
+        }
+        out.append(");\n");
+        out.append("        try {\n");
+        out.append("            ");
+        if (!isVoid) {
+            out.append(types.render(returnType)).append(" result = ");
+        }
+        out.append("delegate.").append(method.getName()).append('(').append(arguments).append(");\n");
+        if (parameters.length > 0 || !isVoid) {
+            out.append("            if (invocation.isCapturing()) {\n");
+            out.append("                invocation.capture(")
+                    .append(parameters.length == 0 ? "null" : "new Object[]{" + arguments + "}")
+                    .append(", ").append(isVoid ? "null" : "result").append(");\n");
+            out.append("            }\n");
+        }
+        if (info.wrapsResult()) {
+            String firstArg = parameters.length > 0 ? parameters[0].getName() : "null";
+            out.append("            return (").append(types.render(returnType))
+                    .append(") invocation.wrap(result, ").append(firstArg).append(");\n");
+        } else if (!isVoid) {
+            out.append("            return result;\n");
+        }
+        out.append("        } catch (Exception e) {\n");
+        out.append("            invocation.fail(e);\n");
+        out.append("            throw e;\n");
+        out.append("        } finally {\n");
+        out.append("            invocation.exit();\n");
+        out.append("        }\n");
+        out.append("    }\n");
+    }
+
+    private static String className(Class<?> type) {
+        return type.getSimpleName() + "Wrapper";
+    }
+
+    /**
+     * Public instance methods of the interface, one per signature, most specific declaration first.
+     */
+    private static List<Method> methods(Class<?> type) {
+        Map<String, Method> bySignature = new TreeMap<>();
+        for (Method method : type.getMethods()) {
+            if (Modifier.isStatic(method.getModifiers())) {
+                continue;
+            }
+            String signature = method.getName() + Arrays.stream(method.getParameterTypes())
+                    .map(Class::getName).collect(Collectors.joining(",", "(", ")"));
+            bySignature.merge(signature, method, (a, b) ->
+                    a.getDeclaringClass().isAssignableFrom(b.getDeclaringClass()) ? b : a);
+        }
+        return new ArrayList<>(bySignature.values());
+    }
+
+    private static String constantName(Method method) {
+        StringBuilder name = new StringBuilder(upperSnake(method.getName()));
+        for (Class<?> parameter : method.getParameterTypes()) {
+            name.append('_');
+            Class<?> component = parameter;
+            while (component.isArray()) {
+                component = component.getComponentType();
+            }
+            name.append(upperSnake(component.getSimpleName()));
+            if (parameter.isArray()) {
+                name.append("_ARRAY");
+            }
+        }
+        return name.toString();
+    }
+
+    private static String upperSnake(String camel) {
+        return camel.replaceAll("([a-z0-9])([A-Z])", "$1_$2").toUpperCase(Locale.ROOT);
+    }
+
+    private static void collect(Type type, Set<Class<?>> imports) {
+        if (type instanceof Class<?> cls) {
+            while (cls.isArray()) {
+                cls = cls.getComponentType();
+            }
+            if (!cls.isPrimitive()) {
+                imports.add(cls);
+            }
+        } else if (type instanceof ParameterizedType parameterized) {
+            collect(parameterized.getRawType(), imports);
+            for (Type argument : parameterized.getActualTypeArguments()) {
+                collect(argument, imports);
+            }
+        } else if (type instanceof WildcardType wildcard) {
+            for (Type bound : wildcard.getUpperBounds()) {
+                collect(bound, imports);
+            }
+            for (Type bound : wildcard.getLowerBounds()) {
+                collect(bound, imports);
+            }
+        } else if (type instanceof GenericArrayType array) {
+            collect(array.getGenericComponentType(), imports);
+        }
+    }
+
+    private record Types(Set<String> ambiguous) {
+
+        String raw(Class<?> type) {
+            if (type.isArray()) {
+                return raw(type.getComponentType()) + "[]";
+            }
+            if (type.isPrimitive() || !ambiguous.contains(type.getSimpleName())) {
+                return type.getSimpleName();
+            }
+            return type.getName();
+        }
+
+        String render(Type type) {
+            if (type instanceof Class<?> cls) {
+                return raw(cls);
+            } else if (type instanceof ParameterizedType parameterized) {
+                return render(parameterized.getRawType()) + Arrays.stream(parameterized.getActualTypeArguments())
+                        .map(this::render).collect(Collectors.joining(", ", "<", ">"));
+            } else if (type instanceof WildcardType wildcard) {
+                if (wildcard.getLowerBounds().length > 0) {
+                    return "? super " + render(wildcard.getLowerBounds()[0]);
+                }
+                Type upper = wildcard.getUpperBounds()[0];
+                return upper == Object.class ? "?" : "? extends " + render(upper);
+            } else if (type instanceof GenericArrayType array) {
+                return render(array.getGenericComponentType()) + "[]";
+            } else if (type instanceof TypeVariable<?> variable) {
+                return variable.getName();
+            }
+            throw new IllegalArgumentException("Unsupported type " + type);
+        }
+
+        String typeParameter(TypeVariable<?> variable) {
+            Type[] bounds = variable.getBounds();
+            if (bounds.length == 1 && bounds[0] == Object.class) {
+                return variable.getName();
+            }
+            return variable.getName() + Arrays.stream(bounds).map(this::render)
+                    .collect(Collectors.joining(" & ", " extends ", ""));
+        }
+    }
+}
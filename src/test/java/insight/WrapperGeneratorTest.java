@@ -0,0 +1,25 @@
+package insight;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.stream.Stream;
+
+class WrapperGeneratorTest {
+
+    @MethodSource("types")
+    @ParameterizedTest
+    public void generatedWrapperIsUpToDateTest(Class<?> type) throws IOException {
+        String expected = WrapperGenerator.generate(type);
+        String actual = Files.readString(WrapperGenerator.OUTPUT.resolve(WrapperGenerator.fileName(type)));
+
+        Assertions.assertEquals(expected, actual, "Run WrapperGenerator to regenerate " + type.getSimpleName());
+    }
+
+    private static Stream<Class<?>> types() {
+        return WrapperGenerator.TYPES.stream();
+    }
+}